@@ -0,0 +1,50 @@
+package com.study.board.admission;
+
+import lombok.Getter;
+
+/**
+ * 요청 허용 판단 결과
+ */
+public class Admission {
+
+    public enum Outcome {
+        ADMITTED,
+        RATE_LIMITED,
+        OVERLOADED
+    }
+
+    @Getter
+    private final EndpointClass endpointClass;
+    @Getter
+    private final Outcome outcome;
+    @Getter
+    private final long retryAfterSeconds;
+    private final boolean permit;
+
+    private Admission(EndpointClass endpointClass, Outcome outcome, long retryAfterSeconds, boolean permit) {
+        this.endpointClass = endpointClass;
+        this.outcome = outcome;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permit = permit;
+    }
+
+    static Admission admitted(EndpointClass endpointClass, boolean permit) {
+        return new Admission(endpointClass, Outcome.ADMITTED, 0L, permit);
+    }
+
+    static Admission rateLimited(EndpointClass endpointClass, long retryAfterSeconds) {
+        return new Admission(endpointClass, Outcome.RATE_LIMITED, retryAfterSeconds, false);
+    }
+
+    static Admission overloaded(EndpointClass endpointClass, long retryAfterSeconds) {
+        return new Admission(endpointClass, Outcome.OVERLOADED, retryAfterSeconds, false);
+    }
+
+    public boolean isAdmitted() {
+        return outcome == Outcome.ADMITTED;
+    }
+
+    boolean holdsPermit() {
+        return permit;
+    }
+}
@@ -0,0 +1,153 @@
+package com.study.board.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 허용 제어
+ * 엔드포인트 분류별로 클라이언트 요청 한도(초과 시 429)와 전체 동시 실행 한도(초과 시 503)를 적용합니다.
+ * 동시 실행 한도는 대기열 없이 즉시 거절하여, 느린 요청이 쌓여 시간 초과로 이어지지 않도록 합니다.
+ *
+ * 분류별 설정: board.admission.{read|search|write|download}.rate-per-second / burst / max-concurrent
+ */
+@Component
+@Slf4j
+public class AdmissionControl {
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${board.admission.max-clients:100000}")
+    private int maxClients = 100000;
+
+    @Value("${board.admission.stripes:16}")
+    private int stripes = 16;
+
+    @Value("${board.admission.idle-timeout-ms:600000}")
+    private long idleTimeoutMs = 600000L;
+
+    @Value("${board.admission.overload-retry-after-seconds:1}")
+    private long overloadRetryAfterSeconds = 1L;
+
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private final Map<EndpointClass, ClientRateLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Semaphore> concurrencyLimits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Integer> concurrencyMax = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counters> counters = new EnumMap<>(EndpointClass.class);
+
+    @PostConstruct
+    public void init() {
+        long now = nanoClock.getAsLong();
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "board.admission." + endpointClass.key() + ".";
+            double rate = environment.getProperty(prefix + "rate-per-second", Double.class,
+                    endpointClass.defaultRatePerSecond());
+            int burst = environment.getProperty(prefix + "burst", Integer.class, endpointClass.defaultBurst());
+            int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class,
+                    endpointClass.defaultMaxConcurrent());
+
+            limiters.put(endpointClass, new ClientRateLimiter(rate, burst, maxClients, stripes, idleTimeoutMs, now));
+            if (maxConcurrent > 0) {
+                concurrencyLimits.put(endpointClass, new Semaphore(maxConcurrent));
+                concurrencyMax.put(endpointClass, maxConcurrent);
+            }
+            counters.put(endpointClass, new Counters());
+            log.info("요청 한도 설정 - 분류: {}, 초당: {}, 연속: {}, 동시 실행: {}",
+                    endpointClass.key(), rate, burst, maxConcurrent > 0 ? maxConcurrent : "제한 없음");
+        }
+    }
+
+    /**
+     * 요청 허용 여부 판단
+     * 허용된 경우 처리가 끝난 뒤 반드시 {@link #release(Admission)}를 호출해야 합니다.
+     */
+    public Admission admit(EndpointClass endpointClass, String clientKey) {
+        Counters counter = counters.get(endpointClass);
+        long waitNanos = limiters.get(endpointClass).tryAcquire(clientKey, nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            counter.rateLimited.increment();
+            return Admission.rateLimited(endpointClass, toRetryAfterSeconds(waitNanos));
+        }
+
+        Semaphore semaphore = concurrencyLimits.get(endpointClass);
+        if (semaphore != null && !semaphore.tryAcquire()) {
+            counter.shed.increment();
+            return Admission.overloaded(endpointClass, overloadRetryAfterSeconds);
+        }
+        counter.admitted.increment();
+        return Admission.admitted(endpointClass, semaphore != null);
+    }
+
+    /**
+     * 허용된 요청의 동시 실행 자리 반환
+     */
+    public void release(Admission admission) {
+        if (admission.holdsPermit()) {
+            concurrencyLimits.get(admission.getEndpointClass()).release();
+        }
+    }
+
+    /**
+     * 오래 쓰이지 않은 클라이언트 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${board.admission.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        for (ClientRateLimiter limiter : limiters.values()) {
+            removed += limiter.evictIdle(now);
+        }
+        if (removed > 0) {
+            log.debug("유휴 클라이언트 버킷 정리 - 제거: {}", removed);
+        }
+    }
+
+    /**
+     * 분류별 요청 허용 지표
+     */
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            Counters counter = counters.get(endpointClass);
+            ClientRateLimiter limiter = limiters.get(endpointClass);
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("admitted", counter.admitted.sum());
+            values.put("rateLimited", counter.rateLimited.sum());
+            values.put("shed", counter.shed.sum());
+            values.put("clients", limiter.size());
+            values.put("evictedClients", limiter.getEvictions());
+            values.put("overflowed", limiter.getOverflows());
+            Semaphore semaphore = concurrencyLimits.get(endpointClass);
+            if (semaphore != null) {
+                int max = concurrencyMax.get(endpointClass);
+                values.put("inFlight", max - semaphore.availablePermits());
+                values.put("maxConcurrent", max);
+            }
+            metrics.put(endpointClass.key(), values);
+        }
+        return metrics;
+    }
+
+    private long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    private static class Counters {
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+    }
+}
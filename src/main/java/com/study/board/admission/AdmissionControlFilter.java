@@ -0,0 +1,94 @@
+package com.study.board.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 허용 제어 필터
+ * 컨트롤러에 도달하기 전에 요청을 분류하고 한도를 넘은 요청은 Retry-After와 함께 바로 거절합니다.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final AdmissionControl admissionControl;
+    private final boolean trustForwardedFor;
+
+    public AdmissionControlFilter(AdmissionControl admissionControl, boolean trustForwardedFor) {
+        this.admissionControl = admissionControl;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.classify(request);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientKey = clientKey(request);
+        Admission admission = admissionControl.admit(endpointClass, clientKey);
+        if (!admission.isAdmitted()) {
+            reject(response, admission, clientKey);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionControl.release(admission);
+        }
+    }
+
+    // 클라이언트 식별 키 (프록시 뒤에서 운영할 때만 X-Forwarded-For 첫 번째 주소 사용)
+    private String clientKey(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.trim().isEmpty()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, Admission admission, String clientKey) throws IOException {
+        HttpStatus status;
+        String message;
+        if (admission.getOutcome() == Admission.Outcome.RATE_LIMITED) {
+            status = HttpStatus.TOO_MANY_REQUESTS;
+            message = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+            log.debug("요청 한도 초과 - 클라이언트: {}, 분류: {}", clientKey, admission.getEndpointClass().key());
+        } else {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+            message = "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.";
+            log.debug("동시 실행 한도 초과 - 분류: {}", admission.getEndpointClass().key());
+        }
+
+        ErrorResponse body = ErrorResponse.builder()
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .build();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admission.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OBJECT_MAPPER.writeValue(response.getOutputStream(), body);
+    }
+}
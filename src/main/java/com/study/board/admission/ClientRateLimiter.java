@@ -0,0 +1,126 @@
+package com.study.board.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트별 요청 한도
+ * 클라이언트 키를 해시로 여러 구역(stripe)에 나누어 저장하고, 구역마다 버킷 수 상한을 둡니다.
+ * 구역이 가득 차면 새 키는 키 해시로 고른 예비 버킷을 함께 쓰게 하여, 키를 바꿔 가며 요청하는 경우에도
+ * 메모리와 처리량이 제한되도록 합니다. 예비 버킷이 여러 개이므로 한 클라이언트가 모든 새 클라이언트를 막지 못합니다.
+ * 유휴 버킷 정리는 요청 경로가 아닌 주기 작업({@link #evictIdle(long)})에서만 수행합니다.
+ */
+public class ClientRateLimiter {
+
+    // 구역이 가득 찼을 때 새 키가 나눠 쓰는 예비 버킷 수
+    static final int OVERFLOW_BUCKETS = 1024;
+
+    private final double ratePerSecond;
+    private final int burst;
+    private final long idleNanos;
+    private final int maxPerStripe;
+    private final Stripe[] stripes;
+    private final TokenBucket[] overflowBuckets;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+
+    public ClientRateLimiter(double ratePerSecond, int burst, int maxClients, int stripeCount,
+                             long idleMillis, long nowNanos) {
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.idleNanos = idleMillis * 1_000_000L;
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        this.maxPerStripe = Math.max(1, maxClients / stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.overflowBuckets = new TokenBucket[OVERFLOW_BUCKETS];
+        for (int i = 0; i < overflowBuckets.length; i++) {
+            overflowBuckets[i] = new TokenBucket(ratePerSecond, burst, nowNanos);
+        }
+    }
+
+    /**
+     * 클라이언트의 토큰 1개 획득 시도
+     *
+     * @return 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 나노초
+     */
+    public long tryAcquire(String clientKey, long nowNanos) {
+        Stripe stripe = stripes[(clientKey.hashCode() & 0x7fffffff) % stripes.length];
+        TokenBucket bucket = stripe.buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = stripe.admit(clientKey, nowNanos);
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    /**
+     * 오래 쓰이지 않은 버킷 정리 후 제거한 수 반환
+     */
+    public int evictIdle(long nowNanos) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            removed += stripe.evictIdle(nowNanos);
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size.get();
+        }
+        return size;
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+    /**
+     * 구역이 가득 찼을 때 사용할 예비 버킷
+     * 같은 구역의 키는 hashCode 나머지가 같으므로, 섞은 해시로 골라 예비 버킷 전체에 고르게 나눕니다.
+     */
+    private TokenBucket overflowBucket(String clientKey) {
+        int mixed = Integer.rotateLeft(clientKey.hashCode() * 0x9E3779B9, 16);
+        return overflowBuckets[(mixed & 0x7fffffff) % overflowBuckets.length];
+    }
+
+    private final class Stripe {
+
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private TokenBucket admit(String clientKey, long nowNanos) {
+            if (size.get() >= maxPerStripe) {
+                overflows.increment();
+                return overflowBucket(clientKey);
+            }
+            TokenBucket created = new TokenBucket(ratePerSecond, burst, nowNanos);
+            TokenBucket existing = buckets.putIfAbsent(clientKey, created);
+            if (existing != null) {
+                return existing;
+            }
+            size.incrementAndGet();
+            return created;
+        }
+
+        private int evictIdle(long nowNanos) {
+            int removed = 0;
+            for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+                if (entry.getValue().isIdle(nowNanos, idleNanos) && buckets.remove(entry.getKey(), entry.getValue())) {
+                    size.decrementAndGet();
+                    removed++;
+                }
+            }
+            evictions.add(removed);
+            return removed;
+        }
+    }
+}
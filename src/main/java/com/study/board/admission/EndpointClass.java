@@ -0,0 +1,73 @@
+package com.study.board.admission;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 비용에 따른 엔드포인트 분류
+ * 분류별로 별도의 요청 한도와 동시 실행 한도를 적용합니다.
+ */
+public enum EndpointClass {
+
+    // 기본값: 초당 요청 수, 연속 허용 요청 수, 전체 동시 실행 한도 (0이면 제한 없음)
+    READ("read", 20, 60, 0),
+    SEARCH("search", 5, 15, 32),
+    WRITE("write", 1, 10, 0),
+    DOWNLOAD("download", 2, 10, 16);
+
+    private final String key;
+    private final double defaultRatePerSecond;
+    private final int defaultBurst;
+    private final int defaultMaxConcurrent;
+
+    EndpointClass(String key, double defaultRatePerSecond, int defaultBurst, int defaultMaxConcurrent) {
+        this.key = key;
+        this.defaultRatePerSecond = defaultRatePerSecond;
+        this.defaultBurst = defaultBurst;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+    }
+
+    /**
+     * 설정 키 및 지표 이름에 사용하는 소문자 이름
+     */
+    public String key() {
+        return key;
+    }
+
+    public double defaultRatePerSecond() {
+        return defaultRatePerSecond;
+    }
+
+    public int defaultBurst() {
+        return defaultBurst;
+    }
+
+    public int defaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    /**
+     * 요청 분류 (제한 대상이 아니면 null)
+     */
+    public static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/board/") && !path.startsWith("/api/") && !path.startsWith("/files/")) {
+            return null;
+        }
+        if (path.startsWith("/board/download") || path.startsWith("/files/")) {
+            return DOWNLOAD;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return WRITE;
+        }
+        // 삭제는 GET 링크로 제공되지만 변경 요청이므로 쓰기로 분류
+        if (path.startsWith("/board/delete")) {
+            return WRITE;
+        }
+        String keyword = request.getParameter("searchKeyword");
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            return SEARCH;
+        }
+        return READ;
+    }
+}
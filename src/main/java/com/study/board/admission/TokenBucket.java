@@ -0,0 +1,53 @@
+package com.study.board.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷
+ * 남은 토큰 수 대신 "다음 토큰이 완전히 채워지는 시각" 하나만 AtomicLong에 저장하고 CAS로 갱신합니다 (GCRA 방식).
+ * 초당 ratePerSecond개가 채워지고 최대 burst개까지 연속 요청을 허용하는 토큰 버킷과 같은 결과를 냅니다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    // 이론상 다음 요청 도착 시각 (이 시각이 현재보다 과거이면 버킷이 가득 찬 상태)
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("요청 한도는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     *
+     * @return 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 나노초
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long start = Math.max(current, nowNanos);
+            long waitNanos = start - toleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + intervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 마지막 사용 이후 idleNanos 이상 지나 버킷이 가득 찬 상태인지 여부
+     * 가득 찬 버킷은 버려도 새로 만든 버킷과 동작이 같으므로 제거해도 한도가 느슨해지지 않습니다.
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrival.get() >= idleNanos;
+    }
+}
@@ -0,0 +1,238 @@
+package com.study.board.archive;
+
+import com.study.board.cache.InvalidationBus;
+import com.study.board.cache.InvalidationEvent;
+import com.study.board.dto.ArchiveCount;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성일 기준 일별/월별 게시글 수
+ * 기동 후 일별 집계 쿼리로 한 번 적재하고, 이후 작성/삭제는 커밋 직후 카운터만 증감합니다.
+ * 아카이브 사이드바와 탐색 API는 메모리의 카운터만 읽으므로 요청마다 DB를 조회하지 않습니다.
+ *
+ * 작성/삭제마다 작성일과 증감을 InvalidationBus archive 이벤트로 발행하고,
+ * 다른 노드의 이벤트를 받으면 같은 증감만 반영합니다. (집계 쿼리를 다시 실행하지 않음)
+ * 적재 중에 반영된 변경이 있었을 때만 주기 작업에서 집계를 다시 적재합니다.
+ */
+@Component
+@Slf4j
+public class ArchiveIndex {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    // 자신이 발행한 archive 이벤트를 구분하는 ID (같은 프로세스에 다시 전달되는 경우 중복 반영 방지)
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 상태는 lock으로 보호
+    private final NavigableMap<LocalDate, Integer> days = new TreeMap<>();
+    private final NavigableMap<YearMonth, Integer> months = new TreeMap<>();
+
+    // 로컬 변경 횟수 (적재 중 반영된 변경이 있으면 다시 적재)
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    private volatile boolean loaded;
+
+    @PostConstruct
+    public void init() {
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensureLoaded();
+    }
+
+    /**
+     * DB에서 일별 게시글 수 적재 (게시글/보관 테이블 각각 created_at 인덱스 기준 집계 1회)
+     */
+    public void load() {
+        long started = System.nanoTime();
+        long changesBefore = changes.get();
+        NavigableMap<LocalDate, Integer> loadedDays = new TreeMap<>();
+        for (Object[] row : boardRepository.countByCreatedDay()) {
+            LocalDate day = LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+            loadedDays.merge(day, ((Number) row[3]).intValue(), Integer::sum);
+        }
+        // 보관 테이블로 옮겨진 게시글도 작성일 기준으로 함께 집계
+        for (Object[] row : boardArchiveRepository.countByCreatedDay()) {
+            LocalDate day = LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+            loadedDays.merge(day, ((Number) row[3]).intValue(), Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            days.clear();
+            months.clear();
+            loadedDays.forEach((day, count) -> {
+                days.put(day, count);
+                months.merge(YearMonth.from(day), count, Integer::sum);
+            });
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (changes.get() != changesBefore) {
+            // 집계 쿼리와 로컬 반영이 겹쳤으면 중복/누락이 있을 수 있으므로 다음 주기에 다시 적재
+            stale.set(true);
+        }
+        log.info("아카이브 집계 적재 완료 - 일 수: {}, 소요: {}ms",
+                loadedDays.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    public void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                }
+            }
+        }
+    }
+
+    /**
+     * 적재 중 반영된 변경이 있었으면 집계를 다시 적재
+     */
+    @Scheduled(fixedDelayString = "${board.archive.refresh-interval-ms:10000}")
+    public void refreshIfStale() {
+        if (loaded && stale.compareAndSet(true, false)) {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                stale.set(true);
+                log.error("아카이브 집계 갱신 실패 - 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 월별 게시글 수 (최근 월부터 최대 limit개)
+     */
+    public List<ArchiveCount> months(int limit) {
+        ensureLoaded();
+        List<ArchiveCount> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<YearMonth, Integer> entry : months.descendingMap().entrySet()) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                YearMonth month = entry.getKey();
+                result.add(new ArchiveCount(month.toString(), month.atDay(1), month.atEndOfMonth(), entry.getValue()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 해당 월의 일별 게시글 수 (날짜순, 게시글이 있는 날만)
+     */
+    public List<ArchiveCount> days(YearMonth month) {
+        ensureLoaded();
+        List<ArchiveCount> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            days.subMap(month.atDay(1), true, month.atEndOfMonth(), true)
+                    .forEach((day, count) -> result.add(new ArchiveCount(day.toString(), day, day, count)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 게시글 작성 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void postCreated(LocalDateTime createdAt) {
+        if (createdAt != null) {
+            change(createdAt.toLocalDate(), 1);
+        }
+    }
+
+    /**
+     * 게시글 삭제 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void postDeleted(LocalDateTime createdAt) {
+        if (createdAt != null) {
+            change(createdAt.toLocalDate(), -1);
+        }
+    }
+
+    // 이 노드에 반영하고 다른 노드에 증감 전달 (둘 다 커밋 이후)
+    private void change(LocalDate day, int delta) {
+        TransactionCallbacks.afterCommit(() -> apply(day, delta));
+        invalidationBus.publish(InvalidationEvent.builder()
+                .region(InvalidationEvent.REGION_ARCHIVE)
+                .key(origin + ":" + day + ":" + delta)
+                .build());
+    }
+
+    // 다른 노드의 작성/삭제 반영 (적재 전이면 적재 시 집계에 포함되므로 무시)
+    private void onInvalidation(InvalidationEvent event) {
+        if (!loaded || !InvalidationEvent.REGION_ARCHIVE.equals(event.getRegion()) || event.getKey() == null) {
+            return;
+        }
+        String[] parts = event.getKey().split(":");
+        if (parts.length != 3 || origin.equals(parts[0])) {
+            return;
+        }
+        try {
+            apply(LocalDate.parse(parts[1]), Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            log.error("아카이브 집계 갱신 실패 - 이벤트: {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    private void apply(LocalDate day, int delta) {
+        changes.incrementAndGet();
+        lock.writeLock().lock();
+        try {
+            adjust(days, day, delta);
+            adjust(months, YearMonth.from(day), delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 0 이하가 되면 항목 제거
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+        Integer count = counts.merge(key, delta, Integer::sum);
+        if (count != null && count <= 0) {
+            counts.remove(key);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.study.board.archive;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 작성일 범위 조건 (시작일과 종료일 모두 포함, 한쪽만 지정 가능)
+ */
+@Getter
+@ToString
+public class DateRange {
+
+    public static final DateRange NONE = new DateRange(null, null);
+
+    // 시작일 (null이면 제한 없음)
+    private final LocalDate from;
+
+    // 종료일 (null이면 제한 없음)
+    private final LocalDate to;
+
+    private DateRange(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * 날짜 범위 생성 (시작일이 종료일보다 늦으면 예외)
+     */
+    public static DateRange of(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+        }
+        return from == null && to == null ? NONE : new DateRange(from, to);
+    }
+
+    /**
+     * 한 달 범위
+     */
+    public static DateRange ofMonth(YearMonth month) {
+        return new DateRange(month.atDay(1), month.atEndOfMonth());
+    }
+
+    public boolean isEmpty() {
+        return from == null && to == null;
+    }
+
+    /**
+     * 검색 시작 시각 (포함)
+     */
+    public LocalDateTime startInclusive() {
+        return from == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : from.atStartOfDay();
+    }
+
+    /**
+     * 검색 종료 시각 (미포함, 종료일 다음 날 0시)
+     */
+    public LocalDateTime endExclusive() {
+        return to == null ? LocalDateTime.of(9999, 1, 1, 0, 0) : to.plusDays(1).atStartOfDay();
+    }
+}
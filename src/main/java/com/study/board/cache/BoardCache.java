@@ -0,0 +1,235 @@
+package com.study.board.cache;
+
+import com.study.board.dto.BoardDTO;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 근접 캐시 (게시글 단건, 목록/인기글 페이지)
+ * 변경 시 로컬 캐시를 즉시 비우고 InvalidationBus로 다른 노드에 무효화를 전파합니다.
+ *
+ * 게시글 본문은 OffHeapContentStore에 두고 캐시 항목에는 참조값만 저장하여,
+ * 캐시된 게시글이 많아져도 본문 문자열이 힙(old generation)에 쌓이지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class BoardCache {
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${board.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${board.cache.post.max-size:10000}")
+    private int postMaxSize = 10000;
+
+    @Value("${board.cache.page.max-size:200}")
+    private int pageMaxSize = 200;
+
+    @Value("${board.cache.ttl-ms:60000}")
+    private long ttlMillis = 60000;
+
+    // 본문 저장 방식 - mmap: 메모리 매핑 파일, direct: 다이렉트 버퍼, heap: 캐시 항목에 그대로 보관
+    @Value("${board.cache.content.store:mmap}")
+    private String contentStoreType = "mmap";
+
+    @Value("${board.cache.content.capacity-bytes:67108864}")
+    private int contentCapacityBytes = 64 * 1024 * 1024;
+
+    @Value("${board.cache.content.directory:${java.io.tmpdir}/board-content}")
+    private String contentDirectory = System.getProperty("java.io.tmpdir") + "/board-content";
+
+    private NearCache<Integer, CachedPost> posts;
+    private NearCache<String, Page<BoardDTO>> pages;
+    private OffHeapContentStore contentStore;
+    private final List<Consumer<Integer>> postEvictionListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        posts = new NearCache<>(postMaxSize, ttlMillis);
+        pages = new NearCache<>(pageMaxSize, ttlMillis);
+        contentStore = createContentStore();
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (contentStore != null) {
+            try {
+                contentStore.close();
+            } catch (IOException e) {
+                log.warn("게시글 본문 저장소 파일 삭제 실패 - 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 게시글 조회 (호출자가 수정할 수 있도록 복사본 반환, 없으면 null)
+     * 본문이 저장소에서 밀려났으면 캐시에 없는 것으로 봅니다.
+     */
+    public BoardDTO getPost(Integer id) {
+        if (!enabled) {
+            return null;
+        }
+        CachedPost cached = posts.get(id);
+        if (cached == null) {
+            return null;
+        }
+        BoardDTO copy = cached.post.toBuilder().build();
+        if (cached.contentReference != OffHeapContentStore.NONE) {
+            String content = contentStore.get(cached.contentReference);
+            if (content == null) {
+                return null;
+            }
+            copy.setContent(content);
+        }
+        return copy;
+    }
+
+    public long postStamp() {
+        return posts.stamp();
+    }
+
+    public void putPost(BoardDTO boardDTO, long readStamp) {
+        if (!enabled) {
+            return;
+        }
+        BoardDTO copy = boardDTO.toBuilder().build();
+        long contentReference = OffHeapContentStore.NONE;
+        if (contentStore != null && copy.getContent() != null) {
+            contentReference = contentStore.put(copy.getContent());
+            if (contentReference != OffHeapContentStore.NONE) {
+                copy.setContent(null);
+            }
+        }
+        posts.put(boardDTO.getId(), new CachedPost(copy, contentReference), readStamp);
+    }
+
+    /**
+     * 반영된 조회수를 로컬 캐시에 적용 (조회는 무효화 대상이 아님)
+     */
+    public void addViewCount(Integer id, int delta) {
+        posts.computeIfPresent(id, cached -> new CachedPost(
+                cached.post.toBuilder().viewCount(cached.post.getViewCount() + delta).build(),
+                cached.contentReference));
+    }
+
+    public Page<BoardDTO> getPage(String key) {
+        return enabled ? pages.get(key) : null;
+    }
+
+    public long pageStamp() {
+        return pages.stamp();
+    }
+
+    public void putPage(String key, Page<BoardDTO> page, long readStamp) {
+        if (enabled) {
+            pages.put(key, page, readStamp);
+        }
+    }
+
+    /**
+     * 게시글 변경 (수정/삭제) - 해당 게시글과 모든 목록 페이지 무효화
+     */
+    public void invalidatePost(Integer id) {
+        evictPost(id);
+        // 커밋 직전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막기 위해 커밋 후 한 번 더 비움
+        TransactionCallbacks.afterCommit(() -> evictPost(id));
+        invalidationBus.publish(InvalidationEvent.builder()
+                .region(InvalidationEvent.REGION_POST)
+                .key(String.valueOf(id))
+                .build());
+    }
+
+    /**
+     * 여러 게시글 변경 (일괄 관리) - 커밋 후 비우기는 한 번만 등록
+     */
+    public void invalidatePosts(Collection<Integer> ids) {
+        List<Integer> targets = new ArrayList<>(ids);
+        targets.forEach(this::evictPost);
+        TransactionCallbacks.afterCommit(() -> targets.forEach(this::evictPost));
+        for (Integer id : targets) {
+            invalidationBus.publish(InvalidationEvent.builder()
+                    .region(InvalidationEvent.REGION_POST)
+                    .key(String.valueOf(id))
+                    .build());
+        }
+    }
+
+    /**
+     * 게시글 추가 - 모든 목록 페이지 무효화
+     */
+    public void invalidatePages() {
+        pages.invalidateAll();
+        TransactionCallbacks.afterCommit(pages::invalidateAll);
+        invalidationBus.publish(InvalidationEvent.builder()
+                .region(InvalidationEvent.REGION_PAGES)
+                .build());
+    }
+
+    /**
+     * 게시글 무효화 수신 등록 (이 노드의 변경과 다른 노드에서 전달된 변경 모두)
+     */
+    public void subscribePostEviction(Consumer<Integer> listener) {
+        postEvictionListeners.add(listener);
+    }
+
+    public NearCache<String, Page<BoardDTO>> pages() {
+        return pages;
+    }
+
+    private void onInvalidation(InvalidationEvent event) {
+        if (InvalidationEvent.REGION_POST.equals(event.getRegion()) && event.getKey() != null) {
+            evictPost(Integer.valueOf(event.getKey()));
+        } else if (InvalidationEvent.REGION_PAGES.equals(event.getRegion())) {
+            pages.invalidateAll();
+        }
+    }
+
+    private void evictPost(Integer id) {
+        posts.invalidate(id);
+        pages.invalidateAll();
+        postEvictionListeners.forEach(listener -> listener.accept(id));
+    }
+
+    private OffHeapContentStore createContentStore() {
+        if ("direct".equals(contentStoreType)) {
+            return OffHeapContentStore.direct(contentCapacityBytes);
+        }
+        if (!"mmap".equals(contentStoreType)) {
+            return null;
+        }
+        try {
+            return OffHeapContentStore.mapped(Paths.get(contentDirectory), contentCapacityBytes);
+        } catch (IOException e) {
+            log.warn("게시글 본문 매핑 파일 생성 실패, 다이렉트 버퍼 사용 - 디렉토리: {}, 오류: {}", contentDirectory, e.getMessage());
+            return OffHeapContentStore.direct(contentCapacityBytes);
+        }
+    }
+
+    // 캐시 항목 (본문은 저장소 참조값으로, 저장소를 쓰지 않거나 저장하지 못했으면 post에 그대로)
+    private static final class CachedPost {
+        private final BoardDTO post;
+        private final long contentReference;
+
+        private CachedPost(BoardDTO post, long contentReference) {
+            this.post = post;
+            this.contentReference = contentReference;
+        }
+    }
+}
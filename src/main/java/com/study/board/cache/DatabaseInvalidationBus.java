@@ -0,0 +1,197 @@
+package com.study.board.cache;
+
+import com.study.board.entity.CacheInvalidation;
+import com.study.board.repository.CacheInvalidationRepository;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DB 폴링 기반 무효화 버스 (외부 서비스 없이 다중 노드 간 무효화 전달)
+ *
+ * 발행: 커밋 이후 메모리 큐에 쌓았다가 주기마다 cache_invalidation 테이블에 일괄 INSERT 합니다.
+ *       (요청 경로에 DB 왕복을 추가하지 않음)
+ * 수신: 주기마다 새 행을 읽어 다른 노드가 발행한 이벤트를 전달합니다.
+ *       IDENTITY ID는 커밋 순서와 다를 수 있으므로 lookback 구간을 다시 읽고, 이미 전달한 ID는 건너뜁니다.
+ *
+ * 전달 지연은 최대 약 (발행 노드 폴링 주기 + 수신 노드 폴링 주기)이며,
+ * 노드 장애로 유실된 무효화는 캐시 TTL로 보정됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.cache.invalidation.transport", havingValue = "database", matchIfMissing = true)
+@Slf4j
+public class DatabaseInvalidationBus implements InvalidationBus {
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${board.cache.node-id:}")
+    private String nodeId = "";
+
+    @Value("${board.cache.invalidation.lookback-ms:5000}")
+    private long lookbackMillis = 5000;
+
+    @Value("${board.cache.invalidation.retention-ms:600000}")
+    private long retentionMillis = 600000;
+
+    @Value("${board.cache.invalidation.batch-size:500}")
+    private int batchSize = 500;
+
+    private final Queue<InvalidationEvent> outgoing = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<InvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // 폴링 상태 (pump 스레드에서만 접근)
+    private final Deque<long[]> watermarks = new ArrayDeque<>();
+    private final Map<Long, Long> delivered = new LinkedHashMap<>();
+    private long maxSeenId;
+    private long lastPurgeAt;
+
+    @PostConstruct
+    public void init() {
+        if (nodeId == null || nodeId.isEmpty()) {
+            nodeId = UUID.randomUUID().toString().substring(0, 8);
+        }
+        // 기동 시점 이전의 무효화는 빈 캐시에 의미가 없으므로 건너뜀
+        maxSeenId = cacheInvalidationRepository.findMaxId();
+        watermarks.addLast(new long[]{System.currentTimeMillis(), maxSeenId});
+        log.info("캐시 무효화 버스 시작 - 노드: {}, 시작 ID: {}", nodeId, maxSeenId);
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        event.setNodeId(nodeId);
+        TransactionCallbacks.afterCommit(() -> outgoing.add(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 발행 큐 기록 + 다른 노드 이벤트 수신 + 오래된 행 정리
+     */
+    @Scheduled(fixedDelayString = "${board.cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void pump() {
+        try {
+            flushOutgoing();
+            poll();
+            purgeIfDue();
+        } catch (RuntimeException e) {
+            log.error("캐시 무효화 버스 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void flushOutgoing() {
+        List<CacheInvalidation> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        InvalidationEvent event;
+        while ((event = outgoing.poll()) != null) {
+            rows.add(CacheInvalidation.builder()
+                    .region(event.getRegion())
+                    .cacheKey(event.getKey())
+                    .nodeId(event.getNodeId())
+                    .createdAt(now)
+                    .build());
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> cacheInvalidationRepository.saveAll(rows));
+        } catch (RuntimeException e) {
+            rows.forEach(row -> outgoing.add(new InvalidationEvent(row.getRegion(), row.getCacheKey(), row.getNodeId())));
+            throw e;
+        }
+    }
+
+    private void poll() {
+        long now = System.currentTimeMillis();
+        long fromId = lookbackWatermark(now);
+
+        List<CacheInvalidation> rows;
+        do {
+            rows = cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(fromId, PageRequest.of(0, batchSize));
+            for (CacheInvalidation row : rows) {
+                fromId = row.getId();
+                maxSeenId = Math.max(maxSeenId, row.getId());
+                if (delivered.containsKey(row.getId())) {
+                    continue;
+                }
+                delivered.put(row.getId(), now);
+                if (!nodeId.equals(row.getNodeId())) {
+                    InvalidationEvent event = new InvalidationEvent(row.getRegion(), row.getCacheKey(), row.getNodeId());
+                    listeners.forEach(listener -> listener.accept(event));
+                }
+            }
+        } while (rows.size() == batchSize);
+
+        watermarks.addLast(new long[]{now, maxSeenId});
+        pruneDelivered(now);
+    }
+
+    // lookback 이전에 기록된 가장 최근 워터마크 (그 이후 커밋된 행은 다시 읽음)
+    private long lookbackWatermark(long now) {
+        long threshold = now - lookbackMillis;
+        while (watermarks.size() > 1) {
+            Iterator<long[]> iterator = watermarks.iterator();
+            iterator.next();
+            long[] second = iterator.next();
+            if (second[0] <= threshold) {
+                watermarks.removeFirst();
+            } else {
+                break;
+            }
+        }
+        return watermarks.peekFirst()[1];
+    }
+
+    private void pruneDelivered(long now) {
+        long threshold = now - lookbackMillis * 2;
+        Iterator<Map.Entry<Long, Long>> iterator = delivered.entrySet().iterator();
+        while (iterator.hasNext() && iterator.next().getValue() < threshold) {
+            iterator.remove();
+        }
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurgeAt < retentionMillis / 10) {
+            return;
+        }
+        lastPurgeAt = now;
+        LocalDateTime before = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000L);
+        Integer purged = transactionTemplate.execute(status -> cacheInvalidationRepository.deleteOlderThan(before));
+        if (purged != null && purged > 0) {
+            log.debug("캐시 무효화 로그 정리 - 삭제 수: {}", purged);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.study.board.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 전달 계층
+ * 구현체는 board.cache.invalidation.transport 설정으로 선택합니다. (database, loopback)
+ */
+public interface InvalidationBus {
+
+    /**
+     * 무효화 이벤트 발행 (트랜잭션 안에서 호출되면 커밋 이후 전달)
+     */
+    void publish(InvalidationEvent event);
+
+    /**
+     * 무효화 이벤트 수신 등록
+     */
+    void subscribe(Consumer<InvalidationEvent> listener);
+}
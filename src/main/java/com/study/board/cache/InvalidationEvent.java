@@ -0,0 +1,29 @@
+package com.study.board.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 무효화 이벤트
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvalidationEvent {
+
+    public static final String REGION_POST = "post";
+    public static final String REGION_PAGES = "pages";
+    public static final String REGION_ARCHIVE = "archive";
+
+    // 무효화 대상 영역 (post: 게시글 단건 + 목록, pages: 목록 전체, archive: 작성일별 게시글 수 증감)
+    private String region;
+
+    // 무효화 대상 키 (pages 영역은 null, archive 영역은 "발행자:작성일:증감")
+    private String key;
+
+    // 이벤트를 발행한 노드 ID
+    private String nodeId;
+}
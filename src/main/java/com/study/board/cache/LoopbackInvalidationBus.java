@@ -0,0 +1,34 @@
+package com.study.board.cache;
+
+import com.study.board.util.TransactionCallbacks;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내부 무효화 버스 (단일 노드 및 테스트용)
+ * 커밋 직후 등록된 모든 수신자에게 동기적으로 전달합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.cache.invalidation.transport", havingValue = "loopback")
+public class LoopbackInvalidationBus implements InvalidationBus {
+
+    private final List<Consumer<InvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        TransactionCallbacks.afterCommit(() -> deliver(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(InvalidationEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+}
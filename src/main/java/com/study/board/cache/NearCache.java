@@ -0,0 +1,130 @@
+package com.study.board.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 노드 로컬 캐시 (LRU + TTL)
+ * 무효화 시 스탬프를 증가시켜, 무효화 이전에 조회를 시작한 요청이 오래된 값을 다시 넣지 못하도록 합니다.
+ */
+public class NearCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long stamp;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public NearCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > NearCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() < 0) {
+            entries.remove(key);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * 현재 무효화 스탬프 (DB 조회 전에 받아 put 시 전달)
+     */
+    public synchronized long stamp() {
+        return stamp;
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었을 때만 저장
+     */
+    public synchronized boolean put(K key, V value, long readStamp) {
+        if (readStamp != stamp) {
+            return false;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        return true;
+    }
+
+    /**
+     * 캐시된 값이 있으면 변환하여 교체 (만료 시각은 유지)
+     */
+    public synchronized void computeIfPresent(K key, UnaryOperator<V> updater) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            entries.put(key, new Entry<>(updater.apply(entry.value), entry.expiresAt));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        stamp++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        stamp++;
+        entries.clear();
+    }
+
+    /**
+     * 조건에 맞는 항목만 제거하고 제거한 수를 반환
+     * 지운 항목이 없어도 스탬프는 증가시킵니다. (진행 중인 조회가 변경 이전 값을 넣지 못하도록)
+     */
+    public synchronized int invalidateIf(BiPredicate<K, V> condition) {
+        stamp++;
+        int removed = 0;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (condition.test(entry.getKey(), entry.getValue().value)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.study.board.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 힙 밖 게시글 본문 저장소
+ * 본문을 UTF-8로 인코딩하여 메모리 매핑 파일(또는 다이렉트 버퍼)에 고리 형태로 이어 씁니다.
+ * 저장 시 돌려주는 참조값(논리 위치 + 길이, long 하나)만 힙에 두므로, 캐시된 본문 크기가 늘어도 힙 사용량은 늘지 않습니다.
+ *
+ * 버퍼를 한 바퀴 돌아 덮어쓴 영역의 본문은 가장 오래 전에 저장된 것부터 자연히 밀려나며 (FIFO),
+ * 밀려난 참조값으로 조회하면 null을 반환합니다.
+ */
+public class OffHeapContentStore implements Closeable {
+
+    /**
+     * 저장하지 못한 경우의 참조값
+     */
+    public static final long NONE = -1L;
+
+    private static final int LENGTH_BITS = 16;
+    // 참조값의 길이 필드로 표현할 수 있는 최대 바이트 수 (본문 4000자 x 3바이트보다 큼)
+    private static final int MAX_RECORD_BYTES = (1 << LENGTH_BITS) - 1;
+    // UTF-16 한 글자를 UTF-8로 인코딩했을 때의 최대 바이트 수
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final Path file;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    // 디코딩 전 복사용 스레드별 버퍼 (조회마다 byte[]를 새로 만들지 않음)
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[4096]);
+
+    // 지금까지 쓴 논리 위치 (버퍼 위치는 capacity로 나눈 나머지, lock: this)
+    private long writePosition;
+
+    private OffHeapContentStore(ByteBuffer buffer, Path file) {
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.file = file;
+    }
+
+    /**
+     * 디렉토리에 세그먼트 파일을 만들어 메모리 매핑한 저장소
+     */
+    public static OffHeapContentStore mapped(Path directory, int capacity) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "content-", ".seg");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 채널을 닫아도 매핑은 버퍼가 수거될 때까지 유지됨
+            return new OffHeapContentStore(channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * 다이렉트 버퍼 저장소 (파일 없이 프로세스 메모리만 사용)
+     */
+    public static OffHeapContentStore direct(int capacity) {
+        return new OffHeapContentStore(ByteBuffer.allocateDirect(capacity), null);
+    }
+
+    /**
+     * 본문 저장 후 참조값 반환 (너무 길면 NONE)
+     * 중간 byte[] 없이 버퍼에 바로 인코딩합니다.
+     */
+    public synchronized long put(String content) {
+        int reserved = content.length() * MAX_BYTES_PER_CHAR;
+        if (reserved > MAX_RECORD_BYTES || reserved > capacity) {
+            return NONE;
+        }
+
+        int offset = (int) (writePosition % capacity);
+        if (offset + reserved > capacity) {
+            // 버퍼 끝에 걸치지 않도록 처음으로 넘어감
+            writePosition += capacity - offset;
+            offset = 0;
+        }
+
+        buffer.limit(offset + reserved).position(offset);
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(content), buffer, true);
+        encoder.flush(buffer);
+        int length = buffer.position() - offset;
+        buffer.clear();
+
+        long reference = writePosition << LENGTH_BITS | length;
+        writePosition += length;
+        return reference;
+    }
+
+    /**
+     * 참조값의 본문 (덮어써져 밀려났으면 null)
+     */
+    public String get(long reference) {
+        if (reference == NONE) {
+            return null;
+        }
+        long position = reference >>> LENGTH_BITS;
+        int length = (int) (reference & MAX_RECORD_BYTES);
+
+        byte[] bytes = scratch.get();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+            scratch.set(bytes);
+        }
+        synchronized (this) {
+            if (!isLive(position)) {
+                return null;
+            }
+            buffer.position((int) (position % capacity));
+            buffer.get(bytes, 0, length);
+            buffer.clear();
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 참조값의 본문이 아직 남아 있는지
+     */
+    public synchronized boolean contains(long reference) {
+        return reference != NONE && isLive(reference >>> LENGTH_BITS);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized long writtenBytes() {
+        return writePosition;
+    }
+
+    /**
+     * 세그먼트 파일 삭제 (매핑은 버퍼가 수거될 때 해제)
+     */
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // 이후에 쓴 내용이 한 바퀴를 넘지 않았으면 유효
+    private boolean isLive(long position) {
+        return writePosition - position <= capacity;
+    }
+}
@@ -0,0 +1,65 @@
+package com.study.board.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 시 DB 조회 합치기
+ * 인기 게시글이 캐시에서 밀려나거나 재기동 직후 같은 게시글/페이지 요청이 몰려도, 키마다 DB 조회는 한 번만 실행합니다.
+ * 분류(post, list, popular, search)별로 합친 요청 수를 집계합니다.
+ */
+@Component
+public class RequestCoalescer {
+
+    public static final String POST = "post";
+    public static final String LIST = "list";
+    public static final String POPULAR = "popular";
+    public static final String SEARCH = "search";
+
+    @Value("${board.coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    // 다른 요청의 조회 결과를 기다리는 최대 시간 (초과 시 직접 조회)
+    @Value("${board.coalescing.timeout-ms:3000}")
+    private long timeoutMillis = 3000;
+
+    private final Map<String, SingleFlight<Object>> groups = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (String group : new String[]{POST, LIST, POPULAR, SEARCH}) {
+            groups.put(group, new SingleFlight<>(timeoutMillis));
+        }
+    }
+
+    /**
+     * 같은 분류/키의 진행 중인 조회가 있으면 그 결과를 함께 받음
+     * 결과 객체는 요청 간에 공유되므로, 호출자가 수정해야 하면 복사해서 사용해야 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(String group, String key, Supplier<V> loader) {
+        SingleFlight<Object> flight = groups.get(group);
+        if (!enabled || flight == null) {
+            return loader.get();
+        }
+        return (V) flight.load(key, (Supplier<Object>) loader);
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        groups.forEach((group, flight) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("loads", flight.loadCount());
+            values.put("coalesced", flight.coalescedCount());
+            values.put("timeouts", flight.timeoutCount());
+            values.put("inFlight", flight.inFlight());
+            metrics.put(group, values);
+        });
+        return metrics;
+    }
+}
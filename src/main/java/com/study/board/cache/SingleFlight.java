@@ -0,0 +1,97 @@
+package com.study.board.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회 합치기 (single-flight)
+ * 먼저 도착한 요청(leader)만 조회를 실행하고, 조회가 끝나기 전에 같은 키로 들어온 요청은 그 결과(또는 예외)를 함께 받습니다.
+ * 기다리는 요청은 timeout이 지나면 더 기다리지 않고 직접 조회합니다.
+ */
+public class SingleFlight<V> {
+
+    private final long timeoutMillis;
+    private final ConcurrentHashMap<String, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 진행 중인 같은 키의 조회가 있으면 그 결과를 기다리고, 없으면 직접 조회
+     */
+    public V load(String key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            return await(inFlight, loader);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight, Supplier<V> loader) {
+        try {
+            V value = inFlight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            coalesced.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            loads.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 실제로 실행한 조회 수 (leader + 대기 시간 초과로 직접 조회한 요청)
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * 다른 요청의 조회 결과를 함께 받은 요청 수
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+
+    public int inFlight() {
+        return flights.size();
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.board.config;
+
+import com.study.board.admission.AdmissionControl;
+import com.study.board.admission.AdmissionControlFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청 허용 제어 설정 클래스
+ * 게시판, JSON API, 첨부파일 경로에만 필터를 적용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdmissionControl admissionControl,
+            @Value("${board.admission.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(admissionControl, trustForwardedFor));
+        registration.addUrlPatterns("/board/*", "/api/*", "/files/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.board.config;
+
+import com.study.board.event.EventLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+/**
+ * 게시글 이벤트 로그 설정 클래스
+ * 로그 파일은 첫 기록 또는 첫 조회 시점에 열립니다.
+ */
+@Configuration
+public class EventLogConfig {
+
+    @Bean(destroyMethod = "close")
+    public EventLog boardEventLog(@Value("${board.eventlog.directory:${user.home}/board-events}") String directory,
+                                  @Value("${board.eventlog.segment-size:67108864}") int segmentSize,
+                                  @Value("${board.eventlog.max-segments:16}") int maxSegments) {
+        return new EventLog(Paths.get(directory), segmentSize, maxSegments);
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA Auditing 설정 클래스
+ * 메인 클래스와 분리하여 @WebMvcTest 등 슬라이스 테스트에서 JPA 메타모델 없이 컨텍스트를 로드할 수 있도록 합니다.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
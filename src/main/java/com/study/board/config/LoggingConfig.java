@@ -0,0 +1,23 @@
+package com.study.board.config;
+
+import com.study.board.logging.RequestIdFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 로깅 설정 클래스
+ * 요청 ID 필터를 가장 먼저 실행하여 이후 필터에서 남기는 로그에도 요청 ID가 포함되도록 합니다.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+        FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(new RequestIdFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
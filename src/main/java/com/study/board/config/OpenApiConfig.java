@@ -6,8 +6,15 @@ import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.License;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
+/**
+ * OpenAPI 문서 설정 클래스
+ * 기동에 필요하지 않은 빈이므로 지연 초기화 대상으로 둡니다.
+ * (fast-startup 프로필에서는 springdoc 빈과 함께 /v3/api-docs 첫 요청 시 생성)
+ */
 @Configuration
+@Lazy
 public class OpenApiConfig {
 
     @Bean
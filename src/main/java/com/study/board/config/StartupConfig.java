@@ -0,0 +1,74 @@
+package com.study.board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 빠른 기동 모드 설정 클래스
+ * fast-startup 프로필은 빈을 지연 초기화하지만, 주기 작업(@Scheduled)이 있는 빈은 생성되지 않으면
+ * 작업이 시작되지 않으므로 즉시 생성합니다.
+ */
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethods(beanType);
+    }
+
+    /**
+     * AppCDS 학습 실행용: 기동 후 목록 페이지를 한 번 요청해 요청 처리 경로의 클래스까지 적재한 뒤 종료
+     */
+    @Bean
+    @ConditionalOnProperty(name = "board.startup.cds-training", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> cdsTrainingExit() {
+        return event -> {
+            String port = event.getApplicationContext().getEnvironment().getProperty("local.server.port");
+            if (port != null) {
+                warmUp("http://localhost:" + port + "/board/list");
+            }
+            log.info("AppCDS 학습 실행 종료");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+
+    static boolean hasScheduledMethods(Class<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found.get();
+    }
+
+    private static void warmUp(String url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                in.readAllBytes();
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            log.warn("학습 요청 실패 - {}: {}", url, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.board.config;
+
+import com.study.board.timing.RenderTimingInterceptor;
+import com.study.board.timing.RequestTimingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 처리 시간 측정 설정 클래스
+ * 요청 ID 필터 바로 다음에 실행하여 나머지 필터 체인 시간까지 전체 시간에 포함합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.timing.enabled", havingValue = "true", matchIfMissing = true)
+public class TimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            @Value("${board.timing.slow-request-ms:500}") long slowRequestMillis,
+            @Value("${board.timing.server-timing-header:true}") boolean serverTimingHeader) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(slowRequestMillis, serverTimingHeader));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RenderTimingInterceptor());
+    }
+}
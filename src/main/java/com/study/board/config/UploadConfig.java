@@ -0,0 +1,34 @@
+package com.study.board.config;
+
+import com.study.board.storage.AttachmentStore;
+import com.study.board.storage.StreamingMultipartFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 스트리밍 업로드 설정 클래스
+ * 첨부파일을 받는 게시글 작성/수정 경로에만 필터를 적용합니다. (비활성화하면 기본 multipart 처리 사용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.upload.streaming.enabled", havingValue = "true", matchIfMissing = true)
+public class UploadConfig {
+
+    @Bean
+    public FilterRegistrationBean<StreamingMultipartFilter> streamingMultipartFilter(
+            AttachmentStore attachmentStore,
+            @Value("${spring.servlet.multipart.max-file-size:1MB}") DataSize maxFileSize,
+            @Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize,
+            @Value("${board.upload.streaming.max-form-size:1MB}") DataSize maxFormSize) {
+        FilterRegistrationBean<StreamingMultipartFilter> registration = new FilterRegistrationBean<>(
+                new StreamingMultipartFilter(attachmentStore, maxFileSize.toBytes(), maxRequestSize.toBytes(),
+                        maxFormSize.toBytes()));
+        registration.addUrlPatterns("/board/writepro", "/board/update/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.board.controller;
+
+import com.study.board.admission.AdmissionControl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 요청 허용 제어 지표 API
+ */
+@RestController
+@RequestMapping("/api/admission")
+@Tag(name = "운영", description = "운영 지표 API")
+public class AdmissionMetricsController {
+
+    @Autowired
+    private AdmissionControl admissionControl;
+
+    @GetMapping("/metrics")
+    @Operation(summary = "요청 허용 지표", description = "엔드포인트 분류별 허용/거절 수, 동시 실행 수, 추적 중인 클라이언트 수를 조회합니다.")
+    public Map<String, Object> metrics() {
+        return admissionControl.metrics();
+    }
+}
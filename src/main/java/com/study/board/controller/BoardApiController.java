@@ -0,0 +1,160 @@
+package com.study.board.controller;
+
+import com.study.board.archive.DateRange;
+import com.study.board.dto.ArchiveCount;
+import com.study.board.dto.BoardDTO;
+import com.study.board.dto.ErrorResponse;
+import com.study.board.dto.TagCount;
+import com.study.board.service.BoardService;
+import com.study.board.tag.TagFilter;
+import com.study.board.util.DateUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import javax.persistence.EntityNotFoundException;
+import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 게시판 JSON API
+ * 게시글 버전을 ETag로 노출하며, 수정 시 If-Match 헤더 또는 요청 본문의 version으로 동시 수정 충돌을 검사합니다.
+ */
+@RestController
+@RequestMapping("/api/boards")
+@Slf4j
+@Tag(name = "게시판 API", description = "게시판 JSON API")
+public class BoardApiController {
+
+    @Autowired
+    private BoardService boardService;
+
+    @GetMapping
+    @Operation(summary = "게시글 목록 조회", description = "본문 대신 미리보기(excerpt)를 포함한 게시글 목록을 조회합니다.")
+    public Page<BoardDTO> getBoards(@Parameter(description = "페이지 번호") @RequestParam(value = "page", defaultValue = "0") int page,
+                                    @Parameter(description = "검색 키워드") @RequestParam(value = "searchKeyword", required = false) String searchKeyword,
+                                    @Parameter(description = "검색 타입") @RequestParam(value = "searchType", defaultValue = "all") String searchType,
+                                    @Parameter(description = "모두 포함할 태그") @RequestParam(value = "tags", required = false) List<String> tags,
+                                    @Parameter(description = "하나 이상 포함할 태그") @RequestParam(value = "anyTags", required = false) List<String> anyTags,
+                                    @Parameter(description = "제외할 태그") @RequestParam(value = "excludeTags", required = false) List<String> excludeTags,
+                                    @Parameter(description = "작성일 시작 (yyyy-MM-dd, 포함)") @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                    @Parameter(description = "작성일 종료 (yyyy-MM-dd, 포함)") @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                    @Parameter(description = "보관된 게시글 포함 (검색어 또는 작성일 범위가 있을 때, 태그 조건과는 함께 쓸 수 없음)") @RequestParam(value = "includeArchive", defaultValue = "false") boolean includeArchive) {
+        Pageable pageable = PageRequest.of(page, 10, Sort.by("id").descending());
+        TagFilter tagFilter = TagFilter.of(tags, anyTags, excludeTags);
+        if (includeArchive && tagFilter.isEmpty()) {
+            return boardService.boardArchiveSearchList(searchKeyword, searchType, DateRange.of(from, to), pageable);
+        }
+        return boardService.boardSearchList(searchKeyword, searchType, tagFilter, DateRange.of(from, to), pageable);
+    }
+
+    @GetMapping("/archive")
+    @Operation(summary = "아카이브 탐색", description = "월별 게시글 수를 최근 월부터 조회합니다. month(yyyy-MM)를 지정하면 해당 월의 일별 게시글 수를 조회합니다.")
+    public List<ArchiveCount> getArchive(@Parameter(description = "연월 (yyyy-MM)") @RequestParam(value = "month", required = false) String month,
+                                         @Parameter(description = "최대 월 수") @RequestParam(value = "limit", defaultValue = "120") int limit) {
+        if (month != null) {
+            return boardService.archiveDays(DateUtil.parseMonth(month));
+        }
+        return boardService.archiveMonths(Math.max(1, Math.min(limit, 1200)));
+    }
+
+    @GetMapping("/tags")
+    @Operation(summary = "태그별 게시글 수", description = "태그 조건에 맞는 게시글 중 태그별 게시글 수를 많은 순으로 조회합니다.")
+    public List<TagCount> getTagCounts(@Parameter(description = "모두 포함할 태그") @RequestParam(value = "tags", required = false) List<String> tags,
+                                       @Parameter(description = "하나 이상 포함할 태그") @RequestParam(value = "anyTags", required = false) List<String> anyTags,
+                                       @Parameter(description = "제외할 태그") @RequestParam(value = "excludeTags", required = false) List<String> excludeTags,
+                                       @Parameter(description = "최대 태그 수") @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return boardService.tagCounts(TagFilter.of(tags, anyTags, excludeTags), Math.max(1, Math.min(limit, 200)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "게시글 조회", description = "게시글을 조회합니다. 응답의 ETag는 게시글 버전입니다.")
+    public ResponseEntity<BoardDTO> getBoard(@Parameter(description = "게시글 ID") @PathVariable("id") Integer id) {
+        BoardDTO boardDTO = boardService.boardViewWithoutIncrement(id);
+        return ResponseEntity.ok()
+                .eTag(toETag(boardDTO.getVersion()))
+                .body(boardDTO);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "게시글 수정", description = "버전이 일치할 때만 게시글을 수정합니다. 버전이 다르면 409를 반환합니다.")
+    public ResponseEntity<Void> updateBoard(@Parameter(description = "게시글 ID") @PathVariable("id") Integer id,
+                                            @Parameter(description = "조회 시 받은 ETag") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                            @Valid @RequestBody BoardDTO boardDTO) throws Exception {
+
+        log.info("게시글 수정 API - ID: {}", id);
+
+        if (ifMatch != null) {
+            boardDTO.setVersion(parseETag(ifMatch));
+        }
+
+        Long newVersion = boardService.updateBoard(id, boardDTO, null);
+        return ResponseEntity.noContent()
+                .eTag(toETag(newVersion))
+                .build();
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(OptimisticLockingFailureException e) {
+        return error(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(EntityNotFoundException e) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(IllegalArgumentException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalid(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().isEmpty()
+                ? "잘못된 요청입니다."
+                : e.getBindingResult().getFieldErrors().get(0).getDefaultMessage();
+        return error(HttpStatus.BAD_REQUEST, message);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(ErrorResponse.builder()
+                        .status(status.value())
+                        .error(status.getReasonPhrase())
+                        .message(message)
+                        .build());
+    }
+
+    private String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-Match 값("3", W/"3", 3)에서 버전 추출
+    private Long parseETag(String eTag) {
+        String value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 If-Match 값입니다: " + eTag);
+        }
+    }
+}
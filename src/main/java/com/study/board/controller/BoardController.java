@@ -1,18 +1,31 @@
 package com.study.board.controller;
 
+import com.study.board.archive.DateRange;
+import com.study.board.dto.AttachmentDTO;
 import com.study.board.dto.BoardDTO;
+import com.study.board.jfr.AttachmentDownloadEvent;
+import com.study.board.resilience.DatabaseUnavailableException;
+import com.study.board.resilience.ReadResilience;
+import com.study.board.resilience.StaleRead;
 import com.study.board.service.BoardService;
+import com.study.board.storage.AttachmentStore;
+import com.study.board.storage.GzipDecodedResource;
+import com.study.board.storage.StreamedUpload;
+import com.study.board.tag.TagFilter;
+import com.study.board.timing.TimedFileResource;
+import com.study.board.util.FileUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,9 +37,12 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 @Controller
 @RequestMapping("/board")
@@ -34,34 +50,69 @@ import java.nio.file.Paths;
 @Tag(name = "게시판", description = "게시판 관리 API")
 public class BoardController {
 
+    // 태그 사이드바에 표시할 태그 수
+    private static final int TAG_SIDEBAR_SIZE = 20;
+
+    // 아카이브 사이드바에 표시할 월 수
+    private static final int ARCHIVE_SIDEBAR_SIZE = 12;
+
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private ReadResilience readResilience;
+
     @GetMapping("/list")
     @Operation(summary = "게시글 목록 조회", description = "페이징된 게시글 목록을 조회합니다.")
     public String boardList(Model model,
                            @Parameter(description = "페이지 번호") @RequestParam(value = "page", defaultValue = "0") int page,
                            @Parameter(description = "검색 키워드") @RequestParam(value = "searchKeyword", required = false) String searchKeyword,
-                           @Parameter(description = "검색 타입") @RequestParam(value = "searchType", defaultValue = "all") String searchType) {
+                           @Parameter(description = "검색 타입") @RequestParam(value = "searchType", defaultValue = "all") String searchType,
+                           @Parameter(description = "모두 포함할 태그") @RequestParam(value = "tags", required = false) List<String> tags,
+                           @Parameter(description = "하나 이상 포함할 태그") @RequestParam(value = "anyTags", required = false) List<String> anyTags,
+                           @Parameter(description = "제외할 태그") @RequestParam(value = "excludeTags", required = false) List<String> excludeTags,
+                           @Parameter(description = "작성일 시작 (yyyy-MM-dd)") @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                           @Parameter(description = "작성일 종료 (yyyy-MM-dd)") @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                           @Parameter(description = "보관된 게시글 포함 (검색어 또는 작성일 범위가 있을 때, 태그 조건과는 함께 쓸 수 없음)") @RequestParam(value = "includeArchive", defaultValue = "false") boolean includeArchive) {
 
         log.info("게시글 목록 요청 - 페이지: {}, 검색어: {}, 검색타입: {}", page, searchKeyword, searchType);
 
         Pageable pageable = PageRequest.of(page, 10, Sort.by("id").descending());
-        Page<BoardDTO> paging;
-
-        if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
-            paging = boardService.boardList(pageable);
-        } else {
-            paging = boardService.boardSearchList(searchKeyword, searchType, pageable);
-        }
-
-        model.addAttribute("paging", paging);
+        TagFilter tagFilter = TagFilter.of(tags, anyTags, excludeTags);
+        DateRange dateRange = DateRange.of(from, to);
+        String readKey = "list:" + page + ":" + searchType + ":" + tagFilter + ":" + dateRange + ":" + includeArchive
+                + ":" + searchKeyword;
+        StaleRead<Page<BoardDTO>> paging = readResilience.read(readKey,
+                () -> findPage(searchKeyword, searchType, tagFilter, dateRange, includeArchive, pageable));
+
+        model.addAttribute("paging", paging.getValue());
+        model.addAttribute("stale", paging.isStale());
         model.addAttribute("searchKeyword", searchKeyword);
         model.addAttribute("searchType", searchType);
+        model.addAttribute("tags", tagFilter.getAllOf());
+        model.addAttribute("anyTags", tagFilter.getAnyOf());
+        model.addAttribute("excludeTags", tagFilter.getNoneOf());
+        model.addAttribute("tagCounts", boardService.tagCounts(tagFilter, TAG_SIDEBAR_SIZE));
+        model.addAttribute("from", dateRange.getFrom());
+        model.addAttribute("to", dateRange.getTo());
+        model.addAttribute("includeArchive", includeArchive);
+        model.addAttribute("archiveMonths", boardService.archiveMonths(ARCHIVE_SIDEBAR_SIZE));
 
         return "boardlist";
     }
 
+    @GetMapping("/archive/{year}/{month}")
+    @Operation(summary = "월별 게시글 목록", description = "해당 월에 작성된 게시글 목록으로 이동합니다.")
+    public String boardArchive(@Parameter(description = "연도") @PathVariable("year") int year,
+                               @Parameter(description = "월") @PathVariable("month") int month) {
+        try {
+            DateRange range = DateRange.ofMonth(YearMonth.of(year, month));
+            return "redirect:/board/list?from=" + range.getFrom() + "&to=" + range.getTo() + "&includeArchive=true";
+        } catch (DateTimeException e) {
+            return "redirect:/board/list";
+        }
+    }
+
     @GetMapping("/write")
     @Operation(summary = "게시글 작성 폼", description = "새 게시글 작성 폼을 표시합니다.")
     public String boardWriteForm(Model model) {
@@ -73,11 +124,16 @@ public class BoardController {
     @Operation(summary = "게시글 작성 처리", description = "새 게시글을 작성합니다.")
     public String boardWritePro(@Valid @ModelAttribute BoardDTO boardDTO,
                                BindingResult bindingResult,
-                               @RequestParam(value = "file", required = false) MultipartFile file,
+                               @RequestParam(value = "file", required = false) List<MultipartFile> files,
+                               @RequestAttribute(value = StreamedUpload.ATTRIBUTE, required = false) StreamedUpload upload,
                                Model model,
                                RedirectAttributes redirectAttributes) {
 
         log.info("게시글 작성 처리 - 제목: {}", boardDTO.getTitle());
+        // 스트리밍 업로드 중 크기 초과 등으로 실패했으면 기본 multipart 처리와 같은 예외로 처리
+        if (upload != null) {
+            upload.rethrowFailure();
+        }
 
         if (bindingResult.hasErrors()) {
             log.warn("게시글 작성 유효성 검증 실패: {}", bindingResult.getAllErrors());
@@ -86,7 +142,9 @@ public class BoardController {
         }
 
         try {
-            BoardDTO savedBoard = boardService.write(boardDTO, file);
+            BoardDTO savedBoard = upload != null
+                    ? boardService.writeStreamed(boardDTO, upload.claim())
+                    : boardService.write(boardDTO, files);
             redirectAttributes.addFlashAttribute("message", "게시글이 성공적으로 작성되었습니다.");
             return "redirect:/board/view?id=" + savedBoard.getId();
         } catch (Exception e) {
@@ -106,9 +164,16 @@ public class BoardController {
         log.info("게시글 상세 조회 - ID: {}", id);
 
         try {
-            BoardDTO boardDTO = boardService.boardView(id);
-            model.addAttribute("board", boardDTO);
+            // 조회수는 요청 스레드의 조회에서만 반영하고, 백그라운드 재조회는 조회수를 올리지 않음
+            // (이전 응답을 보여줄 때는 DB를 기다리지 않도록 반영하지 않음)
+            StaleRead<BoardDTO> boardDTO = readResilience.read(ReadResilience.viewKey(id),
+                    () -> boardService.boardView(id), () -> boardService.boardDetail(id));
+            model.addAttribute("board", boardDTO.getValue());
+            model.addAttribute("stale", boardDTO.isStale());
             return "boardview";
+        } catch (DatabaseUnavailableException e) {
+            // 목록으로 보내면 목록 조회가 다시 DB를 기다리므로 바로 안내
+            throw e;
         } catch (Exception e) {
             log.error("게시글 조회 실패 - ID: {}, 오류: {}", id, e.getMessage());
             redirectAttributes.addFlashAttribute("error", "게시글을 찾을 수 없습니다.");
@@ -144,6 +209,10 @@ public class BoardController {
 
         try {
             BoardDTO boardDTO = boardService.boardViewWithoutIncrement(id);
+            if (Boolean.TRUE.equals(boardDTO.getArchived())) {
+                redirectAttributes.addFlashAttribute("error", "보관된 게시글은 수정할 수 없습니다.");
+                return "redirect:/board/view?id=" + id;
+            }
             model.addAttribute("boardDTO", boardDTO);
             return "boardmodify";
         } catch (Exception e) {
@@ -158,11 +227,15 @@ public class BoardController {
     public String boardUpdate(@Parameter(description = "게시글 ID") @PathVariable("id") Integer id,
                              @Valid @ModelAttribute BoardDTO boardDTO,
                              BindingResult bindingResult,
-                             @RequestParam(value = "file", required = false) MultipartFile file,
+                             @RequestParam(value = "file", required = false) List<MultipartFile> files,
+                             @RequestAttribute(value = StreamedUpload.ATTRIBUTE, required = false) StreamedUpload upload,
                              Model model,
                              RedirectAttributes redirectAttributes) {
 
         log.info("게시글 수정 처리 - ID: {}", id);
+        if (upload != null) {
+            upload.rethrowFailure();
+        }
 
         if (bindingResult.hasErrors()) {
             log.warn("게시글 수정 유효성 검증 실패: {}", bindingResult.getAllErrors());
@@ -172,9 +245,23 @@ public class BoardController {
         }
 
         try {
-            boardService.updateBoard(id, boardDTO, file);
+            if (upload != null) {
+                boardService.updateBoardStreamed(id, boardDTO, upload.claim());
+            } else {
+                boardService.updateBoard(id, boardDTO, files);
+            }
             redirectAttributes.addFlashAttribute("message", "게시글이 성공적으로 수정되었습니다.");
             return "redirect:/board/view?id=" + id;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("게시글 수정 충돌 - ID: {}, 요청 버전: {}", id, boardDTO.getVersion());
+            BoardDTO latestBoard = boardService.boardViewWithoutIncrement(id);
+            // 입력 내용은 유지하고 버전만 최신으로 갱신하여, 확인 후 다시 저장하면 최신 내용 위에 반영되도록 함
+            boardDTO.setId(id);
+            boardDTO.setVersion(latestBoard.getVersion());
+            model.addAttribute("boardDTO", boardDTO);
+            model.addAttribute("latestBoard", latestBoard);
+            model.addAttribute("error", e.getMessage());
+            return "boardmodify";
         } catch (Exception e) {
             log.error("게시글 수정 실패 - ID: {}, 오류: {}", id, e.getMessage());
             boardDTO.setId(id);
@@ -192,47 +279,109 @@ public class BoardController {
         log.info("인기 게시글 목록 요청 - 페이지: {}", page);
 
         Pageable pageable = PageRequest.of(page, 10);
-        Page<BoardDTO> paging = boardService.getPopularPosts(pageable);
+        StaleRead<Page<BoardDTO>> paging = readResilience.read("popular:" + page, () -> boardService.getPopularPosts(pageable));
 
-        model.addAttribute("paging", paging);
+        model.addAttribute("paging", paging.getValue());
+        model.addAttribute("stale", paging.isStale());
         model.addAttribute("isPopular", true);
 
         return "boardlist";
     }
 
     @GetMapping("/download")
-    @Operation(summary = "파일 다운로드", description = "게시글의 첨부파일을 다운로드합니다.")
-    public ResponseEntity<Resource> downloadFile(@Parameter(description = "게시글 ID") @RequestParam Integer id) {
+    @Operation(summary = "파일 다운로드", description = "게시글의 첨부파일을 다운로드합니다. 이전 방식의 단일 첨부파일이 없으면 첫 번째 첨부파일을 전송합니다. 압축 저장된 파일은 gzip을 받을 수 있으면 압축된 그대로 전송합니다.")
+    public ResponseEntity<Resource> downloadFile(@Parameter(description = "게시글 ID") @RequestParam Integer id,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         log.info("파일 다운로드 요청 - 게시글 ID: {}", id);
 
+        AttachmentDownloadEvent event = new AttachmentDownloadEvent();
+        event.begin();
+        event.setPostId(id);
         try {
             BoardDTO boardDTO = boardService.boardViewWithoutIncrement(id);
 
-            if (boardDTO.getFilepath() == null) {
+            if (boardDTO.getFilepath() != null) {
+                // 이전 방식의 단일 첨부파일은 저장된 형식 정보가 없으므로 파일명으로 결정
+                return serveFile(AttachmentDTO.builder()
+                        .filename(boardDTO.getFilename())
+                        .filepath(boardDTO.getFilepath())
+                        .contentType(FileUtil.contentTypeOf(boardDTO.getFilename()))
+                        .build(), acceptEncoding, event);
+            }
+            if (boardDTO.getAttachments() == null || boardDTO.getAttachments().isEmpty()) {
                 throw new RuntimeException("첨부파일이 없습니다.");
             }
+            return serveFile(boardDTO.getAttachments().get(0), acceptEncoding, event);
+        } catch (Exception e) {
+            log.error("파일 다운로드 실패 - 게시글 ID: {}, 오류: {}", id, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
 
-            Path filePath = Paths.get(boardDTO.getFilepath());
-            Resource resource = new UrlResource(filePath.toUri());
+    @GetMapping("/attachment/{attachmentId}")
+    @Operation(summary = "첨부파일 다운로드", description = "첨부파일 ID로 파일을 다운로드합니다. 압축 저장된 파일은 gzip을 받을 수 있으면 압축된 그대로 전송합니다.")
+    public ResponseEntity<Resource> downloadAttachment(@Parameter(description = "첨부파일 ID") @PathVariable("attachmentId") Integer attachmentId,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = Files.probeContentType(filePath);
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
-                }
+        log.info("첨부파일 다운로드 요청 - 첨부파일 ID: {}", attachmentId);
 
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION,
-                                "attachment; filename=\"" + boardDTO.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                throw new RuntimeException("파일을 찾을 수 없습니다.");
-            }
+        AttachmentDownloadEvent event = new AttachmentDownloadEvent();
+        event.begin();
+        try {
+            AttachmentDTO attachment = boardService.getAttachment(attachmentId);
+            return serveFile(attachment, acceptEncoding, event);
         } catch (Exception e) {
-            log.error("파일 다운로드 실패 - 게시글 ID: {}, 오류: {}", id, e.getMessage());
+            log.error("첨부파일 다운로드 실패 - 첨부파일 ID: {}, 오류: {}", attachmentId, e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
+
+    // 조건에 맞는 목록 조회 (보관글 포함 / 작성일 범위 / 태그 / 검색어 / 전체)
+    private Page<BoardDTO> findPage(String searchKeyword, String searchType, TagFilter tagFilter, DateRange dateRange,
+                                    boolean includeArchive, Pageable pageable) {
+        if (includeArchive && tagFilter.isEmpty()) {
+            return boardService.boardArchiveSearchList(searchKeyword, searchType, dateRange, pageable);
+        } else if (!dateRange.isEmpty()) {
+            return boardService.boardSearchList(searchKeyword, searchType, tagFilter, dateRange, pageable);
+        } else if (!tagFilter.isEmpty()) {
+            return boardService.boardSearchList(searchKeyword, searchType, tagFilter, pageable);
+        } else if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
+            return boardService.boardList(pageable);
+        }
+        return boardService.boardSearchList(searchKeyword, searchType, pageable);
+    }
+
+    // 저장된 파일 전송
+    // Content-Type과 크기는 업로드 시 기록한 값을 사용하므로 파일 형식 판별이나 압축 해제 크기 계산을 하지 않습니다.
+    private ResponseEntity<Resource> serveFile(AttachmentDTO attachment, String acceptEncoding,
+                                               AttachmentDownloadEvent event) {
+        Path filePath = Paths.get(attachment.getFilepath());
+        long storedSize = attachment.getStoredSize() == null ? -1 : attachment.getStoredSize();
+        // 전송이 끝나 스트림이 닫힐 때 JFR 이벤트 기록 (압축 저장 파일은 디스크에서 읽은 압축 크기)
+        Resource stored = new TimedFileResource(filePath, storedSize, bytes -> {
+            event.setBytes(bytes);
+            event.commit();
+        });
+
+        if (!stored.isReadable()) {
+            throw new RuntimeException("파일을 찾을 수 없습니다.");
+        }
+        String contentType = attachment.getContentType() == null
+                ? FileUtil.contentTypeOf(attachment.getFilename()) : attachment.getContentType();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachment.getFilename() + "\"");
+        if (!AttachmentStore.isCompressed(attachment.getFilepath())) {
+            return response.body(stored);
+        }
+
+        // 압축 저장 파일: gzip을 받을 수 있으면 그대로 전송, 아니면 전송하면서 압축 해제
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (AttachmentStore.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(stored);
+        }
+        return response.body(new GzipDecodedResource(stored, attachment.getSize() == null ? -1 : attachment.getSize()));
+    }
 }
@@ -0,0 +1,39 @@
+package com.study.board.controller;
+
+import com.study.board.cache.RequestCoalescer;
+import com.study.board.search.SearchCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 조회 합치기/검색 결과 캐시 지표 API
+ */
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "운영", description = "운영 지표 API")
+public class CacheMetricsController {
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private SearchCache searchCache;
+
+    @GetMapping("/coalescing")
+    @Operation(summary = "조회 합치기 지표", description = "분류별 실제 DB 조회 수, 합쳐진 요청 수, 대기 시간 초과 수, 진행 중인 조회 수를 조회합니다.")
+    public Map<String, Object> coalescing() {
+        return requestCoalescer.metrics();
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "검색 결과 캐시 지표", description = "캐시된 검색 수, 적중/미스 수, 게시글 변경으로 골라서 지운 검색 수, 전체를 비운 횟수를 조회합니다.")
+    public Map<String, Object> search() {
+        return searchCache.metrics();
+    }
+}
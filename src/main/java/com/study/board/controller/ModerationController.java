@@ -0,0 +1,93 @@
+package com.study.board.controller;
+
+import com.study.board.archive.DateRange;
+import com.study.board.dto.ErrorResponse;
+import com.study.board.dto.ModerationJobDTO;
+import com.study.board.dto.ModerationRequest;
+import com.study.board.moderation.BulkModeration;
+import com.study.board.moderation.ModerationCriteria;
+import com.study.board.storage.FileReaper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 일괄 관리 API
+ * 작업을 등록하면 202와 작업 ID를 바로 반환하고, 진행 상황은 작업 ID로 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/moderation")
+@Slf4j
+@Tag(name = "관리", description = "게시글 일괄 관리 API")
+public class ModerationController {
+
+    @Autowired
+    private BulkModeration bulkModeration;
+
+    @Autowired
+    private FileReaper fileReaper;
+
+    @PostMapping("/jobs")
+    @Operation(summary = "일괄 관리 작업 등록", description = "ID 목록, 작성자, 작성일 범위를 모두 만족하는 게시글을 삭제(DELETE), 숨김(HIDE)하거나 작성자를 변경(REASSIGN)합니다.")
+    public ResponseEntity<ModerationJobDTO> submit(@Valid @RequestBody ModerationRequest request) {
+        ModerationCriteria criteria = ModerationCriteria.of(request.getIds(), request.getAuthor(),
+                DateRange.of(request.getFrom(), request.getTo()));
+        ModerationJobDTO job = bulkModeration.submit(request.getAction(), criteria, request.getNewAuthor());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/moderation/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "일괄 관리 작업 진행 상황", description = "처리한 게시글 수, 배치 수, 첨부파일 삭제 현황을 조회합니다.")
+    public ResponseEntity<?> job(@Parameter(description = "작업 ID") @PathVariable("id") String id) {
+        return bulkModeration.job(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> error(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다. ID: " + id));
+    }
+
+    @GetMapping("/jobs")
+    @Operation(summary = "최근 일괄 관리 작업", description = "최근 등록한 작업부터 진행 상황을 조회합니다.")
+    public List<ModerationJobDTO> jobs() {
+        return bulkModeration.jobs();
+    }
+
+    @GetMapping("/file-reaper")
+    @Operation(summary = "첨부파일 일괄 삭제 지표", description = "백그라운드에서 삭제한 파일 수, 없던 파일 수, 실패 수를 조회합니다.")
+    public Map<String, Object> fileReaper() {
+        return fileReaper.metrics();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(IllegalArgumentException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalid(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().isEmpty()
+                ? "잘못된 요청입니다."
+                : e.getBindingResult().getFieldErrors().get(0).getDefaultMessage();
+        return error(HttpStatus.BAD_REQUEST, message);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(ErrorResponse.builder()
+                        .status(status.value())
+                        .error(status.getReasonPhrase())
+                        .message(message)
+                        .build());
+    }
+}
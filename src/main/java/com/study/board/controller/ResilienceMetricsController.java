@@ -0,0 +1,29 @@
+package com.study.board.controller;
+
+import com.study.board.resilience.ReadResilience;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 읽기 경로 장애 대응 지표 API
+ */
+@RestController
+@RequestMapping("/api/resilience")
+@Tag(name = "운영", description = "운영 지표 API")
+public class ResilienceMetricsController {
+
+    @Autowired
+    private ReadResilience readResilience;
+
+    @GetMapping("/metrics")
+    @Operation(summary = "읽기 차단기 지표", description = "차단기 상태, 열린 횟수, 차단한 호출 수, 이전 응답 제공 수를 조회합니다.")
+    public Map<String, Object> metrics() {
+        return readResilience.metrics();
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기간별 게시글 수 (아카이브 탐색용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveCount {
+
+    // 기간 표시 (월: 2025-03, 일: 2025-03-14)
+    private String period;
+
+    // 기간 시작일 (포함)
+    private LocalDate from;
+
+    // 기간 종료일 (포함)
+    private LocalDate to;
+
+    private int count;
+}
@@ -0,0 +1,41 @@
+package com.study.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 정보
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentDTO {
+
+    private Integer id;
+
+    private String filename;
+
+    private String contentType;
+
+    private Long size;
+
+    private String sha256;
+
+    // 디스크에 저장된 크기 (응답에 노출하지 않음, 다운로드 시 Content-Length)
+    @JsonIgnore
+    private Long storedSize;
+
+    // 서버 저장 경로 (응답에 노출하지 않음)
+    @JsonIgnore
+    private String filepath;
+
+    private LocalDateTime createdAt;
+}
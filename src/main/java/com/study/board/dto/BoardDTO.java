@@ -1,5 +1,6 @@
 package com.study.board.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -8,11 +9,13 @@ import lombok.Builder;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BoardDTO {
 
     private Integer id;
@@ -35,6 +38,33 @@ public class BoardDTO {
 
     private String filepath;
 
+    private String excerpt;
+
+    private Integer wordCount;
+
+    private Boolean hasAttachment;
+
+    private Boolean imageAttachment;
+
+    // 첨부파일 수 (목록에서는 이 값만, 상세 조회에서는 attachments도 포함)
+    private Integer attachmentCount;
+
+    private List<AttachmentDTO> attachments;
+
+    // 수정 시 삭제할 첨부파일 ID
+    private List<Integer> removeAttachmentIds;
+
+    // 작성 시 발견된 유사 게시글 ID
+    private Integer duplicateOf;
+
+    // 보관된 게시글 여부 (수정 불가)
+    private Boolean archived;
+
+    private Long version;
+
+    // 태그 이름 (null이면 수정 시 태그를 변경하지 않음)
+    private List<String> tags;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
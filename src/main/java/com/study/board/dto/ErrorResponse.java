@@ -0,0 +1,22 @@
+package com.study.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JSON API 오류 응답
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorResponse {
+
+    private int status;
+
+    private String error;
+
+    private String message;
+}
@@ -0,0 +1,50 @@
+package com.study.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 관리 작업 진행 상황
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationJobDTO {
+
+    private String id;
+
+    private String action;
+
+    // QUEUED, RUNNING, COMPLETED, FAILED
+    private String state;
+
+    // 대상 조건 요약
+    private String criteria;
+
+    // 시작 시점에 조건에 맞던 게시글 수
+    private long total;
+
+    // 처리한 게시글 수
+    private long processed;
+
+    // 커밋한 배치 수
+    private long batches;
+
+    // 삭제 요청한 첨부파일 수 / 실제 삭제된 첨부파일 수 (작업 완료 후에도 백그라운드에서 증가할 수 있음)
+    private long filesQueued;
+
+    private long filesDeleted;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
@@ -0,0 +1,42 @@
+package com.study.board.dto;
+
+import com.study.board.moderation.ModerationAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 게시글 일괄 관리 요청 (대상 조건은 모두 만족해야 하며, 하나 이상 지정)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationRequest {
+
+    @NotNull(message = "작업 종류(DELETE, HIDE, REASSIGN)를 지정해주세요.")
+    private ModerationAction action;
+
+    // 대상 게시글 ID
+    @Size(max = 100000, message = "게시글 ID는 한 번에 100000개까지 지정할 수 있습니다.")
+    private List<Integer> ids;
+
+    // 대상 작성자 (정확히 일치)
+    private String author;
+
+    // 작성일 시작 (포함)
+    private LocalDate from;
+
+    // 작성일 종료 (포함)
+    private LocalDate to;
+
+    // 변경할 작성자 (REASSIGN)
+    @Size(max = 50, message = "작성자는 50자를 초과할 수 없습니다.")
+    private String newAuthor;
+}
@@ -0,0 +1,18 @@
+package com.study.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그별 게시글 수 (필터 사이드바용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCount {
+
+    private String name;
+
+    private int count;
+}
@@ -0,0 +1,322 @@
+package com.study.board.duplicate;
+
+import com.study.board.cache.InvalidationBus;
+import com.study.board.cache.InvalidationEvent;
+import com.study.board.repository.BoardRepository;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 게시글의 SimHash 지문 인덱스 (유사 게시글 탐지)
+ * 64비트 지문을 16비트씩 4개 구간(band)으로 나누어 구간 값별로 게시글을 모아둡니다.
+ * 해밍 거리가 3 이하인 두 지문은 적어도 한 구간이 같으므로, 같은 구간 값의 게시글만 비교하면 됩니다.
+ *
+ * 최근 capacity개 게시글만 고리 버퍼에 두고 오래된 것부터 밀어내므로 메모리 사용량이 고정됩니다.
+ * 기동 후 DB에서 최근 게시글 지문을 한 번 적재하고, 이후 작성/수정/삭제는 커밋 직후 반영합니다.
+ * 다른 노드의 변경은 InvalidationBus 이벤트를 받아 해당 게시글(또는 새로 작성된 게시글)만 다시 읽습니다.
+ */
+@Component
+@Slf4j
+public class DuplicateIndex {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+
+    // 지문이 없는 이전 게시글의 제목/본문 조회 배치 크기
+    private static final int TEXT_BATCH_SIZE = 500;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    // flag: 유사 게시글 ID를 기록하고 저장, reject: 작성 거부, off: 검사하지 않음
+    @Value("${board.duplicate.mode:flag}")
+    private String mode = "flag";
+
+    // 인덱스에 둘 최근 게시글 수
+    @Value("${board.duplicate.capacity:100000}")
+    private int capacity = 100000;
+
+    // 유사 게시글로 볼 최대 해밍 거리 (구간 수 - 1 이하)
+    @Value("${board.duplicate.max-distance:3}")
+    private int maxDistance = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 상태는 lock으로 보호 (고리 버퍼 슬롯별 게시글 ID(0이면 빈 슬롯)와 지문)
+    private int[] ids;
+    private long[] fingerprints;
+    private int next;
+    private int size;
+    private int lastId;
+    private final Map<Integer, Integer> slotsById = new HashMap<>();
+    // 구간별 구간 값 -> 슬롯 (추가 순서, 밀어낼 때는 맨 앞이 가장 오래된 슬롯)
+    private final List<Map<Integer, ArrayDeque<Integer>>> bands = new ArrayList<>();
+
+    private volatile boolean loaded;
+
+    @PostConstruct
+    public void init() {
+        if (maxDistance < 0 || maxDistance >= BANDS) {
+            throw new IllegalStateException("board.duplicate.max-distance는 0 이상 " + (BANDS - 1) + " 이하여야 합니다.");
+        }
+        ids = new int[capacity];
+        fingerprints = new long[capacity];
+        for (int band = 0; band < BANDS; band++) {
+            bands.add(new HashMap<>());
+        }
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!"off".equals(mode)) {
+            ensureLoaded();
+        }
+    }
+
+    /**
+     * DB에서 최근 게시글 지문 적재 (지문이 없는 이전 게시글은 제목/본문으로 계산)
+     */
+    public void load() {
+        long started = System.nanoTime();
+        List<Object[]> rows = boardRepository.findRecentFingerprints(PageRequest.of(0, capacity));
+        Map<Integer, Long> computed = computeMissing(rows);
+
+        lock.writeLock().lock();
+        try {
+            reset();
+            // 오래된 글부터 넣어야 고리 버퍼 순서가 작성 순서와 같음
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                Integer id = (Integer) rows.get(i)[0];
+                Long fingerprint = rows.get(i)[1] != null ? (Long) rows.get(i)[1] : computed.get(id);
+                if (fingerprint != null) {
+                    apply(id, fingerprint);
+                }
+                lastId = Math.max(lastId, id);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("유사 게시글 인덱스 적재 완료 - 게시글 수: {}, 지문 계산: {}, 소요: {}ms",
+                rows.size(), computed.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    public void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                }
+            }
+        }
+    }
+
+    /**
+     * 작성 전 유사 게시글 검사
+     * 유사 게시글이 있으면 그 ID를 반환하고 (flag), reject 모드면 예외를 던집니다.
+     */
+    public Integer checkDuplicate(long fingerprint) {
+        if ("off".equals(mode)) {
+            return null;
+        }
+        Integer duplicateOf = findSimilar(fingerprint);
+        if (duplicateOf != null && "reject".equals(mode)) {
+            throw new IllegalArgumentException("비슷한 내용의 게시글이 이미 있습니다. (게시글 ID: " + duplicateOf + ")");
+        }
+        return duplicateOf;
+    }
+
+    /**
+     * 해밍 거리가 max-distance 이하인 가장 최근 게시글 ID (없으면 null)
+     */
+    public Integer findSimilar(long fingerprint) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Integer best = null;
+            for (int band = 0; band < BANDS; band++) {
+                ArrayDeque<Integer> slots = bands.get(band).get(bandValue(fingerprint, band));
+                if (slots == null) {
+                    continue;
+                }
+                Iterator<Integer> newest = slots.descendingIterator();
+                while (newest.hasNext()) {
+                    int slot = newest.next();
+                    if (ids[slot] != 0 && SimHash.distance(fingerprints[slot], fingerprint) <= maxDistance) {
+                        if (best == null || ids[slot] > best) {
+                            best = ids[slot];
+                        }
+                        break;
+                    }
+                }
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 작성/수정 반영 (지문이 null이면 인덱스에서 제거, 트랜잭션 안이면 커밋 이후)
+     */
+    public void put(Integer postId, Long fingerprint) {
+        TransactionCallbacks.afterCommit(() -> write(postId, fingerprint));
+    }
+
+    /**
+     * 게시글 삭제 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void remove(Integer postId) {
+        TransactionCallbacks.afterCommit(() -> write(postId, null));
+    }
+
+    /**
+     * 인덱스에 있는 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Integer postId, Long fingerprint) {
+        lock.writeLock().lock();
+        try {
+            apply(postId, fingerprint);
+            lastId = Math.max(lastId, postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출 (기존 슬롯은 비우고 새 슬롯에 추가)
+    private void apply(Integer postId, Long fingerprint) {
+        Integer previous = slotsById.remove(postId);
+        if (previous != null) {
+            ids[previous] = 0;
+        }
+        if (fingerprint == null) {
+            return;
+        }
+
+        int slot = next;
+        if (size == capacity) {
+            evict(slot);
+        } else {
+            size++;
+        }
+        ids[slot] = postId;
+        fingerprints[slot] = fingerprint;
+        slotsById.put(postId, slot);
+        for (int band = 0; band < BANDS; band++) {
+            bands.get(band).computeIfAbsent(bandValue(fingerprint, band), value -> new ArrayDeque<>()).addLast(slot);
+        }
+        next = (slot + 1) % capacity;
+    }
+
+    // 가장 오래된 슬롯 밀어내기 (각 구간 목록의 맨 앞)
+    private void evict(int slot) {
+        for (int band = 0; band < BANDS; band++) {
+            int value = bandValue(fingerprints[slot], band);
+            ArrayDeque<Integer> slots = bands.get(band).get(value);
+            if (slots != null) {
+                slots.pollFirst();
+                if (slots.isEmpty()) {
+                    bands.get(band).remove(value);
+                }
+            }
+        }
+        if (ids[slot] != 0) {
+            slotsById.remove(ids[slot]);
+        }
+        ids[slot] = 0;
+    }
+
+    private void reset() {
+        slotsById.clear();
+        bands.forEach(Map::clear);
+        java.util.Arrays.fill(ids, 0);
+        next = 0;
+        size = 0;
+        lastId = 0;
+    }
+
+    private static int bandValue(long fingerprint, int band) {
+        return (int) (fingerprint >>> (band * BAND_BITS) & BAND_MASK);
+    }
+
+    // 지문 컬럼이 비어 있는 게시글은 제목/본문을 배치로 조회하여 계산
+    private Map<Integer, Long> computeMissing(List<Object[]> rows) {
+        List<Integer> missing = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[1] == null) {
+                missing.add((Integer) row[0]);
+            }
+        }
+        Map<Integer, Long> computed = new HashMap<>();
+        for (int from = 0; from < missing.size(); from += TEXT_BATCH_SIZE) {
+            List<Integer> batch = missing.subList(from, Math.min(from + TEXT_BATCH_SIZE, missing.size()));
+            for (Object[] text : boardRepository.findTextsByIdIn(batch)) {
+                Long fingerprint = SimHash.fingerprint((String) text[1], (String) text[2]);
+                if (fingerprint != null) {
+                    computed.put((Integer) text[0], fingerprint);
+                }
+            }
+        }
+        return computed;
+    }
+
+    // 다른 노드의 변경 반영 (게시글 변경: 해당 게시글만, 목록 무효화(새 글 작성): 마지막 ID 이후 게시글)
+    private void onInvalidation(InvalidationEvent event) {
+        if (!loaded) {
+            return;
+        }
+        try {
+            if (InvalidationEvent.REGION_POST.equals(event.getRegion()) && event.getKey() != null) {
+                Integer postId = Integer.valueOf(event.getKey());
+                write(postId, boardRepository.findSimhashById(postId).orElse(null));
+            } else if (InvalidationEvent.REGION_PAGES.equals(event.getRegion())) {
+                loadNewPosts();
+            }
+        } catch (RuntimeException e) {
+            log.error("유사 게시글 인덱스 갱신 실패 - 이벤트: {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    private void loadNewPosts() {
+        int afterId;
+        lock.readLock().lock();
+        try {
+            afterId = lastId;
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (Object[] row : boardRepository.findFingerprintsAfter(afterId, PageRequest.of(0, capacity))) {
+            write((Integer) row[0], (Long) row[1]);
+        }
+    }
+}
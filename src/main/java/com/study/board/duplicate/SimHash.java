@@ -0,0 +1,81 @@
+package com.study.board.duplicate;
+
+import com.study.board.util.TextUtil;
+
+import java.util.Locale;
+
+/**
+ * 제목+본문의 64비트 SimHash 지문
+ * 글자와 숫자만 남긴 텍스트의 4글자 조각(shingle)마다 해시를 구해 비트별로 가중합한 값입니다.
+ * 내용이 비슷할수록 지문의 해밍 거리(다른 비트 수)가 작으며, 띄어쓰기나 문장부호만 바꾼 글은 같은 지문이 됩니다.
+ */
+public final class SimHash {
+
+    /**
+     * 지문을 계산할 최소 글자 수 (짧은 글은 우연히 비슷해지기 쉬우므로 검사하지 않음)
+     */
+    public static final int MIN_LENGTH = 20;
+
+    private static final int SHINGLE_LENGTH = 4;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    /**
+     * 제목+본문 지문 (글자/숫자가 MIN_LENGTH 미만이면 null)
+     */
+    public static Long fingerprint(String title, String content) {
+        int[] text = normalize((title == null ? "" : title) + " " + (content == null ? "" : content));
+        if (text.length < MIN_LENGTH) {
+            return null;
+        }
+
+        int[] weights = new int[64];
+        for (int start = 0; start + SHINGLE_LENGTH <= text.length; start++) {
+            long hash = hash(text, start);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += (hash >>> bit & 1L) != 0 ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 두 지문의 해밍 거리
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // 태그 제거, 소문자 변환 후 글자/숫자 코드포인트만
+    private static int[] normalize(String text) {
+        return TextUtil.toPlainText(text).toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .toArray();
+    }
+
+    // 조각 해시 (FNV-1a 후 비트를 고르게 섞음)
+    private static long hash(int[] text, int start) {
+        long hash = FNV_OFFSET;
+        for (int i = start; i < start + SHINGLE_LENGTH; i++) {
+            hash ^= text[i];
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
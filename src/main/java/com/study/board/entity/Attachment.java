@@ -0,0 +1,71 @@
+package com.study.board.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부파일 (게시글 1 : 첨부파일 N)
+ * 게시글 삭제 시 DB의 ON DELETE CASCADE로 함께 삭제되므로 삭제 경로에 별도 DELETE가 없습니다.
+ */
+@Entity
+@Table(name = "attachment", indexes = @Index(name = "idx_attachment_board", columnList = "board_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class Attachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "board_id", nullable = false)
+    private Integer boardId;
+
+    // 외래 키 생성용 (값은 boardId로만 기록)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Board board;
+
+    // 원본 파일명
+    @Column(name = "file_name", nullable = false)
+    private String filename;
+
+    // 저장 경로 (압축 저장이면 .gz로 끝남)
+    @Column(name = "file_path", nullable = false)
+    private String filepath;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // 원본 크기 (바이트)
+    @Column(name = "file_size", nullable = false)
+    private Long size;
+
+    // 디스크에 저장된 크기 (바이트)
+    @Column(name = "stored_size", nullable = false)
+    private Long storedSize;
+
+    // 원본 내용의 SHA-256 (16진수)
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
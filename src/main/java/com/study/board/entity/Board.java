@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,12 +13,14 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "board")
+@Table(name = "board", indexes = @Index(name = "idx_board_created_at", columnList = "created_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+// 숨긴 게시글은 모든 JPA 조회(목록, 검색, 상세, 건수)에서 제외 (일괄 관리 작업의 JDBC 쿼리에서만 보임)
+@Where(clause = "hidden = false")
 public class Board {
 
     @Id
@@ -37,12 +40,50 @@ public class Board {
     @Column(name = "view_count", nullable = false, columnDefinition = "integer default 0")
     private Integer viewCount = 0;
 
+    // 단일 첨부파일 (이전 방식, 새 첨부파일은 attachment 테이블에 저장)
     @Column(name = "file_name")
     private String filename;
 
     @Column(name = "file_path")
     private String filepath;
 
+    // 목록/검색용 미리보기 (작성/수정 시 계산)
+    @Column(name = "excerpt", length = 200)
+    private String excerpt;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "has_attachment")
+    private Boolean hasAttachment;
+
+    @Column(name = "image_attachment")
+    private Boolean imageAttachment;
+
+    // 첨부파일 수 (목록에서 첨부파일 테이블을 조회하지 않도록 비정규화)
+    @Builder.Default
+    @Column(name = "attachment_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer attachmentCount = 0;
+
+    // 제목+본문 SimHash 지문 (유사 게시글 탐지용, 본문이 너무 짧으면 null)
+    @Column(name = "simhash")
+    private Long simhash;
+
+    // 작성 시 발견된 유사 게시글 ID (board.duplicate.mode=flag)
+    @Column(name = "duplicate_of")
+    private Integer duplicateOf;
+
+    // 관리자가 숨긴 게시글 (일괄 관리 작업으로만 변경)
+    @Builder.Default
+    @Column(name = "hidden", nullable = false, columnDefinition = "boolean default false")
+    private Boolean hidden = false;
+
+    // 낙관적 잠금 버전 (조회수 증가는 버전을 변경하지 않음)
+    @Version
+    @Builder.Default
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version = 0L;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
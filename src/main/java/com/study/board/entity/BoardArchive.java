@@ -0,0 +1,81 @@
+package com.study.board.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글 (오래되고 조회수가 적은 게시글)
+ * 보관 작업이 board 테이블에서 옮겨오며, ID는 원래 게시글 ID를 그대로 사용합니다.
+ * 보관된 게시글은 조회/삭제만 가능하고 수정할 수 없습니다.
+ *
+ * ID를 직접 지정하므로 Persistable로 새 엔티티임을 알려, 저장 시 존재 여부 SELECT 없이 바로 INSERT합니다.
+ */
+@Entity
+@Table(name = "board_archive", indexes = @Index(name = "idx_board_archive_created_at", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardArchive implements Persistable<Integer> {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, length = 4000)
+    private String content;
+
+    @Column(nullable = false, length = 50)
+    private String author;
+
+    @Column(name = "view_count", nullable = false)
+    private Integer viewCount;
+
+    @Column(name = "excerpt", length = 200)
+    private String excerpt;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    // 태그 이름 (쉼표로 구분, 보관 시 board_tag 연결은 삭제됨)
+    @Column(name = "tags", length = 400)
+    private String tags;
+
+    @Column(name = "duplicate_of")
+    private Integer duplicateOf;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
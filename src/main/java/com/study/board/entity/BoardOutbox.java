@@ -0,0 +1,39 @@
+package com.study.board.entity;
+
+import com.study.board.event.BoardEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 outbox (게시글 변경과 같은 트랜잭션에서 기록, OutboxRelay가 이벤트 로그로 옮긴 뒤 삭제)
+ */
+@Entity
+@Table(name = "board_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private BoardEventType eventType;
+
+    @Column(name = "board_id", nullable = false)
+    private Integer boardId;
+
+    @Column(length = 2000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,75 @@
+package com.study.board.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 게시글-태그 연결 (다대다 연결 테이블)
+ * 게시글 삭제 시 DB의 ON DELETE CASCADE로 함께 삭제되므로 삭제 경로에 별도 DELETE가 없습니다.
+ */
+@Entity
+@Table(name = "board_tag", indexes = @Index(name = "idx_board_tag_tag", columnList = "tag_id, board_id"))
+@IdClass(BoardTag.Key.class)
+@Data
+@NoArgsConstructor
+public class BoardTag implements Persistable<BoardTag.Key> {
+
+    @Id
+    @Column(name = "board_id")
+    private Integer boardId;
+
+    @Id
+    @Column(name = "tag_id")
+    private Integer tagId;
+
+    // 외래 키 생성용 (값은 boardId로만 기록)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Board board;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tag_id", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Tag tag;
+
+    public BoardTag(Integer boardId, Integer tagId) {
+        this.boardId = boardId;
+        this.tagId = tagId;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(boardId, tagId);
+    }
+
+    // 연결 행은 추가/삭제만 하므로 항상 새 엔티티로 저장 (저장 전 존재 확인 SELECT 생략)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Integer boardId;
+
+        private Integer tagId;
+    }
+}
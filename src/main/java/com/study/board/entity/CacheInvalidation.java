@@ -0,0 +1,37 @@
+package com.study.board.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 로그 (노드 간 무효화 전달용 폴링 테이블)
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String region;
+
+    @Column(name = "cache_key", length = 100)
+    private String cacheKey;
+
+    @Column(name = "node_id", nullable = false, length = 50)
+    private String nodeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,99 @@
+package com.study.board.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.board.entity.BoardOutbox;
+import com.study.board.repository.BoardOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 변경 이벤트 발행
+ * 호출자의 트랜잭션 안에서 outbox 행을 기록하므로 게시글 변경과 이벤트가 함께 커밋되거나 함께 롤백됩니다.
+ * outbox 행은 릴레이(OutboxRelay)가 옮긴 뒤에만 지워지므로, 릴레이를 두지 않는 배포(기본값)에서는 기록하지 않습니다.
+ */
+@Component
+public class BoardEventPublisher {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 릴레이 노드가 있는 배포에서 모든 노드가 켬 (꺼져 있으면 기록하지 않음)
+    @Value("${board.outbox.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 게시글 변경 이벤트 기록
+     */
+    public void publish(BoardEventType eventType, Integer boardId, Map<String, Object> payload) {
+        if (!enabled) {
+            return;
+        }
+        boardOutboxRepository.save(toOutbox(eventType, boardId, payload, LocalDateTime.now()));
+    }
+
+    /**
+     * 반영된 조회수 이벤트 일괄 기록 (게시글 ID -> 증가량)
+     */
+    public void publishViews(Map<Integer, Integer> deltas) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardOutbox> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) ->
+                rows.add(toOutbox(BoardEventType.VIEWED, boardId, Collections.singletonMap("delta", delta), now)));
+        boardOutboxRepository.saveAll(rows);
+    }
+
+    /**
+     * 여러 게시글의 같은 이벤트 일괄 기록 (일괄 관리 작업용, JDBC 배치 INSERT 한 번)
+     */
+    public void publishAll(BoardEventType eventType, Collection<Integer> boardIds, Map<String, Object> payload) {
+        if (!enabled || boardIds.isEmpty()) {
+            return;
+        }
+        String json = toOutbox(eventType, 0, payload, LocalDateTime.now()).getPayload();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<SqlParameterSource> rows = new ArrayList<>(boardIds.size());
+        for (Integer boardId : boardIds) {
+            rows.add(new MapSqlParameterSource()
+                    .addValue("eventType", eventType.name())
+                    .addValue("boardId", boardId)
+                    .addValue("payload", json)
+                    .addValue("createdAt", now));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO board_outbox (event_type, board_id, payload, created_at) "
+                + "VALUES (:eventType, :boardId, :payload, :createdAt)", rows.toArray(new SqlParameterSource[0]));
+    }
+
+    private BoardOutbox toOutbox(BoardEventType eventType, Integer boardId, Map<String, Object> payload, LocalDateTime now) {
+        try {
+            return BoardOutbox.builder()
+                    .eventType(eventType)
+                    .boardId(boardId)
+                    .payload(payload == null || payload.isEmpty() ? null : OBJECT_MAPPER.writeValueAsString(payload))
+                    .createdAt(now)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 데이터를 변환할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+}
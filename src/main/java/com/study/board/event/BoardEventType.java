@@ -0,0 +1,15 @@
+package com.study.board.event;
+
+/**
+ * 게시글 변경 이벤트 종류
+ */
+public enum BoardEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    VIEWED,
+    // 보관 테이블로 이동 (이후 조회/삭제만 가능)
+    ARCHIVED,
+    // 관리자가 숨김 (일괄 관리 작업)
+    HIDDEN
+}
@@ -0,0 +1,382 @@
+package com.study.board.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 추가 전용(append-only) 메모리 매핑 이벤트 로그
+ *
+ * 고정 크기 세그먼트 파일(기준 오프셋.log)을 이어 붙인 구조이며, 오프셋은 전체 로그 기준 바이트 위치입니다.
+ * 레코드 형식: [int 길이][int CRC32][UTF-8 본문]
+ * - 길이는 본문을 쓴 뒤 마지막에 기록하므로 중간에 중단된 쓰기는 길이 0으로 남아 복구 시 무시됩니다.
+ * - 길이 -1은 세그먼트 끝 표시이며 다음 세그먼트로 이어집니다.
+ *
+ * 쓰기는 단일 스레드(OutboxRelay)를 가정하며, 읽기는 여러 스레드에서 동시에 할 수 있습니다.
+ * 소비자 오프셋은 offsets/{소비자}.offset 파일에 저장되어 재시작 후에도 이어서 읽거나 처음부터 재생할 수 있습니다.
+ */
+@Slf4j
+public class EventLog implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int SEGMENT_END = -1;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String OFFSET_SUFFIX = ".offset";
+
+    private final Path directory;
+    private final Path offsetDirectory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> consumerOffsets = new ConcurrentHashMap<>();
+    private Segment active;
+    private int activePosition;
+    private volatile long endOffset;
+    private volatile long startOffset;
+    private volatile boolean opened;
+
+    public EventLog(Path directory, int segmentSize, int maxSegments) {
+        if (segmentSize <= HEADER_SIZE * 2) {
+            throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다: " + segmentSize);
+        }
+        this.directory = directory;
+        this.offsetDirectory = directory.resolve("offsets");
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+    }
+
+    /**
+     * 로그 열기 (기존 세그먼트 매핑 및 마지막 쓰기 위치 복구)
+     */
+    public synchronized void open() {
+        if (opened) {
+            return;
+        }
+        try {
+            Files.createDirectories(offsetDirectory);
+            List<Long> baseOffsets;
+            try (Stream<Path> files = Files.list(directory)) {
+                baseOffsets = files.map(path -> path.getFileName().toString())
+                        .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                        .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+
+            for (Long baseOffset : baseOffsets) {
+                segments.put(baseOffset, Segment.map(segmentPath(baseOffset), baseOffset, segmentSize));
+            }
+            if (segments.isEmpty()) {
+                segments.put(0L, Segment.map(segmentPath(0L), 0L, segmentSize));
+            }
+
+            active = segments.lastEntry().getValue();
+            activePosition = recover(active);
+            startOffset = segments.firstKey();
+            endOffset = active.baseOffset + activePosition;
+            if (activePosition == SEGMENT_END) {
+                roll();
+            }
+            opened = true;
+            log.info("이벤트 로그 열기 - 경로: {}, 시작: {}, 끝: {}", directory, startOffset, endOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 로그를 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    public boolean isOpen() {
+        return opened;
+    }
+
+    /**
+     * 레코드 추가 후 레코드 시작 오프셋 반환
+     */
+    public synchronized long append(byte[] payload) {
+        ensureOpen();
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize - 4) {
+            throw new IllegalArgumentException("이벤트 크기가 세그먼트 크기를 초과합니다: " + payload.length);
+        }
+        if (activePosition + recordSize > segmentSize) {
+            if (segmentSize - activePosition >= 4) {
+                active.buffer.putInt(activePosition, SEGMENT_END);
+            }
+            roll();
+        }
+
+        int position = activePosition;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer target = active.buffer.duplicate();
+        target.position(position + HEADER_SIZE);
+        target.put(payload);
+        active.buffer.putInt(position + 4, (int) crc.getValue());
+        active.buffer.putInt(position, payload.length);
+
+        activePosition += recordSize;
+        long offset = active.baseOffset + position;
+        endOffset = active.baseOffset + activePosition;
+        return offset;
+    }
+
+    /**
+     * 여러 레코드 추가 후 마지막 레코드의 다음 오프셋 반환
+     */
+    public synchronized long appendAll(List<byte[]> payloads) {
+        for (byte[] payload : payloads) {
+            append(payload);
+        }
+        return endOffset;
+    }
+
+    /**
+     * 기록된 내용을 디스크에 반영
+     */
+    public synchronized void flush() {
+        if (opened) {
+            active.buffer.force();
+        }
+    }
+
+    /**
+     * 지정 오프셋부터 최대 maxRecords개 읽기 (보존 기간이 지나 삭제된 오프셋은 가장 오래된 위치부터 읽음)
+     */
+    public List<EventLogRecord> read(long offset, int maxRecords) {
+        ensureOpen();
+        List<EventLogRecord> records = new ArrayList<>();
+        long position = Math.max(offset, startOffset);
+        long end = endOffset;
+
+        while (records.size() < maxRecords && position < end) {
+            Segment segment = segmentFor(position);
+            if (segment == null) {
+                break;
+            }
+            int local = (int) (position - segment.baseOffset);
+            if (local + HEADER_SIZE > segmentSize) {
+                position = segment.baseOffset + segmentSize;
+                continue;
+            }
+
+            ByteBuffer buffer = segment.buffer.duplicate();
+            int length = buffer.getInt(local);
+            if (length == SEGMENT_END) {
+                position = segment.baseOffset + segmentSize;
+                continue;
+            }
+            if (length <= 0) {
+                break;
+            }
+
+            int expectedCrc = buffer.getInt(local + 4);
+            byte[] payload = new byte[length];
+            buffer.position(local + HEADER_SIZE);
+            buffer.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IllegalStateException("이벤트 로그 레코드가 손상되었습니다. 오프셋: " + position);
+            }
+
+            long next = position + HEADER_SIZE + length;
+            records.add(new EventLogRecord(position, next, new String(payload, StandardCharsets.UTF_8)));
+            position = next;
+        }
+        return records;
+    }
+
+    /**
+     * 소비자의 커밋된 오프셋부터 읽기 (커밋은 처리 후 commit 호출)
+     */
+    public List<EventLogRecord> poll(String consumer, int maxRecords) {
+        return read(committedOffset(consumer), maxRecords);
+    }
+
+    /**
+     * 소비자의 커밋된 오프셋 (없으면 가장 오래된 위치)
+     */
+    public long committedOffset(String consumer) {
+        ensureOpen();
+        Long offset = consumerOffsets.computeIfAbsent(consumer, this::loadOffset);
+        return Math.max(offset, startOffset);
+    }
+
+    /**
+     * 소비자 오프셋 저장
+     */
+    public void commit(String consumer, long offset) {
+        ensureOpen();
+        validateConsumer(consumer);
+        Path target = offsetDirectory.resolve(consumer + OFFSET_SUFFIX);
+        Path temp = offsetDirectory.resolve(consumer + OFFSET_SUFFIX + ".tmp");
+        try {
+            Files.write(temp, Long.toString(offset).getBytes(StandardCharsets.US_ASCII));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            consumerOffsets.put(consumer, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("소비자 오프셋을 저장할 수 없습니다: " + consumer, e);
+        }
+    }
+
+    /**
+     * 소비자 오프셋 이동 (0 또는 startOffset으로 이동하면 처음부터 재생)
+     */
+    public void seek(String consumer, long offset) {
+        commit(consumer, offset);
+    }
+
+    public long startOffset() {
+        return startOffset;
+    }
+
+    public long endOffset() {
+        return endOffset;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!opened) {
+            return;
+        }
+        flush();
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+        segments.clear();
+        opened = false;
+    }
+
+    private void ensureOpen() {
+        if (!opened) {
+            open();
+        }
+    }
+
+    private Segment segmentFor(long position) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(position);
+        return entry == null ? null : entry.getValue();
+    }
+
+    // 다음 세그먼트 생성 및 보존 개수 초과분 삭제
+    private void roll() {
+        long nextBase = active.baseOffset + segmentSize;
+        try {
+            active.buffer.force();
+            Segment next = Segment.map(segmentPath(nextBase), nextBase, segmentSize);
+            segments.put(nextBase, next);
+            active = next;
+            activePosition = 0;
+            endOffset = nextBase;
+
+            while (segments.size() > maxSegments) {
+                Segment oldest = segments.pollFirstEntry().getValue();
+                oldest.close();
+                Files.deleteIfExists(oldest.path);
+                log.info("이벤트 로그 세그먼트 삭제 - {}", oldest.path);
+            }
+            startOffset = segments.firstKey();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 로그 세그먼트를 생성할 수 없습니다: " + nextBase, e);
+        }
+    }
+
+    // 마지막 세그먼트의 쓰기 위치 복구 (세그먼트 끝 표시가 있으면 SEGMENT_END 반환)
+    private int recover(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_SIZE <= segmentSize) {
+            int length = buffer.getInt(position);
+            if (length == SEGMENT_END) {
+                return SEGMENT_END;
+            }
+            if (length <= 0 || position + HEADER_SIZE + length > segmentSize) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            ByteBuffer read = buffer.duplicate();
+            read.position(position + HEADER_SIZE);
+            read.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                log.warn("이벤트 로그 손상 레코드 발견, 이후 내용 무시 - 세그먼트: {}, 위치: {}", segment.path, position);
+                buffer.putInt(position, 0);
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private Long loadOffset(String consumer) {
+        validateConsumer(consumer);
+        Path path = offsetDirectory.resolve(consumer + OFFSET_SUFFIX);
+        try {
+            if (!Files.exists(path)) {
+                return startOffset;
+            }
+            return Long.parseLong(new String(Files.readAllBytes(path), StandardCharsets.US_ASCII).trim());
+        } catch (IOException | NumberFormatException e) {
+            log.warn("소비자 오프셋을 읽을 수 없어 처음부터 읽습니다 - 소비자: {}, 오류: {}", consumer, e.getMessage());
+            return startOffset;
+        }
+    }
+
+    private void validateConsumer(String consumer) {
+        if (consumer == null || !consumer.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("잘못된 소비자 이름입니다: " + consumer);
+        }
+    }
+
+    private Path segmentPath(long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final long baseOffset;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(Path path, long baseOffset, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment map(Path path, long baseOffset, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(path, baseOffset, channel, buffer);
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("이벤트 로그 세그먼트 닫기 실패 - {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
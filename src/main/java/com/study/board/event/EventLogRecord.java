@@ -0,0 +1,21 @@
+package com.study.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 이벤트 로그 레코드
+ */
+@Data
+@AllArgsConstructor
+public class EventLogRecord {
+
+    // 레코드 시작 오프셋
+    private long offset;
+
+    // 다음 레코드 오프셋 (소비 후 커밋할 값)
+    private long nextOffset;
+
+    // 이벤트 내용 (JSON)
+    private String payload;
+}
@@ -0,0 +1,98 @@
+package com.study.board.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.study.board.entity.BoardOutbox;
+import com.study.board.repository.BoardOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * outbox -> 이벤트 로그 중계
+ * outbox 행을 배치로 읽어 이벤트 로그에 추가하고, 디스크 반영 후 outbox에서 삭제합니다.
+ * 추가 후 삭제 전에 중단되면 같은 이벤트가 다시 기록될 수 있으므로(at-least-once) 소비자는 id로 중복을 거릅니다.
+ * 이벤트 로그는 노드 로컬 파일이므로 모든 노드가 중계하면 outbox 행이 여러 노드의 로그로 흩어집니다.
+ * 그래서 기본값은 꺼짐이며, 이벤트 로그를 둘 노드 하나에서만 board.outbox.relay.enabled=true로 켭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.outbox.relay.enabled", havingValue = "true")
+@Slf4j
+public class OutboxRelay {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private EventLog eventLog;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${board.outbox.relay.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Scheduled(fixedDelayString = "${board.outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("outbox 중계 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * outbox 배치 1회 중계 후 처리 건수 반환
+     */
+    public int relayBatch() {
+        List<BoardOutbox> rows = boardOutboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<byte[]> records = new ArrayList<>(rows.size());
+        for (BoardOutbox row : rows) {
+            records.add(toRecord(row));
+        }
+        eventLog.appendAll(records);
+        eventLog.flush();
+
+        List<Long> ids = rows.stream().map(BoardOutbox::getId).collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> boardOutboxRepository.deleteAllByIdInBatch(ids));
+
+        log.debug("outbox 중계 완료 - 건수: {}, 로그 끝 오프셋: {}", rows.size(), eventLog.endOffset());
+        return rows.size();
+    }
+
+    private byte[] toRecord(BoardOutbox row) {
+        try {
+            ObjectNode node = OBJECT_MAPPER.createObjectNode();
+            node.put("id", row.getId());
+            node.put("type", row.getEventType().name());
+            node.put("boardId", row.getBoardId());
+            node.put("createdAt", row.getCreatedAt().toString());
+            if (row.getPayload() != null) {
+                node.set("payload", OBJECT_MAPPER.readTree(row.getPayload()));
+            }
+            return OBJECT_MAPPER.writeValueAsString(node).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 데이터를 변환할 수 없습니다. ID: " + row.getId(), e);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.study.board.exception;
 
+import com.study.board.resilience.DatabaseUnavailableException;
+import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import javax.persistence.EntityNotFoundException;
@@ -54,6 +57,17 @@ public class GlobalExceptionHandler {
         return "message";
     }
 
+    /**
+     * DB 과부하로 조회를 차단했을 때 발생하는 예외 처리 (DB를 기다리지 않고 바로 응답)
+     */
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleDatabaseUnavailable(DatabaseUnavailableException e, Model model) {
+        model.addAttribute("message", e.getMessage());
+        model.addAttribute("searchUrl", "/board/list");
+        return "message";
+    }
+
     /**
      * 일반적인 예외 처리
      */
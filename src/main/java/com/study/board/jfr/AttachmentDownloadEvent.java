@@ -0,0 +1,25 @@
+package com.study.board.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 첨부파일 다운로드 JFR 이벤트
+ * 게시글 조회부터 파일 스트림을 모두 읽고 닫을 때까지를 기록합니다.
+ */
+@Name(BoardEvent.PREFIX + "Download")
+@Label("Board Download")
+@Description("첨부파일 다운로드 (파일 조회부터 전송 완료까지)")
+@Setter
+public class AttachmentDownloadEvent extends BoardEvent {
+
+    @Label("Post ID")
+    private int postId;
+
+    @Label("Bytes Transferred")
+    @DataAmount
+    private long bytes;
+}
@@ -0,0 +1,19 @@
+package com.study.board.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 게시글 삭제 JFR 이벤트
+ */
+@Name(BoardEvent.PREFIX + "Delete")
+@Label("Board Delete")
+@Description("게시글 삭제")
+@Setter
+public class BoardDeleteEvent extends BoardEvent {
+
+    @Label("Post ID")
+    private int postId;
+}
@@ -0,0 +1,20 @@
+package com.study.board.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시판 JFR 이벤트 공통 부모
+ * JFR 기록에서 게시판 작업을 "Board" 분류로 묶어 보여줍니다. 이벤트 시간(duration)은 begin()부터 commit()까지입니다.
+ * 기록 중이 아니면 commit()은 아무것도 하지 않으므로 운영 중에도 켜 둘 수 있습니다.
+ */
+@Category("Board")
+@StackTrace(false)
+public abstract class BoardEvent extends Event {
+
+    /**
+     * 게시판 이벤트 이름 접두사
+     */
+    public static final String PREFIX = "com.study.board.";
+}
@@ -0,0 +1,25 @@
+package com.study.board.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 게시글 목록 조회 JFR 이벤트
+ */
+@Name(BoardEvent.PREFIX + "List")
+@Label("Board List")
+@Description("게시글 목록 조회")
+@Setter
+public class BoardListEvent extends BoardEvent {
+
+    @Label("Page")
+    private int page;
+
+    @Label("Rows Returned")
+    private int rows;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+}
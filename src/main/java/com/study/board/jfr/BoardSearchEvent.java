@@ -0,0 +1,28 @@
+package com.study.board.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 게시글 검색 JFR 이벤트
+ */
+@Name(BoardEvent.PREFIX + "Search")
+@Label("Board Search")
+@Description("게시글 검색")
+@Setter
+public class BoardSearchEvent extends BoardEvent {
+
+    @Label("Search Type")
+    private String searchType;
+
+    @Label("Page")
+    private int page;
+
+    @Label("Rows Returned")
+    private int rows;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+}
@@ -0,0 +1,27 @@
+package com.study.board.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 게시글 수정 JFR 이벤트
+ */
+@Name(BoardEvent.PREFIX + "Update")
+@Label("Board Update")
+@Description("게시글 수정")
+@Setter
+public class BoardUpdateEvent extends BoardEvent {
+
+    @Label("Post ID")
+    private int postId;
+
+    @Label("Attachment Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Version Conflict")
+    private boolean conflict;
+}
@@ -0,0 +1,22 @@
+package com.study.board.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 게시글 상세 조회 JFR 이벤트
+ */
+@Name(BoardEvent.PREFIX + "View")
+@Label("Board View")
+@Description("게시글 상세 조회")
+@Setter
+public class BoardViewEvent extends BoardEvent {
+
+    @Label("Post ID")
+    private int postId;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+}
@@ -0,0 +1,28 @@
+package com.study.board.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * 게시글 작성 JFR 이벤트
+ */
+@Name(BoardEvent.PREFIX + "Write")
+@Label("Board Write")
+@Description("게시글 작성")
+@Setter
+public class BoardWriteEvent extends BoardEvent {
+
+    @Label("Post ID")
+    private int postId;
+
+    @Label("Attachment Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Duplicate Of")
+    @Description("유사 게시글 ID (없으면 0)")
+    private int duplicateOf;
+}
@@ -0,0 +1,163 @@
+package com.study.board.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록 오프라인 분석기
+ * 기록 파일에서 게시판 이벤트만 골라 작업별 호출 수, 백분위 지연 시간, 지연 시간 분포, 반환 행 수/전송 바이트 합계를 출력합니다.
+ *
+ * <pre>
+ * ./gradlew analyzeJfr -Precording=board.jfr
+ * </pre>
+ */
+public class RecordingAnalyzer {
+
+    // 지연 시간 분포 구간 상한 (밀리초, 마지막 구간은 그 이상 전부)
+    static final long[] BUCKET_LIMITS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("사용법: RecordingAnalyzer <기록 파일.jfr>");
+            System.exit(1);
+        }
+        System.out.print(format(analyze(Paths.get(args[0]))));
+    }
+
+    /**
+     * 기록 파일의 게시판 이벤트를 작업별로 집계
+     */
+    public static Map<String, OperationStats> analyze(Path recording) throws IOException {
+        Map<String, OperationStats> stats = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(BoardEvent.PREFIX)) {
+                    continue;
+                }
+                OperationStats operation = stats.computeIfAbsent(
+                        name.substring(BoardEvent.PREFIX.length()), key -> new OperationStats());
+                operation.record(event.getDuration().toNanos(),
+                        event.hasField("rows") ? event.getInt("rows") : 0,
+                        event.hasField("bytes") ? event.getLong("bytes") : 0);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 작업별 요약 표
+     */
+    public static String format(Map<String, OperationStats> stats) {
+        StringBuilder out = new StringBuilder();
+        if (stats.isEmpty()) {
+            return "게시판 이벤트가 없습니다. board.jfc 설정으로 기록했는지 확인하세요.\n";
+        }
+        out.append(String.format(Locale.ROOT, "%-10s %8s %9s %9s %9s %9s %10s %12s%n",
+                "operation", "count", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "rows", "bytes"));
+        stats.forEach((name, operation) -> out.append(String.format(Locale.ROOT,
+                "%-10s %8d %9.2f %9.2f %9.2f %9.2f %10d %12d%n",
+                name, operation.count(), millis(operation.percentile(50)), millis(operation.percentile(90)),
+                millis(operation.percentile(99)), millis(operation.percentile(100)),
+                operation.totalRows(), operation.totalBytes())));
+
+        out.append(System.lineSeparator()).append("지연 시간 분포").append(System.lineSeparator());
+        stats.forEach((name, operation) -> {
+            out.append(name).append(System.lineSeparator());
+            long[] histogram = operation.histogram();
+            long max = Arrays.stream(histogram).max().orElse(1);
+            for (int i = 0; i < histogram.length; i++) {
+                String label = i < BUCKET_LIMITS_MS.length
+                        ? "< " + BUCKET_LIMITS_MS[i] + "ms"
+                        : ">= " + BUCKET_LIMITS_MS[BUCKET_LIMITS_MS.length - 1] + "ms";
+                int bar = (int) Math.round(40.0 * histogram[i] / max);
+                out.append(String.format(Locale.ROOT, "  %9s %8d %s%n", label, histogram[i], repeat('#', bar)));
+            }
+        });
+        return out.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    /**
+     * 작업 하나의 집계 결과
+     */
+    public static class OperationStats {
+
+        private long[] durations = new long[64];
+        private int count;
+        private boolean sorted;
+        private long totalRows;
+        private long totalBytes;
+
+        void record(long durationNanos, int rows, long bytes) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = durationNanos;
+            sorted = false;
+            totalRows += rows;
+            totalBytes += bytes;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long totalRows() {
+            return totalRows;
+        }
+
+        public long totalBytes() {
+            return totalBytes;
+        }
+
+        /**
+         * 백분위 지연 시간 (나노초, nearest-rank)
+         */
+        public long percentile(double percent) {
+            if (count == 0) {
+                return 0L;
+            }
+            if (!sorted) {
+                Arrays.sort(durations, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * count);
+            return durations[Math.min(count, Math.max(1, rank)) - 1];
+        }
+
+        /**
+         * 구간별 호출 수 (BUCKET_LIMITS_MS 기준, 마지막 칸은 상한 초과)
+         */
+        public long[] histogram() {
+            long[] histogram = new long[BUCKET_LIMITS_MS.length + 1];
+            for (int i = 0; i < count; i++) {
+                long millis = durations[i] / 1_000_000L;
+                int bucket = 0;
+                while (bucket < BUCKET_LIMITS_MS.length && millis >= BUCKET_LIMITS_MS[bucket]) {
+                    bucket++;
+                }
+                histogram[bucket]++;
+            }
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.study.board.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * JSON 한 줄 로그 인코더
+ * 타임스탬프, 레벨, 스레드, 로거, 메시지, 요청 ID와 예외를 한 줄의 JSON으로 출력합니다.
+ * JSON 라이브러리 없이 스레드별로 재사용하는 StringBuilder에 직접 쓰므로 로그당 할당이 적습니다.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneId.systemDefault());
+
+    private static final int MAX_BUFFER = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private boolean includeMdc = true;
+
+    /**
+     * MDC 값 전체 출력 여부 (false면 요청 ID만 출력)
+     */
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = BUFFER.get();
+        json.setLength(0);
+
+        json.append("{\"timestamp\":\"");
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), json);
+        json.append("\",\"level\":\"").append(event.getLevel().toString());
+        json.append("\",\"thread\":");
+        appendString(json, event.getThreadName());
+        json.append(",\"logger\":");
+        appendString(json, event.getLoggerName());
+        json.append(",\"message\":");
+        appendString(json, event.getFormattedMessage());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (includeMdc) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                json.append(',');
+                appendString(json, entry.getKey());
+                json.append(':');
+                appendString(json, entry.getValue());
+            }
+        } else if (mdc.containsKey(RequestIdFilter.MDC_KEY)) {
+            json.append(",\"").append(RequestIdFilter.MDC_KEY).append("\":");
+            appendString(json, mdc.get(RequestIdFilter.MDC_KEY));
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            json.append(",\"exception\":");
+            appendString(json, stackTrace(throwable));
+        }
+        json.append('}').append(CoreConstants.LINE_SEPARATOR);
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        // 큰 예외 로그 이후 버퍼가 계속 커진 채로 남지 않도록 정리
+        if (json.capacity() > MAX_BUFFER) {
+            BUFFER.remove();
+        }
+        return bytes;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    private static String stackTrace(IThrowableProxy throwable) {
+        StringBuilder trace = new StringBuilder();
+        IThrowableProxy current = throwable;
+        while (current != null) {
+            if (current != throwable) {
+                trace.append("Caused by: ");
+            }
+            trace.append(current.getClassName()).append(": ").append(current.getMessage());
+            for (StackTraceElementProxy element : current.getStackTraceElementProxyArray()) {
+                trace.append("\n\t").append(element.getSTEAsString());
+            }
+            current = current.getCause();
+            if (current != null) {
+                trace.append('\n');
+            }
+        }
+        return trace.toString();
+    }
+
+    // JSON 문자열 이스케이프
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,92 @@
+package com.study.board.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 로그 샘플링 필터
+ * 지정한 로거의 INFO 이하 로그를 N건 중 1건만 남깁니다. WARN, ERROR는 항상 남깁니다.
+ * 로그 이벤트가 만들어지기 전에 판단하므로, 버려지는 로그는 메시지 포맷팅과 객체 생성 비용이 들지 않습니다.
+ *
+ * <pre>
+ * &lt;turboFilter class="com.study.board.logging.SamplingTurboFilter"&gt;
+ *     &lt;loggers&gt;com.study.board.controller.BoardController&lt;/loggers&gt;
+ *     &lt;rate&gt;10&lt;/rate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggers = "";
+    private volatile int rate = 1;
+
+    // start()에서 완성한 맵을 한 번에 교체하고 이후에는 읽기만 하므로, volatile 참조로 로깅 스레드에 공개
+    private volatile Map<String, AtomicLong> counters = Collections.emptyMap();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 샘플링할 로거 이름 (쉼표로 구분)
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = loggers;
+    }
+
+    /**
+     * N건 중 1건만 남김 (1이면 샘플링하지 않음)
+     */
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * 샘플링으로 버린 로그 수
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void start() {
+        if (rate < 1) {
+            addError("rate는 1 이상이어야 합니다: " + rate);
+            return;
+        }
+        Map<String, AtomicLong> configured = new HashMap<>();
+        for (String name : loggers.split(",")) {
+            if (!name.trim().isEmpty()) {
+                configured.put(name.trim(), new AtomicLong());
+            }
+        }
+        counters = Collections.unmodifiableMap(configured);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출은 format이 null이므로 세지 않음 (가드된 로그가 두 번 세지지 않도록)
+        if (format == null || rate == 1 || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = counters.get(logger.getName());
+        if (counter == null) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨이 꺼진 로그까지 세지 않도록 활성 여부를 먼저 확인 (isEnabledFor는 이 필터를 다시 호출하므로 사용하지 않음)
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (counter.getAndIncrement() % rate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.incrementAndGet();
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,240 @@
+package com.study.board.moderation;
+
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.cache.BoardCache;
+import com.study.board.dto.ModerationJobDTO;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.repository.BoardModerationRepository;
+import com.study.board.repository.ModerationTarget;
+import com.study.board.search.SearchCache;
+import com.study.board.service.ViewCountBuffer;
+import com.study.board.storage.FileReaper;
+import com.study.board.tag.TagIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 일괄 관리 (삭제, 숨김, 작성자 변경)
+ * 조건에 맞는 게시글을 ID 순으로 batch-size개씩 나눠 배치마다 별도 트랜잭션에서 단일 UPDATE/DELETE로 처리하므로,
+ * 수만 건을 처리해도 한 번에 잠그는 행은 배치 크기만큼이고 잠금 시간도 배치 하나의 실행 시간으로 제한됩니다.
+ *
+ * 작업은 전용 스레드에서 차례로 실행하며 진행 상황은 작업 ID로 조회합니다.
+ * 삭제한 게시글의 첨부파일은 배치가 커밋된 뒤 FileReaper가 백그라운드에서 나눠 삭제합니다.
+ */
+@Component
+@Slf4j
+public class BulkModeration {
+
+    @Autowired
+    private BoardModerationRepository moderationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private FileReaper fileReaper;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private ArchiveIndex archiveIndex;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private SearchCache searchCache;
+
+    // 배치(트랜잭션) 하나에서 처리할 게시글 수
+    @Value("${board.moderation.batch-size:1000}")
+    private int batchSize = 1000;
+
+    // 진행 상황을 보관할 최근 작업 수
+    @Value("${board.moderation.history-size:100}")
+    private int historySize = 100;
+
+    private ExecutorService runner;
+    private final Map<String, ModerationJob> jobs = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-moderation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdown();
+    }
+
+    /**
+     * 작업 등록 (실행은 백그라운드, 등록 시점의 진행 상황 반환)
+     */
+    public ModerationJobDTO submit(ModerationAction action, ModerationCriteria criteria, String newAuthor) {
+        ModerationJob job = create(action, criteria, newAuthor);
+        runner.execute(() -> run(job));
+        log.info("일괄 관리 작업 등록 - ID: {}, 작업: {}, 조건: {}", job.getId(), action, criteria);
+        return job.toDTO();
+    }
+
+    public Optional<ModerationJobDTO> job(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id)).map(ModerationJob::toDTO);
+        }
+    }
+
+    /**
+     * 최근 작업 (최근 등록 순)
+     */
+    public List<ModerationJobDTO> jobs() {
+        List<ModerationJobDTO> recent;
+        synchronized (jobs) {
+            recent = jobs.values().stream().map(ModerationJob::toDTO).collect(Collectors.toList());
+        }
+        Collections.reverse(recent);
+        return recent;
+    }
+
+    ModerationJob create(ModerationAction action, ModerationCriteria criteria, String newAuthor) {
+        if (action == null) {
+            throw new IllegalArgumentException("작업 종류를 지정해주세요.");
+        }
+        String author = newAuthor == null ? null : newAuthor.trim();
+        if (action == ModerationAction.REASSIGN && (author == null || author.isEmpty())) {
+            throw new IllegalArgumentException("변경할 작성자를 지정해주세요.");
+        }
+        ModerationJob job = new ModerationJob(UUID.randomUUID().toString(), action, criteria,
+                action == ModerationAction.REASSIGN ? author : null);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            // 오래된 완료 작업부터 정리
+            jobs.values().removeIf(old -> jobs.size() > historySize && old.isFinished());
+        }
+        return job;
+    }
+
+    void run(ModerationJob job) {
+        long started = System.nanoTime();
+        try {
+            job.start(moderationRepository.countPending(job.getCriteria(), job.getAction(), job.getNewAuthor()));
+            if (job.getCriteria().hasIds()) {
+                // ID 목록은 배치 크기로 나눠, 나눈 ID 중 조건에 맞는 게시글만 처리
+                List<Integer> ids = new ArrayList<>(job.getCriteria().getIds());
+                for (int from = 0; from < ids.size(); from += batchSize) {
+                    List<Integer> slice = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                    runBatch(job, moderationRepository.findPendingTargets(job.getCriteria(), slice, job.getAction(),
+                            job.getNewAuthor(), 0, batchSize));
+                }
+            } else {
+                int afterId = 0;
+                while (true) {
+                    List<ModerationTarget> targets = moderationRepository.findPendingTargets(job.getCriteria(),
+                            Collections.emptyList(), job.getAction(), job.getNewAuthor(), afterId, batchSize);
+                    if (targets.isEmpty()) {
+                        break;
+                    }
+                    runBatch(job, targets);
+                    afterId = targets.get(targets.size() - 1).getId();
+                }
+            }
+            job.complete();
+            log.info("일괄 관리 작업 완료 - ID: {}, 작업: {}, 처리: {}, 소요: {}ms", job.getId(), job.getAction(),
+                    job.toDTO().getProcessed(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            log.error("일괄 관리 작업 실패 - ID: {}, 작업: {}, 오류: {}", job.getId(), job.getAction(), e.getMessage());
+            job.fail(e.getMessage());
+        }
+    }
+
+    // 배치 하나를 별도 트랜잭션에서 처리하고, 커밋된 뒤 첨부파일 삭제 요청
+    private void runBatch(ModerationJob job, List<ModerationTarget> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        List<String> filepaths = new ArrayList<>();
+        Integer processed = transactionTemplate.execute(status -> apply(job, targets, filepaths));
+        job.batchCommitted(processed == null ? 0 : processed, filepaths.size());
+        fileReaper.reap(filepaths).thenAccept(job::filesDeleted);
+    }
+
+    // 처리한 게시글 수 반환 (삭제 시 첨부파일 경로를 filepaths에 추가)
+    private int apply(ModerationJob job, List<ModerationTarget> targets, List<String> filepaths) {
+        List<Integer> ids = targets.stream().map(ModerationTarget::getId).collect(Collectors.toList());
+        int changed;
+        switch (job.getAction()) {
+            case DELETE:
+                targets.stream().map(ModerationTarget::getFilepath).filter(path -> path != null).forEach(filepaths::add);
+                List<Integer> withAttachments = targets.stream()
+                        .filter(target -> target.getAttachmentCount() > 0)
+                        .map(ModerationTarget::getId)
+                        .collect(Collectors.toList());
+                if (!withAttachments.isEmpty()) {
+                    filepaths.addAll(moderationRepository.findAttachmentFilepaths(withAttachments));
+                }
+                changed = moderationRepository.deleteByIdIn(ids);
+                for (ModerationTarget target : targets) {
+                    viewCountBuffer.discard(target.getId());
+                    removeFromIndexes(target);
+                }
+                boardEventPublisher.publishAll(BoardEventType.DELETED, ids, null);
+                break;
+            case HIDE:
+                changed = moderationRepository.hideByIdIn(ids);
+                targets.forEach(this::removeFromIndexes);
+                boardEventPublisher.publishAll(BoardEventType.HIDDEN, ids, null);
+                break;
+            case REASSIGN:
+                changed = moderationRepository.reassignByIdIn(ids, job.getNewAuthor(), LocalDateTime.now());
+                boardEventPublisher.publishAll(BoardEventType.UPDATED, ids,
+                        Collections.singletonMap("author", job.getNewAuthor()));
+                // 기존 작성자로 검색된 결과는 아래 게시글 무효화로, 새 작성자로 검색될 결과는 여기서 지움
+                searchCache.postChanged(null, null, job.getNewAuthor());
+                break;
+            default:
+                throw new IllegalStateException("지원하지 않는 작업입니다: " + job.getAction());
+        }
+        boardCache.invalidatePosts(ids);
+        log.debug("일괄 관리 배치 - 작업: {}, 대상: {}, 처리: {}", job.getAction(), ids.size(), changed);
+        return changed;
+    }
+
+    // 목록/검색에서 빠지는 게시글을 메모리 인덱스에서 제거 (커밋 이후 반영)
+    private void removeFromIndexes(ModerationTarget target) {
+        tagIndex.removePost(target.getId());
+        duplicateIndex.remove(target.getId());
+        archiveIndex.postDeleted(target.getCreatedAt());
+    }
+}
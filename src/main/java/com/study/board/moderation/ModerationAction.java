@@ -0,0 +1,13 @@
+package com.study.board.moderation;
+
+/**
+ * 일괄 관리 작업 종류
+ */
+public enum ModerationAction {
+    // 게시글 삭제 (첨부파일은 커밋 후 백그라운드에서 삭제)
+    DELETE,
+    // 목록/검색/상세에서 숨김 (행과 첨부파일은 유지)
+    HIDE,
+    // 작성자 변경
+    REASSIGN
+}
@@ -0,0 +1,52 @@
+package com.study.board.moderation;
+
+import com.study.board.archive.DateRange;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 일괄 관리 대상 조건 (ID 목록, 작성자, 작성일 범위를 모두 만족하는 게시글, 최소 하나는 지정해야 함)
+ */
+@Getter
+@ToString
+public class ModerationCriteria {
+
+    // 대상 게시글 ID (비어 있으면 제한 없음, 정렬됨)
+    private final SortedSet<Integer> ids;
+
+    // 작성자 (정확히 일치, null이면 제한 없음)
+    private final String author;
+
+    private final DateRange dateRange;
+
+    private ModerationCriteria(SortedSet<Integer> ids, String author, DateRange dateRange) {
+        this.ids = ids;
+        this.author = author;
+        this.dateRange = dateRange;
+    }
+
+    /**
+     * 조건 생성 (아무 조건도 없으면 전체 게시글이 대상이 되므로 예외)
+     */
+    public static ModerationCriteria of(List<Integer> ids, String author, DateRange dateRange) {
+        SortedSet<Integer> sortedIds = new TreeSet<>();
+        if (ids != null) {
+            ids.stream().filter(id -> id != null && id > 0).forEach(sortedIds::add);
+        }
+        String trimmedAuthor = author == null || author.trim().isEmpty() ? null : author.trim();
+        DateRange range = dateRange == null ? DateRange.NONE : dateRange;
+        if (sortedIds.isEmpty() && trimmedAuthor == null && range.isEmpty()) {
+            throw new IllegalArgumentException("대상 게시글 ID, 작성자, 작성일 범위 중 하나 이상을 지정해야 합니다.");
+        }
+        return new ModerationCriteria(Collections.unmodifiableSortedSet(sortedIds), trimmedAuthor, range);
+    }
+
+    public boolean hasIds() {
+        return !ids.isEmpty();
+    }
+}
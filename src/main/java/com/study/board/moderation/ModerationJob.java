@@ -0,0 +1,115 @@
+package com.study.board.moderation;
+
+import com.study.board.dto.ModerationJobDTO;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일괄 관리 작업 (진행 상황은 작업 스레드가 갱신하고 조회 API가 읽음)
+ */
+public class ModerationJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final ModerationAction action;
+    @Getter
+    private final ModerationCriteria criteria;
+    @Getter
+    private final String newAuthor;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    @Getter
+    private volatile State state = State.QUEUED;
+    private volatile long total;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong filesQueued = new AtomicLong();
+    private final AtomicLong filesDeleted = new AtomicLong();
+
+    ModerationJob(String id, ModerationAction action, ModerationCriteria criteria, String newAuthor) {
+        this.id = id;
+        this.action = action;
+        this.criteria = criteria;
+        this.newAuthor = newAuthor;
+    }
+
+    void start(long total) {
+        this.total = total;
+        this.startedAt = LocalDateTime.now();
+        this.state = State.RUNNING;
+    }
+
+    void batchCommitted(int count, int files) {
+        processed.addAndGet(count);
+        batches.incrementAndGet();
+        filesQueued.addAndGet(files);
+    }
+
+    void filesDeleted(int count) {
+        filesDeleted.addAndGet(count);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    public ModerationJobDTO toDTO() {
+        return ModerationJobDTO.builder()
+                .id(id)
+                .action(action.name())
+                .state(state.name())
+                .criteria(describe())
+                .total(total)
+                .processed(processed.get())
+                .batches(batches.get())
+                .filesQueued(filesQueued.get())
+                .filesDeleted(filesDeleted.get())
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+
+    private String describe() {
+        StringBuilder description = new StringBuilder();
+        if (criteria.hasIds()) {
+            description.append("ID ").append(criteria.getIds().size()).append("개");
+        }
+        if (criteria.getAuthor() != null) {
+            description.append(description.length() > 0 ? ", " : "").append("작성자 ").append(criteria.getAuthor());
+        }
+        if (!criteria.getDateRange().isEmpty()) {
+            description.append(description.length() > 0 ? ", " : "").append("작성일 ")
+                    .append(criteria.getDateRange().getFrom() == null ? "" : criteria.getDateRange().getFrom())
+                    .append(" ~ ")
+                    .append(criteria.getDateRange().getTo() == null ? "" : criteria.getDateRange().getTo());
+        }
+        if (newAuthor != null) {
+            description.append(" -> ").append(newAuthor);
+        }
+        return description.toString();
+    }
+}
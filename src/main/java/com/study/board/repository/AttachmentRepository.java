@@ -0,0 +1,27 @@
+package com.study.board.repository;
+
+import com.study.board.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Integer> {
+
+    // 게시글의 첨부파일 조회 (업로드 순)
+    List<Attachment> findByBoardIdOrderByIdAsc(Integer boardId);
+
+    // 게시글의 첨부파일 경로만 조회 (삭제 후 파일 정리용)
+    @Query("SELECT a.filepath FROM Attachment a WHERE a.boardId = :boardId")
+    List<String> findFilepathsByBoardId(@Param("boardId") Integer boardId);
+
+    // 게시글에서 첨부파일 삭제
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.boardId = :boardId AND a.id IN :ids")
+    int deleteByBoardIdAndIdIn(@Param("boardId") Integer boardId, @Param("ids") Collection<Integer> ids);
+}
@@ -0,0 +1,55 @@
+package com.study.board.repository;
+
+import com.study.board.entity.BoardArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BoardArchiveRepository extends JpaRepository<BoardArchive, Integer> {
+
+    // 지정한 ID의 보관 게시글 목록 조회 (본문 제외, 첨부파일이 있는 게시글은 보관하지 않음)
+    @Query("SELECT a.id AS id, a.title AS title, a.author AS author, a.viewCount AS viewCount, " +
+            "a.excerpt AS excerpt, a.wordCount AS wordCount, false AS hasAttachment, false AS imageAttachment, " +
+            "0 AS attachmentCount, a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+            "FROM BoardArchive a WHERE a.id IN :ids")
+    List<BoardSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 제목 검색 결과 ID 조회
+    @Query("SELECT a.id FROM BoardArchive a WHERE LOWER(a.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    List<Integer> findIdsByTitleContaining(@Param("keyword") String keyword);
+
+    // 제목 또는 내용 검색 결과 ID 조회
+    @Query("SELECT a.id FROM BoardArchive a WHERE LOWER(a.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()} OR LOWER(a.content) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    List<Integer> findIdsByTitleOrContentContaining(@Param("keyword") String keyword);
+
+    // 작성자 검색 결과 ID 조회
+    @Query("SELECT a.id FROM BoardArchive a WHERE LOWER(a.author) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    List<Integer> findIdsByAuthorContaining(@Param("keyword") String keyword);
+
+    // 작성일 범위의 보관 게시글 ID 조회
+    @Query("SELECT a.id FROM BoardArchive a WHERE a.createdAt >= :start AND a.createdAt < :end")
+    List<Integer> findIdsCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 작성일별 보관 게시글 수 (연, 월, 일, 게시글 수)
+    @Query("SELECT YEAR(a.createdAt), MONTH(a.createdAt), DAY(a.createdAt), COUNT(a) FROM BoardArchive a " +
+            "WHERE a.createdAt IS NOT NULL " +
+            "GROUP BY YEAR(a.createdAt), MONTH(a.createdAt), DAY(a.createdAt)")
+    List<Object[]> countByCreatedDay();
+
+    // 작성일만 조회 (삭제 시 월별 집계 감소용)
+    @Query("SELECT a.createdAt FROM BoardArchive a WHERE a.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Integer id);
+
+    // 보관 게시글 삭제 (단일 DELETE, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM BoardArchive a WHERE a.id = :id")
+    int deleteArchivedById(@Param("id") Integer id);
+}
@@ -0,0 +1,16 @@
+package com.study.board.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 삭제용 projection
+ * 삭제 후 정리할 첨부파일 경로/개수와 아카이브 집계에서 뺄 작성일만 조회합니다.
+ */
+public interface BoardDeleteTarget {
+
+    String getFilepath();
+
+    Integer getAttachmentCount();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,125 @@
+package com.study.board.repository;
+
+import com.study.board.moderation.ModerationAction;
+import com.study.board.moderation.ModerationCriteria;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게시글 일괄 관리 쿼리 (JDBC)
+ * 숨긴 게시글도 대상이어야 하므로 Board 엔티티의 @Where 조건을 거치지 않는 SQL로 실행하며,
+ * 대상 조회는 ID 순 키셋 페이징, 변경은 ID 목록 단위의 단일 UPDATE/DELETE입니다.
+ */
+@Repository
+public class BoardModerationRepository {
+
+    // IN 조건 하나에 넣는 최대 ID 수
+    private static final int MAX_IN_SIZE = 1000;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞고 아직 처리되지 않은 게시글 수 (진행률 표시용)
+     */
+    public long countPending(ModerationCriteria criteria, ModerationAction action, String newAuthor) {
+        if (!criteria.hasIds()) {
+            return countPending(criteria, Collections.emptyList(), action, newAuthor);
+        }
+        long count = 0;
+        List<Integer> ids = new ArrayList<>(criteria.getIds());
+        for (int from = 0; from < ids.size(); from += MAX_IN_SIZE) {
+            count += countPending(criteria, ids.subList(from, Math.min(from + MAX_IN_SIZE, ids.size())), action, newAuthor);
+        }
+        return count;
+    }
+
+    /**
+     * afterId 이후 조건에 맞는 게시글을 ID 순으로 최대 limit개 조회
+     * ids가 있으면 그 ID 중에서만 찾습니다. (호출자가 ID 목록을 나눠서 전달)
+     */
+    public List<ModerationTarget> findPendingTargets(ModerationCriteria criteria, Collection<Integer> ids,
+                                                     ModerationAction action, String newAuthor, int afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        String sql = "SELECT id, created_at, file_path, attachment_count FROM board WHERE id > :afterId AND "
+                + where(criteria, ids, action, newAuthor, params) + " ORDER BY id LIMIT :limit";
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new ModerationTarget(rs.getInt("id"), createdAt == null ? null : createdAt.toLocalDateTime(),
+                    rs.getString("file_path"), rs.getInt("attachment_count"));
+        });
+    }
+
+    /**
+     * 게시글들의 첨부파일 경로 (attachment 행은 게시글 삭제 시 ON DELETE CASCADE로 삭제)
+     */
+    public List<String> findAttachmentFilepaths(Collection<Integer> boardIds) {
+        return jdbcTemplate.queryForList("SELECT file_path FROM attachment WHERE board_id IN (:ids)",
+                new MapSqlParameterSource("ids", boardIds), String.class);
+    }
+
+    public int deleteByIdIn(Collection<Integer> ids) {
+        return jdbcTemplate.update("DELETE FROM board WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    public int hideByIdIn(Collection<Integer> ids) {
+        return jdbcTemplate.update("UPDATE board SET hidden = TRUE WHERE id IN (:ids) AND hidden = FALSE",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * 작성자 변경 (게시글 내용이 바뀌므로 버전 증가)
+     */
+    public int reassignByIdIn(Collection<Integer> ids, String author, LocalDateTime updatedAt) {
+        return jdbcTemplate.update("UPDATE board SET author = :author, updated_at = :updatedAt, version = version + 1 "
+                        + "WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids)
+                        .addValue("author", author)
+                        .addValue("updatedAt", Timestamp.valueOf(updatedAt)));
+    }
+
+    private long countPending(ModerationCriteria criteria, Collection<Integer> ids, ModerationAction action,
+                              String newAuthor) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE "
+                + where(criteria, ids, action, newAuthor, params), params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    // 조건 SQL (이미 숨긴 게시글, 이미 같은 작성자인 게시글은 제외)
+    private static String where(ModerationCriteria criteria, Collection<Integer> ids, ModerationAction action,
+                                String newAuthor, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder("1 = 1");
+        if (!ids.isEmpty()) {
+            where.append(" AND id IN (:ids)");
+            params.addValue("ids", ids);
+        }
+        if (criteria.getAuthor() != null) {
+            where.append(" AND author = :criteriaAuthor");
+            params.addValue("criteriaAuthor", criteria.getAuthor());
+        }
+        if (!criteria.getDateRange().isEmpty()) {
+            where.append(" AND created_at >= :start AND created_at < :end");
+            params.addValue("start", Timestamp.valueOf(criteria.getDateRange().startInclusive()));
+            params.addValue("end", Timestamp.valueOf(criteria.getDateRange().endExclusive()));
+        }
+        if (action == ModerationAction.HIDE) {
+            where.append(" AND hidden = FALSE");
+        } else if (action == ModerationAction.REASSIGN) {
+            where.append(" AND author <> :newAuthor");
+            params.addValue("newAuthor", newAuthor);
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.study.board.repository;
+
+import com.study.board.entity.BoardOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BoardOutboxRepository extends JpaRepository<BoardOutbox, Long> {
+
+    // 아직 이벤트 로그로 옮기지 않은 outbox 조회 (ID 순)
+    List<BoardOutbox> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -4,29 +4,242 @@ import com.study.board.entity.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Integer> {
 
-    // 제목으로 검색
-    Page<Board> findByTitleContaining(String searchKeyword, Pageable pageable);
+    // 게시글 목록 조회 (본문 제외)
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b",
+            countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardSummary> findAllSummaries(Pageable pageable);
+
+    // 제목으로 검색 (본문 제외, 대소문자 무시)
+    Page<BoardSummary> findSummaryByTitleContainingIgnoreCase(String searchKeyword, Pageable pageable);
+
+    // 제목 또는 내용으로 검색 (본문 제외, 대소문자 무시)
+    Page<BoardSummary> findSummaryByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content,
+                                                                                         Pageable pageable);
+
+    // 작성자로 검색 (본문 제외, 대소문자 무시)
+    Page<BoardSummary> findSummaryByAuthorContainingIgnoreCase(String author, Pageable pageable);
+
+    // 지정한 ID의 게시글 목록 조회 (본문 제외, 순서는 호출자가 정렬)
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b WHERE b.id IN :ids")
+    List<BoardSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 게시글 ID 조회 (ID 순 키셋 페이징, 태그 비트맵 적재용)
+    @Query("SELECT b.id FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<Integer> findIdsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    // 최근 게시글 지문 조회 (ID 역순, 유사 게시글 인덱스 적재용)
+    @Query("SELECT b.id, b.simhash FROM Board b ORDER BY b.id DESC")
+    List<Object[]> findRecentFingerprints(Pageable pageable);
+
+    // 지정 ID 이후 게시글 지문 조회 (ID 순, 다른 노드에서 작성된 게시글 반영용)
+    @Query("SELECT b.id, b.simhash FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<Object[]> findFingerprintsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    // 게시글 지문만 조회
+    @Query("SELECT b.simhash FROM Board b WHERE b.id = :id")
+    Optional<Long> findSimhashById(@Param("id") Integer id);
+
+    // 제목/본문 조회 (지문이 없는 이전 게시글의 지문 계산용)
+    @Query("SELECT b.id, b.title, b.content FROM Board b WHERE b.id IN :ids")
+    List<Object[]> findTextsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 검색 결과 캐시 무효화용 제목/본문/작성자 조회
+    @Query("SELECT b.id, b.title, b.content, b.author FROM Board b WHERE b.id IN :ids")
+    List<Object[]> findSearchTextsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 지정 ID 이후 게시글의 제목/본문/작성자 조회 (ID 순, 다른 노드에서 작성된 게시글 반영용)
+    @Query("SELECT b.id, b.title, b.content, b.author FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<Object[]> findSearchTextsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    // 마지막 게시글 ID (게시글이 없으면 0)
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Board b")
+    Integer findMaxId();
+
+    // 제목 검색 결과 ID 조회 (태그 필터와 결합용)
+    @Query("SELECT b.id FROM Board b WHERE LOWER(b.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    List<Integer> findIdsByTitleContaining(@Param("keyword") String keyword);
+
+    // 제목 또는 내용 검색 결과 ID 조회 (태그 필터와 결합용)
+    @Query("SELECT b.id FROM Board b WHERE LOWER(b.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()} OR LOWER(b.content) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    List<Integer> findIdsByTitleOrContentContaining(@Param("keyword") String keyword);
+
+    // 작성자 검색 결과 ID 조회 (태그 필터와 결합용)
+    @Query("SELECT b.id FROM Board b WHERE LOWER(b.author) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    List<Integer> findIdsByAuthorContaining(@Param("keyword") String keyword);
+
+    // 작성일 범위 조회 (본문 제외, created_at 인덱스 범위 탐색)
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b " +
+            "WHERE b.createdAt >= :start AND b.createdAt < :end",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.createdAt >= :start AND b.createdAt < :end")
+    Page<BoardSummary> findSummariesCreatedBetween(@Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end,
+                                                   Pageable pageable);
+
+    // 작성일 범위 + 제목 검색 (본문 제외)
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b " +
+            "WHERE b.createdAt >= :start AND b.createdAt < :end AND LOWER(b.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}",
+            countQuery = "SELECT COUNT(b) FROM Board b " +
+                    "WHERE b.createdAt >= :start AND b.createdAt < :end AND LOWER(b.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    Page<BoardSummary> findSummariesCreatedBetweenByTitle(@Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end,
+                                                          @Param("keyword") String keyword,
+                                                          Pageable pageable);
 
-    // 제목 또는 내용으로 검색
-    Page<Board> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
+    // 작성일 범위 + 제목 또는 내용 검색 (본문 제외)
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b " +
+            "WHERE b.createdAt >= :start AND b.createdAt < :end " +
+            "AND (LOWER(b.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()} OR LOWER(b.content) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()})",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.createdAt >= :start AND b.createdAt < :end " +
+                    "AND (LOWER(b.title) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()} OR LOWER(b.content) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()})")
+    Page<BoardSummary> findSummariesCreatedBetweenByTitleOrContent(@Param("start") LocalDateTime start,
+                                                                   @Param("end") LocalDateTime end,
+                                                                   @Param("keyword") String keyword,
+                                                                   Pageable pageable);
 
-    // 작성자로 검색
-    Page<Board> findByAuthorContaining(String author, Pageable pageable);
+    // 작성일 범위 + 작성자 검색 (본문 제외)
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b " +
+            "WHERE b.createdAt >= :start AND b.createdAt < :end AND LOWER(b.author) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}",
+            countQuery = "SELECT COUNT(b) FROM Board b " +
+                    "WHERE b.createdAt >= :start AND b.createdAt < :end AND LOWER(b.author) LIKE %:#{escape(#keyword)}% ESCAPE :#{escapeCharacter()}")
+    Page<BoardSummary> findSummariesCreatedBetweenByAuthor(@Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end,
+                                                           @Param("keyword") String keyword,
+                                                           Pageable pageable);
 
-    // 조회수 증가
+    // 작성일 범위의 게시글 ID 조회 (태그 필터와 결합용)
+    @Query("SELECT b.id FROM Board b WHERE b.createdAt >= :start AND b.createdAt < :end")
+    List<Integer> findIdsCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 작성일별 게시글 수 (연, 월, 일, 게시글 수)
+    @Query("SELECT YEAR(b.createdAt), MONTH(b.createdAt), DAY(b.createdAt), COUNT(b) FROM Board b " +
+            "WHERE b.createdAt IS NOT NULL " +
+            "GROUP BY YEAR(b.createdAt), MONTH(b.createdAt), DAY(b.createdAt)")
+    List<Object[]> countByCreatedDay();
+
+    // 조회수 증가 (숨긴 게시글 제외)
+    // 벌크 UPDATE에는 엔티티의 @Where 조건이 붙지 않으므로, 이 파일의 게시글 UPDATE는 모두 hidden 조건을 직접 둡니다.
     @Modifying
-    @Query("UPDATE Board b SET b.viewCount = b.viewCount + 1 WHERE b.id = :id")
+    @Query("UPDATE Board b SET b.viewCount = b.viewCount + 1 WHERE b.id = :id AND b.hidden = false")
     void increaseViewCount(@Param("id") Integer id);
 
-    // 인기 게시물 조회 (조회수 기준)
-    @Query("SELECT b FROM Board b ORDER BY b.viewCount DESC, b.createdAt DESC")
-    Page<Board> findPopularPosts(Pageable pageable);
+    // 조회수 일괄 증가 (버퍼에 누적된 조회수 반영, 숨긴 게시글 제외)
+    @Modifying
+    @Query("UPDATE Board b SET b.viewCount = b.viewCount + :delta WHERE b.id = :id AND b.hidden = false")
+    int increaseViewCountBy(@Param("id") Integer id, @Param("delta") int delta);
+
+    // 인기 게시물 조회 (조회수 기준, 본문 제외)
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.author AS author, b.viewCount AS viewCount, " +
+            "b.filename AS filename, b.excerpt AS excerpt, b.wordCount AS wordCount, " +
+            "b.hasAttachment AS hasAttachment, b.imageAttachment AS imageAttachment, b.attachmentCount AS attachmentCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b " +
+            "ORDER BY b.viewCount DESC, b.createdAt DESC",
+            countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardSummary> findPopularSummaries(Pageable pageable);
+
+    // 첨부파일 경로만 조회 (엔티티 로딩 없음)
+    @Query("SELECT b.filepath FROM Board b WHERE b.id = :id")
+    Optional<String> findFilepathById(@Param("id") Integer id);
+
+    // 삭제 전 첨부파일 경로, 첨부파일 수, 작성일 조회 (엔티티 로딩 없음)
+    @Query("SELECT b.filepath AS filepath, b.attachmentCount AS attachmentCount, b.createdAt AS createdAt " +
+            "FROM Board b WHERE b.id = :id")
+    Optional<BoardDeleteTarget> findDeleteTargetById(@Param("id") Integer id);
+
+    // 게시글 삭제 (단일 DELETE, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Board b WHERE b.id = :id")
+    int deleteBoardById(@Param("id") Integer id);
+
+    // 게시글 본문 수정 (버전 일치 시에만 단일 UPDATE, 숨긴 게시글 제외, 수정된 행 수 반환)
+    @Modifying
+    @Query("UPDATE Board b SET b.title = :title, b.content = :content, b.author = :author, b.updatedAt = :updatedAt, " +
+            "b.excerpt = :excerpt, b.wordCount = :wordCount, b.simhash = :simhash, b.version = b.version + 1 " +
+            "WHERE b.id = :id AND b.version = :version AND b.hidden = false")
+    int updateContent(@Param("id") Integer id,
+                      @Param("version") Long version,
+                      @Param("title") String title,
+                      @Param("content") String content,
+                      @Param("author") String author,
+                      @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("excerpt") String excerpt,
+                      @Param("wordCount") Integer wordCount,
+                      @Param("simhash") Long simhash);
+
+    // 게시글 본문과 첨부파일 수/플래그 수정 (버전 일치 시에만 단일 UPDATE, 숨긴 게시글 제외, 수정된 행 수 반환)
+    @Modifying
+    @Query("UPDATE Board b SET b.title = :title, b.content = :content, b.author = :author, b.updatedAt = :updatedAt, " +
+            "b.excerpt = :excerpt, b.wordCount = :wordCount, b.simhash = :simhash, b.attachmentCount = :attachmentCount, " +
+            "b.hasAttachment = :hasAttachment, b.imageAttachment = :imageAttachment, " +
+            "b.version = b.version + 1 WHERE b.id = :id AND b.version = :version AND b.hidden = false")
+    int updateContentAndAttachments(@Param("id") Integer id,
+                                    @Param("version") Long version,
+                                    @Param("title") String title,
+                                    @Param("content") String content,
+                                    @Param("author") String author,
+                                    @Param("updatedAt") LocalDateTime updatedAt,
+                                    @Param("excerpt") String excerpt,
+                                    @Param("wordCount") Integer wordCount,
+                                    @Param("simhash") Long simhash,
+                                    @Param("attachmentCount") Integer attachmentCount,
+                                    @Param("hasAttachment") Boolean hasAttachment,
+                                    @Param("imageAttachment") Boolean imageAttachment);
+
+    // 보관 대상 게시글 조회 (작성일 기준 이전, 조회수 미만, 첨부파일 없음, 옮기는 동안 수정되지 않도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.createdAt < :cutoff AND b.viewCount < :maxViews " +
+            "AND b.attachmentCount = 0 AND b.filepath IS NULL ORDER BY b.id")
+    List<Board> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff,
+                                      @Param("maxViews") Integer maxViews,
+                                      Pageable pageable);
+
+    // 게시글 일괄 삭제 (보관 후, 태그 연결은 ON DELETE CASCADE)
+    @Modifying
+    @Query("DELETE FROM Board b WHERE b.id IN :ids")
+    int deleteBoardsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 미리보기 미계산 게시글 조회 (백필용, ID 순 키셋 페이징)
+    List<Board> findByExcerptIsNullAndIdGreaterThanOrderByIdAsc(Integer afterId, Pageable pageable);
+
+    // 미리보기 컬럼만 갱신 (파생 데이터이므로 버전은 변경하지 않음, 숨긴 게시글 제외)
+    @Modifying
+    @Query("UPDATE Board b SET b.excerpt = :excerpt, b.wordCount = :wordCount, " +
+            "b.hasAttachment = :hasAttachment, b.imageAttachment = :imageAttachment WHERE b.id = :id AND b.hidden = false")
+    int updateSummary(@Param("id") Integer id,
+                      @Param("excerpt") String excerpt,
+                      @Param("wordCount") Integer wordCount,
+                      @Param("hasAttachment") Boolean hasAttachment,
+                      @Param("imageAttachment") Boolean imageAttachment);
 }
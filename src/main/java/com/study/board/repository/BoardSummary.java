@@ -0,0 +1,34 @@
+package com.study.board.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 projection
+ * 본문(content) 대신 미리 계산된 미리보기 컬럼만 조회합니다.
+ */
+public interface BoardSummary {
+
+    Integer getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    Integer getViewCount();
+
+    String getFilename();
+
+    String getExcerpt();
+
+    Integer getWordCount();
+
+    Boolean getHasAttachment();
+
+    Boolean getImageAttachment();
+
+    Integer getAttachmentCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
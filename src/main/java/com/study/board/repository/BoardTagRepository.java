@@ -0,0 +1,31 @@
+package com.study.board.repository;
+
+import com.study.board.entity.BoardTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardTagRepository extends JpaRepository<BoardTag, BoardTag.Key> {
+
+    // 게시글의 태그 ID 조회
+    @Query("SELECT bt.tagId FROM BoardTag bt WHERE bt.boardId = :boardId")
+    List<Integer> findTagIdsByBoardId(@Param("boardId") Integer boardId);
+
+    // 태그가 달린 게시글 ID 조회 (ID 순, 비트맵 적재용)
+    @Query("SELECT bt.boardId FROM BoardTag bt WHERE bt.tagId = :tagId ORDER BY bt.boardId")
+    List<Integer> findBoardIdsByTagId(@Param("tagId") Integer tagId);
+
+    // 지정한 ID 이후 게시글의 태그 연결 조회 (다른 노드에서 작성된 게시글 반영용)
+    List<BoardTag> findByBoardIdGreaterThan(Integer boardId);
+
+    // 게시글에서 태그 연결 해제
+    @Modifying
+    @Query("DELETE FROM BoardTag bt WHERE bt.boardId = :boardId AND bt.tagId IN :tagIds")
+    int deleteTags(@Param("boardId") Integer boardId, @Param("tagIds") Collection<Integer> tagIds);
+}
@@ -0,0 +1,28 @@
+package com.study.board.repository;
+
+import com.study.board.entity.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // 마지막으로 기록된 무효화 ID
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+    long findMaxId();
+
+    // 기준 ID 이후의 무효화 조회
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 보관 기간이 지난 무효화 삭제
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,22 @@
+package com.study.board.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 관리 대상 게시글 (ID, 작성일, 이전 방식 첨부파일 경로, 첨부파일 수)
+ */
+@Getter
+@AllArgsConstructor
+public class ModerationTarget {
+
+    private final Integer id;
+
+    private final LocalDateTime createdAt;
+
+    private final String filepath;
+
+    private final int attachmentCount;
+}
@@ -0,0 +1,15 @@
+package com.study.board.repository;
+
+import com.study.board.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+
+    // 이름으로 태그 조회
+    List<Tag> findByNameIn(Collection<String> names);
+}
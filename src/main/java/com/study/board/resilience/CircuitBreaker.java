@@ -0,0 +1,100 @@
+package com.study.board.resilience;
+
+/**
+ * DB 과부하 차단기
+ * 연속 실패(또는 느린 호출)가 기준에 이르면 열려(OPEN) 일정 시간 동안 호출을 막습니다.
+ * 그 뒤 반열림(HALF_OPEN) 상태에서 시험 호출을 1개부터 성공할 때마다 2배씩 늘려 허용하고,
+ * 시험 호출이 정해진 횟수만큼 성공하면 닫히며(CLOSED) 하나라도 실패하면 다시 열립니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int probeSuccesses;
+
+    // 아래 상태는 this로 보호
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probesSucceeded;
+    private long opened;
+    private long rejected;
+
+    public CircuitBreaker(int failureThreshold, long openMillis, int probeSuccesses) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openMillis * 1_000_000L;
+        this.probeSuccesses = Math.max(1, probeSuccesses);
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess/onFailure로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        // 반열림: 성공한 시험 호출 수에 따라 동시 시험 호출을 1, 2, 4 ... 개까지 허용
+        if (state == State.HALF_OPEN && probesInFlight < 1 << Math.min(probesSucceeded, 16)) {
+            probesInFlight++;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (++probesSucceeded >= probeSuccesses) {
+                state = State.CLOSED;
+            }
+        }
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * 열린 횟수
+     */
+    public synchronized long openedCount() {
+        return opened;
+    }
+
+    /**
+     * 차단한 호출 수
+     */
+    public synchronized long rejectedCount() {
+        return rejected;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        consecutiveFailures = 0;
+        probesInFlight = 0;
+        opened++;
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.board.resilience;
+
+/**
+ * DB 과부하(차단기 열림 또는 DB 오류)로 조회하지 못했고 대신 보여줄 이전 응답도 없을 때 발생하는 예외
+ */
+public class DatabaseUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DatabaseUnavailableException(String message) {
+        super(message);
+    }
+
+    public DatabaseUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
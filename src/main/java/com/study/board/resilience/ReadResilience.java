@@ -0,0 +1,218 @@
+package com.study.board.resilience;
+
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.NearCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 경로 장애 대응 (차단기 + 이전 응답 제공)
+ * 목록/상세/인기글 조회를 트랜잭션 시작 전에 감싸서, DB 호출이 연속으로 실패하거나 느려지면 차단기를 열고
+ * 그동안은 마지막으로 성공한 응답(최대 max-age 이전)을 대신 반환하며 백그라운드에서 다시 조회합니다.
+ * 이전 응답이 없으면 (차단기가 열려 있을 때는 DB를 기다리지 않고) DatabaseUnavailableException을 던집니다.
+ *
+ * 게시글이 수정/삭제되면 해당 게시글의 이전 응답은 버립니다. (목록은 max-age 동안 유지)
+ */
+@Component
+@Slf4j
+public class ReadResilience {
+
+    private static final String UNAVAILABLE_MESSAGE = "요청이 많아 잠시 조회할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Value("${board.resilience.enabled:true}")
+    private boolean enabled = true;
+
+    // 차단기를 여는 연속 실패 수
+    @Value("${board.resilience.failure-threshold:5}")
+    private int failureThreshold = 5;
+
+    // 차단기를 연 뒤 시험 호출을 시작하기까지의 시간
+    @Value("${board.resilience.open-ms:5000}")
+    private long openMillis = 5000;
+
+    // 차단기를 닫기 위해 필요한 시험 호출 성공 수
+    @Value("${board.resilience.probe-successes:3}")
+    private int probeSuccesses = 3;
+
+    // 이보다 오래 걸린 호출은 성공해도 실패로 집계
+    @Value("${board.resilience.slow-call-ms:2000}")
+    private long slowCallMillis = 2000;
+
+    @Value("${board.resilience.stale.max-size:1000}")
+    private int staleMaxSize = 1000;
+
+    // 이전 응답을 대신 반환할 수 있는 최대 경과 시간
+    @Value("${board.resilience.stale.max-age-ms:600000}")
+    private long staleMaxAgeMillis = 600000;
+
+    private CircuitBreaker breaker;
+    private NearCache<String, Object> lastKnownGood;
+    private ThreadPoolExecutor refresher;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder unavailable = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        breaker = new CircuitBreaker(failureThreshold, openMillis, probeSuccesses);
+        lastKnownGood = new NearCache<>(staleMaxSize, staleMaxAgeMillis);
+        AtomicInteger sequence = new AtomicInteger();
+        // 백그라운드 재조회는 소수 스레드로만 실행하고 대기열이 차면 버림 (다음 요청에서 다시 시도)
+        refresher = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100), runnable -> {
+            Thread thread = new Thread(runnable, "stale-refresher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        boardCache.subscribePostEviction(id -> lastKnownGood.invalidate(viewKey(id)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    public static String viewKey(Integer id) {
+        return "view:" + id;
+    }
+
+    /**
+     * 차단기를 거쳐 조회
+     * 차단기가 닫혀 있지 않으면 이전 응답을 반환하고 백그라운드에서 다시 조회하며,
+     * 닫혀 있을 때 DB 오류가 나도 이전 응답이 있으면 그것을 반환합니다. (게시글 없음 등 DB 오류가 아닌 예외는 그대로 던짐)
+     */
+    public <V> StaleRead<V> read(String key, Supplier<V> loader) {
+        return read(key, loader, loader);
+    }
+
+    /**
+     * 차단기를 거쳐 조회 (백그라운드 재조회는 refreshLoader로 실행)
+     * 조회수 증가처럼 요청마다 한 번만 일어나야 하는 일은 loader에만 두고, refreshLoader는 조회만 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> StaleRead<V> read(String key, Supplier<V> loader, Supplier<V> refreshLoader) {
+        if (!enabled) {
+            return StaleRead.fresh(loader.get());
+        }
+        if (breaker.state() != CircuitBreaker.State.CLOSED) {
+            V stale = (V) lastKnownGood.get(key);
+            if (stale != null) {
+                staleServed.increment();
+                refreshInBackground(key, refreshLoader);
+                return StaleRead.stale(stale);
+            }
+        }
+        if (!breaker.tryAcquire()) {
+            unavailable.increment();
+            throw new DatabaseUnavailableException(UNAVAILABLE_MESSAGE);
+        }
+
+        try {
+            return StaleRead.fresh(load(key, loader));
+        } catch (RuntimeException e) {
+            if (!isDatabaseFailure(e)) {
+                throw e;
+            }
+            V stale = (V) lastKnownGood.get(key);
+            if (stale == null) {
+                log.warn("DB 조회 실패 - 키: {}, 오류: {}", key, e.getMessage());
+                unavailable.increment();
+                throw new DatabaseUnavailableException(UNAVAILABLE_MESSAGE, e);
+            }
+            log.warn("DB 조회 실패, 이전 응답 반환 - 키: {}, 오류: {}", key, e.getMessage());
+            staleServed.increment();
+            return StaleRead.stale(stale);
+        }
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("state", breaker.state().name());
+        metrics.put("opened", breaker.openedCount());
+        metrics.put("rejected", breaker.rejectedCount());
+        metrics.put("staleServed", staleServed.sum());
+        metrics.put("unavailable", unavailable.sum());
+        metrics.put("staleEntries", lastKnownGood.size());
+        metrics.put("refreshing", refreshing.size());
+        return metrics;
+    }
+
+    public CircuitBreaker breaker() {
+        return breaker;
+    }
+
+    // 허용된 호출 실행 후 결과를 차단기에 알리고, 성공하면 이전 응답으로 보관
+    private <V> V load(String key, Supplier<V> loader) {
+        long stamp = lastKnownGood.stamp();
+        long started = System.nanoTime();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            if (isDatabaseFailure(e)) {
+                breaker.onFailure();
+            } else {
+                // 게시글 없음 등은 DB가 정상 응답한 것
+                breaker.onSuccess();
+            }
+            throw e;
+        }
+        if (System.nanoTime() - started > TimeUnit.MILLISECONDS.toNanos(slowCallMillis)) {
+            log.warn("느린 DB 조회 - 키: {}, 소요: {}ms", key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+        if (value != null) {
+            lastKnownGood.put(key, value, stamp);
+        }
+        return value;
+    }
+
+    // 키별로 하나만 실행하며, 차단기가 시험 호출을 허용할 때만 실제로 조회
+    private <V> void refreshInBackground(String key, Supplier<V> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    if (breaker.tryAcquire()) {
+                        load(key, loader);
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("백그라운드 재조회 실패 - 키: {}, 오류: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static boolean isDatabaseFailure(RuntimeException e) {
+        return e instanceof DataAccessException || e instanceof TransactionException;
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.board.resilience;
+
+import lombok.Getter;
+
+/**
+ * 읽기 결과 (stale이면 DB 대신 마지막으로 성공한 응답)
+ */
+@Getter
+public class StaleRead<V> {
+
+    private final V value;
+    private final boolean stale;
+
+    private StaleRead(V value, boolean stale) {
+        this.value = value;
+        this.stale = stale;
+    }
+
+    public static <V> StaleRead<V> fresh(V value) {
+        return new StaleRead<>(value, false);
+    }
+
+    public static <V> StaleRead<V> stale(V value) {
+        return new StaleRead<>(value, true);
+    }
+}
@@ -0,0 +1,184 @@
+package com.study.board.search;
+
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.InvalidationBus;
+import com.study.board.cache.InvalidationEvent;
+import com.study.board.cache.NearCache;
+import com.study.board.repository.BoardRepository;
+import com.study.board.tag.RoaringBitmap;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 결과 캐시
+ * 정규화한 검색 조건마다 조건에 맞는 게시글 ID 전체를 비트맵으로 두고, 페이지와 전체 건수를 모두 비트맵에서 구합니다.
+ *
+ * 게시글이 바뀌어도 전체를 비우지 않고 영향을 받는 검색만 지웁니다.
+ * - 캐시된 결과에 포함된 게시글이 수정/삭제/보관/숨김되면 그 검색 (BoardCache 게시글 무효화 수신)
+ * - 새로 작성되거나 수정된 게시글의 내용이 검색어에 걸리면 그 검색
+ * 다른 노드의 변경은 InvalidationBus 이벤트를 받아 해당 게시글(또는 새로 작성된 게시글)의 내용만 다시 읽어 판단합니다.
+ */
+@Component
+@Slf4j
+public class SearchCache {
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Value("${board.cache.search.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${board.cache.search.max-size:500}")
+    private int maxSize = 500;
+
+    @Value("${board.cache.search.ttl-ms:60000}")
+    private long ttlMillis = 60000;
+
+    @Value("${board.cache.search.load-batch-size:1000}")
+    private int loadBatchSize = 1000;
+
+    private NearCache<SearchQuery, RoaringBitmap> results;
+
+    // 다른 노드에서 작성된 게시글을 찾기 위한 마지막 확인 게시글 ID (기동 완료 전에는 -1)
+    private final AtomicInteger lastPostId = new AtomicInteger(-1);
+
+    private final AtomicLong selectiveEvictions = new AtomicLong();
+    private final AtomicLong fullEvictions = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        results = new NearCache<>(maxSize, ttlMillis);
+        boardCache.subscribePostEviction(this::evictContaining);
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        lastPostId.set(boardRepository.findMaxId());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 검색 결과 (없거나 만료되었으면 null, 반환한 비트맵은 공유되므로 수정하지 않아야 함)
+     */
+    public RoaringBitmap get(SearchQuery query) {
+        return enabled ? results.get(query) : null;
+    }
+
+    /**
+     * 현재 무효화 스탬프 (DB 조회 전에 받아 put 시 전달)
+     */
+    public long stamp() {
+        return results.stamp();
+    }
+
+    public void put(SearchQuery query, RoaringBitmap ids, long readStamp) {
+        if (enabled) {
+            results.put(query, ids, readStamp);
+        }
+    }
+
+    /**
+     * 새 게시글 또는 수정된 게시글의 내용에 걸리는 검색 무효화 (null 항목은 비교하지 않음)
+     * 바로 한 번, 커밋 후 한 번 더 지웁니다. (커밋 전에 시작한 검색이 이전 결과를 다시 넣지 못하도록)
+     */
+    public void postChanged(String title, String content, String author) {
+        evictMatching(title, content, author);
+        TransactionCallbacks.afterCommit(() -> evictMatching(title, content, author));
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("size", results.size());
+        metrics.put("hits", results.hitCount());
+        metrics.put("misses", results.missCount());
+        metrics.put("selectiveEvictions", selectiveEvictions.get());
+        metrics.put("fullEvictions", fullEvictions.get());
+        return metrics;
+    }
+
+    // 결과에 해당 게시글이 포함된 검색 무효화
+    private void evictContaining(Integer id) {
+        selectiveEvictions.addAndGet(results.invalidateIf((query, ids) -> ids.contains(id)));
+    }
+
+    private void evictMatching(String title, String content, String author) {
+        selectiveEvictions.addAndGet(results.invalidateIf((query, ids) -> query.matches(title, content, author)));
+    }
+
+    // 다른 노드의 변경 반영 (게시글 변경: 해당 게시글의 새 내용, 목록 무효화(새 글 작성): 마지막 확인 ID 이후 게시글)
+    // 결과에 포함되어 있던 게시글은 BoardCache 게시글 무효화 수신에서 이미 지웁니다.
+    private void onInvalidation(InvalidationEvent event) {
+        try {
+            if (InvalidationEvent.REGION_POST.equals(event.getRegion()) && event.getKey() != null) {
+                evictMatching(boardRepository.findSearchTextsByIdIn(Collections.singleton(Integer.valueOf(event.getKey()))));
+            } else if (InvalidationEvent.REGION_PAGES.equals(event.getRegion())) {
+                loadNewPosts();
+            }
+        } catch (RuntimeException e) {
+            log.error("검색 캐시 무효화 실패, 전체 비움 - 이벤트: {}, 오류: {}", event, e.getMessage());
+            evictAll();
+        }
+    }
+
+    private void loadNewPosts() {
+        int afterId = lastPostId.get();
+        if (afterId < 0) {
+            // 기동 중에는 마지막 ID를 모르므로 전체 비움
+            evictAll();
+            return;
+        }
+        while (true) {
+            List<Object[]> rows = boardRepository.findSearchTextsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            evictMatching(rows);
+            if (!rows.isEmpty()) {
+                afterId = (Integer) rows.get(rows.size() - 1)[0];
+                lastPostId.accumulateAndGet(afterId, Math::max);
+            }
+            if (rows.size() < loadBatchSize) {
+                return;
+            }
+        }
+    }
+
+    // 행: id, title, content, author
+    private void evictMatching(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            // 지울 항목은 없지만 진행 중인 검색이 변경 이전 결과를 넣지 못하도록 스탬프는 증가
+            results.invalidateIf((query, ids) -> false);
+            return;
+        }
+        for (Object[] row : rows) {
+            evictMatching((String) row[1], (String) row[2], (String) row[3]);
+        }
+    }
+
+    private void evictAll() {
+        results.invalidateAll();
+        fullEvictions.incrementAndGet();
+    }
+}
@@ -0,0 +1,87 @@
+package com.study.board.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Locale;
+
+/**
+ * 정규화한 검색 조건
+ * 검색어는 앞뒤 공백을 없애고 연속된 공백을 하나로 줄인 뒤 소문자로 바꾸며,
+ * 검색 유형은 title/author 외에는 모두 all(제목 또는 내용)로 맞춥니다. 같은 결과를 내는 검색은 같은 조건이 됩니다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class SearchQuery {
+
+    public static final String TITLE = "title";
+    public static final String AUTHOR = "author";
+    public static final String ALL = "all";
+
+    // 검색 유형 (title, author, all)
+    private final String type;
+
+    // 정규화한 검색어 (비어 있으면 검색 조건 없음)
+    private final String keyword;
+
+    private SearchQuery(String type, String keyword) {
+        this.type = type;
+        this.keyword = keyword;
+    }
+
+    public static SearchQuery of(String searchKeyword, String searchType) {
+        return new SearchQuery(normalizeType(searchType), normalizeKeyword(searchKeyword));
+    }
+
+    public boolean isEmpty() {
+        return keyword.isEmpty();
+    }
+
+    /**
+     * 게시글 내용이 이 검색 조건에 걸리는지 (DB의 LIKE 검색과 같은 기준, null 항목은 비교하지 않음)
+     * DB 검색은 %, _, \ 를 이스케이프하여 글자 그대로 비교하므로 부분 문자열 포함 여부와 같습니다.
+     */
+    public boolean matches(String title, String content, String author) {
+        switch (type) {
+            case TITLE:
+                return contains(title);
+            case AUTHOR:
+                return contains(author);
+            default:
+                return contains(title) || contains(content);
+        }
+    }
+
+    private boolean contains(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    private static String normalizeType(String searchType) {
+        String type = searchType == null ? "" : searchType.trim().toLowerCase(Locale.ROOT);
+        return TITLE.equals(type) || AUTHOR.equals(type) ? type : ALL;
+    }
+
+    // 앞뒤 공백 제거, 연속 공백(전각 공백 포함)을 공백 하나로, 소문자로
+    private static String normalizeKeyword(String searchKeyword) {
+        if (searchKeyword == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(searchKeyword.length());
+        boolean space = false;
+        for (int i = 0; i < searchKeyword.length(); i++) {
+            char c = searchKeyword.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                space = normalized.length() > 0;
+            } else {
+                if (space) {
+                    normalized.append(' ');
+                    space = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
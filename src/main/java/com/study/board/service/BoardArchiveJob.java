@@ -0,0 +1,146 @@
+package com.study.board.service;
+
+import com.study.board.cache.BoardCache;
+import com.study.board.entity.Board;
+import com.study.board.entity.BoardArchive;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.tag.TagIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 보관 작업
+ * 작성 후 일정 기간이 지났고 조회수가 적은 게시글을 board 테이블에서 board_archive 테이블로 옮겨,
+ * 목록/검색/인기글/건수 쿼리가 최근 게시글 크기만큼만 읽도록 합니다.
+ *
+ * 배치마다 별도 트랜잭션에서 대상 행을 잠근 뒤 보관 테이블에 INSERT하고 원본을 일괄 DELETE합니다.
+ * 첨부파일이 있는 게시글은 첨부파일 행이 게시글과 함께 삭제되므로 보관하지 않습니다.
+ */
+@Component
+@Slf4j
+public class BoardArchiveJob {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${board.archival.enabled:true}")
+    private boolean enabled = true;
+
+    // 작성 후 이 기간이 지난 게시글만 보관
+    @Value("${board.archival.age-days:365}")
+    private int ageDays = 365;
+
+    // 조회수가 이 값 미만인 게시글만 보관
+    @Value("${board.archival.max-views:100}")
+    private int maxViews = 100;
+
+    @Value("${board.archival.batch-size:500}")
+    private int batchSize = 500;
+
+    @Scheduled(initialDelayString = "${board.archival.initial-delay-ms:60000}",
+            fixedDelayString = "${board.archival.interval-ms:3600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        int total = archive();
+        if (total > 0) {
+            log.info("게시글 보관 완료 - 게시글 수: {}", total);
+        }
+    }
+
+    /**
+     * 보관 대상 게시글을 ID 순으로 배치 처리 (배치마다 별도 트랜잭션)
+     * 보관한 게시글 수 반환
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        int total = 0;
+
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (archived == null || archived == 0) {
+                return total;
+            }
+            total += archived;
+            if (archived < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    // 배치 1회 처리, 보관한 게시글 수 반환
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Board> boards = boardRepository.findArchiveCandidates(cutoff, maxViews, PageRequest.of(0, batchSize));
+        if (boards.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardArchive> archives = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            List<String> tags = tagIndex.tagsOf(board.getId());
+            archives.add(BoardArchive.builder()
+                    .id(board.getId())
+                    .title(board.getTitle())
+                    .content(board.getContent())
+                    .author(board.getAuthor())
+                    // 아직 반영되지 않은 조회수 포함
+                    .viewCount(board.getViewCount() + viewCountBuffer.pendingCount(board.getId()))
+                    .excerpt(board.getExcerpt())
+                    .wordCount(board.getWordCount())
+                    .tags(tags.isEmpty() ? null : String.join(",", tags))
+                    .duplicateOf(board.getDuplicateOf())
+                    .version(board.getVersion())
+                    .createdAt(board.getCreatedAt())
+                    .updatedAt(board.getUpdatedAt())
+                    .archivedAt(now)
+                    .build());
+        }
+        boardArchiveRepository.saveAll(archives);
+        List<Integer> ids = boards.stream().map(Board::getId).collect(Collectors.toList());
+        boardRepository.deleteBoardsByIdIn(ids);
+
+        for (Integer id : ids) {
+            viewCountBuffer.discard(id);
+            tagIndex.removePost(id);
+            boardEventPublisher.publish(BoardEventType.ARCHIVED, id, null);
+            boardCache.invalidatePost(id);
+        }
+        boardCache.invalidatePages();
+
+        log.debug("게시글 보관 배치 - 처리 수: {}", ids.size());
+        return ids.size();
+    }
+}
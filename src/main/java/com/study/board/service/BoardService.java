@@ -1,23 +1,79 @@
 package com.study.board.service;
 
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.archive.DateRange;
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.RequestCoalescer;
+import com.study.board.dto.ArchiveCount;
+import com.study.board.dto.AttachmentDTO;
 import com.study.board.dto.BoardDTO;
+import com.study.board.dto.TagCount;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.duplicate.SimHash;
+import com.study.board.entity.Attachment;
 import com.study.board.entity.Board;
+import com.study.board.entity.BoardArchive;
+import com.study.board.entity.BoardTag;
+import com.study.board.entity.Tag;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.jfr.BoardDeleteEvent;
+import com.study.board.jfr.BoardListEvent;
+import com.study.board.jfr.BoardSearchEvent;
+import com.study.board.jfr.BoardUpdateEvent;
+import com.study.board.jfr.BoardViewEvent;
+import com.study.board.jfr.BoardWriteEvent;
+import com.study.board.repository.AttachmentRepository;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardDeleteTarget;
 import com.study.board.repository.BoardRepository;
+import com.study.board.repository.BoardSummary;
+import com.study.board.repository.BoardTagRepository;
+import com.study.board.repository.TagRepository;
+import com.study.board.search.SearchCache;
+import com.study.board.search.SearchQuery;
+import com.study.board.storage.AttachmentStore;
+import com.study.board.storage.StoredAttachment;
+import com.study.board.tag.RoaringBitmap;
+import com.study.board.tag.TagFilter;
+import com.study.board.tag.TagIndex;
+import com.study.board.timing.Phase;
+import com.study.board.timing.RequestTiming;
+import com.study.board.util.FileUtil;
+import com.study.board.util.TextUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import javax.persistence.EntityNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -27,164 +83,847 @@ public class BoardService {
     @Autowired
     private BoardRepository boardRepository;
 
-    @Value("${file.upload.directory:${user.home}/board-files}")
-    private String uploadDirectory;
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BoardTagRepository boardTagRepository;
+
+    @Autowired
+    private ArchiveIndex archiveIndex;
+
+    @Autowired
+    private AttachmentStore attachmentStore;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private SearchCache searchCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     // 게시글 목록 조회 (페이징)
+    // 캐시 미스 시 합쳐진 조회 중 먼저 시작한 요청만 읽기 전용 트랜잭션에서 DB를 조회하고, 기다리는 요청은 커넥션을 잡지 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<BoardDTO> boardList(Pageable pageable) {
-        Page<Board> boards = boardRepository.findAll(pageable);
-        return boards.map(this::convertToDTO);
+        BoardListEvent event = new BoardListEvent();
+        event.begin();
+        event.setPage(pageable.getPageNumber());
+        String cacheKey = "list:" + pageKey(pageable);
+        Page<BoardDTO> cached = boardCache.getPage(cacheKey);
+        if (cached != null) {
+            event.setCacheHit(true);
+            event.setRows(cached.getNumberOfElements());
+            event.commit();
+            return cached;
+        }
+
+        long stamp = boardCache.pageStamp();
+        Page<BoardDTO> page = requestCoalescer.load(RequestCoalescer.LIST, cacheKey + "@" + stamp, () -> readOnly(() -> {
+            Page<BoardDTO> loaded = boardRepository.findAllSummaries(pageable).map(this::convertToDTO);
+            boardCache.putPage(cacheKey, loaded, stamp);
+            return loaded;
+        }));
+        event.setRows(page.getNumberOfElements());
+        event.commit();
+        return page;
     }
 
     // 게시글 검색 (페이징)
+    // 검색어는 공백/대소문자를 정규화하여 검색하고, 최신순 검색은 검색 결과 캐시의 ID 비트맵으로 페이지와 전체 건수를 구합니다.
+    // 같은 검색어/조건의 동시 요청은 진행 중인 검색 결과를 함께 받습니다. (무효화 이후 요청은 새로 검색)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<BoardDTO> boardSearchList(String searchKeyword, String searchType, Pageable pageable) {
-        Page<Board> boards;
+        SearchQuery query = SearchQuery.of(searchKeyword, searchType);
+        if (query.isEmpty()) {
+            return boardList(pageable);
+        }
 
-        switch (searchType) {
-            case "title":
-                boards = boardRepository.findByTitleContaining(searchKeyword, pageable);
-                break;
-            case "author":
-                boards = boardRepository.findByAuthorContaining(searchKeyword, pageable);
-                break;
-            case "content":
-                boards = boardRepository.findByTitleContainingOrContentContaining(searchKeyword, searchKeyword, pageable);
-                break;
-            default: // "all"
-                boards = boardRepository.findByTitleContainingOrContentContaining(searchKeyword, searchKeyword, pageable);
-                break;
+        BoardSearchEvent event = new BoardSearchEvent();
+        event.begin();
+        event.setSearchType(query.getType());
+        event.setPage(pageable.getPageNumber());
+        Page<BoardDTO> page;
+        if (searchCache.isEnabled() && isLatestFirst(pageable)) {
+            RoaringBitmap cached = searchCache.get(query);
+            event.setCacheHit(cached != null);
+            RoaringBitmap matches = cached != null ? cached : loadKeywordMatches(query);
+            int[] ids = matches.pageDescending((int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+            page = new PageImpl<>(findSummaries(ids), pageable, matches.cardinality());
+        } else {
+            String flightKey = query.getType() + ":" + pageKey(pageable) + ":" + query.getKeyword()
+                    + "@" + boardCache.pageStamp();
+            page = requestCoalescer.load(RequestCoalescer.SEARCH, flightKey,
+                    () -> readOnly(() -> searchSummaries(query, pageable).map(this::convertToDTO)));
+        }
+        event.setRows(page.getNumberOfElements());
+        event.commit();
+        return page;
+    }
+
+    // 태그 조건 + 검색 (페이징)
+    // 태그 조건은 비트맵 연산으로, 검색어는 ID만 조회한 뒤 비트맵으로 변환하여 교집합을 구하고,
+    // 해당 페이지의 게시글만 한 번에 조회합니다. 결과는 ID 내림차순(최신순)입니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<BoardDTO> boardSearchList(String searchKeyword, String searchType, TagFilter tagFilter, Pageable pageable) {
+        if (tagFilter == null || tagFilter.isEmpty()) {
+            return boardSearchList(searchKeyword, searchType, pageable);
+        }
+
+        BoardSearchEvent event = new BoardSearchEvent();
+        event.begin();
+        event.setSearchType("tag");
+        event.setPage(pageable.getPageNumber());
+
+        RoaringBitmap matches = tagIndex.filter(tagFilter);
+        SearchQuery query = SearchQuery.of(searchKeyword, searchType);
+        if (!query.isEmpty() && !matches.isEmpty()) {
+            event.setSearchType("tag+" + query.getType());
+            matches = RoaringBitmap.and(matches, keywordMatches(query));
+        }
+
+        int[] ids = matches.pageDescending((int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+        Page<BoardDTO> page = new PageImpl<>(findSummaries(ids), pageable, matches.cardinality());
+        event.setRows(page.getNumberOfElements());
+        event.commit();
+        return page;
+    }
+
+    // 태그 조건 + 검색 + 작성일 범위 (페이징)
+    // 태그 조건이 있으면 작성일 범위의 ID를 비트맵으로 변환하여 교집합을 구하고,
+    // 없으면 created_at 인덱스 범위 탐색으로 작성일 내림차순 페이지를 조회합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<BoardDTO> boardSearchList(String searchKeyword, String searchType, TagFilter tagFilter,
+                                          DateRange dateRange, Pageable pageable) {
+        if (dateRange == null || dateRange.isEmpty()) {
+            return boardSearchList(searchKeyword, searchType, tagFilter, pageable);
+        }
+
+        BoardSearchEvent event = new BoardSearchEvent();
+        event.begin();
+        event.setPage(pageable.getPageNumber());
+        LocalDateTime start = dateRange.startInclusive();
+        LocalDateTime end = dateRange.endExclusive();
+        SearchQuery query = SearchQuery.of(searchKeyword, searchType);
+        boolean hasKeyword = !query.isEmpty();
+        Page<BoardDTO> page;
+
+        if (tagFilter != null && !tagFilter.isEmpty()) {
+            event.setSearchType(hasKeyword ? "tag+date+" + query.getType() : "tag+date");
+            RoaringBitmap matches = tagIndex.filter(tagFilter);
+            if (!matches.isEmpty()) {
+                matches = RoaringBitmap.and(matches, toBitmap(boardRepository.findIdsCreatedBetween(start, end)));
+            }
+            if (hasKeyword && !matches.isEmpty()) {
+                matches = RoaringBitmap.and(matches, keywordMatches(query));
+            }
+            int[] ids = matches.pageDescending((int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+            page = new PageImpl<>(findSummaries(ids), pageable, matches.cardinality());
+        } else {
+            event.setSearchType(hasKeyword ? "date+" + query.getType() : "date");
+            // 인덱스 순서대로 읽도록 작성일 내림차순 정렬 (같은 시각은 ID 내림차순)
+            Pageable byCreatedAt = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+            Page<BoardSummary> boards;
+            if (!hasKeyword) {
+                boards = boardRepository.findSummariesCreatedBetween(start, end, byCreatedAt);
+            } else {
+                switch (query.getType()) {
+                    case SearchQuery.TITLE:
+                        boards = boardRepository.findSummariesCreatedBetweenByTitle(start, end, query.getKeyword(), byCreatedAt);
+                        break;
+                    case SearchQuery.AUTHOR:
+                        boards = boardRepository.findSummariesCreatedBetweenByAuthor(start, end, query.getKeyword(), byCreatedAt);
+                        break;
+                    default: // "all"
+                        boards = boardRepository.findSummariesCreatedBetweenByTitleOrContent(start, end, query.getKeyword(), byCreatedAt);
+                        break;
+                }
+            }
+            page = boards.map(this::convertToDTO);
+        }
+
+        event.setRows(page.getNumberOfElements());
+        event.commit();
+        return page;
+    }
+
+    // 보관된 게시글을 포함한 검색 (페이징)
+    // 게시글/보관 테이블에서 조건에 맞는 ID만 조회하여 비트맵으로 합치고, 해당 페이지의 게시글만 조회합니다.
+    // 결과는 ID 내림차순(최신순)이며, 검색어와 작성일 범위가 모두 없으면 최근 게시글 목록과 같습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<BoardDTO> boardArchiveSearchList(String searchKeyword, String searchType, DateRange dateRange,
+                                                 Pageable pageable) {
+        SearchQuery query = SearchQuery.of(searchKeyword, searchType);
+        boolean hasKeyword = !query.isEmpty();
+        boolean hasDateRange = dateRange != null && !dateRange.isEmpty();
+        if (!hasKeyword && !hasDateRange) {
+            return boardList(pageable);
+        }
+
+        BoardSearchEvent event = new BoardSearchEvent();
+        event.begin();
+        event.setSearchType("archive+" + (hasKeyword ? query.getType() : "date"));
+        event.setPage(pageable.getPageNumber());
+
+        RoaringBitmap live = null;
+        RoaringBitmap archived = null;
+        if (hasDateRange) {
+            live = toBitmap(boardRepository.findIdsCreatedBetween(dateRange.startInclusive(), dateRange.endExclusive()));
+            archived = toBitmap(boardArchiveRepository.findIdsCreatedBetween(dateRange.startInclusive(), dateRange.endExclusive()));
+        }
+        if (hasKeyword) {
+            live = and(live, keywordMatches(query));
+            archived = and(archived, archivedKeywordMatches(query));
         }
 
-        return boards.map(this::convertToDTO);
+        RoaringBitmap matches = RoaringBitmap.or(live, archived);
+        int[] ids = matches.pageDescending((int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+        Page<BoardDTO> page = new PageImpl<>(findSummaries(ids, archived), pageable, matches.cardinality());
+        event.setRows(page.getNumberOfElements());
+        event.commit();
+        return page;
+    }
+
+    // 월별 게시글 수 (최근 월부터, 메모리 집계이므로 트랜잭션/커넥션 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ArchiveCount> archiveMonths(int limit) {
+        return archiveIndex.months(limit);
+    }
+
+    // 해당 월의 일별 게시글 수 (메모리 집계이므로 트랜잭션/커넥션 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ArchiveCount> archiveDays(YearMonth month) {
+        return archiveIndex.days(month);
+    }
+
+    // 태그별 게시글 수 (태그 조건이 있으면 조건에 맞는 게시글 기준, 메모리 집계이므로 트랜잭션/커넥션 없음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TagCount> tagCounts(TagFilter tagFilter, int limit) {
+        RoaringBitmap base = tagFilter == null || tagFilter.isEmpty() ? null : tagIndex.filter(tagFilter);
+        return tagIndex.counts(base, limit);
     }
 
     // 게시글 작성
-    public BoardDTO write(BoardDTO boardDTO, MultipartFile file) throws Exception {
-        log.info("게시글 작성 서비스 - 제목: {}", boardDTO.getTitle());
+    // 첨부파일은 여러 개를 동시에 디스크에 저장한 뒤, 게시글 INSERT 후 attachment 테이블에 일괄 저장합니다.
+    // 제목+본문 지문으로 최근 게시글 중 유사 게시글을 찾아 기록하거나 (reject 모드면) 작성을 거부합니다.
+    public BoardDTO write(BoardDTO boardDTO, List<MultipartFile> files) throws Exception {
+        return write(boardDTO, files, Collections.emptyList());
+    }
+
+    // 게시글 작성 (스트리밍 업로드로 요청을 읽으면서 이미 저장한 첨부파일 사용)
+    public BoardDTO writeStreamed(BoardDTO boardDTO, List<StoredAttachment> streamed) throws Exception {
+        return write(boardDTO, null, streamed);
+    }
 
+    private BoardDTO write(BoardDTO boardDTO, List<MultipartFile> files, List<StoredAttachment> streamed) throws Exception {
+        log.debug("게시글 작성 서비스 - 제목: {}", boardDTO.getTitle());
+        BoardWriteEvent event = new BoardWriteEvent();
+        event.begin();
+        // 이미 저장된 첨부파일은 검증 실패 등으로 롤백되어도 삭제되도록 먼저 등록
+        if (!streamed.isEmpty()) {
+            attachmentStore.deleteOnRollback(filepaths(streamed));
+        }
+
+        validateBoard(boardDTO);
+        List<String> tagNames = TextUtil.normalizeTags(boardDTO.getTags());
         Board board = convertToEntity(boardDTO);
 
-        // 파일 업로드 처리
-        if (file != null && !file.isEmpty()) {
-            String[] fileInfo = saveFile(file);
-            board.setFilename(fileInfo[0]);
-            board.setFilepath(fileInfo[1]);
+        // 유사 게시글 검사 (파일 저장 전, DB 조회 없음)
+        Long fingerprint = SimHash.fingerprint(boardDTO.getTitle(), boardDTO.getContent());
+        board.setSimhash(fingerprint);
+        if (fingerprint != null) {
+            board.setDuplicateOf(duplicateIndex.checkDuplicate(fingerprint));
+            event.setDuplicateOf(board.getDuplicateOf() == null ? 0 : board.getDuplicateOf());
         }
 
+        // 파일 업로드 처리 (트랜잭션이 롤백되면 저장한 파일도 삭제)
+        List<StoredAttachment> stored = store(uploads(files), streamed);
+        board.setAttachmentCount(stored.size());
+        event.setBytes(stored.stream().mapToLong(StoredAttachment::getSize).sum());
+        applySummary(board, stored);
+
         Board savedBoard = boardRepository.save(board);
+        List<Attachment> attachments = saveAttachments(savedBoard.getId(), stored);
+        List<Tag> tags = saveTags(savedBoard.getId(), tagNames);
+        tagIndex.putPost(savedBoard.getId(), tags);
+        archiveIndex.postCreated(savedBoard.getCreatedAt());
+        duplicateIndex.put(savedBoard.getId(), fingerprint);
+        searchCache.postChanged(savedBoard.getTitle(), savedBoard.getContent(), savedBoard.getAuthor());
+        boardEventPublisher.publish(BoardEventType.CREATED, savedBoard.getId(), eventPayload(savedBoard.getTitle(),
+                savedBoard.getAuthor(), savedBoard.getExcerpt(), savedBoard.getVersion()));
+        boardCache.invalidatePages();
         log.info("게시글 저장 완료 - ID: {}", savedBoard.getId());
 
-        return convertToDTO(savedBoard);
+        event.setPostId(savedBoard.getId());
+        event.commit();
+        BoardDTO saved = convertToDTO(savedBoard);
+        saved.setTags(tags.stream().map(Tag::getName).sorted().collect(Collectors.toList()));
+        saved.setAttachments(toAttachmentDTOs(attachments));
+        return saved;
     }
 
     // 게시글 상세 조회 (조회수 증가)
-    @Transactional
+    // 캐시 미스 시 먼저 시작한 요청은 한 트랜잭션에서 조회수 UPDATE 후 게시글을 한 번 읽습니다. (읽은 값에 이 조회가 포함됨)
+    // 캐시 적중이나 함께 결과를 받은 요청은 ViewCountBuffer가 UPDATE 1회로 반영합니다. (버퍼를 켜면 누적 후 일괄 반영)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BoardDTO boardView(Integer id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다. ID: " + id));
+        AtomicBoolean counted = new AtomicBoolean();
+        BoardDTO boardDTO = detail(id, counted);
+        return counted.get() ? boardDTO : increaseViewCount(boardDTO);
+    }
+
+    // 게시글 상세 조회 (조회수 증가 없음, 캐시 사용)
+    // 캐시 미스 시 같은 게시글의 동시 요청은 진행 중인 조회 결과를 함께 받습니다. (무효화 이후 요청은 새로 조회)
+    // 게시글 조회는 먼저 시작한 요청만 읽기 전용 트랜잭션에서 실행합니다.
+    // 첨부파일이 있는 게시글만 첨부파일 목록을 한 번 더 조회합니다.
+    // board 테이블에 없으면 보관 테이블을 조회합니다.
+    // 결과는 이전 응답으로 보관되어 다시 조회될 수 있으므로, 조회수는 요청마다 increaseViewCount로 따로 반영합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BoardDTO boardDetail(Integer id) {
+        return detail(id, null);
+    }
 
-        // 조회수 증가
-        boardRepository.increaseViewCount(id);
-        board.setViewCount(board.getViewCount() + 1);
+    // counted가 있으면 캐시 미스 시 조회수 UPDATE와 게시글 조회를 한 트랜잭션에서 실행하고, 반영했으면 counted 설정
+    private BoardDTO detail(Integer id, AtomicBoolean counted) {
+        BoardViewEvent event = new BoardViewEvent();
+        event.begin();
+        event.setPostId(id);
+        BoardDTO boardDTO = boardCache.getPost(id);
+        event.setCacheHit(boardDTO != null);
+        if (boardDTO == null) {
+            long stamp = boardCache.postStamp();
+            BoardDTO loaded = requestCoalescer.load(RequestCoalescer.POST, id + "@" + stamp, () -> {
+                if (counted == null) {
+                    return readOnly(() -> {
+                        BoardDTO post = findPost(id);
+                        boardCache.putPost(post, stamp);
+                        return post;
+                    });
+                }
+                return new TransactionTemplate(transactionManager).execute(status -> {
+                    counted.set(viewCountBuffer.incrementInTransaction(id));
+                    BoardDTO post = findPost(id);
+                    boardCache.putPost(post, stamp);
+                    return post;
+                });
+            });
+            // 함께 받은 요청끼리 공유하는 객체이므로 복사하여 반환
+            boardDTO = loaded.toBuilder().build();
+        }
+        event.commit();
+        return boardDTO;
+    }
 
-        return convertToDTO(board);
+    // 조회수 1 증가 후 반영한 조회수를 더한 복사본 반환 (버퍼 사용 시 미반영 누적분 포함)
+    // 보관된 게시글은 조회수를 올리지 않으며, DB 오류로 반영하지 못해도 게시글 조회는 막지 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BoardDTO increaseViewCount(BoardDTO boardDTO) {
+        if (Boolean.TRUE.equals(boardDTO.getArchived())) {
+            return boardDTO;
+        }
+        BoardDTO viewed = boardDTO.toBuilder().build();
+        try {
+            viewed.setViewCount(boardDTO.getViewCount() + viewCountBuffer.increment(boardDTO.getId()));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("조회수 반영 실패 - ID: {}, 오류: {}", boardDTO.getId(), e.getMessage());
+        }
+        return viewed;
     }
 
     // 게시글 조회 (조회수 증가 없음) - 수정 폼용
+    // 수정 시 버전 충돌을 판단해야 하므로 캐시를 거치지 않고 DB에서 조회합니다.
+    @Transactional(readOnly = true)
     public BoardDTO boardViewWithoutIncrement(Integer id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다. ID: " + id));
+        return findPost(id);
+    }
 
-        return convertToDTO(board);
+    // 첨부파일 조회 (다운로드용)
+    @Transactional(readOnly = true)
+    public AttachmentDTO getAttachment(Integer attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new EntityNotFoundException("첨부파일을 찾을 수 없습니다. ID: " + attachmentId));
+        return toAttachmentDTO(attachment);
     }
 
     // 게시글 삭제
+    // 첨부파일 경로와 작성일만 조회한 뒤 단일 DELETE로 삭제합니다. (엔티티 로딩 및 deleteById 내부 재조회 없음)
+    // attachment 행은 ON DELETE CASCADE로 함께 삭제되며, 첨부파일이 있을 때만 파일 경로를 먼저 조회합니다.
+    // board 테이블에 없으면 보관된 게시글을 삭제합니다.
     public void boardDelete(Integer id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다. ID: " + id));
+        BoardDeleteEvent event = new BoardDeleteEvent();
+        event.begin();
+        event.setPostId(id);
+        BoardDeleteTarget target = boardRepository.findDeleteTargetById(id).orElse(null);
+        if (target == null) {
+            deleteArchived(id);
+            event.commit();
+            return;
+        }
+        List<String> filepaths = new ArrayList<>();
+        if (target.getFilepath() != null) {
+            filepaths.add(target.getFilepath());
+        }
+        if (target.getAttachmentCount() != null && target.getAttachmentCount() > 0) {
+            filepaths.addAll(attachmentRepository.findFilepathsByBoardId(id));
+        }
 
-        // 첨부파일 삭제
-        if (board.getFilepath() != null) {
-            deleteFile(board.getFilepath());
+        if (boardRepository.deleteBoardById(id) == 0) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + id);
         }
+        viewCountBuffer.discard(id);
+        tagIndex.removePost(id);
+        duplicateIndex.remove(id);
+        archiveIndex.postDeleted(target.getCreatedAt());
+        boardEventPublisher.publish(BoardEventType.DELETED, id, null);
+        boardCache.invalidatePost(id);
+
+        // 첨부파일 삭제 (커밋 이후)
+        attachmentStore.deleteAfterCommit(filepaths);
 
-        boardRepository.deleteById(id);
         log.info("게시글 삭제 완료 - ID: {}", id);
+        event.commit();
+    }
+
+    // 게시글 수정 (낙관적 잠금)
+    // 요청에 담긴 버전과 일치할 때만 UPDATE하며, 행 잠금 없이 동시 수정으로 인한 덮어쓰기를 막습니다.
+    // 첨부파일 변경이 없으면 단일 UPDATE, 첨부파일 추가/삭제 시에는 현재 첨부파일 조회 + UPDATE로 처리합니다.
+    // 수정 후 버전 반환
+    public Long updateBoard(Integer id, BoardDTO boardDTO, List<MultipartFile> files) throws Exception {
+        return updateBoard(id, boardDTO, files, Collections.emptyList());
     }
 
-    // 게시글 수정
-    public BoardDTO updateBoard(Integer id, BoardDTO boardDTO, MultipartFile file) throws Exception {
-        Board existingBoard = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다. ID: " + id));
+    // 게시글 수정 (스트리밍 업로드로 요청을 읽으면서 이미 저장한 첨부파일 사용)
+    public Long updateBoardStreamed(Integer id, BoardDTO boardDTO, List<StoredAttachment> streamed) throws Exception {
+        return updateBoard(id, boardDTO, null, streamed);
+    }
 
-        // 기본 정보 업데이트
-        existingBoard.setTitle(boardDTO.getTitle());
-        existingBoard.setContent(boardDTO.getContent());
-        existingBoard.setAuthor(boardDTO.getAuthor());
+    private Long updateBoard(Integer id, BoardDTO boardDTO, List<MultipartFile> files,
+                             List<StoredAttachment> streamed) throws Exception {
+        BoardUpdateEvent event = new BoardUpdateEvent();
+        event.begin();
+        event.setPostId(id);
+        if (!streamed.isEmpty()) {
+            attachmentStore.deleteOnRollback(filepaths(streamed));
+        }
+        validateBoard(boardDTO);
+        Long version = boardDTO.getVersion();
+        if (version == null) {
+            throw new IllegalArgumentException("게시글 버전 정보가 없습니다.");
+        }
+        List<String> tagNames = boardDTO.getTags() == null ? null : TextUtil.normalizeTags(boardDTO.getTags());
+        LocalDateTime now = LocalDateTime.now();
+        String excerpt = TextUtil.excerpt(boardDTO.getContent());
+        int wordCount = TextUtil.countWords(boardDTO.getContent());
+        Long fingerprint = SimHash.fingerprint(boardDTO.getTitle(), boardDTO.getContent());
 
-        // 파일 업로드 처리
-        if (file != null && !file.isEmpty()) {
-            // 기존 파일 삭제
-            if (existingBoard.getFilepath() != null) {
-                deleteFile(existingBoard.getFilepath());
+        List<MultipartFile> uploads = uploads(files);
+        Set<Integer> removeIds = boardDTO.getRemoveAttachmentIds() == null
+                ? Collections.emptySet() : new HashSet<>(boardDTO.getRemoveAttachmentIds());
+        if (uploads.isEmpty() && streamed.isEmpty() && removeIds.isEmpty()) {
+            int updated = boardRepository.updateContent(id, version, boardDTO.getTitle(), boardDTO.getContent(),
+                    boardDTO.getAuthor(), now, excerpt, wordCount, fingerprint);
+            if (updated == 0) {
+                throw updateFailure(id, version, event);
             }
+            replaceTags(id, tagNames);
+            duplicateIndex.put(id, fingerprint);
+            searchCache.postChanged(boardDTO.getTitle(), boardDTO.getContent(), boardDTO.getAuthor());
+            boardEventPublisher.publish(BoardEventType.UPDATED, id,
+                    eventPayload(boardDTO.getTitle(), boardDTO.getAuthor(), excerpt, version + 1));
+            boardCache.invalidatePost(id);
+            log.info("게시글 수정 완료 - ID: {}, 버전: {}", id, version + 1);
+            event.commit();
+            return version + 1;
+        }
 
-            // 새 파일 저장
-            String[] fileInfo = saveFile(file);
-            existingBoard.setFilename(fileInfo[0]);
-            existingBoard.setFilepath(fileInfo[1]);
+        // 남길 첨부파일과 삭제할 첨부파일 구분 (다른 게시글의 첨부파일 ID는 무시)
+        List<Attachment> kept = new ArrayList<>();
+        List<Attachment> removed = new ArrayList<>();
+        for (Attachment attachment : attachmentRepository.findByBoardIdOrderByIdAsc(id)) {
+            (removeIds.contains(attachment.getId()) ? removed : kept).add(attachment);
         }
+        String legacyFilepath = boardRepository.findFilepathById(id).orElse(null);
 
-        Board updatedBoard = boardRepository.save(existingBoard);
-        log.info("게시글 수정 완료 - ID: {}", id);
+        // 새 파일 저장
+        List<StoredAttachment> stored = store(uploads, streamed);
+        event.setBytes(stored.stream().mapToLong(StoredAttachment::getSize).sum());
+        int attachmentCount = kept.size() + stored.size();
+        boolean imageAttachment = FileUtil.isImageFile(legacyFilepath)
+                || kept.stream().anyMatch(attachment -> FileUtil.isImageContentType(attachment.getContentType()))
+                || stored.stream().anyMatch(attachment -> FileUtil.isImageContentType(attachment.getContentType()));
+        int updated = boardRepository.updateContentAndAttachments(id, version, boardDTO.getTitle(), boardDTO.getContent(),
+                boardDTO.getAuthor(), now, excerpt, wordCount, fingerprint, attachmentCount,
+                legacyFilepath != null || attachmentCount > 0, imageAttachment);
+        if (updated == 0) {
+            throw updateFailure(id, version, event);
+        }
+        saveAttachments(id, stored);
+        if (!removed.isEmpty()) {
+            attachmentRepository.deleteByBoardIdAndIdIn(id,
+                    removed.stream().map(Attachment::getId).collect(Collectors.toList()));
+        }
+        replaceTags(id, tagNames);
+        duplicateIndex.put(id, fingerprint);
+        searchCache.postChanged(boardDTO.getTitle(), boardDTO.getContent(), boardDTO.getAuthor());
+        boardEventPublisher.publish(BoardEventType.UPDATED, id,
+                eventPayload(boardDTO.getTitle(), boardDTO.getAuthor(), excerpt, version + 1));
+        boardCache.invalidatePost(id);
 
-        return convertToDTO(updatedBoard);
+        // 삭제한 첨부파일 정리 (커밋 이후)
+        attachmentStore.deleteAfterCommit(removed.stream().map(Attachment::getFilepath).collect(Collectors.toList()));
+
+        log.info("게시글 수정 완료 - ID: {}, 버전: {}, 첨부파일: {}", id, version + 1, attachmentCount);
+        event.commit();
+        return version + 1;
     }
 
     // 인기 게시글 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<BoardDTO> getPopularPosts(Pageable pageable) {
-        Page<Board> boards = boardRepository.findPopularPosts(pageable);
-        return boards.map(this::convertToDTO);
+        String cacheKey = "popular:" + pageKey(pageable);
+        Page<BoardDTO> cached = boardCache.getPage(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = boardCache.pageStamp();
+        return requestCoalescer.load(RequestCoalescer.POPULAR, cacheKey + "@" + stamp, () -> readOnly(() -> {
+            Page<BoardDTO> page = boardRepository.findPopularSummaries(pageable).map(this::convertToDTO);
+            boardCache.putPage(cacheKey, page, stamp);
+            return page;
+        }));
+    }
+
+    // 합쳐진 조회의 DB 조회를 읽기 전용 트랜잭션에서 실행 (호출한 트랜잭션이 없으면 새로 시작)
+    private <T> T readOnly(Supplier<T> loader) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> loader.get());
+    }
+
+    private Page<BoardSummary> searchSummaries(SearchQuery query, Pageable pageable) {
+        String keyword = query.getKeyword();
+        switch (query.getType()) {
+            case SearchQuery.TITLE:
+                return boardRepository.findSummaryByTitleContainingIgnoreCase(keyword, pageable);
+            case SearchQuery.AUTHOR:
+                return boardRepository.findSummaryByAuthorContainingIgnoreCase(keyword, pageable);
+            default: // "all"
+                return boardRepository.findSummaryByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable);
+        }
+    }
+
+    // 최신순(ID 내림차순) 요청인지 (정렬 없음 포함, 검색 결과 캐시 사용 가능 여부)
+    private boolean isLatestFirst(Pageable pageable) {
+        return pageable.getSort().isUnsorted() || pageable.getSort().equals(Sort.by("id").descending());
+    }
+
+    // 저장된 첨부파일을 게시글에 연결 (일괄 INSERT)
+    private List<Attachment> saveAttachments(Integer boardId, List<StoredAttachment> stored) {
+        if (stored.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return attachmentRepository.saveAll(stored.stream()
+                .map(attachment -> Attachment.builder()
+                        .boardId(boardId)
+                        .filename(attachment.getFilename())
+                        .filepath(attachment.getFilepath())
+                        .contentType(attachment.getContentType())
+                        .size(attachment.getSize())
+                        .storedSize(attachment.getStoredSize())
+                        .sha256(attachment.getSha256())
+                        .build())
+                .collect(Collectors.toList()));
     }
 
-    // 파일 저장
-    private String[] saveFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 생성
-        File uploadDir = new File(uploadDirectory);
-        if (!uploadDir.exists()) {
-            uploadDir.mkdirs();
+    // 게시글의 첨부파일 목록 (첨부파일 수가 0이면 조회하지 않음)
+    private List<AttachmentDTO> findAttachments(Board board) {
+        if (board.getAttachmentCount() == null || board.getAttachmentCount() == 0) {
+            return Collections.emptyList();
         }
+        return toAttachmentDTOs(attachmentRepository.findByBoardIdOrderByIdAsc(board.getId()));
+    }
 
-        // 파일명 생성 (UUID + 원본 파일명)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    // 비어 있지 않은 업로드 파일만
+    private List<MultipartFile> uploads(List<MultipartFile> files) {
+        if (files == null) {
+            return Collections.emptyList();
         }
-        String savedFilename = UUID.randomUUID().toString() + extension;
+        return files.stream().filter(file -> file != null && !file.isEmpty()).collect(Collectors.toList());
+    }
 
-        // 파일 저장
-        Path filePath = Paths.get(uploadDirectory, savedFilename);
-        Files.copy(file.getInputStream(), filePath);
+    // 새 첨부파일 (이미 저장된 스트리밍 업로드 + 이번에 저장한 파일, 이번에 저장한 파일도 롤백되면 삭제)
+    private List<StoredAttachment> store(List<MultipartFile> uploads, List<StoredAttachment> streamed) throws IOException {
+        List<StoredAttachment> saved = attachmentStore.saveAll(uploads);
+        attachmentStore.deleteOnRollback(filepaths(saved));
+        if (streamed.isEmpty()) {
+            return saved;
+        }
+        List<StoredAttachment> stored = new ArrayList<>(streamed);
+        stored.addAll(saved);
+        return stored;
+    }
 
-        log.info("파일 저장 완료 - 원본: {}, 저장: {}", originalFilename, savedFilename);
+    private List<String> filepaths(List<StoredAttachment> stored) {
+        return stored.stream().map(StoredAttachment::getFilepath).collect(Collectors.toList());
+    }
 
-        return new String[]{originalFilename, filePath.toString()};
+    // 새 게시글에 태그 연결 (없는 태그는 생성)
+    private List<Tag> saveTags(Integer boardId, List<String> names) {
+        if (names.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Tag> tags = resolveTags(names);
+        boardTagRepository.saveAll(tags.stream()
+                .map(tag -> new BoardTag(boardId, tag.getId()))
+                .collect(Collectors.toList()));
+        return tags;
     }
 
-    // 파일 삭제
-    private void deleteFile(String filepath) {
-        try {
-            Path path = Paths.get(filepath);
-            Files.deleteIfExists(path);
-            log.info("파일 삭제 완료 - {}", filepath);
-        } catch (IOException e) {
-            log.error("파일 삭제 실패 - {}: {}", filepath, e.getMessage());
+    // 게시글 태그 교체 (요청에 태그가 없으면(null) 변경하지 않음, 바뀐 연결만 추가/삭제)
+    private void replaceTags(Integer boardId, List<String> names) {
+        if (names == null) {
+            return;
+        }
+        List<Tag> tags = resolveTags(names);
+        Set<Integer> current = new HashSet<>(boardTagRepository.findTagIdsByBoardId(boardId));
+        Set<Integer> wanted = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+
+        List<Integer> removed = current.stream().filter(tagId -> !wanted.contains(tagId)).collect(Collectors.toList());
+        if (!removed.isEmpty()) {
+            boardTagRepository.deleteTags(boardId, removed);
         }
+        List<BoardTag> added = wanted.stream()
+                .filter(tagId -> !current.contains(tagId))
+                .map(tagId -> new BoardTag(boardId, tagId))
+                .collect(Collectors.toList());
+        if (!added.isEmpty()) {
+            boardTagRepository.saveAll(added);
+        }
+        tagIndex.putPost(boardId, tags);
+    }
+
+    // 태그 이름을 태그로 변환 (인덱스에 없는 이름만 조회, DB에도 없으면 생성)
+    private List<Tag> resolveTags(List<String> names) {
+        Map<String, Tag> resolved = new HashMap<>();
+        List<String> unknown = new ArrayList<>();
+        for (String name : names) {
+            Integer tagId = tagIndex.tagId(name);
+            if (tagId != null) {
+                resolved.put(name, new Tag(tagId, name));
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            tagRepository.findByNameIn(unknown).forEach(tag -> resolved.put(tag.getName(), tag));
+            for (String name : unknown) {
+                if (!resolved.containsKey(name)) {
+                    resolved.put(name, tagRepository.save(Tag.builder().name(name).build()));
+                }
+            }
+        }
+        return names.stream().map(resolved::get).collect(Collectors.toList());
+    }
+
+    // 검색어에 맞는 게시글 ID 집합 (검색 결과 캐시 우선, 반환한 비트맵은 수정하지 않아야 함)
+    private RoaringBitmap keywordMatches(SearchQuery query) {
+        RoaringBitmap cached = searchCache.get(query);
+        return cached != null ? cached : loadKeywordMatches(query);
+    }
+
+    // 검색어에 맞는 게시글 ID만 조회하여 검색 결과 캐시에 저장 (같은 검색의 동시 조회는 합침)
+    private RoaringBitmap loadKeywordMatches(SearchQuery query) {
+        long stamp = searchCache.stamp();
+        String flightKey = "ids:" + query.getType() + ":" + query.getKeyword() + "@" + stamp;
+        return requestCoalescer.load(RequestCoalescer.SEARCH, flightKey, () -> readOnly(() -> {
+            List<Integer> ids;
+            switch (query.getType()) {
+                case SearchQuery.TITLE:
+                    ids = boardRepository.findIdsByTitleContaining(query.getKeyword());
+                    break;
+                case SearchQuery.AUTHOR:
+                    ids = boardRepository.findIdsByAuthorContaining(query.getKeyword());
+                    break;
+                default: // "all"
+                    ids = boardRepository.findIdsByTitleOrContentContaining(query.getKeyword());
+                    break;
+            }
+            RoaringBitmap loaded = toBitmap(ids);
+            searchCache.put(query, loaded, stamp);
+            return loaded;
+        }));
+    }
+
+    // 보관된 게시글 중 검색어에 맞는 ID 집합
+    private RoaringBitmap archivedKeywordMatches(SearchQuery query) {
+        List<Integer> ids;
+        switch (query.getType()) {
+            case SearchQuery.TITLE:
+                ids = boardArchiveRepository.findIdsByTitleContaining(query.getKeyword());
+                break;
+            case SearchQuery.AUTHOR:
+                ids = boardArchiveRepository.findIdsByAuthorContaining(query.getKeyword());
+                break;
+            default: // "all"
+                ids = boardArchiveRepository.findIdsByTitleOrContentContaining(query.getKeyword());
+                break;
+        }
+        return toBitmap(ids);
+    }
+
+    // 교집합 (base가 null이면 조건 없음)
+    private RoaringBitmap and(RoaringBitmap base, RoaringBitmap other) {
+        return base == null ? other : RoaringBitmap.and(base, other);
+    }
+
+    private RoaringBitmap toBitmap(List<Integer> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        ids.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    // 페이지에 해당하는 게시글만 조회하여 ID 순서대로 정렬
+    private List<BoardDTO> findSummaries(int[] ids) {
+        return findSummaries(ids, null);
+    }
+
+    // 페이지에 해당하는 게시글만 조회하여 ID 순서대로 정렬 (archived에 있는 ID는 보관 테이블에서 조회)
+    private List<BoardDTO> findSummaries(int[] ids, RoaringBitmap archived) {
+        if (ids.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Integer> liveIds = new ArrayList<>();
+        List<Integer> archivedIds = new ArrayList<>();
+        for (int id : ids) {
+            (archived != null && archived.contains(id) ? archivedIds : liveIds).add(id);
+        }
+        Map<Integer, BoardSummary> byId = new HashMap<>();
+        if (!liveIds.isEmpty()) {
+            boardRepository.findSummariesByIdIn(liveIds).forEach(summary -> byId.put(summary.getId(), summary));
+        }
+        if (!archivedIds.isEmpty()) {
+            boardArchiveRepository.findSummariesByIdIn(archivedIds).forEach(summary -> byId.put(summary.getId(), summary));
+        }
+        List<BoardDTO> content = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            BoardSummary summary = byId.get(id);
+            if (summary != null) {
+                BoardDTO boardDTO = convertToDTO(summary);
+                if (archived != null && archived.contains(id)) {
+                    boardDTO.setArchived(true);
+                }
+                content.add(boardDTO);
+            }
+        }
+        return content;
+    }
+
+    // 게시글 조회 (board 테이블에 없으면 보관 테이블, 보관된 게시글은 첨부파일 없음)
+    private BoardDTO findPost(Integer id) {
+        Board board = boardRepository.findById(id).orElse(null);
+        if (board != null) {
+            BoardDTO boardDTO = convertToDTO(board);
+            boardDTO.setAttachments(findAttachments(board));
+            return boardDTO;
+        }
+        BoardArchive archive = boardArchiveRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
+        return toDTO(archive);
+    }
+
+    // 보관된 게시글 삭제 (작성일 조회 + 단일 DELETE)
+    private void deleteArchived(Integer id) {
+        LocalDateTime createdAt = boardArchiveRepository.findCreatedAtById(id)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
+        boardArchiveRepository.deleteArchivedById(id);
+        archiveIndex.postDeleted(createdAt);
+        boardEventPublisher.publish(BoardEventType.DELETED, id, null);
+        boardCache.invalidatePost(id);
+        log.info("보관된 게시글 삭제 완료 - ID: {}", id);
+    }
+
+    // 수정 실패 원인 판별 (실패 시에만 존재 여부를 추가 조회, 충돌은 JFR 이벤트로도 기록)
+    private RuntimeException updateFailure(Integer id, Long version, BoardUpdateEvent event) {
+        if (boardRepository.existsById(id)) {
+            log.warn("게시글 수정 충돌 - ID: {}, 요청 버전: {}", id, version);
+            event.setConflict(true);
+            event.commit();
+            return new OptimisticLockingFailureException(
+                    "다른 사용자가 먼저 게시글을 수정했습니다. 최신 내용을 확인한 뒤 다시 저장해주세요.");
+        }
+        return new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + id);
+    }
+
+    // 게시글 필수 입력값 검증
+    private void validateBoard(BoardDTO boardDTO) {
+        if (boardDTO.getTitle() == null || boardDTO.getTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException("제목은 필수 입력 항목입니다.");
+        }
+        if (boardDTO.getContent() == null || boardDTO.getContent().trim().isEmpty()) {
+            throw new IllegalArgumentException("내용은 필수 입력 항목입니다.");
+        }
+    }
+
+    // 변경 이벤트 내용 (본문 대신 미리보기만 포함)
+    private Map<String, Object> eventPayload(String title, String author, String excerpt, Long version) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("title", title);
+        payload.put("author", author);
+        payload.put("excerpt", excerpt);
+        payload.put("version", version);
+        return payload;
+    }
+
+    // 페이지 캐시 키
+    private String pageKey(Pageable pageable) {
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    // 미리보기/첨부파일 플래그 계산
+    private void applySummary(Board board, List<StoredAttachment> stored) {
+        board.setExcerpt(TextUtil.excerpt(board.getContent()));
+        board.setWordCount(TextUtil.countWords(board.getContent()));
+        board.setHasAttachment(board.getFilepath() != null || !stored.isEmpty());
+        board.setImageAttachment((board.getFilepath() != null && FileUtil.isImageFile(board.getFilename()))
+                || stored.stream().anyMatch(attachment -> FileUtil.isImageContentType(attachment.getContentType())));
     }
 
     // Entity to DTO 변환
     private BoardDTO convertToDTO(Board board) {
+        int previous = RequestTiming.enter(Phase.MAPPING);
+        try {
+            return toDTO(board);
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+
+    private BoardDTO toDTO(Board board) {
         return BoardDTO.builder()
                 .id(board.getId())
                 .title(board.getTitle())
@@ -193,11 +932,87 @@ public class BoardService {
                 .viewCount(board.getViewCount())
                 .filename(board.getFilename())
                 .filepath(board.getFilepath())
+                .excerpt(board.getExcerpt())
+                .wordCount(board.getWordCount())
+                .hasAttachment(board.getHasAttachment())
+                .imageAttachment(board.getImageAttachment())
+                .attachmentCount(board.getAttachmentCount())
+                .duplicateOf(board.getDuplicateOf())
+                .version(board.getVersion())
+                .tags(tagIndex.tagsOf(board.getId()))
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .build();
     }
 
+    // 보관된 게시글 to DTO 변환 (태그는 보관 시 저장한 이름)
+    private BoardDTO toDTO(BoardArchive archive) {
+        return BoardDTO.builder()
+                .id(archive.getId())
+                .title(archive.getTitle())
+                .content(archive.getContent())
+                .author(archive.getAuthor())
+                .viewCount(archive.getViewCount())
+                .excerpt(archive.getExcerpt())
+                .wordCount(archive.getWordCount())
+                .hasAttachment(false)
+                .imageAttachment(false)
+                .attachmentCount(0)
+                .attachments(Collections.emptyList())
+                .duplicateOf(archive.getDuplicateOf())
+                .archived(true)
+                .version(archive.getVersion())
+                .tags(archive.getTags() == null ? Collections.emptyList() : Arrays.asList(archive.getTags().split(",")))
+                .createdAt(archive.getCreatedAt())
+                .updatedAt(archive.getUpdatedAt())
+                .build();
+    }
+
+    // 목록 projection to DTO 변환 (본문 제외)
+    private BoardDTO convertToDTO(BoardSummary summary) {
+        int previous = RequestTiming.enter(Phase.MAPPING);
+        try {
+            return toDTO(summary);
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+
+    private BoardDTO toDTO(BoardSummary summary) {
+        return BoardDTO.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .author(summary.getAuthor())
+                .viewCount(summary.getViewCount())
+                .filename(summary.getFilename())
+                .excerpt(summary.getExcerpt())
+                .wordCount(summary.getWordCount())
+                .hasAttachment(summary.getHasAttachment())
+                .imageAttachment(summary.getImageAttachment())
+                .attachmentCount(summary.getAttachmentCount())
+                .tags(tagIndex.tagsOf(summary.getId()))
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    private List<AttachmentDTO> toAttachmentDTOs(List<Attachment> attachments) {
+        return attachments.stream().map(this::toAttachmentDTO).collect(Collectors.toList());
+    }
+
+    private AttachmentDTO toAttachmentDTO(Attachment attachment) {
+        return AttachmentDTO.builder()
+                .id(attachment.getId())
+                .filename(attachment.getFilename())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .storedSize(attachment.getStoredSize())
+                .sha256(attachment.getSha256())
+                .filepath(attachment.getFilepath())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+
     // DTO to Entity 변환
     private Board convertToEntity(BoardDTO boardDTO) {
         return Board.builder()
@@ -0,0 +1,85 @@
+package com.study.board.service;
+
+import com.study.board.entity.Board;
+import com.study.board.repository.BoardRepository;
+import com.study.board.util.FileUtil;
+import com.study.board.util.TextUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 미리보기 백필 작업
+ * 미리보기 컬럼 도입 이전에 작성된 게시글의 excerpt/word_count/첨부파일 플래그를 배치 단위로 채웁니다.
+ */
+@Component
+@Slf4j
+public class BoardSummaryBackfillJob {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${board.summary.backfill.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${board.summary.backfill.batch-size:500}")
+    private int batchSize = 500;
+
+    @Scheduled(initialDelayString = "${board.summary.backfill.initial-delay-ms:10000}",
+            fixedDelayString = "${board.summary.backfill.interval-ms:3600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        int total = backfill();
+        if (total > 0) {
+            log.info("미리보기 백필 완료 - 게시글 수: {}", total);
+        }
+    }
+
+    /**
+     * 미리보기가 없는 게시글을 ID 순으로 배치 처리 (배치마다 별도 트랜잭션)
+     * 처리한 게시글 수 반환
+     */
+    public int backfill() {
+        int total = 0;
+        int lastId = 0;
+
+        while (true) {
+            final int afterId = lastId;
+            List<Board> batch = transactionTemplate.execute(status -> backfillBatch(afterId));
+            if (batch == null || batch.isEmpty()) {
+                return total;
+            }
+            total += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    // 배치 1회 처리, 처리한 게시글 목록 반환
+    private List<Board> backfillBatch(int afterId) {
+        List<Board> boards = boardRepository.findByExcerptIsNullAndIdGreaterThanOrderByIdAsc(
+                afterId, PageRequest.of(0, batchSize));
+
+        for (Board board : boards) {
+            boolean hasAttachment = board.getFilepath() != null;
+            boardRepository.updateSummary(board.getId(),
+                    TextUtil.excerpt(board.getContent()),
+                    TextUtil.countWords(board.getContent()),
+                    hasAttachment,
+                    hasAttachment && FileUtil.isImageFile(board.getFilename()));
+        }
+
+        log.debug("미리보기 백필 배치 - 처리 수: {}", boards.size());
+        return boards;
+    }
+}
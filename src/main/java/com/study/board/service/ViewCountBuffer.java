@@ -0,0 +1,147 @@
+package com.study.board.service;
+
+import com.study.board.cache.BoardCache;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 증가 버퍼
+ * 기본값은 조회마다 호출한 트랜잭션 안에서 UPDATE 1회로 바로 반영합니다.
+ * board.view-count.buffer.enabled=true이면 메모리에 누적한 뒤 주기적으로 일괄 반영하며,
+ * 이 경우 반영 전 프로세스가 비정상 종료되면 마지막 주기(flush-interval-ms) 동안의 조회수가 유실됩니다.
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    @Value("${board.view-count.buffer.enabled:false}")
+    private boolean enabled;
+
+    private final ConcurrentHashMap<Integer, Integer> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 후 조회 시점 값에 더해 보여줄 조회수 반환
+     * (버퍼 사용 시 아직 반영되지 않은 누적 조회수, 아니면 바로 반영한 1 / 게시글이 없으면 0)
+     */
+    public int increment(Integer id) {
+        if (enabled) {
+            return pending.merge(id, 1, Integer::sum);
+        }
+        return incrementNow(id);
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 조회수 1 바로 반영 후 반영 여부 반환 (버퍼 사용 시에는 반영하지 않고 false)
+     * 캐시 미스 시 UPDATE 후 같은 트랜잭션에서 게시글을 읽어, 읽은 값에 이 조회가 포함되도록 할 때 사용합니다.
+     * 읽은 값을 캐시에 넣으므로 캐시 조회수는 따로 올리지 않습니다.
+     */
+    public boolean incrementInTransaction(Integer id) {
+        return !enabled && applyOne(id);
+    }
+
+    /**
+     * 아직 반영되지 않은 누적 조회수 반환
+     */
+    public int pendingCount(Integer id) {
+        return pending.getOrDefault(id, 0);
+    }
+
+    /**
+     * 삭제된 게시글의 누적 조회수 폐기
+     */
+    public void discard(Integer id) {
+        pending.remove(id);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 반영에 실패하면 꺼낸 조회수를 다시 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Integer, Integer> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Integer, Integer> applied = new HashMap<>();
+                drained.forEach((id, delta) -> {
+                    if (boardRepository.increaseViewCountBy(id, delta) > 0) {
+                        applied.put(id, delta);
+                    }
+                });
+                boardEventPublisher.publishViews(applied);
+            });
+        } catch (RuntimeException e) {
+            drained.forEach((id, delta) -> pending.merge(id, delta, Integer::sum));
+            log.error("조회수 반영 실패 - 게시글 수: {}, 오류: {}", drained.size(), e.getMessage());
+            return;
+        }
+
+        // 반영된 조회수를 로컬 캐시에도 적용 (누적분이 비워졌으므로 캐시 값이 이를 대신함)
+        drained.forEach(boardCache::addViewCount);
+        log.debug("조회수 반영 완료 - 게시글 수: {}", drained.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 조회수 1 바로 반영 후 캐시에도 적용
+    private int incrementNow(Integer id) {
+        Boolean applied = transactionTemplate.execute(status -> applyOne(id));
+        if (!Boolean.TRUE.equals(applied)) {
+            return 0;
+        }
+        boardCache.addViewCount(id, 1);
+        return 1;
+    }
+
+    // 조회수 1 UPDATE (이벤트도 같은 트랜잭션에 기록)
+    private boolean applyOne(Integer id) {
+        if (boardRepository.increaseViewCountBy(id, 1) == 0) {
+            return false;
+        }
+        boardEventPublisher.publishViews(Collections.singletonMap(id, 1));
+        return true;
+    }
+
+    // 버퍼 비우기 (키 단위 remove로 동시 증가분 유실 방지)
+    private Map<Integer, Integer> drain() {
+        Map<Integer, Integer> drained = new HashMap<>();
+        for (Integer id : pending.keySet()) {
+            Integer delta = pending.remove(id);
+            if (delta != null && delta > 0) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+}
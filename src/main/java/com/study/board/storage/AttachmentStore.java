@@ -0,0 +1,395 @@
+package com.study.board.storage;
+
+import com.study.board.timing.Phase;
+import com.study.board.timing.RequestTiming;
+import com.study.board.util.FileUtil;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 첨부파일 저장소
+ * 텍스트/구형 문서처럼 압축이 잘 되는 파일은 gzip으로 압축하여 저장하고 (저장 경로가 .gz로 끝남),
+ * 압축해도 충분히 줄지 않으면 원본 그대로 저장합니다.
+ *
+ * 압축 저장된 파일은 클라이언트가 gzip을 받을 수 있으면 Content-Encoding: gzip으로 그대로 전송하고,
+ * 받을 수 없으면 전송하면서 압축을 풉니다.
+ *
+ * 한 요청에 여러 파일이 올라오면 쓰기 전용 스레드 풀에서 동시에 디스크로 옮기며,
+ * 저장하면서 원본 내용의 SHA-256을 함께 계산합니다.
+ */
+@Component
+@Slf4j
+public class AttachmentStore {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    @Value("${file.upload.directory:${user.home}/board-files}")
+    private String uploadDirectory;
+
+    @Value("${board.attachment.compression.enabled:true}")
+    private boolean compressionEnabled = true;
+
+    // gzip 압축 수준 (1: 빠름 ~ 9: 최대 압축)
+    @Value("${board.attachment.compression.level:6}")
+    private int compressionLevel = 6;
+
+    // 이보다 작은 파일은 압축하지 않음 (헤더 비용 대비 이득이 작음)
+    @Value("${board.attachment.compression.min-size:1024}")
+    private long minSize = 1024;
+
+    // 원본 대비 이 비율 이상 줄어야 압축본을 저장
+    @Value("${board.attachment.compression.min-saving-percent:10}")
+    private int minSavingPercent = 10;
+
+    // 여러 파일 동시 저장에 쓰는 스레드 수
+    @Value("${board.attachment.write-threads:4}")
+    private int writeThreads = 4;
+
+    private ExecutorService writer;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "attachment-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        writer = Executors.newFixedThreadPool(Math.max(1, writeThreads), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    /**
+     * 여러 첨부파일 저장 (2개 이상이면 동시에 저장, 결과는 입력 순서)
+     * 하나라도 실패하면 이미 저장된 파일을 지우고 예외를 던집니다.
+     */
+    public List<StoredAttachment> saveAll(List<MultipartFile> files) throws IOException {
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (files.size() == 1 || writer == null) {
+            List<StoredAttachment> stored = new ArrayList<>();
+            try {
+                for (MultipartFile file : files) {
+                    stored.add(save(file));
+                }
+            } catch (IOException | RuntimeException e) {
+                stored.forEach(attachment -> delete(attachment.getFilepath()));
+                throw e;
+            }
+            return stored;
+        }
+
+        List<CompletableFuture<StoredAttachment>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return save(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, writer));
+        }
+
+        // 요청 스레드는 모든 파일이 저장될 때까지 대기 (대기 시간은 파일 입출력 구간으로 집계)
+        int previous = RequestTiming.enter(Phase.FILE);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .forEach(future -> delete(future.join().getFilepath()));
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        } finally {
+            RequestTiming.exit(previous);
+        }
+
+        List<StoredAttachment> stored = new ArrayList<>(futures.size());
+        futures.forEach(future -> stored.add(future.join()));
+        return stored;
+    }
+
+    /**
+     * 첨부파일 저장 (압축 대상이고 크기가 충분히 줄면 gzip으로 저장)
+     * 복사하면서 앞부분의 매직 넘버로 형식을 판별하고, 실제 읽은 크기와 SHA-256을 함께 기록합니다.
+     */
+    public StoredAttachment save(MultipartFile file) throws IOException {
+        // 업로드 디렉토리 생성
+        Path uploadDir = Paths.get(uploadDirectory);
+        Files.createDirectories(uploadDir);
+
+        // 파일명 생성 (UUID + 원본 확장자)
+        String originalFilename = file.getOriginalFilename();
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        String savedFilename = UUID.randomUUID().toString() + extension;
+        long size = file.getSize();
+        MessageDigest digest = sha256();
+
+        int previous = RequestTiming.enter(Phase.FILE);
+        try {
+            if (shouldCompress(originalFilename, size)) {
+                Path gzipPath = uploadDir.resolve(savedFilename + GZIP_SUFFIX);
+                SniffingInputStream in = new SniffingInputStream(file.getInputStream());
+                long storedSize = writeCompressed(new DigestInputStream(in, digest), gzipPath);
+                if (storedSize <= in.count() - in.count() * minSavingPercent / 100) {
+                    log.info("파일 압축 저장 완료 - 원본: {}, 저장: {}, 크기: {} -> {}",
+                            originalFilename, gzipPath.getFileName(), in.count(), storedSize);
+                    return new StoredAttachment(originalFilename, gzipPath.toString(), in.count(), storedSize,
+                            in.contentType(originalFilename), toHex(digest.digest()));
+                }
+                // 압축 이득이 작으면 원본으로 저장
+                Files.deleteIfExists(gzipPath);
+                digest.reset();
+            }
+
+            Path filePath = uploadDir.resolve(savedFilename);
+            SniffingInputStream in = new SniffingInputStream(file.getInputStream());
+            try (InputStream digesting = new DigestInputStream(in, digest)) {
+                Files.copy(digesting, filePath);
+            }
+            log.info("파일 저장 완료 - 원본: {}, 저장: {}", originalFilename, savedFilename);
+            return new StoredAttachment(originalFilename, filePath.toString(), in.count(), in.count(),
+                    in.contentType(originalFilename), toHex(digest.digest()));
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+
+    /**
+     * 요청 본문에서 바로 읽어 첨부파일 저장 (스트리밍 업로드용, 크기를 미리 알 수 없음)
+     * 앞부분 min-size 바이트만 메모리에 읽어 압축 여부를 정하고, 나머지는 최종 경로로 바로 씁니다.
+     * 압축 이득이 작으면 본문을 다시 읽을 수 없으므로 압축본을 풀어서 원본으로 저장합니다.
+     */
+    public StoredAttachment save(String originalFilename, InputStream content) throws IOException {
+        Path uploadDir = Paths.get(uploadDirectory);
+        Files.createDirectories(uploadDir);
+
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        String savedFilename = UUID.randomUUID().toString() + extension;
+        Path filePath = uploadDir.resolve(savedFilename);
+        Path gzipPath = uploadDir.resolve(savedFilename + GZIP_SUFFIX);
+        MessageDigest digest = sha256();
+        SniffingInputStream in = new SniffingInputStream(content);
+        InputStream digesting = new DigestInputStream(in, digest);
+
+        int previous = RequestTiming.enter(Phase.FILE);
+        try {
+            InputStream source = digesting;
+            if (compressionEnabled && FileUtil.isCompressibleFile(originalFilename)) {
+                byte[] head = digesting.readNBytes((int) Math.min(minSize, Integer.MAX_VALUE));
+                source = new SequenceInputStream(new ByteArrayInputStream(head), digesting);
+                if (head.length >= minSize) {
+                    long storedSize = writeCompressed(source, gzipPath);
+                    if (storedSize <= in.count() - in.count() * minSavingPercent / 100) {
+                        log.info("파일 압축 저장 완료 - 원본: {}, 저장: {}, 크기: {} -> {}",
+                                originalFilename, gzipPath.getFileName(), in.count(), storedSize);
+                        return new StoredAttachment(originalFilename, gzipPath.toString(), in.count(), storedSize,
+                                in.contentType(originalFilename), toHex(digest.digest()));
+                    }
+                    // 압축 이득이 작으면 압축본을 풀어서 원본으로 저장
+                    try (InputStream decoded = new GZIPInputStream(Files.newInputStream(gzipPath))) {
+                        Files.copy(decoded, filePath);
+                    }
+                    Files.delete(gzipPath);
+                    log.info("파일 저장 완료 - 원본: {}, 저장: {}", originalFilename, savedFilename);
+                    return new StoredAttachment(originalFilename, filePath.toString(), in.count(), in.count(),
+                            in.contentType(originalFilename), toHex(digest.digest()));
+                }
+            }
+
+            Files.copy(source, filePath);
+            log.info("파일 저장 완료 - 원본: {}, 저장: {}", originalFilename, savedFilename);
+            return new StoredAttachment(originalFilename, filePath.toString(), in.count(), in.count(),
+                    in.contentType(originalFilename), toHex(digest.digest()));
+        } catch (IOException | RuntimeException e) {
+            // 크기 초과 등으로 중간에 끊기면 쓰다 만 파일 삭제
+            Files.deleteIfExists(gzipPath);
+            Files.deleteIfExists(filePath);
+            throw e;
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+
+    /**
+     * 첨부파일 삭제 (실패해도 예외를 던지지 않음)
+     */
+    public void delete(String filepath) {
+        int previous = RequestTiming.enter(Phase.FILE);
+        try {
+            Files.deleteIfExists(Paths.get(filepath));
+            log.info("파일 삭제 완료 - {}", filepath);
+        } catch (IOException e) {
+            log.error("파일 삭제 실패 - {}: {}", filepath, e.getMessage());
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+
+    /**
+     * 첨부파일 삭제 (트랜잭션 안이면 커밋 이후, 롤백되면 파일 유지)
+     */
+    public void deleteAfterCommit(Collection<String> filepaths) {
+        if (filepaths.isEmpty()) {
+            return;
+        }
+        List<String> targets = new ArrayList<>(filepaths);
+        TransactionCallbacks.afterCommit(() -> targets.forEach(this::delete));
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 새로 저장한 첨부파일 삭제 (DB에 연결되지 않은 파일이 남지 않도록)
+     */
+    public void deleteOnRollback(Collection<String> filepaths) {
+        if (filepaths.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<String> targets = new ArrayList<>(filepaths);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    targets.forEach(AttachmentStore.this::delete);
+                }
+            }
+        });
+    }
+
+    /**
+     * 압축 저장된 파일인지 확인
+     * 압축본은 "UUID.확장자.gz"로 저장하므로, 사용자가 올린 .gz 파일("UUID.gz")과 구분됩니다.
+     */
+    public static boolean isCompressed(String filepath) {
+        if (filepath == null) {
+            return false;
+        }
+        String name = Paths.get(filepath).getFileName().toString();
+        return name.endsWith(GZIP_SUFFIX) && name.substring(0, name.length() - GZIP_SUFFIX.length()).contains(".");
+    }
+
+    /**
+     * 압축 저장 경로에서 .gz를 뗀 경로 (Content-Type 판별용)
+     */
+    public static Path originalPath(Path filePath) {
+        if (!isCompressed(filePath.toString())) {
+            return filePath;
+        }
+        String name = filePath.getFileName().toString();
+        return filePath.resolveSibling(name.substring(0, name.length() - GZIP_SUFFIX.length()));
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인 (q=0은 거부)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!"gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean shouldCompress(String filename, long size) {
+        return compressionEnabled && size >= minSize && FileUtil.isCompressibleFile(filename);
+    }
+
+    // gzip으로 저장 후 저장된 크기 반환
+    private long writeCompressed(InputStream source, Path target) throws IOException {
+        try (InputStream in = source;
+             OutputStream out = new LeveledGzipOutputStream(Files.newOutputStream(target), compressionLevel)) {
+            in.transferTo(out);
+        }
+        return Files.size(target);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        private LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.study.board.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 첨부파일 일괄 삭제기
+ * 일괄 삭제한 게시글의 첨부파일을 요청/작업 스레드 대신 전용 스레드 풀에서 나눠 삭제합니다.
+ * 파일 삭제는 DB 커밋 이후에만 요청하며, 실패해도 예외를 던지지 않고 건수만 집계합니다.
+ */
+@Component
+@Slf4j
+public class FileReaper {
+
+    // 한 작업에서 삭제할 파일 수
+    private static final int SLICE_SIZE = 200;
+
+    @Value("${board.moderation.reaper-threads:4}")
+    private int threads = 4;
+
+    private ExecutorService reaper;
+
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder missing = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        reaper = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "file-reaper-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reaper.shutdown();
+    }
+
+    /**
+     * 파일 삭제 예약 (완료되면 실제로 삭제한 파일 수를 반환)
+     */
+    public CompletableFuture<Integer> reap(Collection<String> filepaths) {
+        if (filepaths.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        List<String> targets = new ArrayList<>(filepaths);
+        List<CompletableFuture<Integer>> slices = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += SLICE_SIZE) {
+            List<String> slice = targets.subList(from, Math.min(from + SLICE_SIZE, targets.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> deleteAll(slice), reaper));
+        }
+        return CompletableFuture.allOf(slices.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> slices.stream().mapToInt(CompletableFuture::join).sum());
+    }
+
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("deleted", deleted.sum());
+        metrics.put("missing", missing.sum());
+        metrics.put("failed", failed.sum());
+        return metrics;
+    }
+
+    private int deleteAll(List<String> filepaths) {
+        int count = 0;
+        for (String filepath : filepaths) {
+            try {
+                if (Files.deleteIfExists(Paths.get(filepath))) {
+                    deleted.increment();
+                    count++;
+                } else {
+                    missing.increment();
+                }
+            } catch (IOException | RuntimeException e) {
+                failed.increment();
+                log.warn("파일 삭제 실패 - {}: {}", filepath, e.getMessage());
+            }
+        }
+        log.debug("파일 일괄 삭제 - 요청: {}, 삭제: {}", filepaths.size(), count);
+        return count;
+    }
+}
@@ -0,0 +1,86 @@
+package com.study.board.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * gzip으로 저장된 파일을 읽으면서 압축을 푸는 리소스 (gzip을 받지 못하는 클라이언트용)
+ * 압축을 푼 크기는 저장 시 기록한 원본 크기를 쓰고, 없으면 gzip 끝의 원본 크기(ISIZE) 필드로 구하므로
+ * 전체를 미리 읽지 않습니다.
+ */
+public class GzipDecodedResource extends AbstractResource {
+
+    private final Resource encoded;
+    private final long decodedLength;
+
+    public GzipDecodedResource(Resource encoded) {
+        this(encoded, -1);
+    }
+
+    public GzipDecodedResource(Resource encoded, long decodedLength) {
+        this.encoded = encoded;
+        this.decodedLength = decodedLength;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new GZIPInputStream(encoded.getInputStream(), 8192);
+    }
+
+    @Override
+    public boolean exists() {
+        return encoded.exists();
+    }
+
+    @Override
+    public boolean isReadable() {
+        return encoded.isReadable();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return encoded.lastModified();
+    }
+
+    /**
+     * 압축을 푼 크기 (단일 gzip 멤버, 4GB 미만 파일 기준, 알 수 없으면 -1)
+     */
+    @Override
+    public long contentLength() throws IOException {
+        if (decodedLength >= 0) {
+            return decodedLength;
+        }
+        if (!encoded.isFile()) {
+            return -1;
+        }
+        File file = encoded.getFile();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            if (raf.length() < 18) {
+                return -1;
+            }
+            raf.seek(raf.length() - 4);
+            int b0 = raf.read();
+            int b1 = raf.read();
+            int b2 = raf.read();
+            int b3 = raf.read();
+            return ((long) b3 << 24 | b2 << 16 | b1 << 8 | b0) & 0xFFFFFFFFL;
+        }
+    }
+
+    @Override
+    public String getFilename() {
+        String filename = encoded.getFilename();
+        return filename != null && filename.endsWith(".gz") ? filename.substring(0, filename.length() - 3) : filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return "gzip decoded [" + encoded.getDescription() + "]";
+    }
+}
@@ -0,0 +1,305 @@
+package com.study.board.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 요청 본문을 앞에서부터 차례로 읽는 파서
+ * 고정 크기 버퍼 하나만 사용하며, 파트 본문은 다음 구분자 직전까지만 읽는 입력 스트림으로 제공합니다.
+ * 파트 본문을 다 읽지 않고 다음 파트로 넘어가면 남은 본문은 버립니다.
+ */
+class MultipartStreamParser {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    // 파트 헤더 전체 최대 크기
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+
+    private final InputStream in;
+    private final Charset headerCharset;
+    // 본문 앞에 CRLF를 붙인 것으로 보고, 첫 구분자도 "\r\n--boundary"로 찾음
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int tail;
+    private boolean eof;
+    private boolean finished;
+    private PartStream current;
+
+    MultipartStreamParser(InputStream in, String boundary, Charset headerCharset) {
+        this.in = in;
+        this.headerCharset = headerCharset;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+    }
+
+    /**
+     * multipart Content-Type에서 boundary 값 추출 (없으면 null)
+     */
+    static String boundaryOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String boundary = parameterOf(contentType, "boundary");
+        return boundary == null || boundary.isEmpty() || boundary.length() > 70 ? null : boundary;
+    }
+
+    /**
+     * 다음 파트 (더 없으면 null)
+     */
+    Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (current == null) {
+            // 첫 구분자 앞의 내용(preamble)은 버림
+            new PartStream().drain();
+        } else {
+            current.drain();
+        }
+
+        // 구분자 뒤가 "--"이면 마지막 파트
+        require(2);
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        skipLine();
+
+        Map<String, String> headers = readHeaders();
+        String disposition = headers.get("content-disposition");
+        current = new PartStream();
+        return new Part(parameterOf(disposition, "name"), parameterOf(disposition, "filename"),
+                headers.get("content-type"), current);
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        int total = 0;
+        while (true) {
+            String line = readLine();
+            total += line.length() + 2;
+            if (total > MAX_HEADER_SIZE) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다.");
+            }
+            if (line.isEmpty()) {
+                return headers;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    private String readLine() throws IOException {
+        int from = head;
+        while (true) {
+            for (int i = from; i + 1 < tail; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+                    String line = new String(buffer, head, i - head, headerCharset);
+                    head = i + 2;
+                    return line;
+                }
+            }
+            from = Math.max(head, tail - 1);
+            int consumed = head;
+            if (!fill()) {
+                throw new IOException("multipart 본문이 헤더 중간에 끝났습니다.");
+            }
+            from -= consumed - head;
+        }
+    }
+
+    // 구분자 뒤의 공백(transport padding)과 줄바꿈 건너뛰기
+    private void skipLine() throws IOException {
+        readLine();
+    }
+
+    // 버퍼에 최소 count 바이트가 있도록 읽기
+    private void require(int count) throws IOException {
+        while (tail - head < count) {
+            if (!fill()) {
+                throw new IOException("multipart 본문이 중간에 끝났습니다.");
+            }
+        }
+    }
+
+    // 남은 내용을 버퍼 앞으로 옮기고 더 읽기 (더 읽을 것이 없으면 false)
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            throw new IOException("multipart 버퍼가 가득 찼습니다.");
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // 헤더 값의 파라미터 (예: form-data; name="title"; filename="a.txt")
+    private static String parameterOf(String header, String name) {
+        if (header == null) {
+            return null;
+        }
+        int i = 0;
+        int length = header.length();
+        while (i < length) {
+            int semicolon = header.indexOf(';', i);
+            if (semicolon < 0) {
+                return null;
+            }
+            i = semicolon + 1;
+            while (i < length && header.charAt(i) == ' ') {
+                i++;
+            }
+            int equals = header.indexOf('=', i);
+            if (equals < 0) {
+                return null;
+            }
+            String key = header.substring(i, equals).trim();
+            i = equals + 1;
+            StringBuilder value = new StringBuilder();
+            if (i < length && header.charAt(i) == '"') {
+                i++;
+                while (i < length && header.charAt(i) != '"') {
+                    char c = header.charAt(i++);
+                    // 따옴표만 이스케이프로 봄 (구형 브라우저는 C:\dir\a.txt 같은 경로를 그대로 보냄)
+                    if (c == '\\' && i < length && header.charAt(i) == '"') {
+                        c = header.charAt(i++);
+                    }
+                    value.append(c);
+                }
+                i++;
+            } else {
+                while (i < length && header.charAt(i) != ';') {
+                    value.append(header.charAt(i++));
+                }
+            }
+            if (key.equalsIgnoreCase(name)) {
+                return value.toString().trim();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파트 (filename이 null이면 일반 입력 필드)
+     */
+    static final class Part {
+        private final String name;
+        private final String filename;
+        private final String contentType;
+        private final InputStream body;
+
+        private Part(String name, String filename, String contentType, InputStream body) {
+            this.name = name;
+            this.filename = filename;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getFilename() {
+            return filename;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        boolean isFile() {
+            return filename != null;
+        }
+
+        InputStream getBody() {
+            return body;
+        }
+    }
+
+    // 다음 구분자 직전까지의 본문
+    private final class PartStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int found = indexOfDelimiter();
+                if (found == head) {
+                    head += delimiter.length;
+                    done = true;
+                    return -1;
+                }
+                // 구분자 앞까지, 또는 구분자가 걸쳐 있을 수 있는 끝부분을 뺀 만큼은 본문으로 확정
+                int available = found >= 0 ? found - head : tail - head - (delimiter.length - 1);
+                if (available > 0) {
+                    int n = Math.min(len, available);
+                    System.arraycopy(buffer, head, b, off, n);
+                    head += n;
+                    return n;
+                }
+                if (!fill()) {
+                    throw new IOException("multipart 본문이 파트 중간에 끝났습니다.");
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            // 요청 본문은 파서가 계속 읽으므로 닫지 않음 (남은 본문은 다음 파트로 넘어갈 때 버림)
+        }
+
+        void drain() throws IOException {
+            byte[] skip = new byte[4096];
+            while (read(skip, 0, skip.length) >= 0) {
+                // 버림
+            }
+        }
+    }
+}
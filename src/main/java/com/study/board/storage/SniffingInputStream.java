@@ -0,0 +1,82 @@
+package com.study.board.storage;
+
+import com.study.board.util.FileUtil;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 복사하면서 앞부분(매직 넘버)과 읽은 바이트 수를 기록하는 입력 스트림
+ * 형식 판별을 위해 파일을 따로 다시 읽지 않습니다.
+ */
+class SniffingInputStream extends FilterInputStream {
+
+    private final byte[] head = new byte[FileUtil.SNIFF_LENGTH];
+    private int headLength;
+    private long count;
+
+    SniffingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            if (headLength < head.length) {
+                head[headLength++] = (byte) b;
+            }
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            if (headLength < head.length) {
+                int copy = Math.min(read, head.length - headLength);
+                System.arraycopy(b, off, head, headLength, copy);
+                headLength += copy;
+            }
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 건너뛴 바이트는 기록할 수 없으므로 읽어서 버림
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * 파일 앞부분과 이름으로 판별한 Content-Type
+     */
+    String contentType(String filename) {
+        return FileUtil.detectContentType(head, headLength, filename);
+    }
+
+    /**
+     * 지금까지 읽은 바이트 수
+     */
+    long count() {
+        return count;
+    }
+}
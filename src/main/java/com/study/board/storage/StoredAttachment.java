@@ -0,0 +1,35 @@
+package com.study.board.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 저장된 첨부파일 정보
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StoredAttachment {
+
+    // 원본 파일명
+    private final String filename;
+
+    // 저장 경로 (압축 저장이면 .gz로 끝남)
+    private final String filepath;
+
+    // 원본 크기
+    private final long size;
+
+    // 디스크에 저장된 크기
+    private final long storedSize;
+
+    private final String contentType;
+
+    // 원본 내용의 SHA-256 (16진수)
+    private final String sha256;
+
+    public boolean isCompressed() {
+        return AttachmentStore.isCompressed(filepath);
+    }
+}
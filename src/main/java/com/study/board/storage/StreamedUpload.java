@@ -0,0 +1,55 @@
+package com.study.board.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스트리밍 업로드 결과 (요청 속성으로 컨트롤러에 전달)
+ * 필터가 요청 본문을 읽으면서 저장한 첨부파일 목록과 저장 실패 원인을 담습니다.
+ * 컨트롤러가 claim()으로 가져가지 않은 첨부파일은 요청이 끝나면 필터가 삭제합니다.
+ */
+public class StreamedUpload {
+
+    /**
+     * 요청 속성 이름
+     */
+    public static final String ATTRIBUTE = "com.study.board.storage.StreamedUpload";
+
+    private final List<StoredAttachment> attachments = new ArrayList<>();
+    private RuntimeException failure;
+    private boolean claimed;
+
+    void add(StoredAttachment attachment) {
+        attachments.add(attachment);
+    }
+
+    void fail(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * 본문을 읽거나 저장하다 실패했으면 그 예외를 던짐 (MaxUploadSizeExceededException 등 MultipartException)
+     */
+    public void rethrowFailure() {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 저장된 첨부파일을 가져감 (이후 삭제 책임은 호출자에게 있음)
+     */
+    public List<StoredAttachment> claim() {
+        claimed = true;
+        return Collections.unmodifiableList(attachments);
+    }
+
+    List<StoredAttachment> attachments() {
+        return attachments;
+    }
+
+    boolean isClaimed() {
+        return claimed;
+    }
+}
@@ -0,0 +1,246 @@
+package com.study.board.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.Part;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 스트리밍 multipart 업로드 필터
+ * 게시글 작성/수정 요청 본문을 앞에서부터 읽으면서 첨부파일 파트는 최종 저장 경로로 바로 쓰고 (서블릿 임시 파일 없음),
+ * 일반 입력 필드는 요청 파라미터로 제공하여 BoardDTO 바인딩은 그대로 동작하게 합니다.
+ *
+ * 저장한 첨부파일은 StreamedUpload 요청 속성으로 컨트롤러에 전달하며, 컨트롤러가 가져가지 않으면 요청이 끝날 때 삭제합니다.
+ * 크기 제한(spring.servlet.multipart.max-file-size, max-request-size)을 넘거나 본문이 잘못되면
+ * 저장한 파일을 지우고 실패 원인을 StreamedUpload에 기록합니다. (컨트롤러에서 다시 던짐)
+ */
+@Slf4j
+public class StreamingMultipartFilter extends OncePerRequestFilter {
+
+    // 첨부파일 입력 필드 이름
+    static final String FILE_PARAMETER = "file";
+
+    private final AttachmentStore attachmentStore;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    private final long maxFormSize;
+
+    /**
+     * 크기 제한이 음수이면 제한 없음
+     */
+    public StreamingMultipartFilter(AttachmentStore attachmentStore, long maxFileSize, long maxRequestSize, long maxFormSize) {
+        this.attachmentStore = attachmentStore;
+        this.maxFileSize = maxFileSize;
+        this.maxRequestSize = maxRequestSize;
+        this.maxFormSize = maxFormSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return !"POST".equals(request.getMethod()) || contentType == null
+                || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")
+                || MultipartStreamParser.boundaryOf(contentType) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Charset charset = request.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8 : Charset.forName(request.getCharacterEncoding());
+        MultiValueMap<String, String> parameters = queryParameters(request, charset);
+        StreamedUpload upload = new StreamedUpload();
+        try {
+            read(request, charset, parameters, upload);
+        } catch (MultipartException e) {
+            fail(upload, e);
+        } catch (IOException e) {
+            fail(upload, new MultipartException("업로드 요청을 읽을 수 없습니다.", e));
+        }
+
+        request.setAttribute(StreamedUpload.ATTRIBUTE, upload);
+        try {
+            filterChain.doFilter(new StreamedRequest(request, parameters), response);
+        } finally {
+            // 유효성 검증 실패 등으로 게시글에 연결되지 않은 첨부파일 정리
+            if (!upload.isClaimed()) {
+                upload.attachments().forEach(attachment -> attachmentStore.delete(attachment.getFilepath()));
+            }
+        }
+    }
+
+    private void read(HttpServletRequest request, Charset charset, MultiValueMap<String, String> parameters,
+                      StreamedUpload upload) throws IOException {
+        if (maxRequestSize >= 0 && request.getContentLengthLong() > maxRequestSize) {
+            throw new MaxUploadSizeExceededException(maxRequestSize);
+        }
+        InputStream body = new LimitedInputStream(request.getInputStream(), maxRequestSize);
+        MultipartStreamParser parser = new MultipartStreamParser(body,
+                MultipartStreamParser.boundaryOf(request.getContentType()), StandardCharsets.UTF_8);
+        long formSize = 0;
+        MultipartStreamParser.Part part;
+        while ((part = parser.nextPart()) != null) {
+            if (part.getName() == null) {
+                continue;
+            }
+            if (!part.isFile()) {
+                long remaining = maxFormSize < 0 ? -1 : maxFormSize - formSize;
+                byte[] value = new LimitedInputStream(part.getBody(), remaining, maxFormSize).readAllBytes();
+                formSize += value.length;
+                parameters.add(part.getName(), new String(value, charset));
+                continue;
+            }
+            // 파일을 선택하지 않은 입력 필드는 빈 파트로 전송됨
+            String filename = filenameOf(part.getFilename());
+            if (!FILE_PARAMETER.equals(part.getName()) || filename.isEmpty()) {
+                continue;
+            }
+            StoredAttachment stored = attachmentStore.save(filename, new LimitedInputStream(part.getBody(), maxFileSize));
+            if (stored.getSize() == 0) {
+                attachmentStore.delete(stored.getFilepath());
+                continue;
+            }
+            upload.add(stored);
+        }
+    }
+
+    private void fail(StreamedUpload upload, MultipartException e) {
+        log.warn("스트리밍 업로드 실패 - 저장된 파일: {}, 오류: {}", upload.attachments().size(), e.getMessage());
+        upload.attachments().forEach(attachment -> attachmentStore.delete(attachment.getFilepath()));
+        upload.attachments().clear();
+        upload.fail(e);
+    }
+
+    // 본문을 다 읽었으므로 원래 요청의 getParameter는 쓰지 않고 쿼리 문자열을 직접 해석
+    private static MultiValueMap<String, String> queryParameters(HttpServletRequest request, Charset charset) {
+        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+        if (request.getQueryString() == null) {
+            return parameters;
+        }
+        UriComponentsBuilder.newInstance().query(request.getQueryString()).build().getQueryParams()
+                .forEach((name, values) -> values.forEach(value -> parameters.add(UriUtils.decode(name, charset),
+                        value == null ? "" : UriUtils.decode(value, charset))));
+        return parameters;
+    }
+
+    // 일부 브라우저가 보내는 전체 경로에서 파일 이름만
+    private static String filenameOf(String submitted) {
+        String filename = submitted.trim();
+        return filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+    }
+
+    /**
+     * 읽은 필드를 요청 파라미터로 제공하고, multipart 파트는 없는 것으로 보이게 하는 요청
+     * (DispatcherServlet의 multipart 처리가 본문을 다시 읽지 않도록)
+     */
+    private static class StreamedRequest extends HttpServletRequestWrapper {
+
+        private final Map<String, String[]> parameters = new LinkedHashMap<>();
+
+        private StreamedRequest(HttpServletRequest request, MultiValueMap<String, String> parameters) {
+            super(request);
+            parameters.forEach((name, values) -> this.parameters.put(name, values.toArray(new String[0])));
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = parameters.get(name);
+            return values == null ? null : values[0];
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return Collections.unmodifiableMap(parameters);
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return parameters.get(name);
+        }
+
+        @Override
+        public Collection<Part> getParts() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Part getPart(String name) {
+            return null;
+        }
+    }
+
+    // 정해진 크기를 넘겨 읽으면 MaxUploadSizeExceededException (limit이 음수이면 제한 없음)
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private final long reportedLimit;
+        private long count;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            this(in, limit, limit);
+        }
+
+        private LimitedInputStream(InputStream in, long limit, long reportedLimit) {
+            super(in);
+            this.limit = limit;
+            this.reportedLimit = reportedLimit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counted(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                counted(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // 요청 본문은 닫지 않음
+        }
+
+        private void counted(int read) {
+            count += read;
+            if (limit >= 0 && count > limit) {
+                throw new MaxUploadSizeExceededException(reportedLimit);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.study.board.tag;
+
+import java.util.Arrays;
+
+/**
+ * 원소 4096개 이하 컨테이너 (정렬된 char 배열, 원소당 2바이트)
+ */
+final class ArrayContainer extends Container {
+
+    static final int MAX_SIZE = 4096;
+
+    char[] content;
+    int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] content, int cardinality) {
+        this.content = content;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+        int index = Arrays.binarySearch(content, 0, cardinality, value);
+        if (index >= 0) {
+            return this;
+        }
+        if (cardinality >= MAX_SIZE) {
+            return toBitmap().add(value);
+        }
+        int insertAt = -index - 1;
+        if (cardinality == content.length) {
+            content = Arrays.copyOf(content, Math.min(MAX_SIZE, Math.max(4, content.length * 2)));
+        }
+        System.arraycopy(content, insertAt, content, insertAt + 1, cardinality - insertAt);
+        content[insertAt] = value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        int index = Arrays.binarySearch(content, 0, cardinality, value);
+        if (index >= 0) {
+            System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return Arrays.binarySearch(content, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        char[] result = new char[Math.min(cardinality, other.cardinality())];
+        int size = 0;
+        if (other instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) other;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < array.cardinality) {
+                char a = content[i];
+                char b = array.content[j];
+                if (a < b) {
+                    i++;
+                } else if (a > b) {
+                    j++;
+                } else {
+                    result[size++] = a;
+                    i++;
+                    j++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(content[i])) {
+                    result[size++] = content[i];
+                }
+            }
+        }
+        return new ArrayContainer(result, size);
+    }
+
+    @Override
+    Container or(Container other) {
+        if (other instanceof BitmapContainer) {
+            return other.or(this);
+        }
+        ArrayContainer array = (ArrayContainer) other;
+        char[] result = new char[cardinality + array.cardinality];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+            char a = content[i];
+            char b = array.content[j];
+            if (a < b) {
+                result[size++] = a;
+                i++;
+            } else if (a > b) {
+                result[size++] = b;
+                j++;
+            } else {
+                result[size++] = a;
+                i++;
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[size++] = content[i++];
+        }
+        while (j < array.cardinality) {
+            result[size++] = array.content[j++];
+        }
+        ArrayContainer merged = new ArrayContainer(result, size);
+        return size > MAX_SIZE ? merged.toBitmap() : merged;
+    }
+
+    @Override
+    Container andNot(Container other) {
+        char[] result = new char[cardinality];
+        int size = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (!other.contains(content[i])) {
+                result[size++] = content[i];
+            }
+        }
+        return new ArrayContainer(result, size);
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        int count = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (other.contains(content[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(content, Math.max(cardinality, 4)), cardinality);
+    }
+
+    @Override
+    int maxValue() {
+        return content[cardinality - 1];
+    }
+
+    @Override
+    int fillDescending(int high, int skip, int[] out, int pos, int limit) {
+        for (int i = cardinality - 1 - skip; i >= 0 && pos < limit; i--) {
+            out[pos++] = high | content[i];
+        }
+        return pos;
+    }
+
+    BitmapContainer toBitmap() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.add(content[i]);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,178 @@
+package com.study.board.tag;
+
+/**
+ * 원소 4096개 초과 컨테이너 (65536비트 고정 비트맵, 8KB)
+ */
+final class BitmapContainer extends Container {
+
+    private static final int WORDS = 1024;
+
+    final long[] words;
+    int cardinality;
+
+    BitmapContainer() {
+        this(new long[WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+        int index = value >>> 6;
+        long before = words[index];
+        long after = before | (1L << value);
+        if (before != after) {
+            words[index] = after;
+            cardinality++;
+        }
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        int index = value >>> 6;
+        long before = words[index];
+        long after = before & ~(1L << value);
+        if (before != after) {
+            words[index] = after;
+            cardinality--;
+        }
+        return cardinality <= ArrayContainer.MAX_SIZE ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+        long[] otherWords = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & otherWords[i];
+        }
+        return of(result);
+    }
+
+    @Override
+    Container or(Container other) {
+        long[] result = words.clone();
+        if (other instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) other;
+            for (int i = 0; i < array.cardinality; i++) {
+                char value = array.content[i];
+                result[value >>> 6] |= 1L << value;
+            }
+        } else {
+            long[] otherWords = ((BitmapContainer) other).words;
+            for (int i = 0; i < WORDS; i++) {
+                result[i] |= otherWords[i];
+            }
+        }
+        return of(result);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        long[] result = words.clone();
+        if (other instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) other;
+            for (int i = 0; i < array.cardinality; i++) {
+                char value = array.content[i];
+                result[value >>> 6] &= ~(1L << value);
+            }
+        } else {
+            long[] otherWords = ((BitmapContainer) other).words;
+            for (int i = 0; i < WORDS; i++) {
+                result[i] &= ~otherWords[i];
+            }
+        }
+        return of(result);
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.andCardinality(this);
+        }
+        long[] otherWords = ((BitmapContainer) other).words;
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(words[i] & otherWords[i]);
+        }
+        return count;
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    int maxValue() {
+        for (int i = WORDS - 1; i >= 0; i--) {
+            if (words[i] != 0) {
+                return (i << 6) + 63 - Long.numberOfLeadingZeros(words[i]);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int fillDescending(int high, int skip, int[] out, int pos, int limit) {
+        for (int i = WORDS - 1; i >= 0 && pos < limit; i--) {
+            long word = words[i];
+            int bits = Long.bitCount(word);
+            // 건너뛸 개수가 워드 전체보다 많으면 워드 단위로 건너뜀
+            if (skip >= bits) {
+                skip -= bits;
+                continue;
+            }
+            while (word != 0 && pos < limit) {
+                int bit = 63 - Long.numberOfLeadingZeros(word);
+                word &= ~(1L << bit);
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    out[pos++] = high | (i << 6) + bit;
+                }
+            }
+        }
+        return pos;
+    }
+
+    // 연산 결과 워드로 컨테이너 생성 (원소가 적으면 배열로 변환)
+    private static Container of(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+        return cardinality <= ArrayContainer.MAX_SIZE ? bitmap.toArray() : bitmap;
+    }
+
+    private ArrayContainer toArray() {
+        char[] content = new char[cardinality];
+        int size = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                content[size++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(content, size);
+    }
+}
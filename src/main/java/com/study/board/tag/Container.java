@@ -0,0 +1,39 @@
+package com.study.board.tag;
+
+/**
+ * RoaringBitmap의 하위 16비트 저장소
+ * 원소 수에 따라 정렬 배열(ArrayContainer) 또는 비트맵(BitmapContainer)으로 표현하며,
+ * 변경 연산은 표현이 바뀔 수 있으므로 결과 컨테이너를 반환합니다.
+ */
+abstract class Container {
+
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract int andCardinality(Container other);
+
+    abstract Container copy();
+
+    abstract int maxValue();
+
+    /**
+     * 큰 값부터 skip개를 건너뛴 뒤 out[pos]부터 최대 limit 위치까지 채움 (high는 상위 16비트)
+     * 다음 채울 위치 반환
+     */
+    abstract int fillDescending(int high, int skip, int[] out, int pos, int limit);
+
+    boolean isEmpty() {
+        return cardinality() == 0;
+    }
+}
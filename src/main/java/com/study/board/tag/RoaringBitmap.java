@@ -0,0 +1,231 @@
+package com.study.board.tag;
+
+import java.util.Arrays;
+
+/**
+ * 압축 비트맵 (Roaring 방식)
+ * 값의 상위 16비트로 컨테이너를 나누고, 컨테이너는 원소 수에 따라 정렬 배열 또는 8KB 비트맵으로 저장합니다.
+ * 게시글 ID처럼 0 이상의 정수만 저장하며, 동시 접근은 호출자가 동기화합니다.
+ */
+public final class RoaringBitmap {
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public RoaringBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    private RoaringBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public void add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 저장할 수 없습니다: " + value);
+        }
+        char high = (char) (value >>> 16);
+        int index = indexOf(high);
+        if (index >= 0) {
+            containers[index] = containers[index].add((char) value);
+        } else {
+            insertAt(-index - 1, high, new ArrayContainer().add((char) value));
+        }
+    }
+
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) value);
+        if (container.isEmpty()) {
+            removeAt(index);
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 가장 큰 값 (비어 있으면 -1)
+     */
+    public int max() {
+        return size == 0 ? -1 : keys[size - 1] << 16 | containers[size - 1].maxValue();
+    }
+
+    public RoaringBitmap copy() {
+        Container[] copied = new Container[containers.length];
+        for (int i = 0; i < size; i++) {
+            copied[i] = containers[i].copy();
+        }
+        return new RoaringBitmap(keys.clone(), copied, size);
+    }
+
+    /**
+     * 큰 값부터 offset개를 건너뛴 뒤 최대 limit개 반환 (ID 내림차순 페이지)
+     * 건너뛰는 구간은 컨테이너 원소 수로 한 번에 넘기므로 offset이 커도 값을 하나씩 세지 않습니다.
+     */
+    public int[] pageDescending(int offset, int limit) {
+        int[] out = new int[limit];
+        int pos = 0;
+        int skip = offset;
+        for (int i = size - 1; i >= 0 && pos < limit; i--) {
+            int cardinality = containers[i].cardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+                continue;
+            }
+            pos = containers[i].fillDescending(keys[i] << 16, skip, out, pos, limit);
+            skip = 0;
+        }
+        return pos == limit ? out : Arrays.copyOf(out, pos);
+    }
+
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].and(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        for (; i < a.size; i++) {
+            result.append(a.keys[i], a.containers[i].copy());
+        }
+        for (; j < b.size; j++) {
+            result.append(b.keys[j], b.containers[j].copy());
+        }
+        return result;
+    }
+
+    public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            if (j < b.size && b.keys[j] == a.keys[i]) {
+                result.append(a.keys[i], a.containers[i].andNot(b.containers[j]));
+            } else {
+                result.append(a.keys[i], a.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 교집합 크기 (결과 비트맵을 만들지 않음)
+     */
+    public static int andCardinality(RoaringBitmap a, RoaringBitmap b) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    private int indexOf(char high) {
+        // 마지막 컨테이너에 추가하는 경우가 대부분이므로 먼저 확인
+        if (size > 0 && keys[size - 1] == high) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    // 키 순서대로 컨테이너 추가 (빈 컨테이너는 생략)
+    private void append(char high, Container container) {
+        if (!container.isEmpty()) {
+            insertAt(size, high, container);
+        }
+    }
+
+    private void insertAt(int index, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+}
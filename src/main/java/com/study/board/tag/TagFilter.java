@@ -0,0 +1,44 @@
+package com.study.board.tag;
+
+import com.study.board.util.TextUtil;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 태그 조건 (모두 포함 AND, 하나 이상 포함 OR, 제외 NOT)
+ */
+@Getter
+@ToString
+public class TagFilter {
+
+    public static final TagFilter NONE = new TagFilter(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    // 모두 포함해야 하는 태그
+    private final List<String> allOf;
+
+    // 하나 이상 포함해야 하는 태그
+    private final List<String> anyOf;
+
+    // 포함하지 않아야 하는 태그
+    private final List<String> noneOf;
+
+    private TagFilter(List<String> allOf, List<String> anyOf, List<String> noneOf) {
+        this.allOf = allOf;
+        this.anyOf = anyOf;
+        this.noneOf = noneOf;
+    }
+
+    /**
+     * 태그 이름을 정규화하여 조건 생성 (null은 조건 없음)
+     */
+    public static TagFilter of(List<String> allOf, List<String> anyOf, List<String> noneOf) {
+        return new TagFilter(TextUtil.normalizeTags(allOf), TextUtil.normalizeTags(anyOf), TextUtil.normalizeTags(noneOf));
+    }
+
+    public boolean isEmpty() {
+        return allOf.isEmpty() && anyOf.isEmpty() && noneOf.isEmpty();
+    }
+}
@@ -0,0 +1,357 @@
+package com.study.board.tag;
+
+import com.study.board.cache.InvalidationBus;
+import com.study.board.cache.InvalidationEvent;
+import com.study.board.dto.TagCount;
+import com.study.board.entity.BoardTag;
+import com.study.board.entity.Tag;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.BoardTagRepository;
+import com.study.board.repository.TagRepository;
+import com.study.board.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그별 게시글 비트맵 인덱스
+ * 태그마다 게시글 ID 집합을 RoaringBitmap으로 메모리에 두고, 태그 조건(AND/OR/NOT)을 비트맵 연산으로 계산합니다.
+ * 태그별 게시글 수는 비트맵 원소 수로 바로 구합니다.
+ * 게시글별 태그 ID도 함께 두어, 목록의 게시글마다 태그를 구할 때 전체 태그를 훑지 않습니다.
+ *
+ * 기동 후 DB에서 한 번 적재하고, 이후 변경은 커밋 직후 반영합니다.
+ * 다른 노드의 변경은 InvalidationBus 이벤트를 받아 해당 게시글(또는 새로 작성된 게시글)만 다시 읽습니다.
+ */
+@Component
+@Slf4j
+public class TagIndex {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BoardTagRepository boardTagRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Value("${board.tag.load-batch-size:10000}")
+    private int loadBatchSize = 10000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 상태는 lock으로 보호
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final Map<Integer, String> tagNames = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, Set<Integer>> postTags = new HashMap<>();
+    private RoaringBitmap posts = new RoaringBitmap();
+
+    private volatile boolean loaded;
+
+    @PostConstruct
+    public void init() {
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensureLoaded();
+    }
+
+    /**
+     * DB에서 전체 인덱스 적재 (게시글 ID는 키셋 페이징, 태그별 게시글 ID는 태그마다 1회 조회)
+     */
+    public void load() {
+        long started = System.nanoTime();
+        RoaringBitmap allPosts = new RoaringBitmap();
+        int afterId = 0;
+        while (true) {
+            List<Integer> ids = boardRepository.findIdsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            ids.forEach(allPosts::add);
+            if (ids.size() < loadBatchSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        List<Tag> tags = tagRepository.findAll();
+        Map<Integer, RoaringBitmap> loadedPostings = new HashMap<>();
+        Map<Integer, Set<Integer>> loadedPostTags = new HashMap<>();
+        for (Tag tag : tags) {
+            RoaringBitmap bitmap = new RoaringBitmap();
+            for (Integer boardId : boardTagRepository.findBoardIdsByTagId(tag.getId())) {
+                // 숨긴 게시글(목록 조회에서 제외됨)의 태그 연결은 적재하지 않음
+                if (allPosts.contains(boardId)) {
+                    bitmap.add(boardId);
+                    loadedPostTags.computeIfAbsent(boardId, id -> new HashSet<>()).add(tag.getId());
+                }
+            }
+            loadedPostings.put(tag.getId(), bitmap);
+        }
+
+        lock.writeLock().lock();
+        try {
+            tagIds.clear();
+            tagNames.clear();
+            tags.forEach(this::putTag);
+            postings.clear();
+            postings.putAll(loadedPostings);
+            postTags.clear();
+            postTags.putAll(loadedPostTags);
+            posts = allPosts;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("태그 인덱스 적재 완료 - 게시글 수: {}, 태그 수: {}, 소요: {}ms",
+                allPosts.cardinality(), tags.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    public void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                }
+            }
+        }
+    }
+
+    /**
+     * 태그 조건에 맞는 게시글 ID 집합 (새 비트맵 반환)
+     */
+    public RoaringBitmap filter(TagFilter filter) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = posts;
+            for (String name : filter.getAllOf()) {
+                RoaringBitmap bitmap = bitmapOf(name);
+                if (bitmap == null) {
+                    return new RoaringBitmap();
+                }
+                result = RoaringBitmap.and(result, bitmap);
+            }
+            if (!filter.getAnyOf().isEmpty()) {
+                RoaringBitmap union = new RoaringBitmap();
+                for (String name : filter.getAnyOf()) {
+                    RoaringBitmap bitmap = bitmapOf(name);
+                    if (bitmap != null) {
+                        union = RoaringBitmap.or(union, bitmap);
+                    }
+                }
+                result = RoaringBitmap.and(result, union);
+            }
+            for (String name : filter.getNoneOf()) {
+                RoaringBitmap bitmap = bitmapOf(name);
+                if (bitmap != null) {
+                    result = RoaringBitmap.andNot(result, bitmap);
+                }
+            }
+            return result == posts ? posts.copy() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 태그별 게시글 수 (base가 null이면 전체 게시글 기준), 많은 순으로 최대 limit개
+     */
+    public List<TagCount> counts(RoaringBitmap base, int limit) {
+        ensureLoaded();
+        List<TagCount> counts = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            postings.forEach((tagId, bitmap) -> {
+                int count = base == null ? bitmap.cardinality() : RoaringBitmap.andCardinality(base, bitmap);
+                if (count > 0) {
+                    counts.add(new TagCount(tagNames.get(tagId), count));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        counts.sort(Comparator.comparingInt(TagCount::getCount).reversed().thenComparing(TagCount::getName));
+        return counts.size() > limit ? new ArrayList<>(counts.subList(0, limit)) : counts;
+    }
+
+    /**
+     * 게시글의 태그 이름 (이름순)
+     */
+    public List<String> tagsOf(Integer postId) {
+        ensureLoaded();
+        List<String> names = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Integer tagId : postTags.getOrDefault(postId, Collections.emptySet())) {
+                names.add(tagNames.get(tagId));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * 이미 알고 있는 태그의 ID (없으면 null)
+     */
+    public Integer tagId(String name) {
+        lock.readLock().lock();
+        try {
+            return tagIds.get(name);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 작성/태그 변경 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void putPost(Integer postId, Collection<Tag> tags) {
+        TransactionCallbacks.afterCommit(() -> applyPost(postId, tags));
+    }
+
+    /**
+     * 게시글 삭제 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void removePost(Integer postId) {
+        TransactionCallbacks.afterCommit(() -> applyPost(postId, null));
+    }
+
+    // tags가 null이면 삭제
+    private void applyPost(Integer postId, Collection<Tag> tags) {
+        Set<Integer> tagIdSet = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            if (tags != null) {
+                for (Tag tag : tags) {
+                    putTag(tag);
+                    tagIdSet.add(tag.getId());
+                }
+                posts.add(postId);
+            } else {
+                posts.remove(postId);
+            }
+            Set<Integer> previous = postTags.remove(postId);
+            if (previous != null) {
+                for (Integer tagId : previous) {
+                    if (!tagIdSet.contains(tagId)) {
+                        postings.get(tagId).remove(postId);
+                    }
+                }
+            }
+            for (Integer tagId : tagIdSet) {
+                postings.computeIfAbsent(tagId, id -> new RoaringBitmap()).add(postId);
+            }
+            if (!tagIdSet.isEmpty()) {
+                postTags.put(postId, tagIdSet);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 다른 노드의 변경 반영 (게시글 변경: 해당 게시글만, 목록 무효화(새 글 작성): 마지막 ID 이후 게시글)
+    private void onInvalidation(InvalidationEvent event) {
+        if (!loaded) {
+            return;
+        }
+        try {
+            if (InvalidationEvent.REGION_POST.equals(event.getRegion()) && event.getKey() != null) {
+                reloadPost(Integer.valueOf(event.getKey()));
+            } else if (InvalidationEvent.REGION_PAGES.equals(event.getRegion())) {
+                loadNewPosts();
+            }
+        } catch (RuntimeException e) {
+            log.error("태그 인덱스 갱신 실패 - 이벤트: {}, 오류: {}", event, e.getMessage());
+        }
+    }
+
+    private void reloadPost(Integer postId) {
+        if (!boardRepository.existsById(postId)) {
+            applyPost(postId, null);
+            return;
+        }
+        applyPost(postId, tagsById(boardTagRepository.findTagIdsByBoardId(postId)));
+    }
+
+    private void loadNewPosts() {
+        int afterId;
+        lock.readLock().lock();
+        try {
+            afterId = Math.max(posts.max(), 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Integer, List<Integer>> tagIdsByPost = new HashMap<>();
+        for (BoardTag link : boardTagRepository.findByBoardIdGreaterThan(afterId)) {
+            tagIdsByPost.computeIfAbsent(link.getBoardId(), id -> new ArrayList<>()).add(link.getTagId());
+        }
+        while (true) {
+            List<Integer> ids = boardRepository.findIdsAfter(afterId, PageRequest.of(0, loadBatchSize));
+            for (Integer id : ids) {
+                applyPost(id, tagsById(tagIdsByPost.getOrDefault(id, Collections.emptyList())));
+            }
+            if (ids.size() < loadBatchSize) {
+                return;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    // 태그 ID를 태그로 변환 (모르는 태그만 조회)
+    private List<Tag> tagsById(Collection<Integer> ids) {
+        List<Tag> tags = new ArrayList<>();
+        List<Integer> unknown = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Integer id : ids) {
+                String name = tagNames.get(id);
+                if (name != null) {
+                    tags.add(new Tag(id, name));
+                } else {
+                    unknown.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!unknown.isEmpty()) {
+            tags.addAll(tagRepository.findAllById(unknown));
+        }
+        return tags;
+    }
+
+    private RoaringBitmap bitmapOf(String name) {
+        Integer id = tagIds.get(name);
+        return id == null ? null : postings.get(id);
+    }
+
+    private void putTag(Tag tag) {
+        tagIds.put(tag.getName(), tag.getId());
+        tagNames.put(tag.getId(), tag.getName());
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.board.timing;
+
+/**
+ * 요청 처리 시간 구분
+ * 이름은 Server-Timing 헤더의 항목 이름으로 사용합니다.
+ */
+public enum Phase {
+
+    DB("db", "리포지토리 호출"),
+    MAPPING("map", "DTO 변환"),
+    RENDER("render", "템플릿 렌더링"),
+    FILE("file", "파일 입출력");
+
+    private final String metricName;
+    private final String description;
+
+    Phase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.board.timing;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 템플릿 렌더링 시간 측정
+ * 컨트롤러 처리 후(postHandle)부터 뷰 렌더링 완료(afterCompletion)까지를 렌더링 구간으로 집계합니다.
+ */
+public class RenderTimingInterceptor implements HandlerInterceptor {
+
+    private static final String PREVIOUS_PHASE = RenderTimingInterceptor.class.getName() + ".previous";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null && !isRedirect(modelAndView)) {
+            request.setAttribute(PREVIOUS_PHASE, RequestTiming.enter(Phase.RENDER));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object previous = request.getAttribute(PREVIOUS_PHASE);
+        if (previous != null) {
+            request.removeAttribute(PREVIOUS_PHASE);
+            RequestTiming.exit((Integer) previous);
+        }
+    }
+
+    private boolean isRedirect(ModelAndView modelAndView) {
+        String viewName = modelAndView.getViewName();
+        return viewName != null && viewName.startsWith("redirect:");
+    }
+}
@@ -0,0 +1,25 @@
+package com.study.board.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리포지토리 호출 시간 측정
+ * Spring Data 리포지토리의 모든 메서드 호출을 DB 구간으로 집계합니다.
+ */
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        int previous = RequestTiming.enter(Phase.DB);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+}
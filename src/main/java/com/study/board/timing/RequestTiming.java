@@ -0,0 +1,160 @@
+package com.study.board.timing;
+
+import java.util.Locale;
+
+/**
+ * 요청별 처리 시간 집계
+ * 현재 스레드의 요청에 대해 구간별 소요 시간과 호출 횟수를 배열에 누적합니다.
+ * 구간이 중첩되면 바깥 구간의 시간은 멈추고 안쪽 구간에만 더하므로, 구간별 시간의 합이 전체 시간을 넘지 않습니다.
+ * 요청 밖(스케줄러 등)에서 호출하면 아무것도 하지 않습니다.
+ *
+ * <pre>
+ * int previous = RequestTiming.enter(Phase.DB);
+ * try {
+ *     ...
+ * } finally {
+ *     RequestTiming.exit(previous);
+ * }
+ * </pre>
+ */
+public final class RequestTiming {
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final int IDLE = -1;
+    private static final int NOT_TRACKED = -2;
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final int[] phaseCounts = new int[PHASES.length];
+    private int active = IDLE;
+    private long activeSince;
+    private long endNanos;
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * 현재 스레드에서 요청 시간 측정 시작
+     */
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * 현재 스레드의 측정 종료
+     */
+    public static void end(RequestTiming timing) {
+        timing.stop(System.nanoTime());
+        CURRENT.remove();
+    }
+
+    /**
+     * 구간 시작 (반환값은 exit에 그대로 전달)
+     */
+    public static int enter(Phase phase) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return NOT_TRACKED;
+        }
+        long now = System.nanoTime();
+        int previous = timing.active;
+        timing.pause(now);
+        timing.active = phase.ordinal();
+        timing.activeSince = now;
+        timing.phaseCounts[phase.ordinal()]++;
+        return previous;
+    }
+
+    /**
+     * 구간 종료 후 바깥 구간 재개
+     */
+    public static void exit(int previous) {
+        if (previous == NOT_TRACKED) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        timing.pause(now);
+        timing.active = previous;
+        timing.activeSince = now;
+    }
+
+    private void pause(long now) {
+        if (active >= 0) {
+            phaseNanos[active] += now - activeSince;
+        }
+    }
+
+    private void stop(long now) {
+        pause(now);
+        active = IDLE;
+        endNanos = now;
+    }
+
+    public long totalNanos() {
+        return (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    public long phaseNanos(Phase phase) {
+        long nanos = phaseNanos[phase.ordinal()];
+        // 진행 중인 구간은 현재까지의 시간 포함
+        if (active == phase.ordinal() && endNanos == 0) {
+            nanos += System.nanoTime() - activeSince;
+        }
+        return nanos;
+    }
+
+    public int phaseCount(Phase phase) {
+        return phaseCounts[phase.ordinal()];
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: db;dur=3.1;desc="2", map;dur=0.2, app;dur=1.0, total;dur=4.3)
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(96);
+        long total = totalNanos();
+        long measured = 0;
+        for (Phase phase : PHASES) {
+            if (phaseCounts[phase.ordinal()] == 0) {
+                continue;
+            }
+            long nanos = phaseNanos(phase);
+            measured += nanos;
+            header.append(phase.metricName()).append(";dur=").append(millis(nanos))
+                    .append(";desc=\"").append(phaseCounts[phase.ordinal()]).append("\", ");
+        }
+        header.append("app;dur=").append(millis(Math.max(0, total - measured)));
+        header.append(", total;dur=").append(millis(total));
+        return header.toString();
+    }
+
+    /**
+     * 느린 요청 로그용 상세 내역
+     */
+    public String toBreakdown() {
+        StringBuilder breakdown = new StringBuilder(128);
+        long total = totalNanos();
+        long measured = 0;
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos(phase);
+            measured += nanos;
+            breakdown.append(phase.description()).append(' ').append(millis(nanos)).append("ms/")
+                    .append(phaseCounts[phase.ordinal()]).append("회, ");
+        }
+        breakdown.append("기타 ").append(millis(Math.max(0, total - measured))).append("ms");
+        return breakdown.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
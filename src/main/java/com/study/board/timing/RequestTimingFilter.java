@@ -0,0 +1,50 @@
+package com.study.board.timing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 처리 시간 측정 필터
+ * 요청 전체 시간을 구간별로 나누어 Server-Timing 헤더로 응답하고,
+ * 기준 시간을 넘은 요청은 구간별 상세 내역을 로그로 남깁니다.
+ */
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final long slowRequestNanos;
+    private final boolean serverTimingHeader;
+
+    public RequestTimingFilter(long slowRequestMillis, boolean serverTimingHeader) {
+        this.slowRequestNanos = slowRequestMillis * 1_000_000L;
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ServerTimingResponseWrapper wrapper = serverTimingHeader ? new ServerTimingResponseWrapper(response, timing) : null;
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            RequestTiming.end(timing);
+            if (wrapper != null) {
+                wrapper.writeFinalHeader();
+            }
+            if (timing.totalNanos() >= slowRequestNanos) {
+                String query = request.getQueryString();
+                log.warn("느린 요청 - {} {}{}, 상태: {}, 전체: {}ms, {}",
+                        request.getMethod(), request.getRequestURI(), query != null ? "?" + query : "",
+                        response.getStatus(), timing.totalNanos() / 1_000_000L, timing.toBreakdown());
+            }
+        }
+    }
+}
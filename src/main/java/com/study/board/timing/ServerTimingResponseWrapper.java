@@ -0,0 +1,180 @@
+package com.study.board.timing;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * 응답이 커밋되기 직전에 Server-Timing 헤더를 넣는 응답 래퍼
+ * 본문이 버퍼보다 커서 처리 도중 커밋되는 경우(파일 다운로드 등) 그 시점까지의 측정값을 헤더로 보내고,
+ * 끝날 때까지 커밋되지 않으면 필터가 최종 측정값으로 헤더를 설정합니다.
+ */
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    // 문자 출력은 인코딩 전이므로 UTF-8 최대 길이로 보수적으로 계산
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final RequestTiming timing;
+    private long written;
+    private boolean headerWritten;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, RequestTiming timing) {
+        super(response);
+        this.timing = timing;
+    }
+
+    /**
+     * 아직 커밋되지 않았다면 최종 측정값으로 헤더 설정
+     */
+    void writeFinalHeader() {
+        if (!isCommitted()) {
+            setHeader(RequestTimingFilter.SERVER_TIMING, timing.toServerTiming());
+            headerWritten = true;
+        }
+    }
+
+    private void beforeWrite(long bytes) {
+        if (headerWritten) {
+            return;
+        }
+        written += bytes;
+        if (written > getBufferSize()) {
+            beforeCommit();
+        }
+    }
+
+    private void beforeCommit() {
+        if (!headerWritten && !isCommitted()) {
+            setHeader(RequestTimingFilter.SERVER_TIMING, timing.toServerTiming());
+        }
+        headerWritten = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TimingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new TimingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        beforeCommit();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        beforeCommit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        beforeCommit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        beforeCommit();
+        super.sendRedirect(location);
+    }
+
+    private class TimingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private TimingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeWrite(1);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            beforeWrite(len);
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            beforeCommit();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            beforeCommit();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class TimingWriter extends Writer {
+
+        private final PrintWriter delegate;
+
+        private TimingWriter(PrintWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            beforeWrite((long) len * MAX_BYTES_PER_CHAR);
+            delegate.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            beforeWrite((long) len * MAX_BYTES_PER_CHAR);
+            delegate.write(str, off, len);
+        }
+
+        @Override
+        public void write(int c) {
+            beforeWrite(MAX_BYTES_PER_CHAR);
+            delegate.write(c);
+        }
+
+        @Override
+        public void flush() {
+            beforeCommit();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() {
+            beforeCommit();
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.study.board.timing;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+/**
+ * 읽기 시간을 파일 입출력 구간으로 집계하는 파일 리소스
+ * 응답 쓰기(소켓 전송) 시간은 포함하지 않고 디스크에서 읽는 시간만 집계합니다.
+ * 스트림을 닫을 때 읽은 바이트 수를 onClose로 전달합니다.
+ * 저장 시 기록한 크기를 넘기면 Content-Length를 구할 때 파일 정보를 조회하지 않습니다.
+ */
+public class TimedFileResource extends FileSystemResource {
+
+    private final LongConsumer onClose;
+    private final long knownLength;
+
+    public TimedFileResource(Path path) {
+        this(path, null);
+    }
+
+    public TimedFileResource(Path path, LongConsumer onClose) {
+        this(path, -1, onClose);
+    }
+
+    public TimedFileResource(Path path, long knownLength, LongConsumer onClose) {
+        super(path);
+        this.knownLength = knownLength;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return knownLength >= 0 ? knownLength : super.contentLength();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        int previous = RequestTiming.enter(Phase.FILE);
+        try {
+            return new TimedInputStream(super.getInputStream(), onClose);
+        } finally {
+            RequestTiming.exit(previous);
+        }
+    }
+
+    private static class TimedInputStream extends FilterInputStream {
+
+        private final LongConsumer onClose;
+        private long bytesRead;
+        private boolean closed;
+
+        private TimedInputStream(InputStream in, LongConsumer onClose) {
+            super(in);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int previous = RequestTiming.enter(Phase.FILE);
+            try {
+                int b = super.read();
+                if (b >= 0) {
+                    bytesRead++;
+                }
+                return b;
+            } finally {
+                RequestTiming.exit(previous);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int previous = RequestTiming.enter(Phase.FILE);
+            try {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    bytesRead += read;
+                }
+                return read;
+            } finally {
+                RequestTiming.exit(previous);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!closed && onClose != null) {
+                    onClose.accept(bytesRead);
+                }
+                closed = true;
+            }
+        }
+    }
+}
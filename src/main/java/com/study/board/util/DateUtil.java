@@ -1,7 +1,9 @@
 package com.study.board.util;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 /**
  * 날짜/시간 관련 유틸리티 클래스
@@ -42,6 +44,20 @@ public class DateUtil {
         return dateTime.format(TIME_FORMATTER);
     }
 
+    /**
+     * 연월 문자열(yyyy-MM) 파싱 (형식이 다르면 IllegalArgumentException)
+     */
+    public static YearMonth parseMonth(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("연월 값이 없습니다.");
+        }
+        try {
+            return YearMonth.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 연월 형식입니다 (yyyy-MM): " + value);
+        }
+    }
+
     /**
      * 상대적 시간 표시 (예: 방금 전, 1분 전, 1시간 전, 1일 전)
      */
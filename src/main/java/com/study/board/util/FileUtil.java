@@ -1,6 +1,12 @@
 package com.study.board.util;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 파일 관련 유틸리티 클래스
@@ -9,6 +15,72 @@ public class FileUtil {
 
     private static final String[] SIZE_UNITS = {"B", "KB", "MB", "GB", "TB"};
 
+    /**
+     * 매직 넘버 판별에 필요한 앞부분 바이트 수
+     */
+    public static final int SNIFF_LENGTH = 16;
+
+    private static final String OCTET_STREAM = "application/octet-stream";
+    private static final String ZIP = "application/zip";
+    private static final String OLE = "application/x-ole-storage";
+
+    private static final int IMAGE = 1;
+    private static final int DOCUMENT = 1 << 1;
+    private static final int COMPRESSIBLE = 1 << 2;
+
+    // 확장자별 형식 (MIME 타입, 컨테이너 형식, 분류)
+    private static final Map<String, FileType> TYPES = new HashMap<>();
+
+    static {
+        type("jpg", "image/jpeg", null, IMAGE);
+        type("jpeg", "image/jpeg", null, IMAGE);
+        type("png", "image/png", null, IMAGE);
+        type("gif", "image/gif", null, IMAGE);
+        type("bmp", "image/bmp", null, IMAGE);
+        type("webp", "image/webp", null, IMAGE);
+        type("pdf", "application/pdf", null, DOCUMENT);
+        type("doc", "application/msword", OLE, DOCUMENT | COMPRESSIBLE);
+        type("hwp", "application/x-hwp", OLE, DOCUMENT | COMPRESSIBLE);
+        type("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document", ZIP, DOCUMENT);
+        type("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ZIP, DOCUMENT);
+        type("pptx", "application/vnd.openxmlformats-officedocument.presentationml.presentation", ZIP, DOCUMENT);
+        type("xls", "application/vnd.ms-excel", OLE, DOCUMENT | COMPRESSIBLE);
+        type("ppt", "application/vnd.ms-powerpoint", OLE, DOCUMENT | COMPRESSIBLE);
+        type("txt", "text/plain", null, DOCUMENT | COMPRESSIBLE);
+        type("csv", "text/csv", null, COMPRESSIBLE);
+        type("log", "text/plain", null, COMPRESSIBLE);
+        type("md", "text/markdown", null, COMPRESSIBLE);
+        type("json", "application/json", null, COMPRESSIBLE);
+        type("xml", "application/xml", null, COMPRESSIBLE);
+        type("html", "text/html", null, COMPRESSIBLE);
+        type("htm", "text/html", null, COMPRESSIBLE);
+        type("rtf", "application/rtf", null, COMPRESSIBLE);
+        type("zip", ZIP, null, 0);
+        type("rar", "application/vnd.rar", null, 0);
+        type("gz", "application/gzip", null, 0);
+        type("7z", "application/x-7z-compressed", null, 0);
+    }
+
+    // 매직 넘버 (-1은 아무 바이트)
+    private static final List<Signature> SIGNATURES = Arrays.asList(
+            new Signature("image/png", 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A),
+            new Signature("image/jpeg", 0xFF, 0xD8, 0xFF),
+            new Signature("image/gif", 'G', 'I', 'F', '8', -1, 'a'),
+            new Signature("image/webp", 'R', 'I', 'F', 'F', -1, -1, -1, -1, 'W', 'E', 'B', 'P'),
+            new Signature("image/bmp", 'B', 'M', -1, -1, -1, -1, 0, 0, 0, 0),
+            new Signature("application/pdf", '%', 'P', 'D', 'F', '-'),
+            new Signature(ZIP, 'P', 'K', 0x03, 0x04),
+            new Signature(ZIP, 'P', 'K', 0x05, 0x06),
+            new Signature(OLE, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1),
+            new Signature("application/vnd.rar", 'R', 'a', 'r', '!', 0x1A, 0x07),
+            new Signature("application/gzip", 0x1F, 0x8B),
+            new Signature("application/x-7z-compressed", '7', 'z', 0xBC, 0xAF, 0x27, 0x1C));
+
+    // 매직 넘버로 판별하는 형식 (내용이 시그니처와 맞지 않으면 확장자를 믿지 않음)
+    private static final Set<String> SIGNED_TYPES = SIGNATURES.stream()
+            .map(signature -> signature.mimeType)
+            .collect(Collectors.toSet());
+
     /**
      * 파일 크기를 읽기 쉬운 형태로 변환
      * 예: 1024 -> 1.0 KB, 1048576 -> 1.0 MB
@@ -73,15 +145,118 @@ public class FileUtil {
      * 파일 타입이 이미지인지 확인
      */
     public static boolean isImageFile(String filename) {
-        String extension = getFileExtension(filename);
-        return extension.matches("^(jpg|jpeg|png|gif|bmp|webp)$");
+        FileType type = TYPES.get(getFileExtension(filename));
+        return type != null && type.has(IMAGE);
     }
 
     /**
      * 파일 타입이 문서인지 확인
      */
     public static boolean isDocumentFile(String filename) {
-        String extension = getFileExtension(filename);
-        return extension.matches("^(pdf|doc|docx|xls|xlsx|ppt|pptx|txt|hwp)$");
+        FileType type = TYPES.get(getFileExtension(filename));
+        return type != null && type.has(DOCUMENT);
+    }
+
+    /**
+     * 압축 저장 효과가 큰 파일인지 확인 (텍스트, 구형 오피스/한글 문서)
+     * docx/xlsx/pptx, pdf, 이미지는 이미 압축된 형식이므로 제외합니다.
+     */
+    public static boolean isCompressibleFile(String filename) {
+        FileType type = TYPES.get(getFileExtension(filename));
+        return type != null && type.has(COMPRESSIBLE);
+    }
+
+    /**
+     * Content-Type이 이미지인지 확인
+     */
+    public static boolean isImageContentType(String contentType) {
+        return contentType != null && contentType.startsWith("image/");
+    }
+
+    /**
+     * 파일명(확장자)으로 Content-Type 결정 (모르는 확장자는 application/octet-stream)
+     * 파일 내용이나 OS의 MIME 데이터베이스를 조회하지 않습니다.
+     */
+    public static String contentTypeOf(String filename) {
+        FileType type = TYPES.get(getFileExtension(filename));
+        return type == null ? OCTET_STREAM : type.mimeType;
+    }
+
+    /**
+     * 파일 앞부분(매직 넘버)과 파일명으로 Content-Type 결정
+     * - 매직 넘버가 있으면 내용 기준 (zip/OLE 컨테이너는 확장자로 docx, hwp 등을 구분)
+     * - 매직 넘버가 없으면 확장자 기준, 단 매직 넘버가 있어야 하는 형식(이미지, pdf 등)은 application/octet-stream
+     *
+     * @param head   파일 앞부분 (SNIFF_LENGTH 바이트면 충분)
+     * @param length head에서 유효한 바이트 수
+     */
+    public static String detectContentType(byte[] head, int length, String filename) {
+        FileType byName = TYPES.get(getFileExtension(filename));
+        String sniffed = sniff(head, length);
+        if (sniffed != null) {
+            if (byName != null && sniffed.equals(byName.container)) {
+                return byName.mimeType;
+            }
+            return sniffed;
+        }
+        if (byName == null || SIGNED_TYPES.contains(byName.mimeType) || SIGNED_TYPES.contains(byName.container)) {
+            return OCTET_STREAM;
+        }
+        return byName.mimeType;
+    }
+
+    // 매직 넘버로 판별한 Content-Type (일치하는 시그니처가 없으면 null)
+    private static String sniff(byte[] head, int length) {
+        for (Signature signature : SIGNATURES) {
+            if (signature.matches(head, length)) {
+                return signature.mimeType;
+            }
+        }
+        return null;
+    }
+
+    private static void type(String extension, String mimeType, String container, int flags) {
+        TYPES.put(extension, new FileType(mimeType, container, flags));
+    }
+
+    private static final class FileType {
+
+        private final String mimeType;
+        // zip/OLE처럼 여러 형식이 공유하는 컨테이너 (매직 넘버로는 컨테이너까지만 판별)
+        private final String container;
+        private final int flags;
+
+        private FileType(String mimeType, String container, int flags) {
+            this.mimeType = mimeType;
+            this.container = container;
+            this.flags = flags;
+        }
+
+        private boolean has(int flag) {
+            return (flags & flag) != 0;
+        }
+    }
+
+    private static final class Signature {
+
+        private final String mimeType;
+        private final int[] magic;
+
+        private Signature(String mimeType, int... magic) {
+            this.mimeType = mimeType;
+            this.magic = magic;
+        }
+
+        private boolean matches(byte[] head, int length) {
+            if (length < magic.length) {
+                return false;
+            }
+            for (int i = 0; i < magic.length; i++) {
+                if (magic[i] >= 0 && (head[i] & 0xFF) != magic[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
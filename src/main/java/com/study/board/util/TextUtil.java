@@ -0,0 +1,113 @@
+package com.study.board.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 텍스트 관련 유틸리티 클래스
+ */
+public class TextUtil {
+
+    /**
+     * 기본 미리보기 길이 (문자 수)
+     */
+    public static final int DEFAULT_EXCERPT_LENGTH = 150;
+
+    private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final String ELLIPSIS = "…";
+
+    /**
+     * 게시글당 최대 태그 수
+     */
+    public static final int MAX_TAGS = 10;
+
+    /**
+     * 태그 최대 길이 (문자 수)
+     */
+    public static final int MAX_TAG_LENGTH = 30;
+
+    /**
+     * 본문을 한 줄짜리 일반 텍스트로 변환 (태그 제거, 공백 정리)
+     */
+    public static String toPlainText(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String withoutTags = TAG_PATTERN.matcher(text).replaceAll(" ");
+        return WHITESPACE_PATTERN.matcher(withoutTags).replaceAll(" ").trim();
+    }
+
+    /**
+     * 미리보기 문자열 생성
+     * 최대 길이를 넘으면 잘라낸 뒤 말줄임표를 붙입니다. (서로게이트 쌍이 잘리지 않도록 코드포인트 기준)
+     */
+    public static String excerpt(String text, int maxLength) {
+        String plain = toPlainText(text);
+        if (plain.codePointCount(0, plain.length()) <= maxLength) {
+            return plain;
+        }
+        int end = plain.offsetByCodePoints(0, maxLength - 1);
+        return plain.substring(0, end).trim() + ELLIPSIS;
+    }
+
+    /**
+     * 기본 길이로 미리보기 문자열 생성
+     */
+    public static String excerpt(String text) {
+        return excerpt(text, DEFAULT_EXCERPT_LENGTH);
+    }
+
+    /**
+     * 공백 기준 단어 수 계산
+     */
+    public static int countWords(String text) {
+        String plain = toPlainText(text);
+        if (plain.isEmpty()) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = 0; i < plain.length(); i++) {
+            if (plain.charAt(i) == ' ') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 태그 이름 정규화 (앞의 #과 공백 제거, 소문자 변환, 중간 공백은 -로 치환, 중복 제거)
+     * 태그 수나 길이가 제한을 넘으면 IllegalArgumentException
+     */
+    public static List<String> normalizeTags(Collection<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag == null) {
+                    continue;
+                }
+                String name = tag.trim();
+                while (name.startsWith("#")) {
+                    name = name.substring(1).trim();
+                }
+                name = WHITESPACE_PATTERN.matcher(name).replaceAll("-").toLowerCase(Locale.ROOT);
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (name.codePointCount(0, name.length()) > MAX_TAG_LENGTH) {
+                    throw new IllegalArgumentException("태그는 " + MAX_TAG_LENGTH + "자 이하로 입력해주세요.");
+                }
+                normalized.add(name);
+            }
+        }
+        if (normalized.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("태그는 " + MAX_TAGS + "개까지 입력할 수 있습니다.");
+        }
+        return new ArrayList<>(normalized);
+    }
+}
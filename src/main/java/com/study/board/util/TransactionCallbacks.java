@@ -0,0 +1,27 @@
+package com.study.board.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 유틸리티
+ */
+public class TransactionCallbacks {
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (롤백되면 실행하지 않음)
+     * 트랜잭션 밖에서 호출하면 반영할 커밋이 없으므로 바로 실행합니다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.board.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.FilterChain;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private AdmissionControl admissionControl;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("board.admission.read.rate-per-second", "1")
+                .withProperty("board.admission.read.burst", "2")
+                .withProperty("board.admission.download.max-concurrent", "1");
+        admissionControl = new AdmissionControl();
+        ReflectionTestUtils.setField(admissionControl, "environment", environment);
+        ReflectionTestUtils.setField(admissionControl, "nanoClock", (LongSupplier) () -> 0L);
+        admissionControl.init();
+        filter = new AdmissionControlFilter(admissionControl, true);
+    }
+
+    @Test
+    void classify_경로와_메서드로_분류() {
+        assertEquals(EndpointClass.READ, EndpointClass.classify(request("GET", "/board/list")));
+        assertEquals(EndpointClass.SEARCH, EndpointClass.classify(withKeyword(request("GET", "/board/list"))));
+        assertEquals(EndpointClass.WRITE, EndpointClass.classify(request("POST", "/board/writepro")));
+        assertEquals(EndpointClass.WRITE, EndpointClass.classify(request("GET", "/board/delete")));
+        assertEquals(EndpointClass.DOWNLOAD, EndpointClass.classify(request("GET", "/board/download")));
+        assertNull(EndpointClass.classify(request("GET", "/swagger-ui.html")));
+    }
+
+    @Test
+    void doFilter_요청한도초과_429와_RetryAfter() throws Exception {
+        // Given
+        filter.doFilter(request("GET", "/board/list"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("GET", "/board/list"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("GET", "/board/list"), response, chain);
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        assertTrue(response.getContentAsString().contains("\"status\":429"));
+    }
+
+    @Test
+    void doFilter_다른클라이언트는_영향없음() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(request("GET", "/board/list"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        MockHttpServletRequest other = request("GET", "/board/list");
+        other.addHeader("X-Forwarded-For", "203.0.113.9, 10.0.0.1");
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(other, response, new MockFilterChain());
+
+        // Then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_동시실행한도초과_503_처리후자리반환() throws Exception {
+        // Given
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        FilterChain slowDownload = (req, res) -> {
+            // 첫 다운로드가 처리 중인 동안 다른 클라이언트의 다운로드 요청
+            MockHttpServletRequest second = request("GET", "/board/download");
+            second.setRemoteAddr("10.0.0.2");
+            MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+            filter.doFilter(second, secondResponse, new MockFilterChain());
+            nested.set(secondResponse);
+        };
+
+        // When
+        filter.doFilter(request("GET", "/board/download"), new MockHttpServletResponse(), slowDownload);
+        MockHttpServletRequest third = request("GET", "/board/download");
+        third.setRemoteAddr("10.0.0.3");
+        MockHttpServletResponse thirdResponse = new MockHttpServletResponse();
+        filter.doFilter(third, thirdResponse, new MockFilterChain());
+
+        // Then
+        assertEquals(503, nested.get().getStatus());
+        assertEquals("1", nested.get().getHeader("Retry-After"));
+        assertEquals(200, thirdResponse.getStatus());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> download = (Map<String, Object>) admissionControl.metrics().get("download");
+        assertEquals(2L, download.get("admitted"));
+        assertEquals(1L, download.get("shed"));
+        assertEquals(0, download.get("inFlight"));
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    private MockHttpServletRequest withKeyword(MockHttpServletRequest request) {
+        request.setParameter("searchKeyword", "spring");
+        return request;
+    }
+}
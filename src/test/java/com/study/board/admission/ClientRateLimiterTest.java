@@ -0,0 +1,97 @@
+package com.study.board.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_클라이언트별_독립된한도() {
+        // Given
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 100, 4, 60_000, 0L);
+
+        // When & Then
+        assertEquals(0L, limiter.tryAcquire("10.0.0.1", 0L));
+        assertTrue(limiter.tryAcquire("10.0.0.1", 0L) > 0);
+        assertEquals(0L, limiter.tryAcquire("10.0.0.2", 0L));
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void evictIdle_유휴버킷제거() {
+        // Given
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 100, 4, 10_000, 0L);
+        limiter.tryAcquire("10.0.0.1", 0L);
+        limiter.tryAcquire("10.0.0.2", 9 * SECOND);
+
+        // When
+        int removed = limiter.evictIdle(15 * SECOND);
+
+        // Then
+        assertEquals(1, removed);
+        assertEquals(1, limiter.size());
+        assertEquals(1, limiter.getEvictions());
+    }
+
+    @Test
+    void tryAcquire_최대클라이언트초과_키별예비버킷사용() {
+        // Given (구역 1개, 클라이언트 최대 2개)
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, 1, 60_000, 0L);
+        limiter.tryAcquire("a", 0L);
+        limiter.tryAcquire("b", 0L);
+
+        // When
+        long first = limiter.tryAcquire("c", 0L);
+        long again = limiter.tryAcquire("c", 0L);
+        long other = limiter.tryAcquire("d", 0L);
+
+        // Then
+        assertEquals(2, limiter.size());
+        assertEquals(0L, first);
+        assertTrue(again > 0);
+        assertEquals(0L, other);
+        assertEquals(3, limiter.getOverflows());
+    }
+
+    @Test
+    void tryAcquire_키를바꿔가며요청해도_다른새클라이언트는대부분허용() {
+        // Given (구역 1개, 클라이언트 최대 2개, 이미 가득 참)
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, 1, 60_000, 0L);
+        limiter.tryAcquire("a", 0L);
+        limiter.tryAcquire("b", 0L);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("scraper-" + i, 0L);
+        }
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (limiter.tryAcquire("client-" + i, 0L) == 0L) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertTrue(allowed >= 80, "허용된 새 클라이언트: " + allowed);
+    }
+
+    @Test
+    void tryAcquire_구역이가득차도_요청경로에서는정리하지않음() {
+        // Given (구역 1개, 클라이언트 최대 1개)
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 1, 1, 10_000, 0L);
+        limiter.tryAcquire("a", 0L);
+
+        // When - a가 유휴 상태가 된 뒤 새 키 요청
+        limiter.tryAcquire("b", 20 * SECOND);
+
+        // Then - 주기 정리 전까지는 예비 버킷 사용
+        assertEquals(0, limiter.getEvictions());
+        assertEquals(1, limiter.getOverflows());
+        assertEquals(1, limiter.evictIdle(20 * SECOND));
+        assertEquals(0L, limiter.tryAcquire("b", 20 * SECOND));
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.study.board.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_연속허용수까지_허용후_거부() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 3, 0L);
+
+        // When & Then
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(SECOND, bucket.tryAcquire(0L));
+    }
+
+    @Test
+    void tryAcquire_시간경과시_토큰충전() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1, 0L);
+        bucket.tryAcquire(0L);
+
+        // When & Then
+        assertTrue(bucket.tryAcquire(SECOND / 4) > 0);
+        assertEquals(0L, bucket.tryAcquire(SECOND / 2));
+    }
+
+    @Test
+    void isIdle_가득찬버킷만_유휴() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 5, 0L);
+        bucket.tryAcquire(0L);
+        bucket.tryAcquire(0L);
+
+        // When & Then
+        assertFalse(bucket.isIdle(SECOND, 10 * SECOND));
+        assertTrue(bucket.isIdle(12 * SECOND, 10 * SECOND));
+    }
+
+    @Test
+    void 생성자_잘못된한도_예외발생() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, 0L));
+    }
+}
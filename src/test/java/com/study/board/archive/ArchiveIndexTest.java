@@ -0,0 +1,149 @@
+package com.study.board.archive;
+
+import com.study.board.cache.InvalidationEvent;
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.dto.ArchiveCount;
+import com.study.board.entity.Board;
+import com.study.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "board.cache.invalidation.transport=loopback")
+@Import({ArchiveIndex.class, LoopbackInvalidationBus.class, JpaAuditingConfig.class})
+class ArchiveIndexTest {
+
+    @Autowired
+    private ArchiveIndex archiveIndex;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LoopbackInvalidationBus invalidationBus;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        post(LocalDateTime.of(2025, 3, 1, 9, 0));
+        post(LocalDateTime.of(2025, 3, 1, 23, 59));
+        post(LocalDateTime.of(2025, 3, 14, 12, 0));
+        post(LocalDateTime.of(2025, 4, 2, 8, 30));
+        post(LocalDateTime.of(2024, 12, 31, 23, 0));
+
+        archiveIndex.load();
+    }
+
+    @Test
+    void months_최근월부터_월별게시글수() {
+        // When
+        List<ArchiveCount> months = archiveIndex.months(10);
+
+        // Then
+        assertEquals(3, months.size());
+        assertEquals(new ArchiveCount("2025-04", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), 1), months.get(0));
+        assertEquals(new ArchiveCount("2025-03", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 3), months.get(1));
+        assertEquals("2024-12", months.get(2).getPeriod());
+        assertEquals(2, archiveIndex.months(2).size());
+    }
+
+    @Test
+    void days_해당월_게시글있는날만_날짜순() {
+        // When
+        List<ArchiveCount> days = archiveIndex.days(YearMonth.of(2025, 3));
+
+        // Then
+        assertEquals(2, days.size());
+        assertEquals(new ArchiveCount("2025-03-01", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1), 2), days.get(0));
+        assertEquals("2025-03-14", days.get(1).getPeriod());
+        assertTrue(archiveIndex.days(YearMonth.of(2025, 5)).isEmpty());
+    }
+
+    @Test
+    void postCreated_postDeleted_카운터증감() {
+        // Given
+        // 트랜잭션 안에서는 커밋 이후에 반영되므로 테스트 트랜잭션을 먼저 종료
+        TestTransaction.end();
+
+        // When
+        archiveIndex.postCreated(LocalDateTime.of(2025, 5, 5, 10, 0));
+        archiveIndex.postDeleted(LocalDateTime.of(2025, 4, 2, 8, 30));
+
+        // Then
+        List<ArchiveCount> months = archiveIndex.months(10);
+        assertEquals("2025-05", months.get(0).getPeriod());
+        assertEquals(1, months.get(0).getCount());
+        assertEquals("2025-03", months.get(1).getPeriod());
+        assertTrue(archiveIndex.days(YearMonth.of(2025, 4)).isEmpty());
+    }
+
+    @Test
+    void archive이벤트_다른노드의증감만반영_집계쿼리는다시실행하지않음() {
+        // Given
+        // 테스트 트랜잭션을 롤백하여 DB를 비우고, 이벤트는 트랜잭션 밖에서 바로 전달
+        TestTransaction.end();
+
+        // When
+        invalidationBus.publish(InvalidationEvent.builder().region(InvalidationEvent.REGION_PAGES).build());
+        invalidationBus.publish(InvalidationEvent.builder().region(InvalidationEvent.REGION_POST).key("1").build());
+        invalidationBus.publish(InvalidationEvent.builder()
+                .region(InvalidationEvent.REGION_ARCHIVE).key("other:2025-05-05:1").build());
+        invalidationBus.publish(InvalidationEvent.builder()
+                .region(InvalidationEvent.REGION_ARCHIVE).key("other:2025-04-02:-1").build());
+        archiveIndex.refreshIfStale();
+
+        // Then - DB는 비었지만 다시 적재하지 않고 전달된 증감만 반영
+        List<ArchiveCount> months = archiveIndex.months(10);
+        assertEquals(3, months.size());
+        assertEquals(new ArchiveCount("2025-05", LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31), 1), months.get(0));
+        assertEquals("2025-03", months.get(1).getPeriod());
+        assertEquals("2024-12", months.get(2).getPeriod());
+    }
+
+    @Test
+    void postCreated_자기가발행한archive이벤트는_한번만반영() {
+        // Given
+        TestTransaction.end();
+
+        // When (루프백 버스는 발행한 이벤트를 같은 프로세스에도 전달)
+        archiveIndex.postCreated(LocalDateTime.of(2025, 3, 14, 18, 0));
+
+        // Then
+        assertEquals(4, archiveIndex.months(10).get(1).getCount());
+        assertEquals(2, archiveIndex.days(YearMonth.of(2025, 3)).get(1).getCount());
+    }
+
+    @Test
+    void countByCreatedDay_일별집계() {
+        // When
+        List<Object[]> rows = boardRepository.countByCreatedDay();
+
+        // Then
+        assertEquals(4, rows.size());
+    }
+
+    // 작성일은 감사 필드(수정 불가 컬럼)이므로 저장 후 직접 변경
+    private void post(LocalDateTime createdAt) {
+        Board board = boardRepository.saveAndFlush(Board.builder()
+                .title("제목").content("내용").author("작성자").viewCount(0).build());
+        entityManager.createNativeQuery("UPDATE board SET created_at = ? WHERE id = ?")
+                .setParameter(1, createdAt)
+                .setParameter(2, board.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+}
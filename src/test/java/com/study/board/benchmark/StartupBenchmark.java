@@ -0,0 +1,180 @@
+package com.study.board.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크
+ * 모드별로 애플리케이션을 여러 번 새로 띄워 프로세스 시작부터 첫 요청(/board/list) 성공까지의 시간과
+ * 첫 요청 직후의 RSS(상주 메모리, Linux의 /proc/{pid}/status 기준)를 측정합니다.
+ *
+ * <pre>
+ * ./gradlew startupBenchmark -Pruns=5
+ * </pre>
+ *
+ * 시스템 프로퍼티
+ * - benchmark.classpath: 애플리케이션 클래스패스 (AppCDS 아카이브를 만든 클래스패스와 같아야 함)
+ * - benchmark.archive: AppCDS 아카이브 경로 (없으면 해당 모드 생략)
+ * - benchmark.native: native 실행 파일 경로 (없으면 해당 모드 생략, ./gradlew startupBenchmark -Pnative)
+ */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.study.board.BoardApplication";
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(120);
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String classpath = System.getProperty("benchmark.classpath", System.getProperty("java.class.path"));
+        String archive = System.getProperty("benchmark.archive", "");
+        String nativeBinary = System.getProperty("benchmark.native", "");
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(Mode.jvm("기본", classpath, Collections.emptyList()));
+        modes.add(Mode.jvm("fast-startup", classpath, Collections.singletonList("-Dspring.profiles.active=fast-startup")));
+        if (!archive.isEmpty() && new File(archive).isFile()) {
+            modes.add(Mode.jvm("AppCDS", classpath, Collections.singletonList("-XX:SharedArchiveFile=" + archive)));
+            modes.add(Mode.jvm("fast-startup + AppCDS", classpath, Arrays.asList(
+                    "-XX:SharedArchiveFile=" + archive, "-Dspring.profiles.active=fast-startup")));
+        } else {
+            System.out.println("AppCDS 아카이브가 없어 해당 모드는 생략합니다 (./gradlew cdsArchive).");
+        }
+        if (!nativeBinary.isEmpty() && new File(nativeBinary).canExecute()) {
+            modes.add(new Mode("native", Collections.singletonList(nativeBinary)));
+        } else {
+            System.out.println("native 실행 파일이 없어 해당 모드는 생략합니다 (./gradlew startupBenchmark -Pnative).");
+        }
+
+        System.out.printf(Locale.ROOT, "%-24s %10s %10s %10s %10s%n", "mode", "median(ms)", "min(ms)", "max(ms)", "rss(MB)");
+        for (Mode mode : modes) {
+            // 첫 실행은 파일 캐시 등을 데우는 용도로 버림
+            measure(mode);
+            long[] samples = new long[runs];
+            long[] rss = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                Sample sample = measure(mode);
+                samples[i] = sample.millis;
+                rss[i] = sample.rssKb;
+            }
+            Arrays.sort(samples);
+            Arrays.sort(rss);
+            System.out.printf(Locale.ROOT, "%-24s %10d %10d %10d %10s%n",
+                    mode.name, samples[runs / 2], samples[0], samples[runs - 1],
+                    rss[runs / 2] < 0 ? "-" : String.valueOf(rss[runs / 2] / 1024));
+        }
+    }
+
+    private static Sample measure(Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(mode.command);
+        command.add("--server.port=" + port);
+        command.add("--board.eventlog.directory=" + System.getProperty("java.io.tmpdir") + "/board-benchmark-events");
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            URL url = new URL("http://localhost:" + port + "/board/list");
+            while (System.nanoTime() - started < TIMEOUT_NANOS) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 종료되었습니다 - 모드: " + mode.name);
+                }
+                if (respondsOk(url)) {
+                    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    return new Sample(millis, residentKb(process.pid()));
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("첫 요청 응답 시간 초과 - 모드: " + mode.name);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean respondsOk(URL url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(200);
+            try (InputStream in = connection.getInputStream()) {
+                in.readAllBytes();
+                return connection.getResponseCode() == 200;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // /proc/{pid}/status의 VmRSS (Linux 외 환경이면 -1)
+    private static long residentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 측정 불가
+        }
+        return -1;
+    }
+
+    private static String javaExecutable() {
+        return System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static class Mode {
+
+        private final String name;
+        private final List<String> command;
+
+        private Mode(String name, List<String> command) {
+            this.name = name;
+            this.command = command;
+        }
+
+        private static Mode jvm(String name, String classpath, List<String> jvmArgs) {
+            List<String> command = new ArrayList<>();
+            command.add(javaExecutable());
+            command.addAll(jvmArgs);
+            command.add("-cp");
+            command.add(classpath);
+            command.add(MAIN_CLASS);
+            return new Mode(name, command);
+        }
+    }
+
+    private static class Sample {
+
+        private final long millis;
+        private final long rssKb;
+
+        private Sample(long millis, long rssKb) {
+            this.millis = millis;
+            this.rssKb = rssKb;
+        }
+    }
+}
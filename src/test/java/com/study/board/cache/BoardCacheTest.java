@@ -0,0 +1,87 @@
+package com.study.board.cache;
+
+import com.study.board.dto.BoardDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCacheTest {
+
+    private BoardCache boardCache;
+
+    private BoardCache create(String contentStore, int capacityBytes) {
+        boardCache = new BoardCache();
+        ReflectionTestUtils.setField(boardCache, "invalidationBus", new LoopbackInvalidationBus());
+        ReflectionTestUtils.setField(boardCache, "contentStoreType", contentStore);
+        ReflectionTestUtils.setField(boardCache, "contentCapacityBytes", capacityBytes);
+        boardCache.init();
+        return boardCache;
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardCache.close();
+    }
+
+    @Test
+    void putPost_getPost_본문을저장소에서복원() {
+        // Given
+        BoardCache cache = create("direct", 1024);
+        BoardDTO post = BoardDTO.builder().id(1).title("제목").content("본문입니다").viewCount(3).build();
+
+        // When
+        cache.putPost(post, cache.postStamp());
+        post.setContent("호출자가 바꾼 본문");
+        BoardDTO cached = cache.getPost(1);
+
+        // Then
+        assertEquals("제목", cached.getTitle());
+        assertEquals("본문입니다", cached.getContent());
+        assertEquals(3, cached.getViewCount());
+    }
+
+    @Test
+    void getPost_본문이저장소에서밀려남_캐시없음으로처리() {
+        // Given
+        BoardCache cache = create("direct", 64);
+        cache.putPost(BoardDTO.builder().id(1).title("제목").content("aaaaaaaaaa").build(), cache.postStamp());
+
+        // When
+        for (int id = 2; id <= 6; id++) {
+            cache.putPost(BoardDTO.builder().id(id).title("제목").content("bbbbbbbbbb").build(), cache.postStamp());
+        }
+
+        // Then
+        assertNull(cache.getPost(1));
+        assertEquals("bbbbbbbbbb", cache.getPost(6).getContent());
+    }
+
+    @Test
+    void addViewCount_본문참조유지() {
+        // Given
+        BoardCache cache = create("mmap", 1024);
+        cache.putPost(BoardDTO.builder().id(1).title("제목").content("본문").viewCount(1).build(), cache.postStamp());
+
+        // When
+        cache.addViewCount(1, 2);
+
+        // Then
+        BoardDTO cached = cache.getPost(1);
+        assertEquals(3, cached.getViewCount());
+        assertEquals("본문", cached.getContent());
+    }
+
+    @Test
+    void putPost_heap설정_본문을캐시항목에보관() {
+        // Given
+        BoardCache cache = create("heap", 1024);
+
+        // When
+        cache.putPost(BoardDTO.builder().id(1).title("제목").content("본문").build(), cache.postStamp());
+
+        // Then
+        assertEquals("본문", cache.getPost(1).getContent());
+    }
+}
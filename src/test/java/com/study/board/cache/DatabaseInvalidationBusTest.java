@@ -0,0 +1,104 @@
+package com.study.board.cache;
+
+import com.study.board.repository.CacheInvalidationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 노드가 같은 DB를 공유하는 상황을 버스 인스턴스 두 개로 재현
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseInvalidationBusTest {
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        cacheInvalidationRepository.deleteAll();
+    }
+
+    @Test
+    void publish_다른노드에만_전달() {
+        // Given
+        DatabaseInvalidationBus nodeA = createBus("node-a");
+        DatabaseInvalidationBus nodeB = createBus("node-b");
+        List<InvalidationEvent> receivedByA = new ArrayList<>();
+        List<InvalidationEvent> receivedByB = new ArrayList<>();
+        nodeA.subscribe(receivedByA::add);
+        nodeB.subscribe(receivedByB::add);
+
+        // When
+        nodeA.publish(InvalidationEvent.builder().region(InvalidationEvent.REGION_POST).key("7").build());
+        nodeA.pump();
+        nodeB.pump();
+
+        // Then
+        assertTrue(receivedByA.isEmpty());
+        assertEquals(1, receivedByB.size());
+        assertEquals("7", receivedByB.get(0).getKey());
+        assertEquals("node-a", receivedByB.get(0).getNodeId());
+    }
+
+    @Test
+    void pump_lookback구간재조회시_중복전달없음() {
+        // Given
+        DatabaseInvalidationBus nodeA = createBus("node-a");
+        DatabaseInvalidationBus nodeB = createBus("node-b");
+        List<InvalidationEvent> receivedByB = new ArrayList<>();
+        nodeB.subscribe(receivedByB::add);
+        nodeA.publish(InvalidationEvent.builder().region(InvalidationEvent.REGION_PAGES).build());
+        nodeA.pump();
+
+        // When
+        nodeB.pump();
+        nodeB.pump();
+
+        // Then
+        assertEquals(1, receivedByB.size());
+    }
+
+    @Test
+    void publish_트랜잭션롤백시_전달안함() {
+        // Given
+        DatabaseInvalidationBus nodeA = createBus("node-a");
+        DatabaseInvalidationBus nodeB = createBus("node-b");
+        List<InvalidationEvent> receivedByB = new ArrayList<>();
+        nodeB.subscribe(receivedByB::add);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeA.publish(InvalidationEvent.builder().region(InvalidationEvent.REGION_POST).key("1").build());
+            status.setRollbackOnly();
+        });
+        nodeA.pump();
+        nodeB.pump();
+
+        // Then
+        assertTrue(receivedByB.isEmpty());
+    }
+
+    private DatabaseInvalidationBus createBus(String nodeId) {
+        DatabaseInvalidationBus bus = new DatabaseInvalidationBus();
+        ReflectionTestUtils.setField(bus, "cacheInvalidationRepository", cacheInvalidationRepository);
+        ReflectionTestUtils.setField(bus, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(bus, "nodeId", nodeId);
+        bus.init();
+        return bus;
+    }
+}
@@ -0,0 +1,87 @@
+package com.study.board.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearCacheTest {
+
+    @Test
+    void put_get_적중() {
+        // Given
+        NearCache<Integer, String> cache = new NearCache<>(10, 60000);
+
+        // When
+        cache.put(1, "게시글", cache.stamp());
+
+        // Then
+        assertEquals("게시글", cache.get(1));
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void put_최대크기초과_가장오래사용되지않은항목제거() {
+        // Given
+        NearCache<Integer, String> cache = new NearCache<>(2, 60000);
+        cache.put(1, "A", cache.stamp());
+        cache.put(2, "B", cache.stamp());
+        cache.get(1);
+
+        // When
+        cache.put(3, "C", cache.stamp());
+
+        // Then
+        assertEquals("A", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("C", cache.get(3));
+    }
+
+    @Test
+    void get_TTL만료_null반환() throws Exception {
+        // Given
+        NearCache<Integer, String> cache = new NearCache<>(10, 1);
+        cache.put(1, "A", cache.stamp());
+
+        // When
+        Thread.sleep(5);
+
+        // Then
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_조회시작후_무효화발생시_저장안함() {
+        // Given
+        NearCache<Integer, String> cache = new NearCache<>(10, 60000);
+        long stamp = cache.stamp();
+
+        // When
+        cache.invalidate(1);
+        boolean stored = cache.put(1, "오래된 값", stamp);
+
+        // Then
+        assertFalse(stored);
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void invalidateIf_조건에맞는항목만제거_스탬프증가() {
+        // Given
+        NearCache<Integer, String> cache = new NearCache<>(10, 60000);
+        cache.put(1, "스프링", cache.stamp());
+        cache.put(2, "자바", cache.stamp());
+        long stamp = cache.stamp();
+
+        // When
+        int removed = cache.invalidateIf((key, value) -> value.contains("스프링"));
+        int none = cache.invalidateIf((key, value) -> false);
+
+        // Then
+        assertEquals(1, removed);
+        assertEquals(0, none);
+        assertNull(cache.get(1));
+        assertEquals("자바", cache.get(2));
+        assertFalse(cache.put(3, "오래된 값", stamp));
+    }
+}
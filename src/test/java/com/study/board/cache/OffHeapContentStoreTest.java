@@ -0,0 +1,90 @@
+package com.study.board.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapContentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void put_get_한글본문_그대로반환() throws Exception {
+        // Given
+        try (OffHeapContentStore store = OffHeapContentStore.mapped(directory, 1024)) {
+
+            // When
+            long reference = store.put("테스트 본문입니다. <b>굵게</b> 😀");
+
+            // Then
+            assertEquals("테스트 본문입니다. <b>굵게</b> 😀", store.get(reference));
+            assertTrue(store.contains(reference));
+        }
+    }
+
+    @Test
+    void put_한바퀴돌아덮어씀_오래된본문null() {
+        // Given
+        OffHeapContentStore store = OffHeapContentStore.direct(64);
+        long first = store.put("aaaaaaaaaa");
+        long second = store.put("bbbbbbbbbb");
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            store.put("cccccccccc");
+        }
+
+        // Then
+        assertNull(store.get(first));
+        assertFalse(store.contains(second));
+        long latest = store.put("dddddddddd");
+        assertEquals("dddddddddd", store.get(latest));
+    }
+
+    @Test
+    void put_버퍼끝에걸치면_처음으로넘어감() {
+        // Given
+        OffHeapContentStore store = OffHeapContentStore.direct(35);
+        long first = store.put("abcdefghij");
+
+        // When
+        long second = store.put("0123456789");
+
+        // Then
+        assertEquals("0123456789", store.get(second));
+        assertNull(store.get(first));
+    }
+
+    @Test
+    void put_저장소크기초과_NONE반환() {
+        // Given
+        OffHeapContentStore store = OffHeapContentStore.direct(1024);
+
+        // When
+        long reference = store.put("가".repeat(400));
+
+        // Then
+        assertEquals(OffHeapContentStore.NONE, reference);
+        assertNull(store.get(reference));
+    }
+
+    @Test
+    void close_세그먼트파일삭제() throws Exception {
+        // Given
+        OffHeapContentStore store = OffHeapContentStore.mapped(directory, 1024);
+        store.put("본문");
+
+        // When
+        store.close();
+
+        // Then
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.board.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void load_동시요청_조회1회_결과공유() throws Exception {
+        // Given
+        SingleFlight<String> flight = new SingleFlight<>(5000);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> flight.load("post:1", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "게시글";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> flight.load("post:1", () -> {
+                calls.incrementAndGet();
+                return "다른 조회";
+            })));
+        }
+        // 나머지 요청이 진행 중인 조회에 합류할 때까지 대기
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("게시글", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, flight.loadCount());
+        assertEquals(7, flight.coalescedCount());
+        assertEquals(0, flight.inFlight());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_조회실패_기다리던요청도같은예외() throws Exception {
+        // Given
+        SingleFlight<String> flight = new SingleFlight<>(5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> leader = executor.submit(() -> flight.load("post:1", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // When
+        Future<String> follower = executor.submit(() -> flight.load("post:1", () -> "다른 조회"));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertTrue(leaderError.getCause() instanceof IllegalArgumentException);
+        assertTrue(followerError.getCause() instanceof IllegalArgumentException);
+        assertEquals(1, flight.loadCount());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_대기시간초과_직접조회() throws Exception {
+        // Given
+        SingleFlight<String> flight = new SingleFlight<>(50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> flight.load("post:1", () -> {
+            started.countDown();
+            await(release);
+            return "느린 조회";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // When
+        String result = flight.load("post:1", () -> "직접 조회");
+
+        // Then
+        assertEquals("직접 조회", result);
+        assertEquals(1, flight.timeoutCount());
+        assertEquals(2, flight.loadCount());
+        release.countDown();
+        assertEquals("느린 조회", leader.get(5, TimeUnit.SECONDS));
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_조회완료후_같은키_새로조회() {
+        // Given
+        SingleFlight<String> flight = new SingleFlight<>(5000);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        flight.load("post:1", () -> "A" + calls.incrementAndGet());
+        String second = flight.load("post:1", () -> "A" + calls.incrementAndGet());
+
+        // Then
+        assertEquals("A2", second);
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.board.config;
+
+import com.study.board.event.OutboxRelay;
+import com.study.board.service.BoardService;
+import com.study.board.service.ViewCountBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = StartupConfig.scheduledBeansExcludeFilter();
+
+    @Test
+    void 주기작업이있는빈_지연초기화제외() {
+        assertTrue(filter.isExcluded("viewCountBuffer", null, ViewCountBuffer.class));
+        assertTrue(filter.isExcluded("outboxRelay", null, OutboxRelay.class));
+    }
+
+    @Test
+    void 일반빈_지연초기화대상() {
+        assertFalse(filter.isExcluded("boardService", null, BoardService.class));
+        assertFalse(filter.isExcluded("unknown", null, null));
+    }
+}
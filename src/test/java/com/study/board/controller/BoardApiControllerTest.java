@@ -0,0 +1,122 @@
+package com.study.board.controller;
+
+import com.study.board.dto.ArchiveCount;
+import com.study.board.dto.BoardDTO;
+import com.study.board.service.BoardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BoardApiController.class)
+class BoardApiControllerTest {
+
+    private static final String UPDATE_BODY = "{\"title\":\"수정된 제목\",\"content\":\"수정된 내용\",\"author\":\"작성자\",\"version\":3}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BoardService boardService;
+
+    @Test
+    void 아카이브_월지정_일별게시글수반환() throws Exception {
+        // Given
+        LocalDate day = LocalDate.of(2025, 3, 14);
+        when(boardService.archiveDays(YearMonth.of(2025, 3)))
+                .thenReturn(Collections.singletonList(new ArchiveCount("2025-03-14", day, day, 2)));
+
+        // When & Then
+        mockMvc.perform(get("/api/boards/archive").param("month", "2025-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].period").value("2025-03-14"))
+                .andExpect(jsonPath("$[0].from").value("2025-03-14"))
+                .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    @Test
+    void 목록_보관글포함_보관검색으로조회() throws Exception {
+        // Given
+        BoardDTO archived = BoardDTO.builder().id(3).title("오래된 글").archived(true).build();
+        when(boardService.boardArchiveSearchList(eq("오래된"), eq("all"), any(), any()))
+                .thenReturn(new PageImpl<>(Collections.singletonList(archived)));
+
+        // When & Then
+        mockMvc.perform(get("/api/boards").param("searchKeyword", "오래된").param("includeArchive", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.content[0].archived").value(true));
+    }
+
+    @Test
+    void 아카이브_잘못된월_400반환() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/boards/archive").param("month", "2025-13"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 게시글조회_ETag에_버전반환() throws Exception {
+        // Given
+        when(boardService.boardViewWithoutIncrement(1)).thenReturn(BoardDTO.builder()
+                .id(1).title("제목").content("내용").author("작성자").version(3L).build());
+
+        // When & Then
+        mockMvc.perform(get("/api/boards/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void 게시글수정_성공_새ETag반환() throws Exception {
+        // Given
+        when(boardService.updateBoard(eq(1), any(BoardDTO.class), isNull())).thenReturn(4L);
+
+        // When & Then
+        mockMvc.perform(put("/api/boards/1").contentType(MediaType.APPLICATION_JSON).content(UPDATE_BODY))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void 게시글수정_IfMatch가_본문버전보다_우선() throws Exception {
+        // Given
+        when(boardService.updateBoard(eq(1), argThat(dto -> dto.getVersion() == 7L), isNull())).thenReturn(8L);
+
+        // When & Then
+        mockMvc.perform(put("/api/boards/1").header("If-Match", "W/\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE_BODY))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"8\""));
+    }
+
+    @Test
+    void 게시글수정_버전충돌_409반환() throws Exception {
+        // Given
+        when(boardService.updateBoard(eq(1), any(BoardDTO.class), isNull()))
+                .thenThrow(new OptimisticLockingFailureException("다른 사용자가 먼저 게시글을 수정했습니다."));
+
+        // When & Then
+        mockMvc.perform(put("/api/boards/1").contentType(MediaType.APPLICATION_JSON).content(UPDATE_BODY))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+}
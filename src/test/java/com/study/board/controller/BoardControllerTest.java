@@ -1,16 +1,41 @@
 package com.study.board.controller;
 
+import com.study.board.dto.AttachmentDTO;
+import com.study.board.cache.BoardCache;
+import com.study.board.dto.BoardDTO;
+import com.study.board.resilience.ReadResilience;
 import com.study.board.service.BoardService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(BoardController.class)
+@WebMvcTest({BoardController.class, HomeController.class})
+@Import(ReadResilience.class)
 class BoardControllerTest {
 
     @Autowired
@@ -19,6 +44,9 @@ class BoardControllerTest {
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private BoardCache boardCache;
+
     @Test
     void 메인페이지_리다이렉트_성공() throws Exception {
         mockMvc.perform(get("/"))
@@ -28,9 +56,59 @@ class BoardControllerTest {
 
     @Test
     void testBoardList() throws Exception {
+        when(boardService.boardList(any(Pageable.class))).thenReturn(Page.empty());
+
         mockMvc.perform(get("/board/list"))
                 .andExpect(status().isOk())
-                .andExpect(view().name("boardlist"));
+                .andExpect(view().name("boardlist"))
+                .andExpect(header().string("Server-Timing", containsString("render;dur=")));
+    }
+
+    @Test
+    void 게시글상세_DB오류_이전응답과안내표시() throws Exception {
+        // Given
+        when(boardService.boardView(1))
+                .thenReturn(BoardDTO.builder().id(1).title("제목").content("본문").author("작성자").viewCount(1).build())
+                .thenThrow(new QueryTimeoutException("timeout"));
+        mockMvc.perform(get("/board/view").param("id", "1")).andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/board/view").param("id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("boardview"))
+                .andExpect(model().attribute("stale", true))
+                .andExpect(content().string(containsString("잠시 전의 내용")));
+    }
+
+    @Test
+    void 게시글상세_조회수는요청경로에서만반영_이전응답표시때는반영안함() throws Exception {
+        // Given
+        BoardDTO post = BoardDTO.builder().id(3).title("제목").content("본문").author("작성자").viewCount(1).build();
+        when(boardService.boardView(3)).thenReturn(post.toBuilder().viewCount(2).build())
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        mockMvc.perform(get("/board/view").param("id", "3"))
+                .andExpect(model().attribute("stale", false))
+                .andExpect(model().attribute("board", post.toBuilder().viewCount(2).build()));
+        mockMvc.perform(get("/board/view").param("id", "3"))
+                .andExpect(model().attribute("stale", true))
+                .andExpect(model().attribute("board", post.toBuilder().viewCount(2).build()));
+
+        // Then - 이전 응답을 그대로 보여주고 조회수를 따로 올리지 않음
+        verify(boardService, times(2)).boardView(3);
+        verify(boardService, never()).increaseViewCount(any(BoardDTO.class));
+    }
+
+    @Test
+    void 게시글상세_DB오류_이전응답없음_목록이동없이503() throws Exception {
+        // Given
+        when(boardService.boardView(2)).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When & Then
+        mockMvc.perform(get("/board/view").param("id", "2"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(view().name("message"));
     }
 
     @Test
@@ -39,4 +117,80 @@ class BoardControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("boardwrite"));
     }
+
+    @Test
+    void 압축저장첨부_gzip허용_압축된그대로전송(@TempDir Path dir) throws Exception {
+        // Given
+        Path stored = gzipFile(dir, "첨부 내용 ".repeat(100));
+        when(boardService.boardViewWithoutIncrement(1)).thenReturn(BoardDTO.builder()
+                .id(1).filename("notes.txt").filepath(stored.toString()).build());
+
+        // When
+        byte[] body = mockMvc.perform(get("/board/download").param("id", "1").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(header().string("Content-Type", containsString("text/plain")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertArrayEquals(Files.readAllBytes(stored), body);
+    }
+
+    @Test
+    void 압축저장첨부_gzip미허용_압축해제하여전송(@TempDir Path dir) throws Exception {
+        // Given
+        String content = "첨부 내용 ".repeat(100);
+        Path stored = gzipFile(dir, content);
+        when(boardService.boardViewWithoutIncrement(1)).thenReturn(BoardDTO.builder()
+                .id(1).filename("notes.txt").filepath(stored.toString()).build());
+
+        // When & Then
+        mockMvc.perform(get("/board/download").param("id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().longValue("Content-Length", content.getBytes(StandardCharsets.UTF_8).length))
+                .andExpect(content().bytes(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 첨부파일ID로_다운로드_저장된ContentType사용(@TempDir Path dir) throws Exception {
+        // Given
+        Path stored = Files.write(dir.resolve("stored.bin"), "첨부 내용".getBytes(StandardCharsets.UTF_8));
+        when(boardService.getAttachment(10)).thenReturn(AttachmentDTO.builder()
+                .id(10).filename("report.csv").contentType("text/csv").filepath(stored.toString())
+                .size(13L).storedSize(13L).build());
+
+        // When & Then
+        mockMvc.perform(get("/board/attachment/10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().longValue("Content-Length", 13))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"report.csv\""))
+                .andExpect(content().bytes("첨부 내용".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 단일첨부없는게시글_다운로드시_첫번째첨부파일전송(@TempDir Path dir) throws Exception {
+        // Given
+        Path first = Files.write(dir.resolve("first.txt"), "첫 번째".getBytes(StandardCharsets.UTF_8));
+        when(boardService.boardViewWithoutIncrement(1)).thenReturn(BoardDTO.builder()
+                .id(1).attachments(Arrays.asList(
+                        AttachmentDTO.builder().id(10).filename("first.txt").filepath(first.toString()).build(),
+                        AttachmentDTO.builder().id(11).filename("second.txt").filepath("/없는경로").build()))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/board/download").param("id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("첫 번째".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Path gzipFile(Path dir, String content) throws Exception {
+        Path path = dir.resolve("stored.txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return path;
+    }
 }
@@ -0,0 +1,138 @@
+package com.study.board.dataset;
+
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.dto.ArchiveCount;
+import com.study.board.dto.BoardDTO;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.service.BoardService;
+import com.study.board.tag.TagIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대용량 데이터 통합 테스트
+ * 고정 시드의 가상 게시글을 board.dataset.posts건 적재하고, 목록(첫/깊은 페이지), 검색, 인기글, 아카이브 집계의
+ * 결과와 실행 시간을 확인합니다. 애플리케이션과 같은 메모리 H2를 쓰므로 100만 건 기준 힙 3~4GB가 필요합니다.
+ * 기본 테스트에서는 제외되며 아래처럼 실행합니다.
+ *
+ * <pre>
+ * ./gradlew largeDatasetTest -Pposts=1000000
+ * </pre>
+ */
+@Tag("large-dataset")
+@EnabledIfSystemProperty(named = "board.dataset.posts", matches = "\\d+")
+@SpringBootTest(properties = {
+        // 적재한 데이터가 테스트 중에 보관 테이블로 옮겨지지 않도록
+        "board.archival.enabled=false",
+        "file.upload.directory=${java.io.tmpdir}/board-large-dataset/files",
+        "board.eventlog.directory=${java.io.tmpdir}/board-large-dataset/events"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LargeDatasetTest {
+
+    private static final int MAX_VIEW_COUNT = 1_000_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private ArchiveIndex archiveIndex;
+
+    private int posts;
+
+    @BeforeAll
+    void loadDataset() throws Exception {
+        posts = Integer.getInteger("board.dataset.posts");
+        SyntheticBoardDataset.Result result = SyntheticBoardDataset.builder()
+                .seed(Long.getLong("board.dataset.seed", 42L))
+                .posts(posts)
+                .authors(Math.max(1, posts / 100), 1.1)
+                .viewCounts(MAX_VIEW_COUNT, 1.0)
+                .build()
+                .load(dataSource);
+        System.out.println("가상 데이터 적재: " + result);
+
+        // 기동 시 적재한 메모리 인덱스를 적재한 게시글 기준으로 다시 읽음
+        timed("인덱스 적재", () -> {
+            tagIndex.load();
+            duplicateIndex.load();
+            archiveIndex.load();
+            return null;
+        });
+    }
+
+    @Test
+    void 목록_첫페이지와_깊은페이지() {
+        Page<BoardDTO> first = timed("목록 첫 페이지", () -> boardService.boardList(page(0)));
+        Page<BoardDTO> deep = timed("목록 깊은 페이지", () -> boardService.boardList(page(posts / 10 / 2)));
+
+        assertEquals(posts, first.getTotalElements());
+        assertEquals(10, first.getNumberOfElements());
+        assertTrue(first.getContent().get(0).getId() > deep.getContent().get(0).getId());
+    }
+
+    @Test
+    void 검색_흔한단어와_드문단어() {
+        Page<BoardDTO> common = timed("검색 (흔한 단어, 제목)", () -> boardService.boardSearchList("스프링", "title", page(0)));
+        Page<BoardDTO> rare = timed("검색 (드문 단어, 제목+본문)", () -> boardService.boardSearchList("backup", "content", page(0)));
+
+        assertEquals(10, common.getNumberOfElements());
+        assertTrue(common.getTotalElements() > rare.getTotalElements());
+        assertTrue(rare.getTotalElements() > 0);
+    }
+
+    @Test
+    void 인기글_조회수내림차순() {
+        Page<BoardDTO> popular = timed("인기글", () -> boardService.getPopularPosts(PageRequest.of(0, 10)));
+
+        List<BoardDTO> content = popular.getContent();
+        assertEquals(MAX_VIEW_COUNT, content.get(0).getViewCount());
+        for (int i = 1; i < content.size(); i++) {
+            assertTrue(content.get(i - 1).getViewCount() >= content.get(i).getViewCount());
+        }
+    }
+
+    @Test
+    void 아카이브_월별게시글수_합계() {
+        List<ArchiveCount> months = timed("월별 게시글 수", () -> boardService.archiveMonths(1000));
+
+        assertEquals(posts, months.stream().mapToLong(ArchiveCount::getCount).sum());
+    }
+
+    private static Pageable page(int number) {
+        return PageRequest.of(number, 10, Sort.by("id").descending());
+    }
+
+    private static <T> T timed(String name, Supplier<T> action) {
+        long started = System.nanoTime();
+        T result = action.get();
+        System.out.printf(Locale.ROOT, "%-28s %8d ms%n", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return result;
+    }
+}
@@ -0,0 +1,437 @@
+package com.study.board.dataset;
+
+import com.study.board.duplicate.SimHash;
+import com.study.board.util.TextUtil;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성능 테스트용 가상 게시글 데이터
+ * 같은 시드와 설정이면 항상 같은 게시글(ID, 제목, 본문, 작성자, 조회수, 작성일, 첨부파일)을 만들고,
+ * JPA를 거치지 않고 JDBC 배치 INSERT로 바로 적재합니다.
+ *
+ * - 제목/본문: 한글/영어 단어를 Zipf 분포로 뽑아 만들므로 흔한 검색어와 드문 검색어가 함께 있음
+ * - 작성자: Zipf 분포 (소수 작성자가 대부분의 글을 씀)
+ * - 조회수: 게시글마다 무작위 순위 k를 정하고 maxViewCount / k^viewSkew (인기글 몇 개에 조회수가 몰림)
+ * - 작성일: from ~ to 사이에 ID 순으로 고르게 분포
+ * - 첨부파일: attachmentRatio 비율의 게시글에 1~3개 (attachmentDirectory에 실제 파일도 생성)
+ *
+ * 메모리 인덱스(TagIndex, DuplicateIndex, ArchiveIndex)는 DB에서 다시 읽어야(load) 적재한 게시글이 반영됩니다.
+ */
+public class SyntheticBoardDataset {
+
+    private static final String INSERT_BOARD = "INSERT INTO board (id, title, content, author, view_count, excerpt, "
+            + "word_count, has_attachment, image_attachment, attachment_count, simhash, hidden, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?, FALSE, 0, ?, ?)";
+    private static final String INSERT_ATTACHMENT = "INSERT INTO attachment (board_id, file_name, file_path, content_type, "
+            + "file_size, stored_size, sha256, created_at) VALUES (?, ?, ?, 'text/plain', ?, ?, ?, ?)";
+
+    // 앞쪽 단어일수록 자주 나옴 (한글/영어를 번갈아 두어 흔한 단어에 둘 다 포함)
+    private static final String[] WORDS = {
+            "스프링", "Spring", "게시판", "JPA", "질문", "error", "성능", "cache", "데이터베이스", "query",
+            "검색", "index", "페이지", "Java", "캐시", "test", "오류", "server", "배포", "Docker",
+            "트랜잭션", "thread", "메모리", "latency", "설정", "config", "로그", "H2", "테스트", "Gradle",
+            "쿼리", "REST", "인덱스", "API", "서버", "JSON", "스레드", "Kotlin", "예외", "null",
+            "업로드", "upload", "파일", "file", "조회수", "view", "정렬", "sort", "페이징", "paging",
+            "컨트롤러", "controller", "서비스", "service", "엔티티", "entity", "리포지토리", "repository", "빌드", "build",
+            "공부", "study", "후기", "review", "추천", "recommend", "초보", "beginner", "면접", "interview",
+            "알고리즘", "algorithm", "자료구조", "HashMap", "네트워크", "HTTP", "보안", "security", "인증", "OAuth",
+            "동시성", "concurrency", "락", "lock", "비동기", "async", "이벤트", "event", "큐", "queue",
+            "벤치마크", "benchmark", "프로파일링", "JFR", "가비지", "GC", "힙", "heap", "튜닝", "tuning",
+            "리눅스", "Linux", "윈도우", "Windows", "맥북", "MacBook", "터미널", "shell", "깃", "Git",
+            "리팩토링", "refactoring", "코드리뷰", "PR", "마이그레이션", "migration", "스키마", "schema", "백업", "backup"
+    };
+    private static final String[] ENDINGS = {".", "입니다.", "했어요.", "인가요?", "같아요.", "!", " 문제입니다.", " 공유합니다."};
+    private static final String[] TITLE_PREFIXES = {"", "", "", "[질문] ", "[공유] ", "[후기] ", "Re: "};
+
+    private final long seed;
+    private final int posts;
+    private final int authors;
+    private final double authorSkew;
+    private final int maxViewCount;
+    private final double viewSkew;
+    private final double attachmentRatio;
+    private final Path attachmentDirectory;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int batchSize;
+    private final int commitSize;
+    private final boolean fingerprints;
+
+    private SyntheticBoardDataset(Builder builder) {
+        this.seed = builder.seed;
+        this.posts = builder.posts;
+        this.authors = builder.authors;
+        this.authorSkew = builder.authorSkew;
+        this.maxViewCount = builder.maxViewCount;
+        this.viewSkew = builder.viewSkew;
+        this.attachmentRatio = builder.attachmentRatio;
+        this.attachmentDirectory = builder.attachmentDirectory;
+        this.from = builder.from;
+        this.to = builder.to;
+        this.batchSize = builder.batchSize;
+        this.commitSize = builder.commitSize;
+        this.fingerprints = builder.fingerprints;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 게시글 적재 (기존 게시글/보관 게시글 ID 다음부터, commitSize건마다 커밋)
+     */
+    public Result load(DataSource dataSource) throws SQLException, IOException {
+        long started = System.nanoTime();
+        if (attachmentDirectory != null) {
+            Files.createDirectories(attachmentDirectory);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                int firstId = nextId(connection);
+                long attachments = insert(connection, firstId);
+                connection.commit();
+                return new Result(firstId, firstId + posts - 1, posts, attachments,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                // ID를 직접 넣었으므로 이후 JPA 저장이 겹치지 않도록 IDENTITY 시작값 조정
+                restartIdentity(connection);
+                connection.commit();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private long insert(Connection connection, int firstId) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        ZipfDistribution words = new ZipfDistribution(WORDS.length, 1.0);
+        ZipfDistribution authorRanks = new ZipfDistribution(authors, authorSkew);
+        int[] viewRanks = shuffledRanks(new SplittableRandom(seed ^ 0x9E3779B97F4A7C15L));
+        long spanSeconds = Math.max(0, Duration.between(from, to).getSeconds());
+        long attachments = 0;
+
+        try (PreparedStatement boards = connection.prepareStatement(INSERT_BOARD);
+             PreparedStatement files = connection.prepareStatement(INSERT_ATTACHMENT)) {
+            for (int i = 0; i < posts; i++) {
+                int id = firstId + i;
+                String title = title(random, words);
+                String content = content(random, words);
+                int attachmentCount = random.nextDouble() < attachmentRatio ? 1 + random.nextInt(3) : 0;
+                LocalDateTime createdAt = from.plusSeconds(posts == 1 ? 0 : spanSeconds * i / (posts - 1));
+                Timestamp timestamp = Timestamp.valueOf(createdAt);
+
+                boards.setInt(1, id);
+                boards.setString(2, title);
+                boards.setString(3, content);
+                boards.setString(4, authorName(authorRanks.sample(random)));
+                boards.setInt(5, (int) (maxViewCount / Math.pow(viewRanks[i], viewSkew)));
+                boards.setString(6, excerpt(content));
+                boards.setInt(7, countWords(content));
+                boards.setBoolean(8, attachmentCount > 0);
+                boards.setInt(9, attachmentCount);
+                Long simhash = fingerprints ? SimHash.fingerprint(title, content) : null;
+                if (simhash == null) {
+                    boards.setNull(10, Types.BIGINT);
+                } else {
+                    boards.setLong(10, simhash);
+                }
+                boards.setTimestamp(11, timestamp);
+                boards.setTimestamp(12, timestamp);
+                boards.addBatch();
+
+                for (int n = 1; n <= attachmentCount; n++) {
+                    addAttachment(files, id, n, title, timestamp);
+                    attachments++;
+                }
+
+                int written = i + 1;
+                if (written % batchSize == 0 || written == posts) {
+                    // 첨부파일은 board_id 외래 키가 있으므로 게시글 배치 다음에 실행
+                    boards.executeBatch();
+                    files.executeBatch();
+                }
+                if (written % commitSize == 0) {
+                    connection.commit();
+                }
+            }
+        }
+        return attachments;
+    }
+
+    private void addAttachment(PreparedStatement files, int boardId, int n, String title, Timestamp createdAt)
+            throws SQLException, IOException {
+        String filename = "synthetic-" + boardId + "-" + n + ".txt";
+        byte[] body = (title + "\n첨부파일 " + n + " / board " + boardId + "\n").getBytes(StandardCharsets.UTF_8);
+        Path path = attachmentDirectory.resolve(filename);
+        Files.write(path, body);
+
+        files.setInt(1, boardId);
+        files.setString(2, filename);
+        files.setString(3, path.toString());
+        files.setLong(4, body.length);
+        files.setLong(5, body.length);
+        files.setString(6, sha256(body));
+        files.setTimestamp(7, createdAt);
+        files.addBatch();
+    }
+
+    private String title(SplittableRandom random, ZipfDistribution words) {
+        StringBuilder title = new StringBuilder(TITLE_PREFIXES[random.nextInt(TITLE_PREFIXES.length)]);
+        int count = 2 + random.nextInt(5);
+        for (int w = 0; w < count; w++) {
+            if (w > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[words.sample(random) - 1]);
+        }
+        return title.toString();
+    }
+
+    private String content(SplittableRandom random, ZipfDistribution words) {
+        StringBuilder content = new StringBuilder(1024);
+        int sentences = 2 + random.nextInt(7);
+        for (int s = 0; s < sentences; s++) {
+            if (s > 0) {
+                content.append(random.nextInt(4) == 0 ? "\n" : " ");
+            }
+            int count = 4 + random.nextInt(9);
+            for (int w = 0; w < count; w++) {
+                if (w > 0) {
+                    content.append(' ');
+                }
+                content.append(WORDS[words.sample(random) - 1]);
+            }
+            content.append(ENDINGS[random.nextInt(ENDINGS.length)]);
+        }
+        return content.toString();
+    }
+
+    // 만든 본문에는 태그나 연속 공백이 없으므로 앞부분만 넘겨도 TextUtil.excerpt(content)와 같음 (정규식 처리량 감소)
+    private static String excerpt(String content) {
+        int prefix = TextUtil.DEFAULT_EXCERPT_LENGTH + 1;
+        return TextUtil.excerpt(content.length() > prefix ? content.substring(0, prefix) : content);
+    }
+
+    // TextUtil.countWords와 같은 결과 (단어 사이는 공백 또는 줄바꿈 하나)
+    private static int countWords(String content) {
+        int count = 1;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == ' ' || c == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 순위가 작을수록 글을 많이 쓰는 작성자 (한글/영어 이름 섞음)
+    private static String authorName(int rank) {
+        return rank % 3 == 0 ? "사용자" + rank : "user" + rank;
+    }
+
+    // 1..posts 순위를 섞은 배열 (게시글 i의 조회수 순위)
+    private int[] shuffledRanks(SplittableRandom random) {
+        int[] ranks = new int[posts];
+        for (int i = 0; i < posts; i++) {
+            ranks[i] = i + 1;
+        }
+        for (int i = posts - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+        return ranks;
+    }
+
+    // 보관된 게시글도 원래 ID를 쓰므로 두 테이블 모두 확인
+    private static int nextId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT GREATEST((SELECT COALESCE(MAX(id), 0) FROM board), "
+                     + "(SELECT COALESCE(MAX(id), 0) FROM board_archive))")) {
+            rs.next();
+            return rs.getInt(1) + 1;
+        }
+    }
+
+    private static void restartIdentity(Connection connection) throws SQLException {
+        int next = nextId(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE board ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class Builder {
+        private long seed = 42L;
+        private int posts = 10_000;
+        private int authors = 1_000;
+        private double authorSkew = 1.1;
+        private int maxViewCount = 100_000;
+        private double viewSkew = 1.0;
+        private double attachmentRatio = 0;
+        private Path attachmentDirectory;
+        // 기본 작성일 범위도 고정 (실행 시각에 따라 데이터가 달라지지 않도록)
+        private LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        private LocalDateTime to = LocalDateTime.of(2026, 1, 1, 0, 0);
+        private int batchSize = 1_000;
+        private int commitSize = 50_000;
+        private boolean fingerprints;
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder posts(int posts) {
+            this.posts = posts;
+            return this;
+        }
+
+        /**
+         * 작성자 수와 Zipf 지수 (지수가 클수록 소수 작성자에게 몰림)
+         */
+        public Builder authors(int authors, double skew) {
+            this.authors = authors;
+            this.authorSkew = skew;
+            return this;
+        }
+
+        /**
+         * 가장 인기 있는 게시글의 조회수와 Zipf 지수
+         */
+        public Builder viewCounts(int max, double skew) {
+            this.maxViewCount = max;
+            this.viewSkew = skew;
+            return this;
+        }
+
+        /**
+         * 첨부파일이 있는 게시글 비율과 파일을 만들 디렉토리
+         */
+        public Builder attachments(double ratio, Path directory) {
+            this.attachmentRatio = ratio;
+            this.attachmentDirectory = directory;
+            return this;
+        }
+
+        public Builder createdBetween(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder commitSize(int commitSize) {
+            this.commitSize = commitSize;
+            return this;
+        }
+
+        /**
+         * 유사 게시글 지문(simhash) 계산 여부 (기본 false, 켜면 적재가 몇 배 느려짐)
+         */
+        public Builder fingerprints(boolean fingerprints) {
+            this.fingerprints = fingerprints;
+            return this;
+        }
+
+        public SyntheticBoardDataset build() {
+            if (posts < 1 || authors < 1 || batchSize < 1 || commitSize < 1) {
+                throw new IllegalArgumentException("게시글 수, 작성자 수, 배치 크기, 커밋 크기는 1 이상이어야 합니다.");
+            }
+            if (attachmentRatio < 0 || attachmentRatio > 1) {
+                throw new IllegalArgumentException("첨부파일 비율은 0~1 사이여야 합니다: " + attachmentRatio);
+            }
+            if (attachmentRatio > 0 && attachmentDirectory == null) {
+                throw new IllegalArgumentException("첨부파일을 만들 디렉토리를 지정해주세요.");
+            }
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("작성일 범위가 잘못되었습니다: " + from + " ~ " + to);
+            }
+            return new SyntheticBoardDataset(this);
+        }
+    }
+
+    /**
+     * 적재 결과
+     */
+    public static class Result {
+        private final int firstId;
+        private final int lastId;
+        private final int posts;
+        private final long attachments;
+        private final long elapsedMillis;
+
+        Result(int firstId, int lastId, int posts, long attachments, long elapsedMillis) {
+            this.firstId = firstId;
+            this.lastId = lastId;
+            this.posts = posts;
+            this.attachments = attachments;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getFirstId() {
+            return firstId;
+        }
+
+        public int getLastId() {
+            return lastId;
+        }
+
+        public int getPosts() {
+            return posts;
+        }
+
+        public long getAttachments() {
+            return attachments;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("게시글 %d건 (ID %d~%d), 첨부파일 %d건, %dms (%.0f건/초)", posts, firstId, lastId,
+                    attachments, elapsedMillis, posts * 1000.0 / Math.max(1, elapsedMillis));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.study.board.dataset;
+
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.entity.Board;
+import com.study.board.repository.BoardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 생성기가 직접 커밋하므로 테스트 트랜잭션 없이 실행하고 끝나면 정리
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticBoardDatasetTest {
+
+    @TempDir
+    Path attachmentDir;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM attachment");
+        jdbcTemplate.update("DELETE FROM board");
+    }
+
+    @Test
+    void load_같은시드_같은데이터_다른시드_다른데이터() throws Exception {
+        // Given
+        SyntheticBoardDataset dataset = SyntheticBoardDataset.builder().seed(7).posts(300).batchSize(64).commitSize(100).build();
+
+        // When
+        dataset.load(dataSource);
+        List<Map<String, Object>> first = rows();
+        jdbcTemplate.update("DELETE FROM board");
+        dataset.load(dataSource);
+        List<Map<String, Object>> second = rows();
+        jdbcTemplate.update("DELETE FROM board");
+        SyntheticBoardDataset.builder().seed(8).posts(300).build().load(dataSource);
+        List<Map<String, Object>> other = rows();
+
+        // Then
+        assertEquals(300, first.size());
+        assertEquals(first, second);
+        assertNotEquals(first.get(0).get("TITLE") + "" + first.get(0).get("CONTENT"),
+                other.get(0).get("TITLE") + "" + other.get(0).get("CONTENT"));
+    }
+
+    @Test
+    void load_작성자와조회수_Zipf분포_한글영어섞인본문() throws Exception {
+        // When
+        SyntheticBoardDataset.Result result = SyntheticBoardDataset.builder()
+                .posts(5000)
+                .authors(100, 1.1)
+                .viewCounts(50_000, 1.0)
+                .build()
+                .load(dataSource);
+
+        // Then
+        assertEquals(5000, result.getPosts());
+        assertEquals(5000, boardRepository.count());
+        // 균등 분포라면 1%, Zipf(1.1)면 가장 많이 쓴 작성자가 20% 남짓
+        Integer topAuthor = jdbcTemplate.queryForObject(
+                "SELECT MAX(cnt) FROM (SELECT COUNT(*) cnt FROM board GROUP BY author)", Integer.class);
+        assertTrue(topAuthor > 5000 * 0.15, "가장 많이 쓴 작성자: " + topAuthor);
+        // 조회수는 1위만 최대값, 대부분은 아주 작음
+        assertEquals(50_000, jdbcTemplate.queryForObject("SELECT MAX(view_count) FROM board", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE view_count = 50000", Integer.class));
+        assertTrue(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE view_count < 100", Integer.class) > 4000);
+        String contents = String.join(" ", jdbcTemplate.queryForList("SELECT content FROM board WHERE id <= "
+                + (result.getFirstId() + 20), String.class));
+        assertTrue(contents.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL));
+        assertTrue(contents.codePoints().anyMatch(c -> c >= 'a' && c <= 'z'));
+        Board board = boardRepository.findById(result.getFirstId()).orElseThrow();
+        assertNotNull(board.getExcerpt());
+        assertTrue(board.getWordCount() > 0);
+    }
+
+    @Test
+    void load_첨부파일_행과파일생성_게시글첨부파일수일치() throws Exception {
+        // When
+        SyntheticBoardDataset.Result result = SyntheticBoardDataset.builder()
+                .posts(200)
+                .attachments(0.5, attachmentDir)
+                .build()
+                .load(dataSource);
+
+        // Then
+        assertTrue(result.getAttachments() > 50);
+        assertEquals(result.getAttachments(), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attachment", Long.class));
+        assertEquals(result.getAttachments(), jdbcTemplate.queryForObject("SELECT SUM(attachment_count) FROM board", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM board WHERE has_attachment <> (attachment_count > 0)",
+                Integer.class));
+        for (String filepath : jdbcTemplate.queryForList("SELECT file_path FROM attachment", String.class)) {
+            assertTrue(Files.isRegularFile(Paths.get(filepath)), filepath);
+        }
+    }
+
+    @Test
+    void load_이후_JPA저장은_적재한ID다음부터() throws Exception {
+        // Given
+        SyntheticBoardDataset.Result result = SyntheticBoardDataset.builder().posts(50).build().load(dataSource);
+
+        // When
+        Board saved = boardRepository.save(Board.builder().title("제목").content("내용").author("작성자").build());
+
+        // Then
+        assertEquals(50, result.getLastId() - result.getFirstId() + 1);
+        assertTrue(saved.getId() > result.getLastId());
+    }
+
+    @Test
+    void build_잘못된설정_예외() {
+        assertThrows(IllegalArgumentException.class, () -> SyntheticBoardDataset.builder().posts(0).build());
+        assertThrows(IllegalArgumentException.class, () -> SyntheticBoardDataset.builder().attachments(0.1, null).build());
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList("SELECT id, title, content, author, view_count, attachment_count, created_at "
+                + "FROM board ORDER BY id");
+    }
+}
@@ -0,0 +1,55 @@
+package com.study.board.dataset;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출 (순위 k의 확률이 1/k^exponent에 비례)
+ * 누적 확률표와 안내표(구간별 시작 순위)를 한 번 만들어 두고, 안내표가 가리키는 순위부터 찾으므로
+ * 표본 하나를 평균 상수 시간에 뽑습니다. 메모리는 순위 수(n)에 비례합니다.
+ */
+class ZipfDistribution {
+
+    private final double[] cumulative;
+    // guide[j] = 누적 확률이 j / guide.length 이상인 첫 순위의 인덱스
+    private final int[] guide;
+
+    ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("순위 수는 1 이상이어야 합니다: " + n);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("지수는 0 이상이어야 합니다: " + exponent);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        cumulative[n - 1] = 1.0;
+
+        guide = new int[n];
+        int index = 0;
+        for (int j = 0; j < n; j++) {
+            while (cumulative[index] < (double) j / n) {
+                index++;
+            }
+            guide[j] = index;
+        }
+    }
+
+    /**
+     * 순위 (1부터 n까지, 1이 가장 자주 나옴)
+     */
+    int sample(SplittableRandom random) {
+        double u = random.nextDouble();
+        int index = guide[(int) (u * guide.length)];
+        while (cumulative[index] <= u) {
+            index++;
+        }
+        return index + 1;
+    }
+}
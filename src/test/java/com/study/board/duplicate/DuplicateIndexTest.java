@@ -0,0 +1,118 @@
+package com.study.board.duplicate;
+
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.entity.Board;
+import com.study.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "board.cache.invalidation.transport=loopback",
+        "board.duplicate.capacity=3",
+        "board.duplicate.mode=reject"
+})
+@Import({DuplicateIndex.class, LoopbackInvalidationBus.class, JpaAuditingConfig.class})
+class DuplicateIndexTest {
+
+    private static final String CONTENT = "이번 주 토요일 오전 10시에 여의도 한강 공원에서 자전거 타기 모임을 합니다.";
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private Integer withFingerprint;
+    private Integer withoutFingerprint;
+
+    @BeforeEach
+    void setUp() {
+        withFingerprint = boardRepository.save(Board.builder().title("자전거 모임").content(CONTENT)
+                .author("작성자").simhash(SimHash.fingerprint("자전거 모임", CONTENT)).build()).getId();
+        // 지문 컬럼이 생기기 전에 작성된 게시글
+        withoutFingerprint = boardRepository.save(Board.builder().title("스프링 질문")
+                .content("엔티티 매핑할 때 양방향 연관관계에서 무한 재귀가 발생하는데 어떻게 해결하나요?")
+                .author("작성자").build()).getId();
+        duplicateIndex.load();
+    }
+
+    @Test
+    void load_지문없는게시글도_계산하여적재() {
+        // When & Then
+        assertEquals(2, duplicateIndex.size());
+        assertEquals(withoutFingerprint, duplicateIndex.findSimilar(SimHash.fingerprint("스프링 질문",
+                "엔티티 매핑할 때 양방향 연관관계에서 무한 재귀가 발생하는데, 어떻게 해결하나요??")));
+    }
+
+    @Test
+    void checkDuplicate_거부모드_유사게시글있으면_예외() {
+        // Given
+        long fingerprint = SimHash.fingerprint("자전거  모임!", CONTENT.replace(" ", "  ").replace(".", "!!"));
+
+        // When & Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> duplicateIndex.checkDuplicate(fingerprint));
+        assertTrue(e.getMessage().contains(String.valueOf(withFingerprint)));
+    }
+
+    @Test
+    void findSimilar_다른내용_null() {
+        // When & Then
+        assertNull(duplicateIndex.findSimilar(SimHash.fingerprint("점심 메뉴 추천",
+                "회사 근처에서 혼자 먹기 좋은 국밥집이나 칼국수집을 알려주세요.")));
+    }
+
+    @Test
+    void put_수정시_이전지문제거() {
+        // Given
+        // 트랜잭션 안에서는 커밋 이후에 반영되므로 테스트 트랜잭션을 먼저 종료
+        TestTransaction.end();
+        long original = SimHash.fingerprint("자전거 모임", CONTENT);
+
+        // When
+        duplicateIndex.put(withFingerprint, SimHash.fingerprint("점심 메뉴 추천",
+                "회사 근처에서 혼자 먹기 좋은 국밥집이나 칼국수집을 알려주세요."));
+
+        // Then
+        assertNull(duplicateIndex.findSimilar(original));
+        assertEquals(2, duplicateIndex.size());
+    }
+
+    @Test
+    void put_용량초과_가장오래된게시글부터제외() {
+        // Given
+        // 트랜잭션 안에서는 커밋 이후에 반영되므로 테스트 트랜잭션을 먼저 종료
+        TestTransaction.end();
+        long original = SimHash.fingerprint("자전거 모임", CONTENT);
+
+        // When
+        duplicateIndex.put(1001, SimHash.fingerprint("점심 메뉴 추천", "회사 근처에서 혼자 먹기 좋은 국밥집을 알려주세요."));
+        duplicateIndex.put(1002, SimHash.fingerprint("저녁 메뉴 추천", "퇴근길에 포장하기 좋은 떡볶이집을 알려주세요."));
+
+        // Then
+        assertEquals(3, duplicateIndex.size());
+        assertNull(duplicateIndex.findSimilar(original));
+        assertEquals(1002, duplicateIndex.findSimilar(SimHash.fingerprint("저녁 메뉴 추천",
+                "퇴근길에 포장하기 좋은 떡볶이집을 알려 주세요!")));
+    }
+
+    @Test
+    void remove_삭제후_검색안됨() {
+        // Given
+        TestTransaction.end();
+
+        // When
+        duplicateIndex.remove(withFingerprint);
+
+        // Then
+        assertNull(duplicateIndex.findSimilar(SimHash.fingerprint("자전거 모임", CONTENT)));
+        assertEquals(1, duplicateIndex.size());
+    }
+}
@@ -0,0 +1,50 @@
+package com.study.board.duplicate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimHashTest {
+
+    private static final String TITLE = "주말 한강 자전거 모임 안내";
+    private static final String CONTENT = "이번 주 토요일 오전 10시에 여의도 한강 공원에서 자전거 타기 모임을 합니다. "
+            + "헬멧은 꼭 챙겨 오세요. 참가 신청은 댓글로 남겨 주세요.";
+
+    @Test
+    void fingerprint_띄어쓰기와문장부호만다르면_같은지문() {
+        // When
+        long original = SimHash.fingerprint(TITLE, CONTENT);
+        long variant = SimHash.fingerprint(TITLE, "<p>" + CONTENT.replace(" ", "").replace(".", "!!") + "</p>");
+
+        // Then
+        assertEquals(original, variant);
+    }
+
+    @Test
+    void fingerprint_일부만수정_해밍거리3이하() {
+        // When
+        long original = SimHash.fingerprint(TITLE, CONTENT);
+        long edited = SimHash.fingerprint(TITLE, CONTENT.replace("10시", "11시"));
+
+        // Then
+        assertTrue(SimHash.distance(original, edited) <= 3);
+    }
+
+    @Test
+    void fingerprint_다른내용_해밍거리큼() {
+        // When
+        long original = SimHash.fingerprint(TITLE, CONTENT);
+        long other = SimHash.fingerprint("스프링 부트 JPA 질문",
+                "엔티티 매핑할 때 양방향 연관관계에서 무한 재귀가 발생하는데 어떻게 해결하나요?");
+
+        // Then
+        assertTrue(SimHash.distance(original, other) > 3);
+    }
+
+    @Test
+    void fingerprint_짧은글_null() {
+        // When & Then
+        assertNull(SimHash.fingerprint("짧은 글", "안녕하세요"));
+        assertNull(SimHash.fingerprint(null, null));
+    }
+}
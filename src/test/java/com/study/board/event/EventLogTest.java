@@ -0,0 +1,131 @@
+package com.study.board.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_read_순서대로반환() {
+        // Given
+        EventLog eventLog = new EventLog(directory, 1024, 4);
+        eventLog.append(bytes("첫번째"));
+        eventLog.append(bytes("두번째"));
+
+        // When
+        List<EventLogRecord> records = eventLog.read(0, 10);
+
+        // Then
+        assertEquals(2, records.size());
+        assertEquals("첫번째", records.get(0).getPayload());
+        assertEquals("두번째", records.get(1).getPayload());
+        assertEquals(records.get(0).getNextOffset(), records.get(1).getOffset());
+        eventLog.close();
+    }
+
+    @Test
+    void append_세그먼트초과_다음세그먼트로이어짐() {
+        // Given
+        EventLog eventLog = new EventLog(directory, 64, 10);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            eventLog.append(bytes("event-" + i + "-payload"));
+        }
+        List<EventLogRecord> records = eventLog.read(0, 100);
+
+        // Then
+        assertEquals(10, records.size());
+        assertEquals("event-9-payload", records.get(9).getPayload());
+        eventLog.close();
+    }
+
+    @Test
+    void open_재시작후_기존레코드와_쓰기위치복구() {
+        // Given
+        EventLog eventLog = new EventLog(directory, 1024, 4);
+        eventLog.append(bytes("재시작 전"));
+        eventLog.close();
+
+        // When
+        EventLog reopened = new EventLog(directory, 1024, 4);
+        reopened.append(bytes("재시작 후"));
+        List<EventLogRecord> records = reopened.read(0, 10);
+
+        // Then
+        assertEquals(2, records.size());
+        assertEquals("재시작 전", records.get(0).getPayload());
+        assertEquals("재시작 후", records.get(1).getPayload());
+        reopened.close();
+    }
+
+    @Test
+    void commit_poll_소비자오프셋유지_및_seek재생() {
+        // Given
+        EventLog eventLog = new EventLog(directory, 1024, 4);
+        eventLog.append(bytes("A"));
+        eventLog.append(bytes("B"));
+        List<EventLogRecord> first = eventLog.poll("search-index", 1);
+        eventLog.commit("search-index", first.get(0).getNextOffset());
+        eventLog.close();
+
+        // When
+        EventLog reopened = new EventLog(directory, 1024, 4);
+        List<EventLogRecord> next = reopened.poll("search-index", 10);
+        reopened.seek("search-index", 0);
+        List<EventLogRecord> replayed = reopened.poll("search-index", 10);
+
+        // Then
+        assertEquals(1, next.size());
+        assertEquals("B", next.get(0).getPayload());
+        assertEquals(2, replayed.size());
+        assertEquals("A", replayed.get(0).getPayload());
+        reopened.close();
+    }
+
+    @Test
+    void roll_보존세그먼트수초과_오래된세그먼트삭제() throws Exception {
+        // Given
+        EventLog eventLog = new EventLog(directory, 64, 2);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            eventLog.append(bytes("event-" + i + "-payload"));
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.filter(path -> path.toString().endsWith(".log")).count());
+        }
+        List<EventLogRecord> records = eventLog.read(0, 100);
+        assertFalse(records.isEmpty());
+        assertEquals("event-19-payload", records.get(records.size() - 1).getPayload());
+        assertTrue(records.get(0).getOffset() >= eventLog.startOffset());
+        eventLog.close();
+    }
+
+    @Test
+    void commit_잘못된소비자이름_예외발생() {
+        // Given
+        EventLog eventLog = new EventLog(directory, 1024, 4);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> eventLog.commit("../escape", 0));
+        eventLog.close();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.board.event;
+
+import com.study.board.repository.BoardOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "board.outbox.enabled=true")
+@Import(BoardEventPublisher.class)
+class OutboxRelayTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private BoardEventPublisher boardEventPublisher;
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private EventLog eventLog;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        eventLog = new EventLog(directory, 4096, 4);
+        outboxRelay = new OutboxRelay();
+        ReflectionTestUtils.setField(outboxRelay, "boardOutboxRepository", boardOutboxRepository);
+        ReflectionTestUtils.setField(outboxRelay, "eventLog", eventLog);
+        ReflectionTestUtils.setField(outboxRelay, "transactionTemplate", transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLog.close();
+    }
+
+    @Test
+    void relayBatch_outbox를_이벤트로그로옮기고_삭제() {
+        // Given
+        boardEventPublisher.publish(BoardEventType.CREATED, 1, Collections.singletonMap("title", "새 글"));
+        boardEventPublisher.publish(BoardEventType.DELETED, 1, null);
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        assertEquals(0, boardOutboxRepository.count());
+        List<EventLogRecord> records = eventLog.read(0, 10);
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).getPayload().contains("\"type\":\"CREATED\""));
+        assertTrue(records.get(0).getPayload().contains("\"payload\":{\"title\":\"새 글\"}"));
+        assertTrue(records.get(1).getPayload().contains("\"type\":\"DELETED\""));
+    }
+
+    @Test
+    void relayBatch_outbox없음_0반환() {
+        // When & Then
+        assertEquals(0, outboxRelay.relayBatch());
+        assertEquals(0, eventLog.endOffset());
+    }
+}
@@ -0,0 +1,82 @@
+package com.study.board.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingAnalyzerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void analyze_게시판이벤트_작업별집계() throws Exception {
+        // Given
+        Path file = directory.resolve("board.jfr");
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("/jfr/board.jfc"), StandardCharsets.UTF_8);
+             Recording recording = new Recording(Configuration.create(reader))) {
+            recording.start();
+            for (int i = 0; i < 3; i++) {
+                BoardListEvent list = new BoardListEvent();
+                list.begin();
+                list.setRows(10);
+                list.commit();
+            }
+            BoardViewEvent view = new BoardViewEvent();
+            view.begin();
+            view.setPostId(1);
+            Thread.sleep(3);
+            view.commit();
+            AttachmentDownloadEvent download = new AttachmentDownloadEvent();
+            download.begin();
+            download.setBytes(2048);
+            download.commit();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // When
+        Map<String, RecordingAnalyzer.OperationStats> stats = RecordingAnalyzer.analyze(file);
+
+        // Then
+        assertEquals(3, stats.get("List").count());
+        assertEquals(30, stats.get("List").totalRows());
+        assertEquals(1, stats.get("View").count());
+        assertTrue(stats.get("View").percentile(50) >= 3_000_000L);
+        assertEquals(2048, stats.get("Download").totalBytes());
+        String report = RecordingAnalyzer.format(stats);
+        assertTrue(report.contains("List"));
+        assertTrue(report.contains("지연 시간 분포"));
+    }
+
+    @Test
+    void percentile_histogram_계산() {
+        // Given
+        RecordingAnalyzer.OperationStats stats = new RecordingAnalyzer.OperationStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.record(i * 1_000_000L, 0, 0);
+        }
+
+        // When & Then
+        assertEquals(50_000_000L, stats.percentile(50));
+        assertEquals(99_000_000L, stats.percentile(99));
+        assertEquals(100_000_000L, stats.percentile(100));
+        long[] histogram = stats.histogram();
+        assertEquals(0, histogram[0]);   // < 1ms
+        assertEquals(1, histogram[1]);   // 1ms
+        assertEquals(50, histogram[6]);  // 50ms 이상 100ms 미만
+        assertEquals(1, histogram[7]);   // 100ms
+        assertEquals(0, histogram[10]);  // 1000ms 이상
+        assertEquals(100, Arrays.stream(histogram).sum());
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.board.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLogEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encode_요청ID와_이스케이프된메시지_출력() throws Exception {
+        // Given
+        LoggerContext context = new LoggerContext();
+        Logger logger = context.getLogger("com.study.board.service.BoardService");
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        MDC.put(RequestIdFilter.MDC_KEY, "req-1");
+        LoggingEvent event;
+        try {
+            event = new LoggingEvent("test", logger, Level.INFO,
+                    "제목: {} \"인용\"\n줄바꿈", null, new Object[]{"테스트"});
+            event.prepareForDeferredProcessing();
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+
+        // When
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        JsonNode json = objectMapper.readTree(line);
+
+        // Then
+        assertTrue(line.endsWith("\n"));
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("com.study.board.service.BoardService", json.get("logger").asText());
+        assertEquals("제목: 테스트 \"인용\"\n줄바꿈", json.get("message").asText());
+        assertEquals("req-1", json.get("requestId").asText());
+        assertNull(json.get("exception"));
+    }
+
+    @Test
+    void encode_예외포함() throws Exception {
+        // Given
+        LoggerContext context = new LoggerContext();
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        LoggingEvent event = new LoggingEvent("test", context.getLogger("test"), Level.ERROR,
+                "실패", new IllegalStateException("원인", new RuntimeException("근본 원인")), null);
+
+        // When
+        JsonNode json = objectMapper.readTree(new String(encoder.encode(event), StandardCharsets.UTF_8));
+
+        // Then
+        String exception = json.get("exception").asText();
+        assertTrue(exception.startsWith("java.lang.IllegalStateException: 원인"));
+        assertTrue(exception.contains("Caused by: java.lang.RuntimeException: 근본 원인"));
+    }
+}
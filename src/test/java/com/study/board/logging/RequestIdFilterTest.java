@@ -0,0 +1,60 @@
+package com.study.board.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    void doFilter_요청ID생성_MDC와응답헤더설정후정리() throws Exception {
+        // Given
+        AtomicReference<String> seen = new AtomicReference<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/board/list"), response,
+                (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        // Then
+        assertNotNull(seen.get());
+        assertEquals(seen.get(), response.getHeader(RequestIdFilter.HEADER));
+        assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void doFilter_전달받은요청ID_형식이맞으면사용() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+        request.addHeader(RequestIdFilter.HEADER, "edge-abc_123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertEquals("edge-abc_123", response.getHeader(RequestIdFilter.HEADER));
+    }
+
+    @Test
+    void doFilter_잘못된요청ID_새로생성() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list");
+        request.addHeader(RequestIdFilter.HEADER, "bad\nid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertNotEquals("bad\nid", response.getHeader(RequestIdFilter.HEADER));
+        assertEquals(36, response.getHeader(RequestIdFilter.HEADER).length());
+    }
+}
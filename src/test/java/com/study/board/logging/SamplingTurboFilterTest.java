@@ -0,0 +1,95 @@
+package com.study.board.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggers("hot.Controller, other.Service");
+        filter.setRate(4);
+        filter.start();
+    }
+
+    @Test
+    void decide_지정로거_INFO_N건중1건만통과() {
+        // Given
+        Logger logger = context.getLogger("hot.Controller");
+        int passed = 0;
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            if (filter.decide(null, logger, Level.INFO, "msg", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // Then
+        assertEquals(5, passed);
+        assertEquals(15, filter.getDropped());
+    }
+
+    @Test
+    void decide_WARN이상과_다른로거는_항상통과() {
+        // Given
+        Logger hot = context.getLogger("hot.Controller");
+        Logger cold = context.getLogger("cold.Repository");
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, hot, Level.WARN, "msg", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, cold, Level.INFO, "msg", null, null));
+        }
+        assertEquals(0, filter.getDropped());
+    }
+
+    @Test
+    void decide_꺼진레벨은_세지않음() {
+        // Given
+        Logger logger = context.getLogger("other.Service");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            filter.decide(null, logger, Level.DEBUG, "msg", null, null);
+        }
+
+        // Then
+        assertEquals(0, filter.getDropped());
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "msg", null, null));
+    }
+
+    @Test
+    void decide_레벨확인호출은_세지않고_가드된로그도_N건중1건만통과() {
+        // Given
+        Logger logger = context.getLogger("hot.Controller");
+        int passed = 0;
+
+        // When - 절반은 isInfoEnabled()로 가드된 로그, 절반은 가드 없는 로그
+        for (int i = 0; i < 40; i++) {
+            if (i % 2 == 0) {
+                assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, null, null, null));
+            }
+            if (filter.decide(null, logger, Level.INFO, "msg", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // Then
+        assertEquals(10, passed);
+        assertEquals(30, filter.getDropped());
+    }
+}
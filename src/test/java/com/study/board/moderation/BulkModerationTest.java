@@ -0,0 +1,191 @@
+package com.study.board.moderation;
+
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.archive.DateRange;
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.dto.ModerationJobDTO;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.entity.Attachment;
+import com.study.board.entity.Board;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.repository.AttachmentRepository;
+import com.study.board.repository.BoardModerationRepository;
+import com.study.board.repository.BoardOutboxRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.search.SearchCache;
+import com.study.board.service.ViewCountBuffer;
+import com.study.board.storage.FileReaper;
+import com.study.board.tag.TagIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "board.cache.invalidation.transport=loopback",
+        "board.moderation.batch-size=2",
+        "board.outbox.enabled=true"
+})
+@Import({BulkModeration.class, BoardModerationRepository.class, FileReaper.class, TagIndex.class, DuplicateIndex.class,
+        ArchiveIndex.class, ViewCountBuffer.class, BoardCache.class, LoopbackInvalidationBus.class,
+        BoardEventPublisher.class, SearchCache.class, JpaAuditingConfig.class})
+class BulkModerationTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Autowired
+    private BulkModeration bulkModeration;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void run_DELETE_작성자와작성일범위_배치로삭제하고_첨부파일은백그라운드삭제() throws Exception {
+        // Given
+        LocalDateTime spamDay = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Integer spam1 = post("spammer", spamDay);
+        Integer spam2 = post("spammer", spamDay);
+        Integer spam3 = post("spammer", spamDay.plusHours(1));
+        Integer spamOtherDay = post("spammer", spamDay.minusDays(10));
+        Integer normal = post("작성자", spamDay);
+        Path file = Files.write(uploadDir.resolve("spam.txt"), new byte[]{1, 2, 3});
+        attachmentRepository.save(Attachment.builder().boardId(spam2).filename("spam.txt")
+                .filepath(file.toString()).size(3L).storedSize(3L).build());
+        entityManager.createQuery("UPDATE Board b SET b.attachmentCount = 1 WHERE b.id = :id")
+                .setParameter("id", spam2).executeUpdate();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ModerationJob job = bulkModeration.create(ModerationAction.DELETE,
+                ModerationCriteria.of(null, "spammer", DateRange.of(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 1))), null);
+        bulkModeration.run(job);
+        entityManager.clear();
+
+        // Then
+        ModerationJobDTO progress = waitForFiles(job, 1);
+        assertEquals("COMPLETED", progress.getState());
+        assertEquals(3, progress.getTotal());
+        assertEquals(3, progress.getProcessed());
+        assertEquals(2, progress.getBatches());
+        assertEquals(1, progress.getFilesQueued());
+        assertEquals(1, progress.getFilesDeleted());
+        assertFalse(Files.exists(file));
+        assertFalse(boardRepository.existsById(spam1));
+        assertFalse(boardRepository.existsById(spam2));
+        assertFalse(boardRepository.existsById(spam3));
+        assertTrue(boardRepository.existsById(spamOtherDay));
+        assertTrue(boardRepository.existsById(normal));
+        assertTrue(attachmentRepository.findFilepathsByBoardId(spam2).isEmpty());
+        assertEquals(3, boardOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getEventType() == BoardEventType.DELETED).count());
+    }
+
+    @Test
+    void run_HIDE_ID목록_숨긴게시글은_JPA조회에서제외되고_다시숨기지않음() {
+        // Given
+        Integer first = post("작성자", LocalDateTime.now());
+        Integer second = post("작성자", LocalDateTime.now());
+        Integer visible = post("작성자", LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ModerationJob job = bulkModeration.create(ModerationAction.HIDE,
+                ModerationCriteria.of(Arrays.asList(second, first, 999999), null, null), null);
+        bulkModeration.run(job);
+        ModerationJob again = bulkModeration.create(ModerationAction.HIDE,
+                ModerationCriteria.of(Arrays.asList(first, second), null, null), null);
+        bulkModeration.run(again);
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, job.toDTO().getProcessed());
+        assertEquals(0, again.toDTO().getTotal());
+        assertEquals(0, again.toDTO().getProcessed());
+        assertFalse(boardRepository.findById(first).isPresent());
+        assertFalse(boardRepository.findById(second).isPresent());
+        assertEquals(Collections.singletonList(visible), boardRepository.findAllSummaries(PageRequest.of(0, 10))
+                .map(summary -> summary.getId()).getContent());
+        assertEquals(2, boardOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getEventType() == BoardEventType.HIDDEN).count());
+    }
+
+    @Test
+    void run_REASSIGN_작성자변경과_버전증가() {
+        // Given
+        Integer first = post("old", LocalDateTime.now());
+        Integer second = post("old", LocalDateTime.now());
+        Integer third = post("old", LocalDateTime.now());
+        Integer other = post("other", LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ModerationJob job = bulkModeration.create(ModerationAction.REASSIGN,
+                ModerationCriteria.of(null, "old", null), " 탈퇴한 사용자 ");
+        bulkModeration.run(job);
+        entityManager.clear();
+
+        // Then
+        assertEquals(3, job.toDTO().getProcessed());
+        assertEquals(2, job.toDTO().getBatches());
+        for (Integer id : Arrays.asList(first, second, third)) {
+            Board board = boardRepository.findById(id).orElseThrow();
+            assertEquals("탈퇴한 사용자", board.getAuthor());
+            assertEquals(1L, board.getVersion());
+        }
+        assertEquals("other", boardRepository.findById(other).orElseThrow().getAuthor());
+    }
+
+    @Test
+    void create_조건없음또는_변경할작성자없음_예외() {
+        assertThrows(IllegalArgumentException.class, () -> ModerationCriteria.of(Collections.emptyList(), " ", DateRange.NONE));
+        assertThrows(IllegalArgumentException.class, () -> bulkModeration.create(ModerationAction.REASSIGN,
+                ModerationCriteria.of(null, "old", null), null));
+    }
+
+    private ModerationJobDTO waitForFiles(ModerationJob job, long files) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (job.toDTO().getFilesDeleted() < files && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return job.toDTO();
+    }
+
+    private Integer post(String author, LocalDateTime createdAt) {
+        Board board = boardRepository.save(Board.builder().title("제목").content("내용").author(author).build());
+        // 작성일은 감사 기능이 채우므로 저장 후 변경
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Board b SET b.createdAt = :createdAt WHERE b.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", board.getId())
+                .executeUpdate();
+        return board.getId();
+    }
+}
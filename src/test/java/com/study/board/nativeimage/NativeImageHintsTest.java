@@ -0,0 +1,83 @@
+package com.study.board.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import javax.persistence.Entity;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * native-image 힌트 파일 검증
+ * 힌트에 적힌 클래스가 실제로 존재하는지, 엔티티와 템플릿이 빠짐없이 등록되었는지 JVM 테스트로 확인합니다.
+ */
+class NativeImageHintsTest {
+
+    private static final String HINTS = "META-INF/native-image/com.study/board/";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void reflectConfig_등록된클래스_모두존재() throws Exception {
+        for (JsonNode entry : read("reflect-config.json")) {
+            String name = entry.get("name").asText();
+            assertDoesNotThrow(() -> Class.forName(name), name);
+        }
+    }
+
+    @Test
+    void reflectConfig_모든엔티티등록() throws Exception {
+        Set<String> registered = new HashSet<>();
+        read("reflect-config.json").forEach(entry -> registered.add(entry.get("name").asText()));
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        Set<BeanDefinition> entities = scanner.findCandidateComponents("com.study.board");
+
+        assertFalse(entities.isEmpty());
+        for (BeanDefinition entity : entities) {
+            assertTrue(registered.contains(entity.getBeanClassName()), entity.getBeanClassName());
+        }
+    }
+
+    @Test
+    void proxyConfig_인터페이스만등록() throws Exception {
+        for (JsonNode entry : read("proxy-config.json")) {
+            for (JsonNode name : entry.get("interfaces")) {
+                assertTrue(Class.forName(name.asText()).isInterface(), name.asText());
+            }
+        }
+    }
+
+    @Test
+    void resourceConfig_모든템플릿포함() throws Exception {
+        Set<Pattern> patterns = new HashSet<>();
+        read("resource-config.json").get("resources").get("includes")
+                .forEach(entry -> patterns.add(Pattern.compile(entry.get("pattern").asText())));
+
+        Resource[] templates = new PathMatchingResourcePatternResolver().getResources("classpath:templates/*.html");
+        assertTrue(templates.length > 0);
+        for (Resource template : templates) {
+            String path = "templates/" + template.getFilename();
+            assertTrue(patterns.stream().anyMatch(pattern -> pattern.matcher(path).matches()), path);
+        }
+        assertTrue(patterns.stream().anyMatch(pattern -> pattern.matcher("logback-spring.xml").matches()));
+    }
+
+    private JsonNode read(String name) throws IOException {
+        try (InputStream in = new ClassPathResource(HINTS + name).getInputStream()) {
+            return OBJECT_MAPPER.readTree(in);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.board.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실행 중인 애플리케이션 대상 스모크 테스트
+ * native 실행 파일에서 리플렉션, 프록시, 리소스 힌트가 필요한 경로(템플릿 렌더링, 폼 바인딩, 업로드/다운로드,
+ * projection 목록, JSON 직렬화, 엔티티 저장/수정)를 한 번씩 요청합니다.
+ * board.smoke.base-url 시스템 프로퍼티가 있을 때만 실행됩니다 (./gradlew nativeSmokeTest -Pnative).
+ */
+@Tag("native-smoke")
+@EnabledIfSystemProperty(named = "board.smoke.base-url", matches = ".+")
+class NativeSmokeTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private TestRestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new TestRestTemplate(new RestTemplateBuilder()
+                .rootUri(System.getProperty("board.smoke.base-url")));
+    }
+
+    @Test
+    void 목록페이지_렌더링() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/board/list", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("</html>"));
+    }
+
+    @Test
+    void 작성_조회_다운로드() {
+        // Given
+        int id = write("스모크 테스트 제목", "첨부 내용");
+
+        // When
+        ResponseEntity<String> view = restTemplate.getForEntity("/board/view?id=" + id, String.class);
+        ResponseEntity<byte[]> download = restTemplate.getForEntity("/board/download?id=" + id, byte[].class);
+
+        // Then
+        assertEquals(HttpStatus.OK, view.getStatusCode());
+        assertTrue(view.getBody().contains("스모크 테스트 제목"));
+        assertEquals(HttpStatus.OK, download.getStatusCode());
+        assertEquals("첨부 내용", new String(download.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void API_목록과_단건조회() throws Exception {
+        // Given
+        int id = write("API 스모크 제목", "내용");
+
+        // When
+        ResponseEntity<String> list = restTemplate.getForEntity("/api/boards", String.class);
+        ResponseEntity<String> board = restTemplate.getForEntity("/api/boards/" + id, String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, list.getStatusCode());
+        assertTrue(OBJECT_MAPPER.readTree(list.getBody()).get("content").isArray());
+        assertEquals(HttpStatus.OK, board.getStatusCode());
+        JsonNode body = OBJECT_MAPPER.readTree(board.getBody());
+        assertEquals("API 스모크 제목", body.get("title").asText());
+        assertNotNull(board.getHeaders().getETag());
+    }
+
+    @Test
+    void API_수정_이전버전이면_409() throws Exception {
+        // Given
+        int id = write("수정 스모크 제목", "내용");
+        Map<String, Object> update = Map.of("title", "수정됨", "content", "수정 내용", "author", "스모크");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch(restTemplate.getForEntity("/api/boards/" + id, String.class).getHeaders().getETag());
+
+        // When
+        ResponseEntity<String> first = restTemplate.exchange("/api/boards/" + id, HttpMethod.PUT,
+                new HttpEntity<>(update, headers), String.class);
+        ResponseEntity<String> stale = restTemplate.exchange("/api/boards/" + id, HttpMethod.PUT,
+                new HttpEntity<>(update, headers), String.class);
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, first.getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, stale.getStatusCode());
+        assertEquals(409, OBJECT_MAPPER.readTree(stale.getBody()).get("status").asInt());
+    }
+
+    // 폼 작성 후 리다이렉트 주소에서 게시글 ID 추출
+    private int write(String title, String fileContent) {
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("title", title);
+        form.add("content", "스모크 테스트 본문");
+        form.add("author", "스모크");
+        form.add("file", new ByteArrayResource(fileContent.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "smoke.txt";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/board/writepro", new HttpEntity<>(form, headers), String.class);
+
+        assertEquals(HttpStatus.FOUND, response.getStatusCode());
+        return Integer.parseInt(UriComponentsBuilder.fromUri(response.getHeaders().getLocation())
+                .build().getQueryParams().getFirst("id"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.study.board.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void onFailure_연속실패기준도달_열림() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(3, 60000, 1);
+
+        // When
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.openedCount());
+        assertEquals(1, breaker.rejectedCount());
+    }
+
+    @Test
+    void tryAcquire_열린시간경과_시험호출을점차늘림() throws Exception {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 10, 3);
+        breaker.onFailure();
+        Thread.sleep(20);
+
+        // When & Then
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void onFailure_시험호출실패_다시열림() throws Exception {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 10, 3);
+        breaker.onFailure();
+        Thread.sleep(20);
+        assertTrue(breaker.tryAcquire());
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2, breaker.openedCount());
+    }
+}
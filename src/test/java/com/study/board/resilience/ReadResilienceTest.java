@@ -0,0 +1,153 @@
+package com.study.board.resilience;
+
+import com.study.board.cache.BoardCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReadResilienceTest {
+
+    private ReadResilience readResilience;
+    private BoardCache boardCache;
+
+    @BeforeEach
+    void setUp() {
+        boardCache = mock(BoardCache.class);
+        readResilience = new ReadResilience();
+        ReflectionTestUtils.setField(readResilience, "boardCache", boardCache);
+        ReflectionTestUtils.setField(readResilience, "failureThreshold", 2);
+        ReflectionTestUtils.setField(readResilience, "openMillis", 50L);
+        ReflectionTestUtils.setField(readResilience, "probeSuccesses", 1);
+        readResilience.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        readResilience.shutdown();
+    }
+
+    @Test
+    void read_DB오류_이전응답반환() {
+        // Given
+        readResilience.read("list:0", () -> "목록");
+
+        // When
+        StaleRead<String> result = readResilience.read("list:0", () -> {
+            throw new QueryTimeoutException("timeout");
+        });
+
+        // Then
+        assertTrue(result.isStale());
+        assertEquals("목록", result.getValue());
+    }
+
+    @Test
+    void read_차단기열림_이전응답없음_DB호출없이예외() {
+        // Given
+        tripBreaker();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThrows(DatabaseUnavailableException.class, () -> readResilience.read("list:1", () -> {
+            calls.incrementAndGet();
+            return "목록";
+        }));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void read_차단기열림_이전응답반환후_백그라운드재조회로복구() throws Exception {
+        // Given
+        readResilience.read("list:0", () -> "이전 목록");
+        tripBreaker();
+
+        // When
+        StaleRead<String> stale = readResilience.read("list:0", () -> "새 목록");
+        Thread.sleep(100);
+        StaleRead<String> probing = readResilience.read("list:0", () -> "새 목록");
+        for (int i = 0; i < 50 && readResilience.breaker().state() != CircuitBreaker.State.CLOSED; i++) {
+            Thread.sleep(20);
+        }
+        StaleRead<String> fresh = readResilience.read("list:0", () -> "새 목록");
+
+        // Then
+        assertTrue(stale.isStale());
+        assertEquals("이전 목록", stale.getValue());
+        assertTrue(probing.isStale());
+        assertEquals(CircuitBreaker.State.CLOSED, readResilience.breaker().state());
+        assertFalse(fresh.isStale());
+        assertEquals("새 목록", fresh.getValue());
+    }
+
+    @Test
+    void read_백그라운드재조회는_refreshLoader로실행() throws Exception {
+        // Given
+        readResilience.read("view:1", () -> "이전 게시글");
+        tripBreaker();
+        Thread.sleep(100);
+        AtomicInteger foreground = new AtomicInteger();
+        AtomicInteger refresh = new AtomicInteger();
+
+        // When
+        StaleRead<String> stale = readResilience.read("view:1",
+                () -> "조회수 반영 " + foreground.incrementAndGet(), () -> "재조회 " + refresh.incrementAndGet());
+        for (int i = 0; i < 50 && refresh.get() == 0; i++) {
+            Thread.sleep(20);
+        }
+
+        // Then
+        assertTrue(stale.isStale());
+        assertEquals(0, foreground.get());
+        assertEquals(1, refresh.get());
+    }
+
+    @Test
+    void read_게시글없음_차단기에실패로집계안함() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThrows(EntityNotFoundException.class, () -> readResilience.read("view:9", () -> {
+                throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+            }));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, readResilience.breaker().state());
+    }
+
+    @Test
+    void 게시글무효화_해당게시글이전응답삭제() {
+        // Given
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<Integer>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(boardCache).subscribePostEviction(listener.capture());
+        readResilience.read(ReadResilience.viewKey(1), () -> "게시글");
+
+        // When
+        listener.getValue().accept(1);
+
+        // Then
+        assertThrows(DatabaseUnavailableException.class, () -> readResilience.read(ReadResilience.viewKey(1), () -> {
+            throw new QueryTimeoutException("timeout");
+        }));
+    }
+
+    private void tripBreaker() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(DatabaseUnavailableException.class, () -> readResilience.read("other", () -> {
+                throw new QueryTimeoutException("timeout");
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, readResilience.breaker().state());
+    }
+}
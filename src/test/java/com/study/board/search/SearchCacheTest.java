@@ -0,0 +1,130 @@
+package com.study.board.search;
+
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.InvalidationEvent;
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.repository.BoardRepository;
+import com.study.board.tag.RoaringBitmap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SearchCacheTest {
+
+    private static final SearchQuery SPRING = SearchQuery.of("spring", "title");
+    private static final SearchQuery JAVA = SearchQuery.of("java", "all");
+
+    private LoopbackInvalidationBus invalidationBus;
+    private BoardCache boardCache;
+    private BoardRepository boardRepository;
+    private SearchCache searchCache;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new LoopbackInvalidationBus();
+        boardCache = new BoardCache();
+        ReflectionTestUtils.setField(boardCache, "invalidationBus", invalidationBus);
+        ReflectionTestUtils.setField(boardCache, "contentStoreType", "heap");
+        boardCache.init();
+        boardRepository = mock(BoardRepository.class);
+
+        searchCache = new SearchCache();
+        ReflectionTestUtils.setField(searchCache, "boardCache", boardCache);
+        ReflectionTestUtils.setField(searchCache, "invalidationBus", invalidationBus);
+        ReflectionTestUtils.setField(searchCache, "boardRepository", boardRepository);
+        searchCache.init();
+
+        searchCache.put(SPRING, RoaringBitmap.of(1, 2), searchCache.stamp());
+        searchCache.put(JAVA, RoaringBitmap.of(3), searchCache.stamp());
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardCache.close();
+    }
+
+    @Test
+    void postChanged_내용이걸리는검색만제거() {
+        // When
+        searchCache.postChanged("Spring 입문", "본문", "작성자");
+
+        // Then
+        assertNull(searchCache.get(SPRING));
+        assertNotNull(searchCache.get(JAVA));
+    }
+
+    @Test
+    void postChanged_걸리는검색이없어도_진행중인조회는저장안함() {
+        // Given
+        long stamp = searchCache.stamp();
+
+        // When
+        searchCache.postChanged("다른 제목", "다른 본문", "작성자");
+        searchCache.put(SearchQuery.of("kotlin", "all"), RoaringBitmap.of(9), stamp);
+
+        // Then
+        assertNotNull(searchCache.get(SPRING));
+        assertNull(searchCache.get(SearchQuery.of("kotlin", "all")));
+    }
+
+    @Test
+    void 게시글무효화_결과에포함된검색만제거() {
+        // When
+        boardCache.invalidatePost(2);
+
+        // Then
+        assertNull(searchCache.get(SPRING));
+        assertNotNull(searchCache.get(JAVA));
+        assertEquals(1L, searchCache.metrics().get("selectiveEvictions"));
+    }
+
+    @Test
+    void 다른노드_게시글수정_새내용이걸리는검색제거() {
+        // Given
+        when(boardRepository.findSearchTextsByIdIn(Collections.singleton(7)))
+                .thenReturn(Collections.singletonList(new Object[]{7, "자바 입문", "Java 17 정리", "작성자"}));
+
+        // When
+        invalidationBus.publish(new InvalidationEvent(InvalidationEvent.REGION_POST, "7", "other-node"));
+
+        // Then
+        assertNull(searchCache.get(JAVA));
+        assertNotNull(searchCache.get(SPRING));
+    }
+
+    @Test
+    void 다른노드_새게시글_마지막확인ID이후게시글만읽어판단() {
+        // Given
+        when(boardRepository.findMaxId()).thenReturn(10);
+        when(boardRepository.findSearchTextsAfter(10, PageRequest.of(0, 1000)))
+                .thenReturn(Collections.singletonList(new Object[]{11, "Spring Boot", "본문", "작성자"}));
+        searchCache.onReady();
+
+        // When
+        invalidationBus.publish(new InvalidationEvent(InvalidationEvent.REGION_PAGES, null, "other-node"));
+        invalidationBus.publish(new InvalidationEvent(InvalidationEvent.REGION_PAGES, null, "other-node"));
+
+        // Then
+        assertNull(searchCache.get(SPRING));
+        assertNotNull(searchCache.get(JAVA));
+        verify(boardRepository).findSearchTextsAfter(11, PageRequest.of(0, 1000));
+    }
+
+    @Test
+    void 기동완료전_새게시글이벤트_전체비움() {
+        // When
+        invalidationBus.publish(new InvalidationEvent(InvalidationEvent.REGION_PAGES, null, "other-node"));
+
+        // Then
+        assertNull(searchCache.get(SPRING));
+        assertNull(searchCache.get(JAVA));
+        assertEquals(1L, searchCache.metrics().get("fullEvictions"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchQueryTest {
+
+    @Test
+    void of_공백과대소문자정규화_같은조건() {
+        // When
+        SearchQuery query = SearchQuery.of("  Spring \t  BOOT　입문 ", "title");
+
+        // Then
+        assertEquals("spring boot 입문", query.getKeyword());
+        assertEquals(SearchQuery.of("spring boot 입문", "TITLE"), query);
+    }
+
+    @Test
+    void of_검색유형_content와all과없음은_같은조건() {
+        assertEquals(SearchQuery.of("자바", "all"), SearchQuery.of("자바", "content"));
+        assertEquals(SearchQuery.of("자바", "all"), SearchQuery.of("자바", null));
+        assertEquals(SearchQuery.ALL, SearchQuery.of("자바", "unknown").getType());
+        assertNotEquals(SearchQuery.of("자바", "all"), SearchQuery.of("자바", "author"));
+    }
+
+    @Test
+    void isEmpty_공백만있는검색어() {
+        assertTrue(SearchQuery.of(" \t ", "all").isEmpty());
+        assertTrue(SearchQuery.of(null, "title").isEmpty());
+        assertFalse(SearchQuery.of("a", "title").isEmpty());
+    }
+
+    @Test
+    void matches_검색유형별항목만_대소문자무시() {
+        // Given
+        SearchQuery title = SearchQuery.of("spring", "title");
+        SearchQuery all = SearchQuery.of("spring", "all");
+        SearchQuery author = SearchQuery.of("KIM", "author");
+
+        // Then
+        assertTrue(title.matches("Spring 입문", "본문", "작성자"));
+        assertFalse(title.matches("자바 입문", "SPRING 본문", "작성자"));
+        assertTrue(all.matches("자바 입문", "SPRING 본문", "작성자"));
+        assertFalse(all.matches("자바 입문", "본문", "spring"));
+        assertTrue(author.matches("제목", "본문", "kim"));
+        assertFalse(author.matches(null, null, null));
+    }
+
+    @Test
+    void matches_LIKE와일드카드검색어_글자그대로비교() {
+        assertTrue(SearchQuery.of("100%", "title").matches("할인 100% 보장", "본문", "작성자"));
+        assertFalse(SearchQuery.of("100%", "title").matches("1000원", "본문", "작성자"));
+        assertTrue(SearchQuery.of("a_b", "all").matches(null, "a_b 설정", null));
+        assertFalse(SearchQuery.of("a_b", "all").matches("axb", "본문", null));
+    }
+}
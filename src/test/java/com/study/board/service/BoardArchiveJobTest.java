@@ -0,0 +1,119 @@
+package com.study.board.service;
+
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.entity.Board;
+import com.study.board.entity.BoardArchive;
+import com.study.board.entity.BoardTag;
+import com.study.board.entity.Tag;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardOutboxRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.BoardTagRepository;
+import com.study.board.repository.TagRepository;
+import com.study.board.tag.TagIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "board.cache.invalidation.transport=loopback",
+        "board.archival.batch-size=1",
+        "board.archival.age-days=365",
+        "board.archival.max-views=100",
+        "board.view-count.buffer.enabled=true",
+        "board.outbox.enabled=true"
+})
+@Import({BoardArchiveJob.class, TagIndex.class, ViewCountBuffer.class, BoardCache.class, LoopbackInvalidationBus.class,
+        BoardEventPublisher.class, JpaAuditingConfig.class})
+class BoardArchiveJobTest {
+
+    @Autowired
+    private BoardArchiveJob archiveJob;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BoardTagRepository boardTagRepository;
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void archive_오래되고조회수적은게시글만_보관테이블로이동() {
+        // Given
+        LocalDateTime old = LocalDateTime.now().minusYears(2);
+        Integer oldTagged = post(old, 10, 0);
+        Integer oldPlain = post(old, 0, 0);
+        Integer oldPopular = post(old, 500, 0);
+        Integer oldWithAttachment = post(old, 0, 1);
+        Integer recent = post(LocalDateTime.now(), 0, 0);
+        Tag java = tagRepository.save(Tag.builder().name("java").build());
+        boardTagRepository.save(new BoardTag(oldTagged, java.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        tagIndex.load();
+        viewCountBuffer.increment(oldTagged);
+
+        // When
+        int archived = archiveJob.archive();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, archived);
+        assertFalse(boardRepository.existsById(oldTagged));
+        assertFalse(boardRepository.existsById(oldPlain));
+        assertTrue(boardRepository.existsById(oldPopular));
+        assertTrue(boardRepository.existsById(oldWithAttachment));
+        assertTrue(boardRepository.existsById(recent));
+
+        BoardArchive tagged = boardArchiveRepository.findById(oldTagged).orElseThrow();
+        assertEquals("java", tagged.getTags());
+        assertEquals(11, tagged.getViewCount());
+        assertNotNull(tagged.getArchivedAt());
+        assertEquals(0, viewCountBuffer.pendingCount(oldTagged));
+        assertTrue(boardTagRepository.findTagIdsByBoardId(oldTagged).isEmpty());
+        assertEquals(2, boardOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getEventType() == BoardEventType.ARCHIVED).count());
+        assertEquals(0, archiveJob.archive());
+    }
+
+    private Integer post(LocalDateTime createdAt, int viewCount, int attachmentCount) {
+        Board board = boardRepository.save(Board.builder()
+                .title("제목").content("내용").author("작성자")
+                .viewCount(viewCount).attachmentCount(attachmentCount).build());
+        // 작성일은 감사 기능이 채우므로 저장 후 변경
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Board b SET b.createdAt = :createdAt WHERE b.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", board.getId())
+                .executeUpdate();
+        return board.getId();
+    }
+}
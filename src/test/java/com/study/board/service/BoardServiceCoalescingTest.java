@@ -0,0 +1,212 @@
+package com.study.board.service;
+
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.cache.RequestCoalescer;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.dto.BoardDTO;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.entity.Board;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.repository.BoardOutboxRepository;
+import com.study.board.repository.BoardRepository;
+import com.study.board.search.SearchCache;
+import com.study.board.storage.AttachmentStore;
+import com.study.board.tag.TagIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커넥션 풀 크기 1에서 캐시 미스 동시 요청 처리
+ * 먼저 시작한 요청이 커넥션을 잡고 조회하는 동안, 결과를 기다리는 요청이 커넥션을 기다리다 시간 초과되지 않는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "board.cache.invalidation.transport=loopback",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "file.upload.directory=${java.io.tmpdir}/board-coalescing-files"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BoardService.class, ViewCountBuffer.class, LoopbackInvalidationBus.class, BoardEventPublisher.class,
+        TagIndex.class, ArchiveIndex.class, AttachmentStore.class, DuplicateIndex.class, RequestCoalescer.class,
+        SearchCache.class, JpaAuditingConfig.class})
+class BoardServiceCoalescingTest {
+
+    private static final int REQUESTS = 4;
+
+    // 캐시 저장이 지연되는 동안 먼저 시작한 요청은 트랜잭션(커넥션)을 잡고 있음
+    private static final long LOAD_DELAY_MS = 600;
+
+    @TestConfiguration
+    static class SlowCacheConfig {
+
+        @Bean
+        BoardCache boardCache() {
+            return new BoardCache() {
+                @Override
+                public void putPage(String key, Page<BoardDTO> page, long readStamp) {
+                    pause();
+                    super.putPage(key, page, readStamp);
+                }
+
+                @Override
+                public void putPost(BoardDTO post, long readStamp) {
+                    pause();
+                    super.putPost(post, readStamp);
+                }
+            };
+        }
+
+        private static void pause() {
+            try {
+                Thread.sleep(LOAD_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Board savedBoard;
+
+    @BeforeEach
+    void setUp() {
+        savedBoard = boardRepository.save(Board.builder()
+                .title("테스트 제목").content("테스트 내용").author("테스트 작성자").viewCount(0).build());
+        boardCache.invalidatePages();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardOutboxRepository.deleteAll();
+        boardRepository.deleteAll();
+        boardCache.invalidatePost(savedBoard.getId());
+    }
+
+    @Test
+    void boardList_풀크기1_동시요청_커넥션대기없이_결과공유() throws Exception {
+        // When
+        List<Page<BoardDTO>> pages = runConcurrently(() -> boardService.boardList(PageRequest.of(0, 10)));
+
+        // Then
+        pages.forEach(page -> assertEquals(1, page.getTotalElements()));
+        assertEquals(0L, stat(RequestCoalescer.LIST, "timeouts"));
+        assertEquals(REQUESTS - 1L, stat(RequestCoalescer.LIST, "coalesced"));
+    }
+
+    @Test
+    void getPopularPosts_풀크기1_동시요청_커넥션대기없이_결과공유() throws Exception {
+        // When
+        List<Page<BoardDTO>> pages = runConcurrently(() ->
+                boardService.getPopularPosts(PageRequest.of(0, 10, Sort.by("viewCount").descending())));
+
+        // Then
+        pages.forEach(page -> assertEquals(1, page.getNumberOfElements()));
+        assertEquals(0L, stat(RequestCoalescer.POPULAR, "timeouts"));
+    }
+
+    @Test
+    void boardView_풀크기1_동시요청_조회는한번_조회수는요청마다반영() throws Exception {
+        // When
+        List<BoardDTO> views = runConcurrently(() -> boardService.boardView(savedBoard.getId()));
+
+        // Then
+        views.forEach(view -> assertEquals("테스트 제목", view.getTitle()));
+        assertEquals(0L, stat(RequestCoalescer.POST, "timeouts"));
+        assertEquals(REQUESTS, boardRepository.findById(savedBoard.getId()).orElseThrow().getViewCount());
+        // 릴레이가 없는 기본 설정에서는 outbox에 기록하지 않음 (조회마다 행이 쌓이지 않음)
+        assertEquals(0, boardOutboxRepository.count());
+    }
+
+    @Test
+    void boardView_캐시미스_한트랜잭션에서_조회수UPDATE후_게시글한번조회() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        BoardDTO view = boardService.boardView(savedBoard.getId());
+
+        // Then
+        assertEquals(1, view.getViewCount());
+        // 조회수 UPDATE + 게시글 SELECT (outbox는 기본 설정에서 기록하지 않음)
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        // 읽은 값에 이 조회가 포함되어 캐시됨
+        assertEquals(1, boardCache.getPost(savedBoard.getId()).getViewCount());
+    }
+
+    // 모든 요청을 동시에 시작하고 결과 수집 (커넥션을 얻지 못하면 예외로 실패)
+    private <T> List<T> runConcurrently(Callable<T> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long stat(String group, String name) {
+        return (Long) ((Map<?, ?>) requestCoalescer.metrics().get(group)).get(name);
+    }
+}
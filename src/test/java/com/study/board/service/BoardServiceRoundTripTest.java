@@ -0,0 +1,532 @@
+package com.study.board.service;
+
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.archive.DateRange;
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.cache.RequestCoalescer;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.repository.BoardOutboxRepository;
+import com.study.board.repository.BoardTagRepository;
+import com.study.board.search.SearchCache;
+import com.study.board.storage.AttachmentStore;
+import com.study.board.tag.TagFilter;
+import com.study.board.tag.TagIndex;
+import com.study.board.dto.AttachmentDTO;
+import com.study.board.dto.BoardDTO;
+import com.study.board.entity.Board;
+import com.study.board.entity.BoardArchive;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoardService 변경 경로의 DB 왕복 횟수 검증
+ * Hibernate 통계의 PreparedStatement 수로 실제 실행된 SQL 수를 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "board.cache.invalidation.transport=loopback",
+        "board.view-count.buffer.enabled=true",
+        "board.outbox.enabled=true",
+        "file.upload.directory=${java.io.tmpdir}/board-roundtrip-files"
+})
+@Import({BoardService.class, ViewCountBuffer.class, BoardCache.class, LoopbackInvalidationBus.class,
+        BoardEventPublisher.class, TagIndex.class, ArchiveIndex.class, AttachmentStore.class, DuplicateIndex.class,
+        RequestCoalescer.class, SearchCache.class, JpaAuditingConfig.class})
+class BoardServiceRoundTripTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardOutboxRepository boardOutboxRepository;
+
+    @Autowired
+    private BoardTagRepository boardTagRepository;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private SearchCache searchCache;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Board savedBoard;
+
+    @BeforeEach
+    void setUp() {
+        savedBoard = boardRepository.saveAndFlush(Board.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .author("테스트 작성자")
+                .viewCount(0)
+                .build());
+        entityManager.clear();
+        tagIndex.load();
+        // 조회수 버퍼 사용 (버퍼 미사용 검증 테스트가 끈 설정 복원)
+        ReflectionTestUtils.setField(viewCountBuffer, "enabled", true);
+        // 리포지토리로 직접 저장했으므로 작성 경로처럼 검색 결과 캐시에 알림 (이전 테스트에서 롤백된 결과 제거)
+        searchCache.postChanged(savedBoard.getTitle(), savedBoard.getContent(), savedBoard.getAuthor());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void boardView_SELECT_1회() {
+        // When
+        BoardDTO result = boardService.boardView(savedBoard.getId());
+
+        // Then
+        assertEquals(1, result.getViewCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void boardView_첨부파일여러개_게시글과첨부파일_SELECT_2회() throws Exception {
+        // Given
+        BoardDTO saved = boardService.write(BoardDTO.builder().title("첨부 글").content("내용").author("작성자").build(),
+                Arrays.asList(new MockMultipartFile("file", "a.txt", "text/plain", "첫 번째".getBytes(StandardCharsets.UTF_8)),
+                        new MockMultipartFile("file", "b.txt", "text/plain", "두 번째".getBytes(StandardCharsets.UTF_8)),
+                        new MockMultipartFile("file", "c.txt", "text/plain", "세 번째".getBytes(StandardCharsets.UTF_8))));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        BoardDTO result = boardService.boardView(saved.getId());
+
+        // Then
+        assertEquals(3, result.getAttachmentCount());
+        assertEquals(Arrays.asList("a.txt", "b.txt", "c.txt"),
+                result.getAttachments().stream().map(AttachmentDTO::getFilename).collect(Collectors.toList()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(3, boardService.boardList(PageRequest.of(0, 10)).getContent().stream()
+                .filter(board -> board.getId().equals(saved.getId()))
+                .findFirst().orElseThrow().getAttachmentCount());
+    }
+
+    @Test
+    void 보관게시글저장_존재확인SELECT없이_INSERT1회() {
+        // When
+        archive(savedBoard.getId() + 100, "보관 글", LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void boardView_보관된게시글_게시글과보관테이블_SELECT_2회() {
+        // Given
+        Integer archivedId = savedBoard.getId() + 100;
+        archive(archivedId, "보관 글", LocalDateTime.of(2020, 1, 1, 0, 0));
+        statistics.clear();
+
+        // When
+        BoardDTO result = boardService.boardView(archivedId);
+
+        // Then
+        assertTrue(result.getArchived());
+        assertEquals("보관 글", result.getTitle());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, viewCountBuffer.pendingCount(archivedId));
+    }
+
+    @Test
+    void boardArchiveSearchList_게시글과보관글_ID내림차순으로합침() {
+        // Given
+        Integer archivedId = savedBoard.getId() + 100;
+        archive(archivedId, "테스트 보관 글", LocalDateTime.of(2020, 1, 1, 0, 0));
+        statistics.clear();
+
+        // When
+        Page<BoardDTO> result = boardService.boardArchiveSearchList("테스트", "title", null, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(Arrays.asList(archivedId, savedBoard.getId()),
+                result.getContent().stream().map(BoardDTO::getId).collect(Collectors.toList()));
+        assertTrue(result.getContent().get(0).getArchived());
+        assertNull(result.getContent().get(1).getArchived());
+        // ID 조회 2회 (게시글/보관) + 페이지 조회 2회 (게시글/보관)
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(1, boardService.boardSearchList("테스트", "title", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void boardDelete_보관된게시글_작성일조회와DELETE() {
+        // Given
+        Integer archivedId = savedBoard.getId() + 100;
+        archive(archivedId, "보관 글", LocalDateTime.of(2020, 1, 1, 0, 0));
+        statistics.clear();
+
+        // When
+        boardService.boardDelete(archivedId);
+
+        // Then
+        // 게시글 조회(없음) + 보관 작성일 조회 + DELETE + outbox
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertFalse(boardArchiveRepository.existsById(archivedId));
+    }
+
+    @Test
+    void boardView_두번째조회_캐시적중_SQL없음() {
+        // Given
+        boardService.boardView(savedBoard.getId());
+        statistics.clear();
+
+        // When
+        BoardDTO result = boardService.boardView(savedBoard.getId());
+
+        // Then
+        assertEquals(2, result.getViewCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void boardView_버퍼미사용_조회마다_UPDATE와outbox_바로반영() {
+        // Given
+        ReflectionTestUtils.setField(viewCountBuffer, "enabled", false);
+        boardService.boardView(savedBoard.getId());
+        statistics.clear();
+
+        // When
+        BoardDTO result = boardService.boardView(savedBoard.getId());
+
+        // Then
+        // 캐시 적중이므로 조회수 UPDATE 1회 + 같은 트랜잭션의 outbox INSERT 1회
+        assertEquals(2, result.getViewCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, viewCountBuffer.pendingCount(savedBoard.getId()));
+        entityManager.clear();
+        assertEquals(2, boardRepository.findById(savedBoard.getId()).orElseThrow().getViewCount());
+        assertEquals(2, boardOutboxRepository.findAll().stream()
+                .filter(outbox -> outbox.getEventType() == BoardEventType.VIEWED).count());
+    }
+
+    @Test
+    void boardView_누적조회수_일괄반영() {
+        // Given
+        boardService.boardView(savedBoard.getId());
+        boardService.boardView(savedBoard.getId());
+
+        // When
+        viewCountBuffer.flush();
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, boardRepository.findById(savedBoard.getId()).orElseThrow().getViewCount());
+        assertEquals(0, viewCountBuffer.pendingCount(savedBoard.getId()));
+        assertEquals(BoardEventType.VIEWED, boardOutboxRepository.findAll().get(0).getEventType());
+        assertEquals("{\"delta\":2}", boardOutboxRepository.findAll().get(0).getPayload());
+    }
+
+    @Test
+    void updateBoard_파일없음_UPDATE와_outbox_2회() throws Exception {
+        // Given
+        BoardDTO boardDTO = BoardDTO.builder()
+                .title("수정된 제목")
+                .content("수정된 내용")
+                .author("테스트 작성자")
+                .version(savedBoard.getVersion())
+                .build();
+
+        // When
+        boardService.updateBoard(savedBoard.getId(), boardDTO, null);
+
+        // Then
+        // 게시글 UPDATE 1회 + 같은 트랜잭션의 outbox INSERT 1회
+        assertEquals(2, statistics.getPrepareStatementCount());
+        entityManager.clear();
+        Board updated = boardRepository.findById(savedBoard.getId()).orElseThrow();
+        assertEquals("수정된 제목", updated.getTitle());
+        assertEquals(savedBoard.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void updateBoard_이전버전으로_수정시_충돌() throws Exception {
+        // Given
+        BoardDTO first = BoardDTO.builder()
+                .title("먼저 수정").content("내용").author("작성자A").version(savedBoard.getVersion()).build();
+        BoardDTO second = BoardDTO.builder()
+                .title("나중 수정").content("내용").author("작성자B").version(savedBoard.getVersion()).build();
+        boardService.updateBoard(savedBoard.getId(), first, null);
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> boardService.updateBoard(savedBoard.getId(), second, null));
+        entityManager.clear();
+        assertEquals("먼저 수정", boardRepository.findById(savedBoard.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void updateBoard_숨긴게시글_UPDATE_0행_없는게시글로처리() {
+        // Given
+        entityManager.createQuery("UPDATE Board b SET b.hidden = true WHERE b.id = :id")
+                .setParameter("id", savedBoard.getId()).executeUpdate();
+        BoardDTO boardDTO = BoardDTO.builder()
+                .title("수정된 제목").content("수정된 내용").author("테스트 작성자")
+                .version(savedBoard.getVersion()).tags(Collections.singletonList("java"))
+                .build();
+
+        // When
+        int updated = boardRepository.updateContent(savedBoard.getId(), savedBoard.getVersion(), "수정된 제목",
+                "수정된 내용", "테스트 작성자", LocalDateTime.now(), "수정된 내용", 1, 0L);
+        int viewed = boardRepository.increaseViewCountBy(savedBoard.getId(), 1);
+
+        // Then
+        assertEquals(0, updated);
+        assertEquals(0, viewed);
+        assertThrows(EntityNotFoundException.class,
+                () -> boardService.updateBoard(savedBoard.getId(), boardDTO, null));
+        Object[] row = (Object[]) entityManager.createNativeQuery("SELECT title, view_count FROM board WHERE id = :id")
+                .setParameter("id", savedBoard.getId()).getSingleResult();
+        assertEquals("테스트 제목", row[0]);
+        assertEquals(0, ((Number) row[1]).intValue());
+        assertTrue(boardTagRepository.findTagIdsByBoardId(savedBoard.getId()).isEmpty());
+    }
+
+    @Test
+    void 조회수반영_버전변경없음() {
+        // Given
+        boardService.boardView(savedBoard.getId());
+
+        // When
+        viewCountBuffer.flush();
+        entityManager.clear();
+
+        // Then
+        Board viewed = boardRepository.findById(savedBoard.getId()).orElseThrow();
+        assertEquals(1, viewed.getViewCount());
+        assertEquals(savedBoard.getVersion(), viewed.getVersion());
+    }
+
+    @Test
+    void boardDelete_경로조회_DELETE_outbox_3회() {
+        // When
+        boardService.boardDelete(savedBoard.getId());
+
+        // Then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(BoardEventType.DELETED, boardOutboxRepository.findAll().get(0).getEventType());
+        assertFalse(boardRepository.existsById(savedBoard.getId()));
+    }
+
+    @Test
+    void boardDelete_태그연결_ON_DELETE_CASCADE로_함께삭제() throws Exception {
+        // Given
+        BoardDTO saved = boardService.write(BoardDTO.builder()
+                .title("태그 글").content("내용").author("작성자").tags(Arrays.asList("spring", "jpa")).build(), null);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        boardService.boardDelete(saved.getId());
+        entityManager.flush();
+
+        // Then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertTrue(boardTagRepository.findTagIdsByBoardId(saved.getId()).isEmpty());
+    }
+
+    @Test
+    void updateBoard_태그변경_바뀐연결만반영() throws Exception {
+        // Given
+        BoardDTO saved = boardService.write(BoardDTO.builder()
+                .title("태그 글").content("내용").author("작성자").tags(Arrays.asList("spring", "jpa")).build(), null);
+        entityManager.flush();
+        entityManager.clear();
+        BoardDTO update = BoardDTO.builder()
+                .title("태그 글").content("내용").author("작성자").version(saved.getVersion())
+                .tags(Arrays.asList("spring", "h2")).build();
+        statistics.clear();
+
+        // When
+        boardService.updateBoard(saved.getId(), update, null);
+        entityManager.flush();
+
+        // Then
+        // UPDATE + 현재 연결 조회 + 태그 조회/생성(h2) + 연결 삭제(jpa) + 연결 추가(h2) + outbox
+        assertEquals(7, statistics.getPrepareStatementCount());
+        assertEquals(2, boardTagRepository.findTagIdsByBoardId(saved.getId()).size());
+    }
+
+    @Test
+    void boardSearchList_태그조건_페이지조회1회() {
+        // Given
+        // 트랜잭션이 커밋되지 않으므로 인덱스를 직접 다시 적재
+        tagIndex.load();
+        statistics.clear();
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList(null, "all",
+                TagFilter.of(null, null, Collections.singletonList("없는태그")), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(savedBoard.getId(), result.getContent().get(0).getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void boardSearchList_검색결과캐시_두번째검색은페이지조회만_작성한글은바로반영() throws Exception {
+        // Given
+        Pageable latest = PageRequest.of(0, 10, Sort.by("id").descending());
+
+        // When
+        Page<BoardDTO> first = boardService.boardSearchList("테스트", "title", latest);
+        long firstStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        Page<BoardDTO> second = boardService.boardSearchList("  테스트 ", "TITLE", latest);
+        long secondStatements = statistics.getPrepareStatementCount();
+        BoardDTO written = boardService.write(BoardDTO.builder().title("새 테스트 글").content("Spring 본문").author("작성자").build(), null);
+        Page<BoardDTO> third = boardService.boardSearchList("테스트", "title", latest);
+
+        // Then
+        assertEquals(1, first.getTotalElements());
+        // ID 조회 + 페이지 조회
+        assertEquals(2, firstStatements);
+        assertEquals(1, second.getTotalElements());
+        assertEquals(1, secondStatements);
+        assertEquals(2, third.getTotalElements());
+        assertEquals(written.getId(), third.getContent().get(0).getId());
+        assertEquals(1, boardService.boardSearchList("SPRING", "content", latest).getTotalElements());
+    }
+
+    @Test
+    void boardSearchList_수정으로검색어가빠진글_캐시된결과에서제외() throws Exception {
+        // Given
+        Pageable latest = PageRequest.of(0, 10, Sort.by("id").descending());
+        assertEquals(1, boardService.boardSearchList("테스트", "all", latest).getTotalElements());
+
+        // When
+        boardService.updateBoard(savedBoard.getId(), BoardDTO.builder().title("바뀐 제목").content("바뀐 내용")
+                .author("작성자").version(savedBoard.getVersion()).build(), null);
+        Page<BoardDTO> result = boardService.boardSearchList("테스트", "all", latest);
+
+        // Then
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    void boardSearchList_LIKE와일드카드검색어_최신순과다른정렬의결과가같음() {
+        // Given
+        Integer percent = boardRepository.saveAndFlush(Board.builder()
+                .title("할인 100% 보장").content("본문").author("작성자").viewCount(0).build()).getId();
+        boardRepository.saveAndFlush(Board.builder()
+                .title("1000원 할인").content("본문").author("작성자").viewCount(0).build());
+        Integer underscore = boardRepository.saveAndFlush(Board.builder()
+                .title("a_b 설정").content("본문").author("작성자").viewCount(0).build()).getId();
+        boardRepository.saveAndFlush(Board.builder()
+                .title("axb 설정").content("본문").author("작성자").viewCount(0).build());
+        Integer backslash = boardRepository.saveAndFlush(Board.builder()
+                .title("C:\\temp 경로").content("본문").author("작성자").viewCount(0).build()).getId();
+        Pageable latest = PageRequest.of(0, 10, Sort.by("id").descending());
+        Pageable popular = PageRequest.of(0, 10, Sort.by("viewCount").descending());
+
+        // When & Then - 최신순은 ID 조회(검색 결과 캐시), 다른 정렬은 페이지 조회
+        for (Pageable pageable : Arrays.asList(latest, popular, latest)) {
+            assertEquals(Collections.singletonList(percent), ids(boardService.boardSearchList("0%", "title", pageable)));
+            assertEquals(Collections.singletonList(underscore), ids(boardService.boardSearchList("a_b", "all", pageable)));
+            assertEquals(Collections.singletonList(backslash), ids(boardService.boardSearchList(":\\t", "title", pageable)));
+        }
+    }
+
+    @Test
+    void boardSearchList_작성일범위_페이지와건수조회2회() {
+        // Given
+        LocalDate today = savedBoard.getCreatedAt().toLocalDate();
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList(null, "all", TagFilter.NONE,
+                DateRange.of(today, today), PageRequest.of(0, 10));
+        Page<BoardDTO> empty = boardService.boardSearchList(null, "all", TagFilter.NONE,
+                DateRange.of(today.plusDays(1), null), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(savedBoard.getId(), result.getContent().get(0).getId());
+        assertEquals(0, empty.getTotalElements());
+        // 첫 페이지가 가득 차지 않으면 건수 쿼리는 생략되므로 조회 1회씩
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void boardSearchList_작성일범위_LIKE와일드카드검색어_글자그대로비교() {
+        // Given
+        Integer percent = boardRepository.saveAndFlush(Board.builder()
+                .title("할인 100% 보장").content("본문").author("작성자").viewCount(0).build()).getId();
+        boardRepository.saveAndFlush(Board.builder()
+                .title("1000원 할인").content("본문").author("작성자").viewCount(0).build());
+        LocalDate today = savedBoard.getCreatedAt().toLocalDate();
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList("0%", "title", TagFilter.NONE,
+                DateRange.of(today, today), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(Collections.singletonList(percent), ids(result));
+    }
+
+    @Test
+    void boardDelete_존재하지않는게시물_예외발생() {
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> boardService.boardDelete(savedBoard.getId() + 1000));
+    }
+
+    private List<Integer> ids(Page<BoardDTO> page) {
+        return page.getContent().stream().map(BoardDTO::getId).collect(Collectors.toList());
+    }
+
+    private void archive(Integer id, String title, LocalDateTime createdAt) {
+        boardArchiveRepository.saveAndFlush(BoardArchive.builder()
+                .id(id).title(title).content("보관된 내용").author("작성자").viewCount(0).version(0L)
+                .createdAt(createdAt).archivedAt(LocalDateTime.now()).build());
+        entityManager.clear();
+    }
+}
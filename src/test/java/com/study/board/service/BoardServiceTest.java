@@ -1,28 +1,75 @@
 package com.study.board.service;
 
+import com.study.board.archive.ArchiveIndex;
+import com.study.board.archive.DateRange;
+import com.study.board.cache.BoardCache;
+import com.study.board.cache.RequestCoalescer;
 import com.study.board.dto.BoardDTO;
+import com.study.board.duplicate.DuplicateIndex;
+import com.study.board.entity.Attachment;
 import com.study.board.entity.Board;
+import com.study.board.entity.BoardArchive;
+import com.study.board.entity.Tag;
+import com.study.board.event.BoardEventPublisher;
+import com.study.board.event.BoardEventType;
+import com.study.board.repository.AttachmentRepository;
+import com.study.board.repository.BoardArchiveRepository;
+import com.study.board.repository.BoardDeleteTarget;
 import com.study.board.repository.BoardRepository;
+import com.study.board.repository.BoardSummary;
+import com.study.board.repository.BoardTagRepository;
+import com.study.board.repository.TagRepository;
+import com.study.board.search.SearchCache;
+import com.study.board.search.SearchQuery;
+import com.study.board.storage.AttachmentStore;
+import com.study.board.storage.StoredAttachment;
+import com.study.board.tag.RoaringBitmap;
+import com.study.board.tag.TagFilter;
+import com.study.board.tag.TagIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,13 +78,56 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private BoardCache boardCache;
+
+    @Mock
+    private BoardEventPublisher boardEventPublisher;
+
+    @Mock
+    private TagIndex tagIndex;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private BoardTagRepository boardTagRepository;
+
+    @Mock
+    private ArchiveIndex archiveIndex;
+
+    @Mock
+    private AttachmentStore attachmentStore;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private DuplicateIndex duplicateIndex;
+
+    @Mock
+    private BoardArchiveRepository boardArchiveRepository;
+
     @Mock
     private MultipartFile multipartFile;
 
+    @Mock
+    private SearchCache searchCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
     @InjectMocks
     private BoardService boardService;
 
     private Board testBoard;
+    private BoardSummary testSummary;
     private BoardDTO testBoardDTO;
 
     @BeforeEach
@@ -53,6 +143,14 @@ class BoardServiceTest {
         testBoard.setCreatedAt(LocalDateTime.now());
         testBoard.setUpdatedAt(LocalDateTime.now());
 
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("id", 1);
+        summary.put("title", "테스트 제목");
+        summary.put("author", "테스트 작성자");
+        summary.put("viewCount", 0);
+        summary.put("excerpt", "테스트 내용");
+        testSummary = new SpelAwareProxyProjectionFactory().createProjection(BoardSummary.class, summary);
+
         testBoardDTO = new BoardDTO();
         testBoardDTO.setId(1);
         testBoardDTO.setTitle("테스트 제목");
@@ -61,12 +159,14 @@ class BoardServiceTest {
         testBoardDTO.setViewCount(0);
         testBoardDTO.setFilename("test.txt");
         testBoardDTO.setFilepath("/files/test.txt");
+        testBoardDTO.setVersion(0L);
     }
 
     @Test
     void boardView_성공() {
         // Given
         when(boardRepository.findById(1)).thenReturn(Optional.of(testBoard));
+        when(viewCountBuffer.increment(1)).thenReturn(1);
 
         // When
         BoardDTO result = boardService.boardView(1);
@@ -76,7 +176,137 @@ class BoardServiceTest {
         assertEquals(testBoard.getId(), result.getId());
         assertEquals(testBoard.getTitle(), result.getTitle());
         assertEquals(testBoard.getContent(), result.getContent());
+        assertEquals(1, result.getViewCount());
+        verify(boardRepository, times(1)).findById(1);
+        verify(boardRepository, never()).increaseViewCount(1);
+        verify(boardCache, times(1)).putPost(any(BoardDTO.class), anyLong());
+    }
+
+    @Test
+    void boardView_첨부파일있으면_첨부파일목록_한번에조회() {
+        // Given
+        testBoard.setAttachmentCount(2);
+        when(boardRepository.findById(1)).thenReturn(Optional.of(testBoard));
+        when(attachmentRepository.findByBoardIdOrderByIdAsc(1)).thenReturn(Arrays.asList(
+                Attachment.builder().id(10).boardId(1).filename("a.txt").filepath("/files/a.txt").size(3L).build(),
+                Attachment.builder().id(11).boardId(1).filename("b.png").filepath("/files/b.png").size(5L).build()));
+
+        // When
+        BoardDTO result = boardService.boardView(1);
+
+        // Then
+        assertEquals(2, result.getAttachmentCount());
+        assertEquals(Arrays.asList("a.txt", "b.png"),
+                result.getAttachments().stream().map(attachment -> attachment.getFilename()).collect(Collectors.toList()));
+        verify(attachmentRepository, times(1)).findByBoardIdOrderByIdAsc(1);
+    }
+
+    @Test
+    void boardView_첨부파일없으면_첨부파일조회없음() {
+        // Given
+        testBoard.setAttachmentCount(0);
+        when(boardRepository.findById(1)).thenReturn(Optional.of(testBoard));
+
+        // When
+        BoardDTO result = boardService.boardView(1);
+
+        // Then
+        assertTrue(result.getAttachments().isEmpty());
+        verifyNoInteractions(attachmentRepository);
+    }
+
+    @Test
+    void boardView_보관된게시글_보관테이블조회_조회수증가없음() {
+        // Given
+        when(boardRepository.findById(5)).thenReturn(Optional.empty());
+        when(boardArchiveRepository.findById(5)).thenReturn(Optional.of(BoardArchive.builder()
+                .id(5).title("오래된 글").content("내용").author("작성자").viewCount(3).tags("java,spring")
+                .version(2L).build()));
+
+        // When
+        BoardDTO result = boardService.boardView(5);
+
+        // Then
+        assertTrue(result.getArchived());
+        assertEquals(3, result.getViewCount());
+        assertEquals(Arrays.asList("java", "spring"), result.getTags());
+        verify(viewCountBuffer, never()).increment(5);
+        verify(boardCache, times(1)).putPost(any(BoardDTO.class), anyLong());
+    }
+
+    @Test
+    void boardView_캐시미스동시요청_DB조회1회() throws Exception {
+        // Given
+        requestCoalescer.init();
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardRepository.findById(1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(testBoard);
+        });
+        when(viewCountBuffer.increment(1)).thenReturn(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<BoardDTO>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> boardService.boardView(1)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        List<BoardDTO> views = new ArrayList<>();
+        for (Future<BoardDTO> result : results) {
+            views.add(result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(4, views.stream().map(System::identityHashCode).distinct().count());
         verify(boardRepository, times(1)).findById(1);
+        verify(boardCache, times(1)).putPost(any(BoardDTO.class), anyLong());
+        assertEquals(3L, ((Map<?, ?>) requestCoalescer.metrics().get(RequestCoalescer.POST)).get("coalesced"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    void boardView_캐시적중_DB조회없음() {
+        // Given
+        testBoardDTO.setViewCount(10);
+        when(boardCache.getPost(1)).thenReturn(testBoardDTO);
+        when(viewCountBuffer.increment(1)).thenReturn(2);
+
+        // When
+        BoardDTO result = boardService.boardView(1);
+
+        // Then
+        assertEquals(12, result.getViewCount());
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void boardDetail_조회수증가없음_캐시된게시글복사본반환() {
+        // Given
+        testBoardDTO.setViewCount(10);
+        when(boardCache.getPost(1)).thenReturn(testBoardDTO);
+
+        // When
+        BoardDTO result = boardService.boardDetail(1);
+
+        // Then
+        assertEquals(10, result.getViewCount());
+        verifyNoInteractions(viewCountBuffer);
+    }
+
+    @Test
+    void increaseViewCount_DB오류_조회수그대로_원본변경없음() {
+        // Given
+        testBoardDTO.setViewCount(10);
+        when(viewCountBuffer.increment(1)).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        BoardDTO result = boardService.increaseViewCount(testBoardDTO);
+
+        // Then
+        assertEquals(10, result.getViewCount());
+        assertNotSame(testBoardDTO, result);
     }
 
     @Test
@@ -100,7 +330,116 @@ class BoardServiceTest {
         boardService.write(testBoardDTO, null);
 
         // Then
-        verify(boardRepository, times(1)).save(any(Board.class));
+        verify(boardRepository, times(1)).save(argThat(board ->
+                "테스트 내용".equals(board.getExcerpt())
+                        && board.getWordCount() == 2
+                        && Boolean.FALSE.equals(board.getHasAttachment())));
+        verify(boardCache, times(1)).invalidatePages();
+        verify(searchCache, times(1)).postChanged("테스트 제목", "테스트 내용", "테스트 작성자");
+        verify(boardEventPublisher, times(1)).publish(eq(BoardEventType.CREATED), eq(1), anyMap());
+    }
+
+    @Test
+    void write_여러첨부파일_게시글저장후_일괄연결() throws Exception {
+        // Given
+        List<MultipartFile> files = Arrays.asList(multipartFile, multipartFile);
+        when(multipartFile.isEmpty()).thenReturn(false);
+        when(attachmentStore.saveAll(files)).thenReturn(Arrays.asList(
+                new StoredAttachment("a.txt", "/files/a.txt", 3, 3, "text/plain", "aa"),
+                new StoredAttachment("b.png", "/files/b.png", 5, 5, "image/png", "bb")));
+        when(boardRepository.save(any(Board.class))).thenReturn(testBoard);
+        when(attachmentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BoardDTO result = boardService.write(testBoardDTO, files);
+
+        // Then
+        verify(boardRepository, times(1)).save(argThat(board ->
+                board.getAttachmentCount() == 2
+                        && Boolean.TRUE.equals(board.getHasAttachment())
+                        && Boolean.TRUE.equals(board.getImageAttachment())));
+        verify(attachmentRepository, times(1)).saveAll(argThat(attachments -> {
+            List<String> names = new ArrayList<>();
+            attachments.forEach(attachment -> {
+                assertEquals(1, attachment.getBoardId());
+                names.add(attachment.getFilename());
+            });
+            return names.equals(Arrays.asList("a.txt", "b.png"));
+        }));
+        verify(attachmentStore, times(1)).deleteOnRollback(Arrays.asList("/files/a.txt", "/files/b.png"));
+        assertEquals(2, result.getAttachments().size());
+        assertEquals("bb", result.getAttachments().get(1).getSha256());
+    }
+
+    @Test
+    void writeStreamed_이미저장된첨부파일_연결하고_롤백시삭제등록() throws Exception {
+        // Given
+        List<StoredAttachment> streamed = Collections.singletonList(
+                new StoredAttachment("a.txt", "/files/a.txt", 3, 3, "text/plain", "aa"));
+        when(boardRepository.save(any(Board.class))).thenReturn(testBoard);
+        when(attachmentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BoardDTO result = boardService.writeStreamed(testBoardDTO, streamed);
+
+        // Then
+        verify(attachmentStore, times(1)).deleteOnRollback(Collections.singletonList("/files/a.txt"));
+        verify(attachmentStore, times(1)).saveAll(Collections.emptyList());
+        verify(boardRepository, times(1)).save(argThat(board -> board.getAttachmentCount() == 1));
+        assertEquals(1, result.getAttachments().size());
+        assertEquals("a.txt", result.getAttachments().get(0).getFilename());
+    }
+
+    @Test
+    void write_태그포함_새태그생성후연결() throws Exception {
+        // Given
+        testBoardDTO.setTags(Arrays.asList("Spring", "자바"));
+        when(boardRepository.save(any(Board.class))).thenReturn(testBoard);
+        when(tagIndex.tagId("spring")).thenReturn(null);
+        when(tagIndex.tagId("자바")).thenReturn(7);
+        when(tagRepository.findByNameIn(Collections.singletonList("spring"))).thenReturn(Collections.emptyList());
+        when(tagRepository.save(any(Tag.class))).thenReturn(new Tag(8, "spring"));
+
+        // When
+        BoardDTO result = boardService.write(testBoardDTO, null);
+
+        // Then
+        assertEquals(Arrays.asList("spring", "자바"), result.getTags());
+        verify(boardTagRepository, times(1)).saveAll(argThat(links -> {
+            List<Integer> tagIds = new ArrayList<>();
+            links.forEach(link -> tagIds.add(link.getTagId()));
+            return tagIds.equals(Arrays.asList(8, 7));
+        }));
+        verify(tagIndex, times(1)).putPost(eq(1), argThat(tags -> tags.size() == 2));
+    }
+
+    @Test
+    void write_유사게시글_지문과함께_유사게시글ID기록() throws Exception {
+        // Given
+        testBoardDTO.setContent("주말에 한강 공원에서 자전거 타기 모임을 합니다");
+        when(duplicateIndex.checkDuplicate(anyLong())).thenReturn(7);
+        when(boardRepository.save(any(Board.class))).thenReturn(testBoard);
+
+        // When
+        boardService.write(testBoardDTO, null);
+
+        // Then
+        verify(boardRepository, times(1)).save(argThat(board ->
+                board.getSimhash() != null && Integer.valueOf(7).equals(board.getDuplicateOf())));
+        verify(duplicateIndex, times(1)).put(eq(1), anyLong());
+    }
+
+    @Test
+    void write_유사게시글_거부모드_저장하지않음() throws Exception {
+        // Given
+        testBoardDTO.setContent("주말에 한강 공원에서 자전거 타기 모임을 합니다");
+        when(duplicateIndex.checkDuplicate(anyLong()))
+                .thenThrow(new IllegalArgumentException("비슷한 내용의 게시글이 이미 있습니다. (게시글 ID: 7)"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> boardService.write(testBoardDTO, null));
+        verify(boardRepository, never()).save(any(Board.class));
+        verify(attachmentStore, never()).saveAll(any());
     }
 
     @Test
@@ -139,10 +478,10 @@ class BoardServiceTest {
     @Test
     void boardList_성공() {
         // Given
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards);
+        List<BoardSummary> boards = Arrays.asList(testSummary);
+        Page<BoardSummary> boardPage = new PageImpl<>(boards);
         Pageable pageable = PageRequest.of(0, 10);
-        when(boardRepository.findAll(pageable)).thenReturn(boardPage);
+        when(boardRepository.findAllSummaries(pageable)).thenReturn(boardPage);
 
         // When
         Page<BoardDTO> result = boardService.boardList(pageable);
@@ -151,7 +490,7 @@ class BoardServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals(testBoard.getTitle(), result.getContent().get(0).getTitle());
-        verify(boardRepository, times(1)).findAll(pageable);
+        verify(boardRepository, times(1)).findAllSummaries(pageable);
     }
 
     @Test
@@ -159,10 +498,11 @@ class BoardServiceTest {
         // Given
         String searchKeyword = "테스트";
         String searchType = "all";
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards);
+        List<BoardSummary> boards = Arrays.asList(testSummary);
+        Page<BoardSummary> boardPage = new PageImpl<>(boards);
         Pageable pageable = PageRequest.of(0, 10);
-        when(boardRepository.findByTitleContainingOrContentContaining(searchKeyword, searchKeyword, pageable)).thenReturn(boardPage);
+        when(boardRepository.findSummaryByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(searchKeyword, searchKeyword, pageable))
+                .thenReturn(boardPage);
 
         // When
         Page<BoardDTO> result = boardService.boardSearchList(searchKeyword, searchType, pageable);
@@ -170,7 +510,106 @@ class BoardServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(boardRepository, times(1)).findByTitleContainingOrContentContaining(searchKeyword, searchKeyword, pageable);
+        verify(boardRepository, times(1)).findSummaryByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(searchKeyword, searchKeyword, pageable);
+    }
+
+    @Test
+    void boardSearchList_검색결과캐시적중_정규화된검색어로_페이지만조회() {
+        // Given
+        when(searchCache.isEnabled()).thenReturn(true);
+        when(searchCache.get(SearchQuery.of("spring boot", "all"))).thenReturn(RoaringBitmap.of(1, 5, 9));
+        when(boardRepository.findSummariesByIdIn(Arrays.asList(9, 5))).thenReturn(Collections.emptyList());
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList("  Spring   BOOT ", "content",
+                PageRequest.of(0, 2, Sort.by("id").descending()));
+
+        // Then
+        assertEquals(3, result.getTotalElements());
+        verify(boardRepository, never()).findIdsByTitleOrContentContaining(anyString());
+        verify(boardRepository, never()).findSummaryByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(anyString(), anyString(), any());
+    }
+
+    @Test
+    void boardSearchList_검색결과캐시미스_ID조회후캐시저장() {
+        // Given
+        SearchQuery query = SearchQuery.of("Spring", "title");
+        when(searchCache.isEnabled()).thenReturn(true);
+        when(searchCache.stamp()).thenReturn(7L);
+        when(boardRepository.findIdsByTitleContaining("spring")).thenReturn(Arrays.asList(1, 5));
+        when(boardRepository.findSummariesByIdIn(Arrays.asList(5, 1))).thenReturn(Collections.emptyList());
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList("Spring", "title", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        verify(searchCache).put(eq(query), argThat(ids -> ids.cardinality() == 2), eq(7L));
+    }
+
+    @Test
+    void boardSearchList_태그조건_비트맵페이지만조회() {
+        // Given
+        TagFilter tagFilter = TagFilter.of(Collections.singletonList("spring"), null, null);
+        when(tagIndex.filter(tagFilter)).thenReturn(RoaringBitmap.of(1, 5, 9, 12));
+        when(boardRepository.findSummariesByIdIn(Arrays.asList(5, 1))).thenReturn(Collections.singletonList(testSummary));
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList(null, "all", tagFilter, PageRequest.of(1, 2));
+
+        // Then
+        assertEquals(4, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        verify(boardRepository, never()).findSummaryByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(anyString(), anyString(), any());
+    }
+
+    @Test
+    void boardSearchList_태그조건과검색어_교집합() {
+        // Given
+        TagFilter tagFilter = TagFilter.of(Collections.singletonList("spring"), null, null);
+        when(tagIndex.filter(tagFilter)).thenReturn(RoaringBitmap.of(1, 5, 9));
+        when(boardRepository.findIdsByTitleContaining("테스트")).thenReturn(Arrays.asList(1, 9, 20));
+        when(boardRepository.findSummariesByIdIn(Arrays.asList(9, 1))).thenReturn(Collections.emptyList());
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList("테스트", "title", tagFilter, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    void boardSearchList_작성일범위_작성일내림차순_범위조회() {
+        // Given
+        DateRange dateRange = DateRange.of(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        Pageable expected = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        when(boardRepository.findSummariesCreatedBetween(LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0), expected))
+                .thenReturn(new PageImpl<>(Collections.singletonList(testSummary)));
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList(null, "all", TagFilter.NONE, dateRange,
+                PageRequest.of(0, 10, Sort.by("id").descending()));
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        verify(boardRepository, never()).findAllSummaries(any());
+    }
+
+    @Test
+    void boardSearchList_작성일범위와태그조건_교집합() {
+        // Given
+        DateRange dateRange = DateRange.of(LocalDate.of(2025, 3, 1), null);
+        TagFilter tagFilter = TagFilter.of(Collections.singletonList("spring"), null, null);
+        when(tagIndex.filter(tagFilter)).thenReturn(RoaringBitmap.of(1, 5, 9));
+        when(boardRepository.findIdsCreatedBetween(eq(LocalDateTime.of(2025, 3, 1, 0, 0)), any())).thenReturn(Arrays.asList(5, 9, 30));
+        when(boardRepository.findSummariesByIdIn(Arrays.asList(9, 5))).thenReturn(Collections.emptyList());
+
+        // When
+        Page<BoardDTO> result = boardService.boardSearchList(null, "all", tagFilter, dateRange, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        verify(boardRepository, never()).findSummariesCreatedBetween(any(), any(), any());
     }
 
     @Test
@@ -178,10 +617,10 @@ class BoardServiceTest {
         // Given
         String searchKeyword = "";
         String searchType = "all";
-        List<Board> boards = Arrays.asList(testBoard);
-        Page<Board> boardPage = new PageImpl<>(boards);
+        List<BoardSummary> boards = Arrays.asList(testSummary);
+        Page<BoardSummary> boardPage = new PageImpl<>(boards);
         Pageable pageable = PageRequest.of(0, 10);
-        when(boardRepository.findAll(pageable)).thenReturn(boardPage);
+        when(boardRepository.findAllSummaries(pageable)).thenReturn(boardPage);
 
         // When
         Page<BoardDTO> result = boardService.boardSearchList(searchKeyword, searchType, pageable);
@@ -189,49 +628,154 @@ class BoardServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(boardRepository, times(1)).findAll(pageable);
+        verify(boardRepository, times(1)).findAllSummaries(pageable);
     }
 
     @Test
     void boardDelete_성공() {
         // Given
-        when(boardRepository.findById(1)).thenReturn(Optional.of(testBoard));
+        BoardDeleteTarget target = mock(BoardDeleteTarget.class);
+        when(target.getFilepath()).thenReturn("/files/test.txt");
+        when(target.getCreatedAt()).thenReturn(testBoard.getCreatedAt());
+        when(boardRepository.findDeleteTargetById(1)).thenReturn(Optional.of(target));
+        when(boardRepository.deleteBoardById(1)).thenReturn(1);
 
         // When
         boardService.boardDelete(1);
 
         // Then
-        verify(boardRepository, times(1)).findById(1);
-        verify(boardRepository, times(1)).deleteById(1);
+        verify(boardRepository, times(1)).findDeleteTargetById(1);
+        verify(boardRepository, times(1)).deleteBoardById(1);
+        verify(boardRepository, never()).findById(1);
+        verify(boardRepository, never()).deleteById(1);
+        verify(viewCountBuffer, times(1)).discard(1);
+        verify(boardCache, times(1)).invalidatePost(1);
+        verify(boardEventPublisher, times(1)).publish(BoardEventType.DELETED, 1, null);
+        verify(archiveIndex, times(1)).postDeleted(testBoard.getCreatedAt());
+        verify(attachmentStore, times(1)).deleteAfterCommit(Collections.singletonList("/files/test.txt"));
+        verifyNoInteractions(attachmentRepository);
     }
 
     @Test
     void boardDelete_존재하지않는게시물_예외발생() {
         // Given
-        when(boardRepository.findById(999)).thenReturn(Optional.empty());
+        when(boardRepository.findDeleteTargetById(999)).thenReturn(Optional.empty());
+        when(boardArchiveRepository.findCreatedAtById(999)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(EntityNotFoundException.class, () -> {
             boardService.boardDelete(999);
         });
-        verify(boardRepository, times(1)).findById(999);
-        verify(boardRepository, never()).deleteById(999);
+        verify(boardRepository, never()).deleteBoardById(999);
+        verify(boardArchiveRepository, never()).deleteArchivedById(999);
+        verify(viewCountBuffer, never()).discard(999);
     }
 
     @Test
-    void updateBoard_성공() throws Exception {
+    void boardDelete_보관된게시글_보관테이블에서삭제() {
         // Given
-        when(boardRepository.findById(1)).thenReturn(Optional.of(testBoard));
-        when(boardRepository.save(any(Board.class))).thenReturn(testBoard);
+        LocalDateTime createdAt = LocalDateTime.of(2020, 3, 1, 9, 0);
+        when(boardRepository.findDeleteTargetById(5)).thenReturn(Optional.empty());
+        when(boardArchiveRepository.findCreatedAtById(5)).thenReturn(Optional.of(createdAt));
+
+        // When
+        boardService.boardDelete(5);
+
+        // Then
+        verify(boardArchiveRepository, times(1)).deleteArchivedById(5);
+        verify(boardRepository, never()).deleteBoardById(5);
+        verify(archiveIndex, times(1)).postDeleted(createdAt);
+        verify(boardEventPublisher, times(1)).publish(BoardEventType.DELETED, 5, null);
+        verify(boardCache, times(1)).invalidatePost(5);
+    }
 
+    @Test
+    void updateBoard_성공() throws Exception {
+        // Given
         testBoardDTO.setTitle("수정된 제목");
         testBoardDTO.setContent("수정된 내용");
+        when(boardRepository.updateContent(eq(1), eq(0L), eq("수정된 제목"), eq("수정된 내용"), eq("테스트 작성자"), any(LocalDateTime.class),
+                eq("수정된 내용"), eq(2), isNull()))
+                .thenReturn(1);
 
         // When
-        boardService.updateBoard(1, testBoardDTO, null);
+        Long newVersion = boardService.updateBoard(1, testBoardDTO, null);
 
         // Then
-        verify(boardRepository, times(1)).findById(1);
-        verify(boardRepository, times(1)).save(any(Board.class));
+        assertEquals(1L, newVersion);
+        verify(boardRepository, times(1)).updateContent(eq(1), eq(0L), anyString(), anyString(), anyString(), any(LocalDateTime.class), anyString(), anyInt(), any());
+        verify(boardRepository, never()).findById(1);
+        verify(boardRepository, never()).save(any(Board.class));
+        verify(boardCache, times(1)).invalidatePost(1);
+        verify(searchCache, times(1)).postChanged("수정된 제목", "수정된 내용", "테스트 작성자");
+        verify(boardEventPublisher, times(1)).publish(eq(BoardEventType.UPDATED), eq(1),
+                argThat(payload -> Long.valueOf(1L).equals(payload.get("version"))));
+    }
+
+    @Test
+    void updateBoard_첨부파일추가삭제_개수갱신후_삭제파일정리() throws Exception {
+        // Given
+        List<MultipartFile> files = Collections.singletonList(multipartFile);
+        testBoardDTO.setRemoveAttachmentIds(Arrays.asList(10, 99));
+        when(multipartFile.isEmpty()).thenReturn(false);
+        when(attachmentRepository.findByBoardIdOrderByIdAsc(1)).thenReturn(Arrays.asList(
+                Attachment.builder().id(10).boardId(1).filename("old.txt").filepath("/files/old.txt").build(),
+                Attachment.builder().id(11).boardId(1).filename("keep.txt").filepath("/files/keep.txt").build()));
+        when(boardRepository.findFilepathById(1)).thenReturn(Optional.empty());
+        when(attachmentStore.saveAll(files)).thenReturn(Collections.singletonList(
+                new StoredAttachment("new.png", "/files/new.png", 5, 5, "image/png", "cc")));
+        when(boardRepository.updateContentAndAttachments(eq(1), eq(0L), anyString(), anyString(), anyString(),
+                any(LocalDateTime.class), anyString(), anyInt(), any(), eq(2), eq(true), eq(true))).thenReturn(1);
+
+        // When
+        Long newVersion = boardService.updateBoard(1, testBoardDTO, files);
+
+        // Then
+        assertEquals(1L, newVersion);
+        verify(boardRepository, never()).updateContent(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(attachmentRepository, times(1)).saveAll(anyList());
+        verify(attachmentRepository, times(1)).deleteByBoardIdAndIdIn(1, Collections.singletonList(10));
+        verify(attachmentStore, times(1)).deleteAfterCommit(Collections.singletonList("/files/old.txt"));
+        verify(boardCache, times(1)).invalidatePost(1);
+    }
+
+    @Test
+    void updateBoard_존재하지않는게시물_예외발생() {
+        // Given
+        when(boardRepository.updateContent(eq(999), eq(0L), anyString(), anyString(), anyString(), any(LocalDateTime.class), anyString(), anyInt(), any()))
+                .thenReturn(0);
+        when(boardRepository.existsById(999)).thenReturn(false);
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> {
+            boardService.updateBoard(999, testBoardDTO, null);
+        });
+    }
+
+    @Test
+    void updateBoard_버전불일치_충돌예외발생() {
+        // Given
+        when(boardRepository.updateContent(eq(1), eq(0L), anyString(), anyString(), anyString(), any(LocalDateTime.class), anyString(), anyInt(), any()))
+                .thenReturn(0);
+        when(boardRepository.existsById(1)).thenReturn(true);
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> {
+            boardService.updateBoard(1, testBoardDTO, null);
+        });
+        verify(boardCache, never()).invalidatePost(1);
+        verify(boardEventPublisher, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    void updateBoard_버전없음_예외발생() {
+        // Given
+        testBoardDTO.setVersion(null);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> {
+            boardService.updateBoard(1, testBoardDTO, null);
+        });
+        verifyNoInteractions(boardRepository);
     }
 }
@@ -0,0 +1,62 @@
+package com.study.board.service;
+
+import com.study.board.entity.Board;
+import com.study.board.repository.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(BoardSummaryBackfillJob.class)
+@TestPropertySource(properties = "board.summary.backfill.batch-size=2")
+class BoardSummaryBackfillJobTest {
+
+    @Autowired
+    private BoardSummaryBackfillJob backfillJob;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void backfill_미리보기없는게시글_배치단위로채움() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            boardRepository.save(Board.builder()
+                    .title("제목" + i)
+                    .content("기존 게시글 내용 " + i)
+                    .author("작성자")
+                    .filename(i == 1 ? "photo.png" : null)
+                    .filepath(i == 1 ? "/files/photo.png" : null)
+                    .build());
+        }
+        boardRepository.flush();
+        entityManager.clear();
+
+        // When
+        int processed = backfillJob.backfill();
+        entityManager.clear();
+
+        // Then
+        assertEquals(5, processed);
+        boardRepository.findAll().forEach(board -> {
+            assertNotNull(board.getExcerpt());
+            assertEquals(4, board.getWordCount());
+            assertEquals(0L, board.getVersion());
+        });
+        Board withImage = boardRepository.findAll().stream()
+                .filter(board -> "photo.png".equals(board.getFilename()))
+                .findFirst().orElseThrow();
+        assertTrue(withImage.getHasAttachment());
+        assertTrue(withImage.getImageAttachment());
+        assertEquals(0, backfillJob.backfill());
+    }
+}
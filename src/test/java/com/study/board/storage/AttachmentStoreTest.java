@@ -0,0 +1,248 @@
+package com.study.board.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttachmentStoreTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private AttachmentStore attachmentStore;
+
+    @BeforeEach
+    void setUp() {
+        attachmentStore = new AttachmentStore();
+        ReflectionTestUtils.setField(attachmentStore, "uploadDirectory", uploadDir.toString());
+    }
+
+    @Test
+    void save_텍스트파일_gzip으로압축저장() throws Exception {
+        // Given
+        byte[] content = "게시판 첨부 텍스트 한 줄입니다.\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        StoredAttachment stored = attachmentStore.save(new MockMultipartFile("file", "notes.txt", "text/plain", content));
+
+        // Then
+        assertTrue(stored.isCompressed());
+        assertTrue(stored.getFilepath().endsWith(".txt.gz"));
+        assertEquals("notes.txt", stored.getFilename());
+        assertEquals(content.length, stored.getSize());
+        assertEquals(Files.size(Paths.get(stored.getFilepath())), stored.getStoredSize());
+        assertTrue(stored.getStoredSize() < content.length / 10);
+
+        GzipDecodedResource decoded = new GzipDecodedResource(new FileSystemResource(stored.getFilepath()));
+        assertEquals(content.length, decoded.contentLength());
+        try (InputStream in = decoded.getInputStream()) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void save_압축이득이작으면_원본저장() throws Exception {
+        // Given
+        byte[] content = new byte[4096];
+        new Random(42).nextBytes(content);
+
+        // When
+        StoredAttachment stored = attachmentStore.save(new MockMultipartFile("file", "random.txt", "text/plain", content));
+
+        // Then
+        assertFalse(stored.isCompressed());
+        assertArrayEquals(content, Files.readAllBytes(Paths.get(stored.getFilepath())));
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void save_스트림_압축저장과_SHA256() throws Exception {
+        // Given
+        byte[] content = "스트리밍 업로드 텍스트 한 줄입니다.\n".repeat(300).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        StoredAttachment stored = attachmentStore.save("notes.txt", new ByteArrayInputStream(content));
+
+        // Then
+        assertTrue(stored.isCompressed());
+        assertEquals(content.length, stored.getSize());
+        assertEquals(Files.size(Paths.get(stored.getFilepath())), stored.getStoredSize());
+        assertEquals(sha256(content), stored.getSha256());
+        try (InputStream in = new GzipDecodedResource(new FileSystemResource(stored.getFilepath())).getInputStream()) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void save_스트림_압축이득이작으면_압축본을풀어원본저장() throws Exception {
+        // Given
+        byte[] content = new byte[8192];
+        new Random(7).nextBytes(content);
+
+        // When
+        StoredAttachment stored = attachmentStore.save("random.txt", new ByteArrayInputStream(content));
+
+        // Then
+        assertFalse(stored.isCompressed());
+        assertArrayEquals(content, Files.readAllBytes(Paths.get(stored.getFilepath())));
+        assertEquals(sha256(content), stored.getSha256());
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void save_스트림_읽기실패하면_쓰다만파일삭제() throws Exception {
+        // Given
+        InputStream failing = new SequenceInputStream(new ByteArrayInputStream(new byte[4096]), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        });
+
+        // When & Then
+        assertThrows(IOException.class, () -> attachmentStore.save("photo.jpg", failing));
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void save_작은파일과압축제외형식_원본저장() throws Exception {
+        // Given
+        byte[] image = "x".repeat(4096).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        StoredAttachment small = attachmentStore.save(new MockMultipartFile("file", "a.txt", "text/plain", "짧은 내용".getBytes(StandardCharsets.UTF_8)));
+        StoredAttachment jpg = attachmentStore.save(new MockMultipartFile("file", "photo.jpg", "image/jpeg", image));
+
+        // Then
+        assertFalse(small.isCompressed());
+        assertFalse(jpg.isCompressed());
+        assertEquals(4096, jpg.getStoredSize());
+    }
+
+    @Test
+    void saveAll_여러파일_동시저장_입력순서와_SHA256() throws Exception {
+        // Given
+        attachmentStore.init();
+        byte[] text = "동시 저장 텍스트\n".repeat(300).getBytes(StandardCharsets.UTF_8);
+        byte[] binary = new byte[2048];
+        new Random(7).nextBytes(binary);
+        byte[] png = Arrays.copyOf(binary, binary.length);
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}, 0, png, 0, 8);
+
+        // When
+        List<StoredAttachment> stored = attachmentStore.saveAll(Arrays.asList(
+                new MockMultipartFile("file", "a.txt", "text/plain", text),
+                new MockMultipartFile("file", "b.bin", null, binary),
+                new MockMultipartFile("file", "c.png", "", png)));
+        attachmentStore.shutdown();
+
+        // Then
+        assertEquals(Arrays.asList("a.txt", "b.bin", "c.png"),
+                stored.stream().map(StoredAttachment::getFilename).collect(Collectors.toList()));
+        assertTrue(stored.get(0).isCompressed());
+        // 압축 저장 여부와 관계없이 원본 내용의 해시
+        assertEquals(sha256(text), stored.get(0).getSha256());
+        assertEquals(sha256(binary), stored.get(1).getSha256());
+        assertEquals("text/plain", stored.get(0).getContentType());
+        assertEquals("application/octet-stream", stored.get(1).getContentType());
+        assertEquals("image/png", stored.get(2).getContentType());
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    void save_Content_Type은_클라이언트값대신_내용으로판별() throws Exception {
+        // Given
+        byte[] jpeg = new byte[512];
+        jpeg[0] = (byte) 0xFF;
+        jpeg[1] = (byte) 0xD8;
+        jpeg[2] = (byte) 0xFF;
+
+        // When
+        StoredAttachment disguised = attachmentStore.save(new MockMultipartFile("file", "photo.png", "image/png", jpeg));
+        StoredAttachment script = attachmentStore.save(new MockMultipartFile("file", "run.png", "image/png",
+                "#!/bin/sh\necho hi".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertEquals("image/jpeg", disguised.getContentType());
+        assertEquals(512, disguised.getSize());
+        assertEquals("application/octet-stream", script.getContentType());
+    }
+
+    @Test
+    void saveAll_하나라도실패하면_저장된파일삭제() throws Exception {
+        // Given
+        attachmentStore.init();
+        MockMultipartFile broken = new MockMultipartFile("file", "broken.txt", "text/plain", new byte[]{1}) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("읽기 실패");
+            }
+        };
+
+        // When & Then
+        assertThrows(IOException.class, () -> attachmentStore.saveAll(Arrays.asList(
+                new MockMultipartFile("file", "a.txt", "text/plain", "내용".getBytes(StandardCharsets.UTF_8)),
+                broken)));
+        attachmentStore.shutdown();
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void isCompressed_사용자가올린gz파일은_압축저장아님() {
+        // When & Then
+        assertTrue(AttachmentStore.isCompressed("/files/6f1c.txt.gz"));
+        assertFalse(AttachmentStore.isCompressed("/files/6f1c.gz"));
+        assertFalse(AttachmentStore.isCompressed("/files/6f1c.txt"));
+        assertFalse(AttachmentStore.isCompressed(null));
+        assertEquals(Paths.get("/files/6f1c.txt"), AttachmentStore.originalPath(Paths.get("/files/6f1c.txt.gz")));
+    }
+
+    @Test
+    void acceptsGzip_헤더파싱() {
+        // When & Then
+        assertTrue(AttachmentStore.acceptsGzip("gzip, deflate, br"));
+        assertTrue(AttachmentStore.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(AttachmentStore.acceptsGzip("*"));
+        assertFalse(AttachmentStore.acceptsGzip("gzip;q=0"));
+        assertFalse(AttachmentStore.acceptsGzip("identity"));
+        assertFalse(AttachmentStore.acceptsGzip(null));
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.study.board.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileReaperTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileReaper fileReaper;
+
+    @BeforeEach
+    void setUp() {
+        fileReaper = new FileReaper();
+        fileReaper.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileReaper.shutdown();
+    }
+
+    @Test
+    void reap_여러조각으로나눠삭제_없는파일은따로집계() throws Exception {
+        // Given
+        List<String> filepaths = new ArrayList<>();
+        for (int i = 0; i < 450; i++) {
+            filepaths.add(Files.write(uploadDir.resolve(i + ".txt"), new byte[]{1}).toString());
+        }
+        filepaths.add(uploadDir.resolve("missing.txt").toString());
+
+        // When
+        int deleted = fileReaper.reap(filepaths).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(450, deleted);
+        try (var remaining = Files.list(uploadDir)) {
+            assertEquals(0, remaining.count());
+        }
+        Map<String, Object> metrics = fileReaper.metrics();
+        assertEquals(450L, metrics.get("deleted"));
+        assertEquals(1L, metrics.get("missing"));
+        assertEquals(0L, metrics.get("failed"));
+    }
+
+    @Test
+    void reap_빈목록_바로완료() {
+        assertEquals(0, fileReaper.reap(Collections.emptyList()).join());
+    }
+}
@@ -0,0 +1,122 @@
+package com.study.board.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartStreamParserTest {
+
+    private static final String BOUNDARY = "----boundary7MA4YWxk";
+
+    @Test
+    void boundaryOf_Content_Type에서_추출() {
+        assertEquals("abc", MultipartStreamParser.boundaryOf("multipart/form-data; boundary=abc"));
+        assertEquals("a b", MultipartStreamParser.boundaryOf("multipart/form-data; charset=UTF-8; boundary=\"a b\""));
+        assertNull(MultipartStreamParser.boundaryOf("multipart/form-data"));
+        assertNull(MultipartStreamParser.boundaryOf(null));
+    }
+
+    @Test
+    void nextPart_필드와파일_차례로읽기() throws Exception {
+        // Given
+        byte[] file = new byte[50_000];
+        new Random(1).nextBytes(file);
+        byte[] body = body(file);
+
+        // When
+        MultipartStreamParser parser = new MultipartStreamParser(new ByteArrayInputStream(body), BOUNDARY, StandardCharsets.UTF_8);
+        MultipartStreamParser.Part title = parser.nextPart();
+        String titleValue = new String(title.getBody().readAllBytes(), StandardCharsets.UTF_8);
+        MultipartStreamParser.Part attachment = parser.nextPart();
+        byte[] attachmentBody = attachment.getBody().readAllBytes();
+        MultipartStreamParser.Part content = parser.nextPart();
+        String contentValue = new String(content.getBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        // Then
+        assertEquals("title", title.getName());
+        assertFalse(title.isFile());
+        assertEquals("제목\r\n둘째 줄", titleValue);
+        assertEquals("file", attachment.getName());
+        assertEquals("사진.bin", attachment.getFilename());
+        assertEquals("application/octet-stream", attachment.getContentType());
+        assertArrayEquals(file, attachmentBody);
+        assertEquals("본문", contentValue);
+        assertNull(parser.nextPart());
+    }
+
+    @Test
+    void nextPart_한바이트씩도착해도_구분자경계처리() throws Exception {
+        // Given
+        byte[] file = ("\r\n--" + BOUNDARY.substring(0, 10) + " 구분자와 비슷한 내용\r\n-").getBytes(StandardCharsets.UTF_8);
+        InputStream trickle = new FilterInputStream(new ByteArrayInputStream(body(file))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        // When
+        MultipartStreamParser parser = new MultipartStreamParser(trickle, BOUNDARY, StandardCharsets.UTF_8);
+        parser.nextPart();
+        byte[] attachmentBody = parser.nextPart().getBody().readAllBytes();
+
+        // Then
+        assertArrayEquals(file, attachmentBody);
+        assertEquals("content", parser.nextPart().getName());
+        assertNull(parser.nextPart());
+    }
+
+    @Test
+    void nextPart_읽지않은파트는_건너뜀() throws Exception {
+        // When
+        MultipartStreamParser parser = new MultipartStreamParser(new ByteArrayInputStream(body(new byte[100_000])),
+                BOUNDARY, StandardCharsets.UTF_8);
+        parser.nextPart();
+        parser.nextPart();
+        MultipartStreamParser.Part content = parser.nextPart();
+
+        // Then
+        assertEquals("content", content.getName());
+        assertEquals("본문", new String(content.getBody().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void nextPart_본문이중간에끝나면_예외() throws Exception {
+        // Given
+        byte[] body = body(new byte[1000]);
+        byte[] truncated = new byte[body.length / 2];
+        System.arraycopy(body, 0, truncated, 0, truncated.length);
+
+        // When
+        MultipartStreamParser parser = new MultipartStreamParser(new ByteArrayInputStream(truncated), BOUNDARY, StandardCharsets.UTF_8);
+        parser.nextPart();
+        InputStream attachment = parser.nextPart().getBody();
+
+        // Then
+        assertThrows(IOException.class, attachment::readAllBytes);
+    }
+
+    private static byte[] body(byte[] file) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "제목\r\n둘째 줄\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"사진.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(file);
+        out.write(("\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"content\"\r\n\r\n"
+                + "본문\r\n"
+                + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,144 @@
+package com.study.board.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingMultipartFilterTest {
+
+    private static final String BOUNDARY = "XyZboundary";
+
+    @TempDir
+    Path uploadDir;
+
+    private AttachmentStore attachmentStore;
+
+    @BeforeEach
+    void setUp() {
+        attachmentStore = new AttachmentStore();
+        ReflectionTestUtils.setField(attachmentStore, "uploadDirectory", uploadDir.toString());
+    }
+
+    @Test
+    void doFilter_필드는파라미터로_파일은저장소에바로저장() throws Exception {
+        // Given
+        byte[] image = "PNG 데이터".repeat(100).getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = request(body(image, "photo.png"));
+        request.setQueryString("page=2&q=%ED%95%9C");
+        StreamingMultipartFilter filter = new StreamingMultipartFilter(attachmentStore, 1024 * 1024, 10 * 1024 * 1024, 1024);
+
+        // When
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        StreamedUpload upload = (StreamedUpload) request.getAttribute(StreamedUpload.ATTRIBUTE);
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+
+        // Then
+        assertEquals("제목", forwarded.getParameter("title"));
+        assertEquals("작성자", forwarded.getParameter("author"));
+        assertEquals("2", forwarded.getParameter("page"));
+        assertEquals("한", forwarded.getParameter("q"));
+        assertTrue(forwarded.getParts().isEmpty());
+        upload.rethrowFailure();
+        assertEquals(1, upload.attachments().size());
+        StoredAttachment stored = upload.attachments().get(0);
+        assertEquals("photo.png", stored.getFilename());
+        assertEquals(image.length, stored.getSize());
+        // 컨트롤러가 가져가지 않았으므로 요청이 끝나면 삭제
+        assertFalse(Files.exists(Paths.get(stored.getFilepath())));
+    }
+
+    @Test
+    void doFilter_가져간첨부파일은_유지() throws Exception {
+        // Given
+        StreamingMultipartFilter filter = new StreamingMultipartFilter(attachmentStore, 1024 * 1024, 10 * 1024 * 1024, 1024);
+        MockHttpServletRequest request = request(body("내용".getBytes(StandardCharsets.UTF_8), "C:\\Users\\me\\memo.bin"));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                ((StreamedUpload) req.getAttribute(StreamedUpload.ATTRIBUTE)).claim());
+        List<StoredAttachment> attachments = ((StreamedUpload) request.getAttribute(StreamedUpload.ATTRIBUTE)).claim();
+
+        // Then
+        assertEquals(1, attachments.size());
+        assertEquals("memo.bin", attachments.get(0).getFilename());
+        assertTrue(Files.exists(Paths.get(attachments.get(0).getFilepath())));
+    }
+
+    @Test
+    void doFilter_파일크기초과_저장한파일삭제후_실패기록() throws Exception {
+        // Given
+        StreamingMultipartFilter filter = new StreamingMultipartFilter(attachmentStore, 100, 10 * 1024 * 1024, 1024);
+        MockHttpServletRequest request = request(body(new byte[5000], "big.bin"));
+
+        // When
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        StreamedUpload upload = (StreamedUpload) request.getAttribute(StreamedUpload.ATTRIBUTE);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        assertThrows(MaxUploadSizeExceededException.class, upload::rethrowFailure);
+        assertTrue(upload.claim().isEmpty());
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void doFilter_multipart가아니면_그대로전달() throws Exception {
+        // Given
+        StreamingMultipartFilter filter = new StreamingMultipartFilter(attachmentStore, 100, 100, 100);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/board/writepro");
+        request.setContentType("application/x-www-form-urlencoded");
+        request.addParameter("title", "제목");
+
+        // When
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertSame(request, chain.getRequest());
+        assertNull(request.getAttribute(StreamedUpload.ATTRIBUTE));
+    }
+
+    private static MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/board/writepro");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(body);
+        return request;
+    }
+
+    private static byte[] body(byte[] file, String filename) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n제목\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(file);
+        out.write(("\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"\"\r\n\r\n\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"author\"\r\n\r\n작성자\r\n"
+                + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
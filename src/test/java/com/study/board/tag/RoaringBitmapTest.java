@@ -0,0 +1,109 @@
+package com.study.board.tag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringBitmapTest {
+
+    @Test
+    void add_remove_contains_배열과비트맵전환() {
+        // Given
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        // When
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i * 2);
+        }
+        for (int i = 0; i < 9000; i++) {
+            bitmap.remove(i * 2);
+        }
+
+        // Then
+        assertEquals(1000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19998));
+        assertFalse(bitmap.contains(0));
+        assertFalse(bitmap.contains(19999));
+        assertEquals(19998, bitmap.max());
+    }
+
+    @Test
+    void 집합연산_TreeSet과일치() {
+        // Given
+        Random random = new Random(42);
+        TreeSet<Integer> a = new TreeSet<>();
+        TreeSet<Integer> b = new TreeSet<>();
+        // 빽빽한 구간(비트맵 컨테이너)과 듬성한 구간(배열 컨테이너)을 섞음
+        for (int i = 0; i < 20000; i++) {
+            a.add(random.nextInt(70000));
+            b.add(random.nextInt(70000));
+            a.add(200000 + random.nextInt(1000000));
+            b.add(200000 + random.nextInt(1000000));
+        }
+        RoaringBitmap bitmapA = toBitmap(a);
+        RoaringBitmap bitmapB = toBitmap(b);
+
+        // When
+        TreeSet<Integer> and = new TreeSet<>(a);
+        and.retainAll(b);
+        TreeSet<Integer> or = new TreeSet<>(a);
+        or.addAll(b);
+        TreeSet<Integer> andNot = new TreeSet<>(a);
+        andNot.removeAll(b);
+
+        // Then
+        assertContentEquals(and, RoaringBitmap.and(bitmapA, bitmapB));
+        assertContentEquals(or, RoaringBitmap.or(bitmapA, bitmapB));
+        assertContentEquals(andNot, RoaringBitmap.andNot(bitmapA, bitmapB));
+        assertEquals(and.size(), RoaringBitmap.andCardinality(bitmapA, bitmapB));
+        assertEquals(a.size(), bitmapA.cardinality());
+    }
+
+    @Test
+    void pageDescending_큰값부터_건너뛰고_잘라서반환() {
+        // Given
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 5, 70000, 70001, 200000);
+
+        // When & Then
+        assertArrayEquals(new int[]{200000, 70001}, bitmap.pageDescending(0, 2));
+        assertArrayEquals(new int[]{70000, 5}, bitmap.pageDescending(2, 2));
+        assertArrayEquals(new int[]{1}, bitmap.pageDescending(4, 2));
+        assertArrayEquals(new int[0], bitmap.pageDescending(10, 2));
+    }
+
+    @Test
+    void copy_원본과독립() {
+        // Given
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 2, 3);
+
+        // When
+        RoaringBitmap copy = bitmap.copy();
+        copy.add(4);
+        bitmap.remove(1);
+
+        // Then
+        assertEquals(4, copy.cardinality());
+        assertTrue(copy.contains(1));
+        assertFalse(bitmap.contains(4));
+    }
+
+    @Test
+    void add_음수_예외발생() {
+        assertThrows(IllegalArgumentException.class, () -> new RoaringBitmap().add(-1));
+    }
+
+    private RoaringBitmap toBitmap(TreeSet<Integer> values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        values.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    // 내림차순 전체 페이지로 내용 비교
+    private void assertContentEquals(TreeSet<Integer> expected, RoaringBitmap actual) {
+        int[] values = actual.pageDescending(0, expected.size() + 1);
+        assertArrayEquals(expected.descendingSet().stream().mapToInt(Integer::intValue).toArray(), values);
+    }
+}
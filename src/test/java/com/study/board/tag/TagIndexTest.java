@@ -0,0 +1,140 @@
+package com.study.board.tag;
+
+import com.study.board.cache.LoopbackInvalidationBus;
+import com.study.board.config.JpaAuditingConfig;
+import com.study.board.dto.TagCount;
+import com.study.board.entity.Board;
+import com.study.board.entity.BoardTag;
+import com.study.board.entity.Tag;
+import com.study.board.repository.BoardRepository;
+import com.study.board.repository.BoardTagRepository;
+import com.study.board.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "board.cache.invalidation.transport=loopback")
+@Import({TagIndex.class, LoopbackInvalidationBus.class, JpaAuditingConfig.class})
+class TagIndexTest {
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BoardTagRepository boardTagRepository;
+
+    private Tag java;
+
+    private Integer springJpa;
+    private Integer springOnly;
+    private Integer javaOnly;
+    private Integer untagged;
+
+    @BeforeEach
+    void setUp() {
+        Tag spring = tagRepository.save(Tag.builder().name("spring").build());
+        Tag jpa = tagRepository.save(Tag.builder().name("jpa").build());
+        java = tagRepository.save(Tag.builder().name("java").build());
+
+        springJpa = post(spring, jpa);
+        springOnly = post(spring);
+        javaOnly = post(java);
+        untagged = post();
+
+        tagIndex.load();
+    }
+
+    @Test
+    void filter_AND조건() {
+        // When
+        RoaringBitmap result = tagIndex.filter(TagFilter.of(Arrays.asList("spring", "JPA"), null, null));
+
+        // Then
+        assertArrayEquals(new int[]{springJpa}, result.pageDescending(0, 10));
+    }
+
+    @Test
+    void filter_OR조건과_NOT조건() {
+        // When
+        RoaringBitmap result = tagIndex.filter(TagFilter.of(null, Arrays.asList("spring", "java"), Collections.singletonList("jpa")));
+
+        // Then
+        assertArrayEquals(new int[]{javaOnly, springOnly}, result.pageDescending(0, 10));
+    }
+
+    @Test
+    void filter_NOT조건만_태그없는글포함() {
+        // When
+        RoaringBitmap result = tagIndex.filter(TagFilter.of(null, null, Collections.singletonList("spring")));
+
+        // Then
+        assertArrayEquals(new int[]{untagged, javaOnly}, result.pageDescending(0, 10));
+    }
+
+    @Test
+    void filter_모르는태그_AND조건이면_빈결과() {
+        // When
+        RoaringBitmap result = tagIndex.filter(TagFilter.of(Collections.singletonList("없음"), null, null));
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void counts_조건에맞는글기준_많은순() {
+        // When
+        List<TagCount> all = tagIndex.counts(null, 10);
+        List<TagCount> withSpring = tagIndex.counts(tagIndex.filter(TagFilter.of(Collections.singletonList("spring"), null, null)), 10);
+
+        // Then
+        assertEquals(Arrays.asList(new TagCount("spring", 2), new TagCount("java", 1), new TagCount("jpa", 1)), all);
+        assertEquals(Arrays.asList(new TagCount("spring", 2), new TagCount("jpa", 1)), withSpring);
+        assertEquals(1, tagIndex.counts(null, 1).size());
+    }
+
+    @Test
+    void tagsOf_이름순() {
+        // When & Then
+        assertEquals(Arrays.asList("jpa", "spring"), tagIndex.tagsOf(springJpa));
+        assertTrue(tagIndex.tagsOf(untagged).isEmpty());
+    }
+
+    @Test
+    void tagsOf_태그변경과삭제_반영() {
+        // Given (트랜잭션 밖에서 바로 반영되도록 테스트 트랜잭션 종료, 인덱스는 메모리에 적재된 상태)
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        // When
+        tagIndex.putPost(springJpa, Collections.singletonList(java));
+        tagIndex.removePost(springOnly);
+
+        // Then
+        assertEquals(Collections.singletonList("java"), tagIndex.tagsOf(springJpa));
+        assertTrue(tagIndex.tagsOf(springOnly).isEmpty());
+        assertEquals(Collections.singletonList(new TagCount("java", 2)), tagIndex.counts(null, 10));
+    }
+
+    private Integer post(Tag... tags) {
+        Board board = boardRepository.save(Board.builder().title("제목").content("내용").author("작성자").build());
+        for (Tag tag : tags) {
+            boardTagRepository.save(new BoardTag(board.getId(), tag.getId()));
+        }
+        return board.getId();
+    }
+}
@@ -0,0 +1,66 @@
+package com.study.board.timing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private final RequestTimingFilter filter = new RequestTimingFilter(500, true);
+
+    @Test
+    void doFilter_작은응답_최종측정값으로_헤더설정() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/board/list"), response, (req, res) -> {
+            int previous = RequestTiming.enter(Phase.RENDER);
+            res.getWriter().write("<html></html>");
+            RequestTiming.exit(previous);
+        });
+
+        // Then
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.startsWith("render;dur="), header);
+        assertTrue(header.contains("total;dur="));
+    }
+
+    @Test
+    void doFilter_버퍼보다큰응답_커밋전에_헤더설정() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setBufferSize(16);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/board/download"), response, (req, res) -> {
+            RequestTiming.exit(RequestTiming.enter(Phase.DB));
+            res.getOutputStream().write(new byte[64]);
+            res.flushBuffer();
+            RequestTiming.exit(RequestTiming.enter(Phase.FILE));
+        });
+
+        // Then (커밋 시점까지의 측정값이므로 이후의 파일 구간은 포함되지 않음)
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;dur="), header);
+        assertFalse(header.contains("file;"));
+        assertEquals(64, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_헤더비활성화() throws Exception {
+        // Given
+        RequestTimingFilter disabled = new RequestTimingFilter(500, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        disabled.doFilter(new MockHttpServletRequest("GET", "/board/list"), response, (req, res) -> { });
+
+        // Then
+        assertNull(response.getHeader("Server-Timing"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.board.timing;
+
+import com.study.board.repository.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RequestTimingTest {
+
+    @Test
+    void enter_중첩구간_안쪽시간은_바깥구간에서제외() throws Exception {
+        // Given
+        RequestTiming timing = RequestTiming.begin();
+
+        // When
+        int outer = RequestTiming.enter(Phase.RENDER);
+        Thread.sleep(5);
+        int inner = RequestTiming.enter(Phase.DB);
+        Thread.sleep(20);
+        RequestTiming.exit(inner);
+        RequestTiming.exit(outer);
+        RequestTiming.end(timing);
+
+        // Then
+        assertTrue(timing.phaseNanos(Phase.DB) >= 20_000_000L);
+        assertTrue(timing.phaseNanos(Phase.RENDER) < timing.phaseNanos(Phase.DB));
+        assertTrue(timing.phaseNanos(Phase.RENDER) + timing.phaseNanos(Phase.DB) <= timing.totalNanos());
+        assertEquals(1, timing.phaseCount(Phase.DB));
+        assertEquals(1, timing.phaseCount(Phase.RENDER));
+    }
+
+    @Test
+    void enter_요청밖에서는_측정하지않음() {
+        // When
+        int previous = RequestTiming.enter(Phase.DB);
+        RequestTiming.exit(previous);
+
+        // Then (예외 없이 무시되고, 이후 요청에 영향 없음)
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.end(timing);
+        assertEquals(0, timing.phaseCount(Phase.DB));
+    }
+
+    @Test
+    void toServerTiming_호출된구간과_기타_전체포함() {
+        // Given
+        RequestTiming timing = RequestTiming.begin();
+        RequestTiming.exit(RequestTiming.enter(Phase.DB));
+        RequestTiming.exit(RequestTiming.enter(Phase.DB));
+        RequestTiming.end(timing);
+
+        // When
+        String header = timing.toServerTiming();
+
+        // Then
+        assertTrue(header.matches("db;dur=\\d+\\.\\d;desc=\"2\", app;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d"), header);
+    }
+
+    @Test
+    void 리포지토리호출_DB구간으로집계() {
+        // Given
+        AspectJProxyFactory factory = new AspectJProxyFactory(mock(BoardRepository.class));
+        factory.addInterface(BoardRepository.class);
+        factory.addAspect(new RepositoryTimingAspect());
+        BoardRepository repository = factory.getProxy();
+        RequestTiming timing = RequestTiming.begin();
+
+        // When
+        repository.count();
+        repository.findById(1);
+        RequestTiming.end(timing);
+
+        // Then
+        assertEquals(2, timing.phaseCount(Phase.DB));
+    }
+}
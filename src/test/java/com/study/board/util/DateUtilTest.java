@@ -3,6 +3,7 @@ package com.study.board.util;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -100,4 +101,21 @@ class DateUtilTest {
         // Then
         assertEquals("3일 전", result);
     }
+
+    @Test
+    void parseMonth_정상연월_YearMonth반환() {
+        // When
+        YearMonth result = DateUtil.parseMonth(" 2025-03 ");
+
+        // Then
+        assertEquals(YearMonth.of(2025, 3), result);
+    }
+
+    @Test
+    void parseMonth_잘못된형식_예외발생() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> DateUtil.parseMonth("2025-13"));
+        assertThrows(IllegalArgumentException.class, () -> DateUtil.parseMonth("202503"));
+        assertThrows(IllegalArgumentException.class, () -> DateUtil.parseMonth(null));
+    }
 }
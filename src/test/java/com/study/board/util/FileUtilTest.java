@@ -2,6 +2,8 @@ package com.study.board.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class FileUtilTest {
@@ -95,4 +97,64 @@ class FileUtilTest {
         assertTrue(FileUtil.isDocumentFile("document.txt"));
         assertFalse(FileUtil.isDocumentFile("image.jpg"));
     }
+
+    @Test
+    void isCompressibleFile_텍스트와구형문서만_압축대상() {
+        // When & Then
+        assertTrue(FileUtil.isCompressibleFile("notes.TXT"));
+        assertTrue(FileUtil.isCompressibleFile("report.hwp"));
+        assertTrue(FileUtil.isCompressibleFile("sheet.xls"));
+        assertFalse(FileUtil.isCompressibleFile("sheet.xlsx"));
+        assertFalse(FileUtil.isCompressibleFile("paper.pdf"));
+        assertFalse(FileUtil.isCompressibleFile("photo.jpg"));
+        assertFalse(FileUtil.isCompressibleFile("archive.gz"));
+    }
+
+    @Test
+    void detectContentType_매직넘버우선_확장자와다르면내용기준() {
+        // Given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0};
+        byte[] pdf = "%PDF-1.7".getBytes(StandardCharsets.US_ASCII);
+
+        // When & Then
+        assertEquals("image/png", FileUtil.detectContentType(png, png.length, "photo.png"));
+        assertEquals("image/png", FileUtil.detectContentType(png, png.length, "photo.txt"));
+        assertEquals("application/pdf", FileUtil.detectContentType(pdf, pdf.length, "paper"));
+    }
+
+    @Test
+    void detectContentType_zip과OLE컨테이너는_확장자로세부형식구분() {
+        // Given
+        byte[] zip = {'P', 'K', 0x03, 0x04, 0x14, 0x00};
+        byte[] ole = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+
+        // When & Then
+        assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+                FileUtil.detectContentType(zip, zip.length, "report.docx"));
+        assertEquals("application/zip", FileUtil.detectContentType(zip, zip.length, "archive.zip"));
+        assertEquals("application/zip", FileUtil.detectContentType(zip, zip.length, "report.hwp"));
+        assertEquals("application/x-hwp", FileUtil.detectContentType(ole, ole.length, "report.hwp"));
+    }
+
+    @Test
+    void detectContentType_매직넘버없으면_텍스트형식만확장자기준() {
+        // Given
+        byte[] text = "이름,점수".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertEquals("text/csv", FileUtil.detectContentType(text, text.length, "scores.csv"));
+        // 이미지 확장자이지만 내용이 이미지가 아니면 확장자를 믿지 않음
+        assertEquals("application/octet-stream", FileUtil.detectContentType(text, text.length, "fake.png"));
+        assertEquals("application/octet-stream", FileUtil.detectContentType(text, text.length, "unknown.bin"));
+        assertEquals("text/plain", FileUtil.detectContentType(new byte[0], 0, "empty.txt"));
+    }
+
+    @Test
+    void contentTypeOf_확장자표로결정() {
+        // When & Then
+        assertEquals("image/jpeg", FileUtil.contentTypeOf("photo.JPG"));
+        assertEquals("application/x-hwp", FileUtil.contentTypeOf("report.hwp"));
+        assertEquals("application/octet-stream", FileUtil.contentTypeOf("noextension"));
+        assertEquals("application/octet-stream", FileUtil.contentTypeOf(null));
+    }
 }
@@ -0,0 +1,90 @@
+package com.study.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextUtilTest {
+
+    @Test
+    void toPlainText_태그와_연속공백_정리() {
+        // When
+        String result = TextUtil.toPlainText("  <b>안녕</b>\n\n하세요   world  ");
+
+        // Then
+        assertEquals("안녕 하세요 world", result);
+    }
+
+    @Test
+    void excerpt_최대길이이하_그대로반환() {
+        // When
+        String result = TextUtil.excerpt("짧은 내용", 10);
+
+        // Then
+        assertEquals("짧은 내용", result);
+    }
+
+    @Test
+    void excerpt_최대길이초과_말줄임표추가() {
+        // When
+        String result = TextUtil.excerpt("가나다라마바사아자차", 5);
+
+        // Then
+        assertEquals("가나다라…", result);
+        assertEquals(5, result.codePointCount(0, result.length()));
+    }
+
+    @Test
+    void excerpt_서로게이트쌍_잘리지않음() {
+        // When
+        String result = TextUtil.excerpt("😀😀😀😀😀😀", 3);
+
+        // Then
+        assertEquals("😀😀…", result);
+    }
+
+    @Test
+    void excerpt_null_빈문자열반환() {
+        // When
+        String result = TextUtil.excerpt(null);
+
+        // Then
+        assertEquals("", result);
+    }
+
+    @Test
+    void countWords_한글영문혼합_단어수반환() {
+        // When & Then
+        assertEquals(4, TextUtil.countWords("Spring Boot 게시판 프로젝트"));
+        assertEquals(2, TextUtil.countWords("  여러   공백\n"));
+        assertEquals(0, TextUtil.countWords("   "));
+    }
+
+    @Test
+    void normalizeTags_정규화및중복제거() {
+        // When
+        List<String> result = TextUtil.normalizeTags(Arrays.asList(" #Spring ", "spring", "Spring Boot", "", null, "자바"));
+
+        // Then
+        assertEquals(Arrays.asList("spring", "spring-boot", "자바"), result);
+    }
+
+    @Test
+    void normalizeTags_제한초과_예외발생() {
+        // Given
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= TextUtil.MAX_TAGS; i++) {
+            tooMany.add("tag" + i);
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> TextUtil.normalizeTags(tooMany));
+        assertThrows(IllegalArgumentException.class,
+                () -> TextUtil.normalizeTags(Collections.singletonList("가".repeat(TextUtil.MAX_TAG_LENGTH + 1))));
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.board.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCallbacksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void afterCommit_트랜잭션밖_바로실행() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+
+        // Then
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_트랜잭션안_커밋후에만실행() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+
+        // Then
+        assertEquals(0, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_롤백되면_실행안함() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertEquals(0, runs.get());
+    }
+}